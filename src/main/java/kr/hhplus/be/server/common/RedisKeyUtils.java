@@ -1,27 +1,63 @@
 package kr.hhplus.be.server.common;
 
+import kr.hhplus.be.server.queue.domain.QueueLane;
+
 public class RedisKeyUtils {
-    private static final String USER_TOKEN_MAPPING_KEY = "queue:user:token:";
-    private static final String QUEUE_TOKEN_KEY = "queue:token:";
-    private static final String QUEUE_LOCK_KEY = "queue:lock";
-    private static final String ACTIVE_QUEUE_KEY = "queue:active";
-    private static final String ACTIVE_USER_KEY = "queue:active:user:";
-    private static final String WAITING_QUEUE_KEY = "queue:waiting";
+    // 대기실(콘서트)별 키는 Redis Cluster hash tag({concertId})로 같은 슬롯에 배치
+    // Lua 스크립트가 ARGV 로 받아 키를 조합하는 prefix 도 대기실 prefix 로만 만든다. (KEYS 와 같은 슬롯 유지, RedisKey.md 1-0)
+    private static final String QUEUE_ROOM_KEY = "queue:{%d}:";
+    private static final String USER_TOKEN_MAPPING_KEY = "user:token:";
+    private static final String QUEUE_TOKEN_KEY = "token:";
+    private static final String QUEUE_LOCK_KEY = "lock";
+    private static final String ACTIVE_QUEUE_KEY = "active";
+    private static final String ACTIVE_USER_KEY = "active:user:";
+    private static final String ACTIVE_HEARTBEAT_KEY = "active:heartbeat";
+    private static final String WAITING_QUEUE_KEY = "waiting";
+    private static final String LANE_CREDIT_KEY = "lane:credit";
+    private static final String THROUGHPUT_KEY = "throughput";
+    private static final String ADMISSION_BUCKET_KEY = "bucket";
+    private static final String QUEUE_ROOMS_KEY = "queue:rooms";
+    private static final String REVOKED_ACCESS_TOKENS_KEY = "queue:revoked";
+    private static final String QUEUE_SNAPSHOT_LOCK_KEY = "queue:snapshot:lock";
+    private static final String QUEUE_SNAPSHOT_EPOCH_KEY = "queue:snapshot:epoch";
+    private static final String QUEUE_LEADER_KEY = "queue:leader";
+    private static final String QUEUE_ADMISSION_PRESSURE_KEY = "queue:admission:pressure";
+    private static final String LOCK_RELEASED_CHANNEL = "lock:released";
     private static final String WEEKLY_RANKING_KEY = "ranking:weekly";
 
+    // 대기실 키 prefix (queue:{concertId}:)
+    private static String queueRoomPrefix(Long concertId) {
+        return String.format(QUEUE_ROOM_KEY, concertId);
+    }
+
     // 사용자-토큰 매핑 키
-    public static String userTokenKey(String userId) {
-        return USER_TOKEN_MAPPING_KEY + userId;
+    public static String userTokenKey(Long concertId, String userId) {
+        return userTokenKeyPrefix(concertId) + userId;
+    }
+
+    // 사용자-토큰 매핑 키 prefix (Lua 스크립트에서 매핑 키 조합 시 사용)
+    public static String userTokenKeyPrefix(Long concertId) {
+        return queueRoomPrefix(concertId) + USER_TOKEN_MAPPING_KEY;
     }
 
     // 토큰 자체 키
-    public static String queueTokenKey(String token) {
-        return QUEUE_TOKEN_KEY + token;
+    public static String queueTokenKey(Long concertId, String token) {
+        return queueTokenKeyPrefix(concertId) + token;
+    }
+
+    // 토큰 키 prefix (Lua 스크립트에서 토큰 키 조합 시 사용)
+    public static String queueTokenKeyPrefix(Long concertId) {
+        return queueRoomPrefix(concertId) + QUEUE_TOKEN_KEY;
     }
 
     // 대기열 용 락 키
-    public static String queueLockKey() {
-        return QUEUE_LOCK_KEY;
+    public static String queueLockKey(Long concertId) {
+        return queueRoomPrefix(concertId) + QUEUE_LOCK_KEY;
+    }
+
+    // 락 해제 알림 채널 (message = 해제된 락 key, 락을 기다리는 노드가 구독)
+    public static String lockReleasedChannel() {
+        return LOCK_RELEASED_CHANNEL;
     }
 
     // 좌석 예약용 락
@@ -29,18 +65,82 @@ public class RedisKeyUtils {
         return String.format("lock:seat:%d:%d", concertId, seatNumber);
     }
 
-    // active 대기열 키
-    public static String activeQueueKey() {
-        return ACTIVE_QUEUE_KEY;
+    // active 대기열 키 (score = 만료 시각)
+    public static String activeQueueKey(Long concertId) {
+        return queueRoomPrefix(concertId) + ACTIVE_QUEUE_KEY;
+    }
+
+    // 활성 사용자 키 (TTL = 토큰 만료 시간, 만료 이벤트로 활성 대기열 정리)
+    public static String activeUserKey(Long concertId, String userId) {
+        return activeUserKeyPrefix(concertId) + userId;
+    }
+
+    // 활성 사용자 키 prefix (Lua 스크립트에서 활성 사용자 키 조합 시 사용)
+    public static String activeUserKeyPrefix(Long concertId) {
+        return queueRoomPrefix(concertId) + ACTIVE_USER_KEY;
+    }
+
+    // 활성 사용자 heartbeat 키 (score = 유휴 만료 시각, heartbeat 가 없으면 활성 슬롯 회수)
+    public static String activeHeartbeatKey(Long concertId) {
+        return queueRoomPrefix(concertId) + ACTIVE_HEARTBEAT_KEY;
+    }
+
+    // waiting 대기열 키 (general lane)
+    public static String waitingQueueKey(Long concertId) {
+        return queueRoomPrefix(concertId) + WAITING_QUEUE_KEY;
+    }
+
+    // lane 별 waiting 대기열 키 (general 은 기존 waiting 키, 그 외 waiting:{lane})
+    public static String waitingQueueKey(Long concertId, String lane) {
+        if (lane == null || QueueLane.GENERAL.equals(lane)) {
+            return waitingQueueKey(concertId);
+        }
+        return waitingQueueKey(concertId) + ":" + lane;
+    }
+
+    // lane 별 활성화 credit (Hash, field = lane, 활성화 batch 를 lane 비중으로 나눌 때 사용)
+    public static String laneCreditKey(Long concertId) {
+        return queueRoomPrefix(concertId) + LANE_CREDIT_KEY;
+    }
+
+    // 대기실 처리량 (활성화/슬롯 반환 EWMA)
+    public static String queueThroughputKey(Long concertId) {
+        return queueRoomPrefix(concertId) + THROUGHPUT_KEY;
+    }
+
+    // 대기실 활성화 토큰 버킷 (token-bucket 활성화 정책)
+    public static String admissionBucketKey(Long concertId) {
+        return queueRoomPrefix(concertId) + ADMISSION_BUCKET_KEY;
+    }
+
+    // 대기자가 있는 대기실 목록 (score = 마지막 대기열 진입 시각)
+    public static String queueRoomsKey() {
+        return QUEUE_ROOMS_KEY;
+    }
+
+    // 폐기된 입장 토큰 목록 (member = concertId:userId, score = 폐기 시각)
+    public static String revokedAccessTokensKey() {
+        return REVOKED_ACCESS_TOKENS_KEY;
+    }
+
+    // 대기열 스냅샷/복구 락 (여러 노드 중 한 노드만 스냅샷 저장)
+    public static String queueSnapshotLockKey() {
+        return QUEUE_SNAPSHOT_LOCK_KEY;
+    }
+
+    // 대기열 스냅샷 기준 키 (TTL 없음, 키가 없으면 Redis 데이터가 유실된 것으로 보고 스냅샷을 병합 복구)
+    public static String queueSnapshotEpochKey() {
+        return QUEUE_SNAPSHOT_EPOCH_KEY;
     }
 
-    public static String activeUserKey(String userId) {
-        return ACTIVE_USER_KEY + userId;
+    // 대기열 작업 리더 임대 키 (value = 리더 노드 ID, TTL = 임대 시간)
+    public static String queueLeaderKey() {
+        return QUEUE_LEADER_KEY;
     }
 
-    // waiting 대기열 키
-    public static String waitingQueueKey() {
-        return WAITING_QUEUE_KEY;
+    // 노드별 하위 시스템 부하 (Hash, field = 노드 ID, value = 부하:게시 시각, feedback 활성화 정책)
+    public static String queueAdmissionPressureKey() {
+        return QUEUE_ADMISSION_PRESSURE_KEY;
     }
 
     // 콘서트 매진 랭킹
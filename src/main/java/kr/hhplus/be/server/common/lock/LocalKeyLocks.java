@@ -0,0 +1,81 @@
+package kr.hhplus.be.server.common.lock;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 노드 내 락 key 별 선점 (Redis 분산 락 앞단)
+ * 같은 key 를 원하는 이 노드의 스레드 중 하나만 Redis 에 SET NX 를 보내고, 나머지는 노드 안에서 기다린다.
+ * key 마다 Semaphore 를 두므로 같은 key 를 원하는 스레드끼리만 기다린다. (보유 / 대기 스레드가 없으면 제거)
+ * 획득한 스레드와 해제하는 스레드가 달라도 되도록 Semaphore 를 사용한다. (watchdog 이 임대 만료를 감지하면 대신 반납)
+ */
+@Component
+public class LocalKeyLocks {
+
+    // 락 key -> 선점 (보유 + 대기 스레드 수로 참조 횟수 관리)
+    private final Map<String, KeyPermit> permits = new ConcurrentHashMap<>();
+
+    /**
+     * key 선점 (timeout 이 0 이면 기다리지 않음)
+     * @return 선점 여부 (선점하면 release 로 반납해야 함)
+     */
+    public boolean tryAcquire(String key, long timeout, TimeUnit unit) throws InterruptedException {
+        KeyPermit permit = permits.compute(key, (k, existing) -> {
+            KeyPermit p = existing == null ? new KeyPermit() : existing;
+            p.references++;
+            return p;
+        });
+
+        boolean acquired = false;
+        try {
+            acquired = permit.semaphore.tryAcquire(timeout, unit);
+            return acquired;
+        } finally {
+            if (!acquired) {
+                unreference(key);
+            }
+        }
+    }
+
+    /**
+     * key 반납 (다음 대기 스레드가 선점)
+     */
+    public void release(String key) {
+        KeyPermit permit = permits.get(key);
+        if (permit == null) {
+            return;
+        }
+        permit.semaphore.release();
+        unreference(key);
+    }
+
+    /**
+     * key 를 기다리는 이 노드의 스레드 수 (테스트 / 모니터링용)
+     */
+    public int queueLength(String key) {
+        KeyPermit permit = permits.get(key);
+        return permit == null ? 0 : permit.semaphore.getQueueLength();
+    }
+
+    /**
+     * 선점 / 대기 중인 key 수 (테스트 / 모니터링용)
+     */
+    public int keyCount() {
+        return permits.size();
+    }
+
+    private void unreference(String key) {
+        permits.computeIfPresent(key, (k, p) -> --p.references == 0 ? null : p);
+    }
+
+    private static final class KeyPermit {
+        private final Semaphore semaphore = new Semaphore(1);
+
+        // compute 안에서만 변경
+        private int references;
+    }
+}
@@ -0,0 +1,30 @@
+package kr.hhplus.be.server.common.lock;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 경합이 많은 분산 락 key 조회 (/actuator/locks?limit=20)
+ * "잠시 후 다시 시도" 응답을 만드는 콘서트 / 좌석을 찾기 위한 용도로, 이 노드의 최근 두 구간 통계만 보여준다.
+ */
+@Component
+@Endpoint(id = "locks")
+public class LockHotKeysEndpoint {
+
+    private static final int DEFAULT_LIMIT = 20;
+
+    private final LockMetrics lockMetrics;
+
+    public LockHotKeysEndpoint(LockMetrics lockMetrics) {
+        this.lockMetrics = lockMetrics;
+    }
+
+    @ReadOperation
+    public List<LockMetrics.HotLockKey> hotKeys(@Nullable Integer limit) {
+        return lockMetrics.hotKeys(limit == null || limit <= 0 ? DEFAULT_LIMIT : limit);
+    }
+}
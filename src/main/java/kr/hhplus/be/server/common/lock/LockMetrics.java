@@ -0,0 +1,231 @@
+package kr.hhplus.be.server.common.lock;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import kr.hhplus.be.server.common.RedisKeyUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 분산 락 Micrometer 지표 (락 종류별 family 태그 : seat, queue, queue-snapshot, ...)
+ * actuator 의 /actuator/metrics 로 조회 가능하고, key 별 경합 횟수는 /actuator/locks 로 조회한다.
+ * key 별 통계는 태그로 만들지 않고 (좌석 수만큼 지표가 늘어남) 최근 두 구간만 메모리에 유지한다.
+ */
+@Component
+public class LockMetrics {
+
+    public static final String ATTEMPT = "lock.attempt";
+    public static final String ACQUIRE = "lock.acquire";
+    public static final String WAIT = "lock.wait";
+    public static final String HOLD = "lock.hold";
+    public static final String LEASE_EXPIRED = "lock.lease.expired";
+
+    private static final String LOCK_PREFIX = "lock:";
+    private static final String QUEUE_PREFIX = "queue:";
+
+    private final MeterRegistry meterRegistry;
+
+    // 이 노드에서 보유 중인 락 key -> 획득 시각 (ns, 보유 시간 측정, 해제 / 임대 만료 시 제거, 최대 maxTrackedKeys 개)
+    private final Map<String, Long> heldSince = new ConcurrentHashMap<>();
+
+    // key 별 경합 통계 (현재 구간 / 직전 구간, DistributedLock.hot-keys.window-ms 마다 교체)
+    private volatile Map<String, KeyCounters> currentWindow = new ConcurrentHashMap<>();
+    private volatile Map<String, KeyCounters> previousWindow = Map.of();
+
+    // 구간마다 추적하는 최대 key 수 (넘으면 새 key 는 집계하지 않음)
+    @Value("${DistributedLock.hot-keys.max-tracked:10000}")
+    private int maxTrackedKeys;
+
+    public LockMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Redis SET NX 한 번의 결과 기록
+     * @param key 락 key
+     * @param acquired 획득 여부 (실패면 다른 보유자와 경합)
+     */
+    public void recordAttempt(String key, boolean acquired) {
+        Counter.builder(ATTEMPT)
+                .description("분산 락 Redis 획득 시도 수")
+                .tag("family", family(key))
+                .tag("result", acquired ? "acquired" : "contended")
+                .register(meterRegistry)
+                .increment();
+
+        KeyCounters counters = counters(key);
+        if (counters != null) {
+            counters.attempts.increment();
+            if (!acquired) {
+                counters.contended.increment();
+            }
+        }
+    }
+
+    /**
+     * 락 획득 최종 결과 (재시도 후) 와 대기 시간 기록
+     * @param key 락 key
+     * @param acquired 획득 여부
+     * @param waitNanos 획득 / 포기까지 걸린 시간 (ns)
+     */
+    public void recordAcquire(String key, boolean acquired, long waitNanos) {
+        String family = family(key);
+        String result = acquired ? "acquired" : "failed";
+
+        Counter.builder(ACQUIRE)
+                .description("분산 락 획득 결과 (재시도 후)")
+                .tag("family", family)
+                .tag("result", result)
+                .register(meterRegistry)
+                .increment();
+
+        Timer.builder(WAIT)
+                .description("분산 락 획득 대기 시간")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .tag("family", family)
+                .tag("result", result)
+                .register(meterRegistry)
+                .record(waitNanos, TimeUnit.NANOSECONDS);
+
+        if (acquired) {
+            // 해제되지 않는 락이 쌓여도 메모리가 늘지 않도록 상한을 넘으면 보유 시간을 측정하지 않음
+            if (heldSince.size() < maxTrackedKeys || heldSince.containsKey(key)) {
+                heldSince.put(key, System.nanoTime());
+            }
+        } else {
+            KeyCounters counters = counters(key);
+            if (counters != null) {
+                counters.failed.increment();
+            }
+        }
+    }
+
+    /**
+     * 락 해제 시 보유 시간 기록 (획득 ~ 해제)
+     */
+    public void recordRelease(String key) {
+        Long since = heldSince.remove(key);
+        if (since == null) {
+            return;
+        }
+        Timer.builder(HOLD)
+                .description("분산 락 보유 시간")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .tag("family", family(key))
+                .register(meterRegistry)
+                .record(System.nanoTime() - since, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 해제 없이 임대가 끝난 락의 보유 시각 제거 (watchdog 이 연장 실패 / 임대 시간 경과를 감지했을 때)
+     * 보유 시간은 기록하지 않는다. (늦게 도착한 해제는 recordRelease 에서 무시됨)
+     */
+    public void evictHold(String key) {
+        heldSince.remove(key);
+    }
+
+    /**
+     * 보유 시간을 측정 중인 락 수 (테스트 / 모니터링용)
+     */
+    public int heldKeyCount() {
+        return heldSince.size();
+    }
+
+    /**
+     * 보유 중에 임대가 만료된 락 기록 (해제 시점에 보유자가 아님)
+     */
+    public void recordLeaseExpired(String key) {
+        Counter.builder(LEASE_EXPIRED)
+                .description("보유 중 임대가 만료된 분산 락 수")
+                .tag("family", family(key))
+                .register(meterRegistry)
+                .increment();
+    }
+
+    /**
+     * 경합이 많은 락 key (최근 두 구간 합계, 경합 -> 획득 실패 순)
+     * @param limit 최대 개수
+     */
+    public List<HotLockKey> hotKeys(int limit) {
+        Map<String, HotLockKey> merged = new HashMap<>();
+        previousWindow.forEach((key, counters) -> merged.merge(key, counters.snapshot(key), HotLockKey::plus));
+        currentWindow.forEach((key, counters) -> merged.merge(key, counters.snapshot(key), HotLockKey::plus));
+
+        return merged.values().stream()
+                .filter(hotKey -> hotKey.contended() > 0 || hotKey.failed() > 0)
+                .sorted(Comparator.comparingLong(HotLockKey::contended)
+                        .thenComparingLong(HotLockKey::failed)
+                        .reversed())
+                .limit(limit)
+                .toList();
+    }
+
+    /**
+     * key 별 통계 구간 교체 (오래된 key 를 버려서 메모리를 일정하게 유지)
+     */
+    @Scheduled(fixedDelayString = "${DistributedLock.hot-keys.window-ms:60000}")
+    public void rotateHotKeyWindow() {
+        previousWindow = currentWindow;
+        currentWindow = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * 락 key 의 family (지표 태그)
+     * lock:seat:1:10 -> seat, queue:{1}:lock -> queue, queue:snapshot:lock -> queue-snapshot
+     */
+    public static String family(String key) {
+        if (key.startsWith(LOCK_PREFIX)) {
+            int end = key.indexOf(':', LOCK_PREFIX.length());
+            return end < 0 ? key.substring(LOCK_PREFIX.length()) : key.substring(LOCK_PREFIX.length(), end);
+        }
+        if (key.equals(RedisKeyUtils.queueSnapshotLockKey())) {
+            return "queue-snapshot";
+        }
+        if (key.startsWith(QUEUE_PREFIX)) {
+            return "queue";
+        }
+        return "other";
+    }
+
+    private KeyCounters counters(String key) {
+        Map<String, KeyCounters> window = currentWindow;
+        KeyCounters counters = window.get(key);
+        if (counters != null || window.size() >= maxTrackedKeys) {
+            return counters;
+        }
+        return window.computeIfAbsent(key, k -> new KeyCounters());
+    }
+
+    private static final class KeyCounters {
+        private final LongAdder attempts = new LongAdder();
+        private final LongAdder contended = new LongAdder();
+        private final LongAdder failed = new LongAdder();
+
+        HotLockKey snapshot(String key) {
+            return new HotLockKey(key, family(key), attempts.sum(), contended.sum(), failed.sum());
+        }
+    }
+
+    /**
+     * 락 key 경합 통계
+     * @param attempts Redis 획득 시도 수
+     * @param contended 다른 보유자가 있어서 실패한 시도 수
+     * @param failed 재시도 후에도 획득하지 못한 요청 수 (사용자에게 "다시 시도" 응답)
+     */
+    public record HotLockKey(String key, String family, long attempts, long contended, long failed) {
+
+        HotLockKey plus(HotLockKey other) {
+            return new HotLockKey(key, family, attempts + other.attempts, contended + other.contended, failed + other.failed);
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package kr.hhplus.be.server.common.lock;
+
+import jakarta.annotation.PostConstruct;
+import kr.hhplus.be.server.common.RedisKeyUtils;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 락 해제 알림 대기 (노드 내 락 key 별 대기 스레드)
+ * 락을 해제한 노드가 lock:released 채널로 key 를 발행하면, 이 노드에서 그 key 를 기다리는 스레드를 모두 깨운다.
+ * 대기 스레드는 sleep 후 재시도하지 않고 알림이 오거나 정해진 시간이 지날 때까지 park 한다.
+ * 알림은 전달이 보장되지 않고 TTL 로 만료된 락은 알림이 없으므로, 호출하는 쪽에서 최대 대기 시간을 짧게 나누어 다시 확인한다.
+ */
+@Component
+public class LockReleaseWaiters implements MessageListener {
+
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+    // 락 key -> 대기 스레드 (대기 스레드가 없으면 제거)
+    private final Map<String, Waiters> waiters = new ConcurrentHashMap<>();
+
+    public LockReleaseWaiters(RedisMessageListenerContainer redisMessageListenerContainer) {
+        this.redisMessageListenerContainer = redisMessageListenerContainer;
+    }
+
+    @PostConstruct
+    void subscribe() {
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(RedisKeyUtils.lockReleasedChannel()));
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        signal(new String(message.getBody(), StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 락 key 대기 등록 (락 획득을 시도하기 전에 등록해야 시도와 park 사이의 해제 알림을 놓치지 않음)
+     * @return 대기 등록 정보 (finally 에서 close)
+     */
+    public Registration register(String key) {
+        Waiters keyWaiters = waiters.compute(key, (k, existing) -> {
+            Waiters w = existing == null ? new Waiters() : existing;
+            w.count++;
+            return w;
+        });
+        return new Registration(key, keyWaiters);
+    }
+
+    /**
+     * 락 key 를 기다리는 이 노드의 스레드를 모두 깨움
+     */
+    public void signal(String key) {
+        Waiters keyWaiters = waiters.get(key);
+        if (keyWaiters != null) {
+            keyWaiters.signalAll();
+        }
+    }
+
+    /**
+     * 이 노드에서 락을 기다리는 key 수 (테스트 / 모니터링용)
+     */
+    public int waitingKeyCount() {
+        return waiters.size();
+    }
+
+    private void unregister(String key) {
+        waiters.computeIfPresent(key, (k, w) -> --w.count == 0 ? null : w);
+    }
+
+    /**
+     * 락 key 대기 등록 정보
+     * 등록 시점의 알림 번호를 기억해서, 획득 시도 후 park 하기 전에 온 알림도 놓치지 않는다.
+     */
+    public final class Registration implements AutoCloseable {
+        private final String key;
+        private final Waiters keyWaiters;
+        private long observedVersion;
+
+        private Registration(String key, Waiters keyWaiters) {
+            this.key = key;
+            this.keyWaiters = keyWaiters;
+            this.observedVersion = keyWaiters.version();
+        }
+
+        /**
+         * 해제 알림이 오거나 시간이 지날 때까지 대기
+         * @return 알림을 받았으면 true
+         */
+        public boolean await(long timeout, TimeUnit unit) throws InterruptedException {
+            long version = keyWaiters.awaitChange(observedVersion, unit.toNanos(timeout));
+            boolean signaled = version != observedVersion;
+            observedVersion = version;
+            return signaled;
+        }
+
+        @Override
+        public void close() {
+            unregister(key);
+        }
+    }
+
+    private static final class Waiters {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Condition released = lock.newCondition();
+        // waiters map 의 compute 안에서만 변경
+        private int count;
+        private long version;
+
+        long version() {
+            lock.lock();
+            try {
+                return version;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void signalAll() {
+            lock.lock();
+            try {
+                version++;
+                released.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        long awaitChange(long observed, long nanos) throws InterruptedException {
+            lock.lock();
+            try {
+                while (version == observed && nanos > 0) {
+                    nanos = released.awaitNanos(nanos);
+                }
+                return version;
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
@@ -1,43 +1,232 @@
 package kr.hhplus.be.server.common.lock;
 
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import kr.hhplus.be.server.common.RedisKeyUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 
-import java.util.Objects;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
 
 @Service
 public class RedisDistributedLock {
 
     private static final Logger logger = LoggerFactory.getLogger(RedisDistributedLock.class);
 
-    private final RedisTemplate<String, Object> redisTemplate;
+    // 락 대기 방식 : 해제 알림 대기 (기본) / 고정 횟수 sleep 재시도
+    public static final String WAIT_MODE_PUBSUB = "pubsub";
+    public static final String WAIT_MODE_BACKOFF = "backoff";
 
-    // 최대 재시도 가능 횟수
+    // 보유자 확인 + 삭제 + 해제 알림 (한 번의 왕복)
+    private static final RedisScript<Long> RELEASE_LOCK_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/lock/release_lock.lua"), Long.class);
+
+    // 보유자 확인 + 임대 연장 (watchdog)
+    private static final RedisScript<Long> RENEW_LOCK_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/lock/renew_lock.lua"), Long.class);
+
+    // 락 value 는 JSON 직렬화 없이 문자열 그대로 저장 (Lua 스크립트에서 보유자 비교)
+    private final StringRedisTemplate redisTemplate;
+    private final LockReleaseWaiters lockReleaseWaiters;
+    private final LocalKeyLocks localKeyLocks;
+    private final LockMetrics lockMetrics;
+
+    // 노드 내 선점을 거쳐 획득한 락 (key -> 보유 정보, 해제 / 임대 만료 시 노드 내 선점 반납)
+    private final Map<String, LocalHold> locallyHeldLocks = new ConcurrentHashMap<>();
+
+    // watchdog 이 임대를 연장 중인 락 (key -> value)
+    private final Map<String, String> watchedLocks = new ConcurrentHashMap<>();
+
+    // 락 대기 방식 (pubsub / backoff)
+    @Value("${DistributedLock.wait-mode:pubsub}")
+    private String waitMode;
+
+    // 최대 재시도 가능 횟수 (backoff)
     @Value("${DistributedLock.max-retry-attempts:3}")
     private int maxRetryAttempts;
 
-    // 재시도 지연 시간 (ms)
+    // 재시도 지연 시간 (ms, backoff)
     @Value("${DistributedLock.retry-delay-ms:200}")
     private long retryDelayMs;
 
-    public RedisDistributedLock(RedisTemplate<String, Object> redisTemplate) {
+    // 락 획득 최대 대기 시간 (ms, pubsub)
+    @Value("${DistributedLock.wait-timeout-ms:1200}")
+    private long waitTimeoutMs;
+
+    // 해제 알림 없이 다시 확인하는 간격 (ms, pubsub, 알림 유실 / TTL 만료 대비)
+    @Value("${DistributedLock.recheck-interval-ms:100}")
+    private long recheckIntervalMs;
+
+    // watchdog 락 임대 시간 (ms, 보유 노드가 죽으면 이 시간 안에 풀림)
+    @Value("${DistributedLock.lease-ms:10000}")
+    private long leaseMillis;
+
+    // watchdog 임대 연장 주기 (ms, 임대 시간의 1/3 권장)
+    @Value("${DistributedLock.watchdog-interval-ms:3000}")
+    private long watchdogIntervalMs;
+
+    // watchdog 전용 스레드 (@Scheduled 공용 스레드가 다른 작업에 막혀도 임대 연장이 밀리지 않도록)
+    private ScheduledExecutorService watchdogExecutor;
+
+    // 같은 key 를 원하는 노드 내 스레드 중 하나만 Redis 에서 경쟁 (재시도 획득에만 적용)
+    @Value("${DistributedLock.local-coalescing:true}")
+    private boolean localCoalescing;
+
+    public RedisDistributedLock(StringRedisTemplate redisTemplate, LockReleaseWaiters lockReleaseWaiters,
+                                LocalKeyLocks localKeyLocks, LockMetrics lockMetrics) {
         this.redisTemplate = redisTemplate;
+        this.lockReleaseWaiters = lockReleaseWaiters;
+        this.localKeyLocks = localKeyLocks;
+        this.lockMetrics = lockMetrics;
+    }
+
+    @PostConstruct
+    void startWatchdog() {
+        watchdogExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "lock-watchdog");
+            thread.setDaemon(true);
+            return thread;
+        });
+        watchdogExecutor.scheduleWithFixedDelay(this::renewWatchedLocks,
+                watchdogIntervalMs, watchdogIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stopWatchdog() {
+        watchdogExecutor.shutdownNow();
     }
 
     /**
      * 분산 락 획득 시도 with 재시도
+     * DistributedLock.wait-mode 에 따라 해제 알림 대기(pubsub) 또는 sleep 재시도(backoff)로 기다린다.
+     * 같은 key 를 원하는 이 노드의 스레드는 먼저 노드 안에서 줄을 서고, 한 스레드만 Redis 에서 경쟁한다.
      * @param key 락 key
      * @param value 락 value
      * @param timeoutSeconds TTL (초)
      * @return 분산 락 획득 여부
      */
     public boolean tryLockWithRetry(String key, String value, long timeoutSeconds) {
+        return measured(key, () -> acquireWithRetry(key, value, TimeUnit.SECONDS.toMillis(timeoutSeconds)));
+    }
+
+    /**
+     * 분산 락 획득 시도 with 재시도 + watchdog 임대 연장
+     * 짧은 임대 시간(DistributedLock.lease-ms)으로 획득하고, 해제할 때까지 watchdog 이 임대를 연장한다.
+     * 보유 노드가 죽으면 연장이 멈추므로 임대 시간 안에 락이 풀린다.
+     * @param key 락 key
+     * @param value 락 value
+     * @return 분산 락 획득 여부
+     */
+    public boolean tryLockWithWatchdog(String key, String value) {
+        if (!measured(key, () -> acquireWithRetry(key, value, leaseMillis))) {
+            return false;
+        }
+        watchedLocks.put(key, value);
+        return true;
+    }
+
+    /**
+     * 노드 내 선점 후 Redis 분산 락 획득
+     * 같은 key 를 기다리는 이 노드의 다른 스레드는 Redis 에 요청하지 않고 노드 안에서 기다리며,
+     * 노드 안에서 기다린 시간만큼 Redis 대기 시간(pubsub)을 줄여 전체 대기 기한은 그대로 둔다.
+     */
+    private boolean acquireWithRetry(String key, String value, long leaseMillis) {
+        if (!localCoalescing) {
+            return acquireInRedis(key, value, leaseMillis, waitTimeoutMs);
+        }
+
+        long start = System.nanoTime();
+        try {
+            if (!localKeyLocks.tryAcquire(key, waitTimeoutMs, TimeUnit.MILLISECONDS)) {
+                logger.debug("[DistributedLock.tryLockWithRetry] 노드 내 대기 시간 초과 : key={}, value={}", key, value);
+                return false;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            logger.debug("[DistributedLock.tryLockWithRetry] 노드 내 대기 중 인터럽트 : key={}, value={}", key, value);
+            return false;
+        }
+
+        boolean acquired = false;
+        try {
+            long remainingMillis = waitTimeoutMs - TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            acquired = acquireInRedis(key, value, leaseMillis, Math.max(remainingMillis, 0));
+        } finally {
+            if (acquired) {
+                locallyHeldLocks.put(key, new LocalHold(value, System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(leaseMillis)));
+            } else {
+                localKeyLocks.release(key);
+            }
+        }
+        return acquired;
+    }
+
+    private boolean acquireInRedis(String key, String value, long leaseMillis, long waitMillis) {
+        if (WAIT_MODE_BACKOFF.equals(waitMode)) {
+            return tryLockWithBackoff(key, value, leaseMillis);
+        }
+        return waitForLock(key, value, leaseMillis, waitMillis);
+    }
+
+    /**
+     * 분산 락 획득 시도 with 해제 알림 대기
+     * 획득하지 못하면 이 노드의 key 별 대기 스레드로 등록하고, 해제 알림이 오면 바로 다시 시도한다.
+     * 재시도 횟수가 아니라 대기 기한으로 포기하므로 기한 안에 해제되면 획득할 수 있다.
+     * @param key 락 key
+     * @param value 락 value
+     * @param timeoutSeconds TTL (초)
+     * @param waitMillis 최대 대기 시간 (ms)
+     * @return 분산 락 획득 여부
+     */
+    public boolean tryLockWithWait(String key, String value, long timeoutSeconds, long waitMillis) {
+        return measured(key, () -> waitForLock(key, value, TimeUnit.SECONDS.toMillis(timeoutSeconds), waitMillis));
+    }
+
+    private boolean waitForLock(String key, String value, long leaseMillis, long waitMillis) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(waitMillis);
+        long recheckNanos = TimeUnit.MILLISECONDS.toNanos(recheckIntervalMs);
+
+        // 획득 시도 전에 등록해야 시도와 대기 사이에 온 해제 알림을 놓치지 않음
+        try (LockReleaseWaiters.Registration registration = lockReleaseWaiters.register(key)) {
+            int attempt = 0;
+            while (true) {
+                attempt++;
+                if (acquire(key, value, leaseMillis)) {
+                    logger.debug("[DistributedLock.tryLockWithWait] 분산 락 획득 성공(시도 횟수 {}) : key={}, value={}", attempt, key, value);
+                    return true;
+                }
+
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    logger.debug("[DistributedLock.tryLockWithWait] 분산 락 대기 시간 초과(시도 횟수 {}) : key={}, value={}", attempt, key, value);
+                    return false;
+                }
+                registration.await(Math.min(remaining, recheckNanos), TimeUnit.NANOSECONDS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            logger.debug("[DistributedLock.tryLockWithWait] 분산 락 대기 중 인터럽트 : key={}, value={}", key, value);
+            return false;
+        }
+    }
+
+    /**
+     * 분산 락 획득 시도 with sleep 재시도 (DistributedLock.max-retry-attempts 회)
+     */
+    private boolean tryLockWithBackoff(String key, String value, long leaseMillis) {
         for (int attempt = 1; attempt <= maxRetryAttempts; attempt++){
-            if (tryLock(key, value, timeoutSeconds)) {
+            if (acquire(key, value, leaseMillis)) {
                 logger.debug("[DistributedLock.tryLockWithRetry] 분산 락 획득 성공(재시도 횟수 {}) : key={}, value={}", attempt, key, value);
                 return true;
             }
@@ -66,11 +255,26 @@ public class RedisDistributedLock {
      * @return 분산 락 획득 여부
      */
     public boolean tryLock(String key, String value, long timeoutSeconds) {
+        return measured(key, () -> acquire(key, value, TimeUnit.SECONDS.toMillis(timeoutSeconds)));
+    }
+
+    /**
+     * 락 획득 결과와 대기 시간 기록 (재시도 / 노드 내 대기 포함)
+     */
+    private boolean measured(String key, BooleanSupplier acquisition) {
+        long start = System.nanoTime();
+        boolean acquired = acquisition.getAsBoolean();
+        lockMetrics.recordAcquire(key, acquired, System.nanoTime() - start);
+        return acquired;
+    }
+
+    private boolean acquire(String key, String value, long leaseMillis) {
         try {
             Boolean lockAcquired = redisTemplate.opsForValue()
-                    .setIfAbsent(key, value, timeoutSeconds, TimeUnit.SECONDS);
+                    .setIfAbsent(key, value, leaseMillis, TimeUnit.MILLISECONDS);
 
             boolean result = Boolean.TRUE.equals(lockAcquired);
+            lockMetrics.recordAttempt(key, result);
 
             if(result) {
                 logger.debug("[DistributedLock.tryLock] 분산 락 획득 성공: key={}, value={}", key, value);
@@ -87,12 +291,90 @@ public class RedisDistributedLock {
 
     /**
      * 락 해제
+     * 보유자 확인, 삭제, 해제 알림 발행을 Lua 스크립트 한 번으로 처리한다.
+     * (TTL 이 만료되어 다른 보유자가 얻은 락은 지우지 않음)
      * @param lockKey 락 key
      * @param lockValue 락 value
      */
     public void releaseLock(String lockKey, String lockValue) {
-        if(Objects.equals(redisTemplate.opsForValue().get(lockKey), lockValue)){
-            redisTemplate.delete(lockKey);
+        watchedLocks.remove(lockKey, lockValue);
+
+        try {
+            Long released = redisTemplate.execute(RELEASE_LOCK_SCRIPT, List.of(lockKey),
+                    lockValue, RedisKeyUtils.lockReleasedChannel());
+            if (released == null || released == 0) {
+                logger.warn("[DistributedLock.releaseLock] 이미 만료되었거나 다른 보유자의 락 : key={}, value={}", lockKey, lockValue);
+                lockMetrics.recordLeaseExpired(lockKey);
+            }
+        } finally {
+            lockMetrics.recordRelease(lockKey);
+            // Redis 해제에 실패해도 노드 내 대기 스레드는 다음 차례로 넘어감 (Redis 락은 임대 만료로 풀림)
+            releaseLocalHold(lockKey, lockValue);
         }
     }
+
+    /**
+     * watchdog 임대 연장 (DistributedLock.watchdog-interval-ms 주기, watchdog 전용 스레드)
+     * 이미 만료되어 보유자가 바뀐 락은 더 연장하지 않고 노드 내 선점을 반납한다.
+     * Redis 오류로 연장하지 못한 락은 다음 주기에 다시 시도한다.
+     * 해제하지 않은 채 임대 시간이 지난 락(보유 스레드 지연 / 누락)도 노드 내 선점을 반납해서 같은 key 대기 스레드가 멈추지 않게 한다.
+     */
+    public void renewWatchedLocks() {
+        watchedLocks.forEach((key, value) -> {
+            try {
+                long renewStart = System.nanoTime();
+                Long renewed = redisTemplate.execute(RENEW_LOCK_SCRIPT, List.of(key), value, String.valueOf(leaseMillis));
+                if (renewed == null || renewed == 0) {
+                    watchedLocks.remove(key, value);
+                    lockMetrics.evictHold(key);
+                    releaseLocalHold(key, value);
+                    logger.warn("[DistributedLock.renewWatchedLocks] 락 임대 연장 실패(이미 만료) : key={}, value={}", key, value);
+                } else {
+                    long deadline = renewStart + TimeUnit.MILLISECONDS.toNanos(leaseMillis);
+                    locallyHeldLocks.computeIfPresent(key, (k, hold) -> hold.value().equals(value) ? new LocalHold(value, deadline) : hold);
+                }
+            } catch (Exception e) {
+                logger.error("[DistributedLock.renewWatchedLocks] 락 임대 연장 중 오류 발생 : key={}, value={}", key, value, e);
+            }
+        });
+
+        releaseExpiredLocalHolds();
+    }
+
+    /**
+     * 임대 시간이 지난 노드 내 선점 반납 (Redis 락은 이미 TTL 로 풀렸으므로 같은 key 대기 스레드가 이어서 경쟁)
+     */
+    private void releaseExpiredLocalHolds() {
+        long now = System.nanoTime();
+        locallyHeldLocks.forEach((key, hold) -> {
+            if (now - hold.deadlineNanos() > 0 && locallyHeldLocks.remove(key, hold)) {
+                watchedLocks.remove(key, hold.value());
+                lockMetrics.evictHold(key);
+                localKeyLocks.release(key);
+                logger.warn("[DistributedLock.releaseExpiredLocalHolds] 해제되지 않은 채 임대 시간이 지난 락의 노드 내 선점 반납 : key={}, value={}", key, hold.value());
+            }
+        });
+    }
+
+    private void releaseLocalHold(String key, String value) {
+        LocalHold hold = locallyHeldLocks.get(key);
+        if (hold != null && hold.value().equals(value) && locallyHeldLocks.remove(key, hold)) {
+            localKeyLocks.release(key);
+        }
+    }
+
+    /**
+     * watchdog 이 임대를 연장 중인 락 수
+     */
+    public int watchedLockCount() {
+        return watchedLocks.size();
+    }
+
+    /**
+     * 노드 내 선점 보유 정보
+     * @param value 락 value
+     * @param deadlineNanos 임대 기한 (System.nanoTime 기준, watchdog 연장 시 갱신)
+     */
+    private record LocalHold(String value, long deadlineNanos) {
+    }
 }
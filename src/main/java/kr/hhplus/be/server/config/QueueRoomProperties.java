@@ -0,0 +1,100 @@
+package kr.hhplus.be.server.config;
+
+import kr.hhplus.be.server.queue.domain.QueueLane;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 콘서트별 대기실 설정
+ * queue.rooms.{concertId} 로 지정한 값이 없으면 기본값(queue.max-active-users, queue.admission-per-tick)을 사용
+ *
+ * queue:
+ *   max-active-users: 100
+ *   admission-per-tick: 0      # 0 = 빈 슬롯만큼 모두 활성화
+ *   rooms:
+ *     1:
+ *       max-active-users: 500
+ *       admission-per-tick: 50
+ *   lanes:                     # 대기열 lane 별 활성화 비중 (설정하지 않으면 general 하나)
+ *     general: 7
+ *     presale: 2
+ *     accessibility: 1
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "queue")
+public class QueueRoomProperties {
+
+    // 활성 사용자 최대수 (기본값)
+    private int maxActiveUsers = 100;
+
+    // 활성화 주기(tick)당 최대 활성화 인원 (기본값, 0 이하면 제한 없음)
+    private int admissionPerTick = 0;
+
+    // 콘서트별 설정
+    private Map<Long, Room> rooms = new HashMap<>();
+
+    // 대기열 lane 이름 -> 활성화 batch 비중 (general 이 없으면 비중 1로 추가)
+    private Map<String, Integer> lanes = new LinkedHashMap<>();
+
+    @Getter
+    @Setter
+    public static class Room {
+        private Integer maxActiveUsers;
+        private Integer admissionPerTick;
+    }
+
+    /**
+     * 콘서트 대기실의 활성 사용자 최대수
+     */
+    public int maxActiveUsers(Long concertId) {
+        Room room = rooms.get(concertId);
+        return (room != null && room.getMaxActiveUsers() != null) ? room.getMaxActiveUsers() : maxActiveUsers;
+    }
+
+    /**
+     * 대기열 lane 목록 (general 이 항상 첫 번째)
+     */
+    public List<QueueLane> queueLanes() {
+        List<QueueLane> queueLanes = new ArrayList<>();
+        queueLanes.add(new QueueLane(QueueLane.GENERAL, lanes.getOrDefault(QueueLane.GENERAL, 1)));
+        lanes.forEach((name, weight) -> {
+            if (!QueueLane.GENERAL.equals(name)) {
+                queueLanes.add(new QueueLane(name, weight));
+            }
+        });
+        return queueLanes;
+    }
+
+    /**
+     * 요청한 lane 이름 확인 (없으면 general)
+     * @throws IllegalArgumentException 설정되지 않은 lane
+     */
+    public String resolveLane(String lane) {
+        if (lane == null || lane.isBlank() || QueueLane.GENERAL.equals(lane)) {
+            return QueueLane.GENERAL;
+        }
+        if (!lanes.containsKey(lane)) {
+            throw new IllegalArgumentException("존재하지 않는 대기열 lane 입니다. : " + lane);
+        }
+        return lane;
+    }
+
+    /**
+     * 콘서트 대기실의 tick 당 최대 활성화 인원 (제한 없으면 Integer.MAX_VALUE)
+     */
+    public int admissionPerTick(Long concertId) {
+        Room room = rooms.get(concertId);
+        int limit = (room != null && room.getAdmissionPerTick() != null) ? room.getAdmissionPerTick() : admissionPerTick;
+        return limit > 0 ? limit : Integer.MAX_VALUE;
+    }
+}
@@ -12,6 +12,8 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
@@ -34,10 +36,25 @@ public class RedisConfig {
     }
 
     // RedisTemplate 사용을 위한 추가
+    // 기본 JDK 직렬화 유지 (이미 저장된 랭킹 ZSET 등을 그대로 읽기 위해, 대기열은 StringRedisTemplate 만 사용)
     @Bean
     public RedisTemplate<?,?> redisTemplate() {
         RedisTemplate<?,?> redisTemplate = new RedisTemplate<>();
         redisTemplate.setConnectionFactory(redisConnectionFactory());
         return redisTemplate;
     }
+
+    // 문자열 전용 RedisTemplate (대기열 Lua 스크립트 인자/결과를 문자열로 주고받기 위해 사용)
+    @Bean
+    public StringRedisTemplate stringRedisTemplate() {
+        return new StringRedisTemplate(redisConnectionFactory());
+    }
+
+    // Redis 구독 컨테이너 (대기열 활성 사용자 키 만료 이벤트 구독)
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer() {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory());
+        return container;
+    }
 }
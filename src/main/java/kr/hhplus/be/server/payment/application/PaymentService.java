@@ -7,6 +7,7 @@ import kr.hhplus.be.server.payment.application.output.PaymentResult;
 import kr.hhplus.be.server.payment.domain.Payment;
 import kr.hhplus.be.server.payment.domain.PaymentRepository;
 import kr.hhplus.be.server.point.domain.BalanceHistory;
+import kr.hhplus.be.server.queue.event.QueueSlotReleasedEvent;
 import kr.hhplus.be.server.point.repository.BalanceHistoryJpaRepository;
 import kr.hhplus.be.server.reservation.domain.Reservation;
 import kr.hhplus.be.server.reservation.domain.ReservationRepository;
@@ -16,6 +17,7 @@ import kr.hhplus.be.server.user.domain.User;
 import kr.hhplus.be.server.user.repository.UserJpaRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
@@ -72,7 +74,12 @@ public class PaymentService {
         Seat seat = seatJpaRepository.findById(reservation.getSeatId())
                 .orElseThrow(() -> new IllegalStateException("좌석 정보를 찾을 수 없습니다."));
         seat.confirmReservation(LocalDateTime.now());
-        seatJpaRepository.save(seat);
+        try {
+            // 5-1. 좌석 버전 확인 (조회 후 만료 처리 / 취소로 좌석이 바뀌었으면 결제 전체 롤백)
+            seatJpaRepository.saveAndFlush(seat);
+        } catch (OptimisticLockingFailureException e) {
+            throw new IllegalStateException("좌석 상태가 변경되었습니다. 다시 시도해주세요.");
+        }
 
         // 6. 포인트 히스토리 저장
         BalanceHistory balanceHistory = BalanceHistory.payment(
@@ -89,6 +96,9 @@ public class PaymentService {
         );
         eventPublisher.publishEvent(event);
 
+        // 8. 대기열 활성 슬롯 반환 이벤트 발행 (커밋 후 다음 대기자 활성화)
+        eventPublisher.publishEvent(new QueueSlotReleasedEvent(reservation.getConcertId(), command.getUserId()));
+
         return new PaymentResult(payment);
     }
 
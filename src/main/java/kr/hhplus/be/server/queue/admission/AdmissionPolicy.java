@@ -0,0 +1,25 @@
+package kr.hhplus.be.server.queue.admission;
+
+/**
+ * 대기열 활성화 정책
+ * 활성화 주기마다 대기실별로 몇 명까지 활성화할지 결정한다. (활성 사용자 최대치는 활성화 스크립트가 별도로 보장)
+ * queue.admission.policy 로 배포 환경마다 선택 : fixed(기본), token-bucket, feedback
+ */
+public interface AdmissionPolicy {
+
+    /**
+     * 이번 주기에 활성화할 수 있는 최대 인원
+     * 대기실별 활성화 락을 잡은 상태에서 호출된다.
+     * @param concertId 콘서트 ID (대기실)
+     * @return 최대 활성화 인원 (제한 없으면 Integer.MAX_VALUE)
+     */
+    int admissionLimit(Long concertId);
+
+    /**
+     * 이번 주기 활성화 결과 반영
+     * @param concertId 콘서트 ID (대기실)
+     * @param admittedCount 실제 활성화된 인원
+     */
+    default void onAdmitted(Long concertId, int admittedCount) {
+    }
+}
@@ -0,0 +1,227 @@
+package kr.hhplus.be.server.queue.admission;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import kr.hhplus.be.server.common.RedisKeyUtils;
+import kr.hhplus.be.server.reservation.metrics.ReservationMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 하위 시스템 상태 기반(feedback) 정책
+ * 다음 지표 중 하나라도 목표치를 넘으면 대기실별 tick 당 활성화 인원을 절반으로 줄이고, 아니면 조금씩 늘린다. (AIMD)
+ *  - DB 커넥션 풀 사용률 (hikaricp.connections.active / hikaricp.connections.max)
+ *  - 좌석 배정 경합 실패율 (reservation.seat.claim, 모든 좌석 배정 방식)
+ *  - 좌석 예약 p99 처리 시간 (reservation.reserve)
+ * 예약 트래픽은 모든 노드가 나누어 받으므로, 노드마다 자기 지표로 계산한 부하를 Redis 에 게시하고
+ * 활성화를 수행하는 리더는 최근에 게시된 노드 부하 중 가장 높은 값을 사용한다. (한 노드만 과부하여도 줄임)
+ */
+@Component
+@ConditionalOnProperty(name = "queue.admission.policy", havingValue = "feedback")
+public class FeedbackAdmissionPolicy implements AdmissionPolicy {
+    private static final Logger log = LoggerFactory.getLogger(FeedbackAdmissionPolicy.class);
+
+    private final MeterRegistry meterRegistry;
+    private final StringRedisTemplate redisTemplate;
+
+    // 노드 ID (부하 Hash field)
+    private final String nodeId = UUID.randomUUID().toString();
+
+    // 대기실(concertId) -> 현재 tick 당 활성화 인원
+    private final Map<Long, Double> allowances = new ConcurrentHashMap<>();
+
+    @Value("${queue.admission.feedback.max-per-tick:100}")
+    private int maxPerTick;
+
+    @Value("${queue.admission.feedback.min-per-tick:1}")
+    private int minPerTick;
+
+    // 여유가 있을 때 주기마다 늘리는 인원
+    @Value("${queue.admission.feedback.increase-step:10}")
+    private int increaseStep;
+
+    // 과부하일 때 곱하는 비율
+    @Value("${queue.admission.feedback.decrease-factor:0.5}")
+    private double decreaseFactor;
+
+    @Value("${queue.admission.feedback.target-pool-utilization:0.8}")
+    private double targetPoolUtilization;
+
+    @Value("${queue.admission.feedback.target-claim-conflict-rate:0.2}")
+    private double targetClaimConflictRate;
+
+    @Value("${queue.admission.feedback.target-p99-ms:500}")
+    private double targetP99Millis;
+
+    // 지표 재계산 / 부하 게시 최소 간격 (같은 주기에 여러 대기실을 처리할 때 같은 값을 사용)
+    @Value("${queue.admission.feedback.sample-interval-ms:1000}")
+    private long sampleIntervalMillis;
+
+    // 이 시간 동안 게시하지 않은 노드의 부하는 무시 (종료 / 장애 노드)
+    @Value("${queue.admission.feedback.node-stale-ms:5000}")
+    private long nodeStaleMillis;
+
+    // 클러스터 부하 (리더, 모든 노드 중 최대)
+    private long lastSampledAt;
+    private double lastPressure;
+
+    // 이 노드 부하
+    private long lastLocalSampledAt;
+    private double lastLocalPressure;
+    private double lastClaimed;
+    private double lastConflicts;
+
+    public FeedbackAdmissionPolicy(MeterRegistry meterRegistry, StringRedisTemplate redisTemplate) {
+        this.meterRegistry = meterRegistry;
+        this.redisTemplate = redisTemplate;
+    }
+
+    @Override
+    public int admissionLimit(Long concertId) {
+        double pressure = currentPressure();
+        double allowance = allowances.compute(concertId, (id, current) -> {
+            double value = current == null ? maxPerTick : current;
+            return pressure > 1.0
+                    ? Math.max(minPerTick, value * decreaseFactor)
+                    : Math.min(maxPerTick, value + increaseStep);
+        });
+        return (int) allowance;
+    }
+
+    /**
+     * 이 노드 부하를 Redis 에 게시 (모든 노드, queue.admission.feedback.sample-interval-ms 주기)
+     */
+    @Scheduled(fixedDelayString = "${queue.admission.feedback.sample-interval-ms:1000}")
+    public void publishPressure() {
+        double pressure = localPressure();
+        String key = RedisKeyUtils.queueAdmissionPressureKey();
+        try {
+            redisTemplate.opsForHash().put(key, nodeId, pressure + ":" + System.currentTimeMillis());
+            // 모든 노드가 게시를 멈추면 키 전체가 만료
+            redisTemplate.expire(key, nodeStaleMillis, TimeUnit.MILLISECONDS);
+        } catch (Exception e) {
+            log.info("[AdmissionPolicy] 노드 부하 게시 실패 nodeId={}", nodeId, e);
+        }
+    }
+
+    /**
+     * 클러스터 부하 : 이 노드와 최근에 게시한 다른 노드 중 가장 높은 부하 (1 초과면 과부하)
+     */
+    synchronized double currentPressure() {
+        long now = System.currentTimeMillis();
+        if (lastSampledAt != 0 && now - lastSampledAt < sampleIntervalMillis) {
+            return lastPressure;
+        }
+
+        double pressure = Math.max(localPressure(), otherNodesPressure(now));
+        if (pressure > 1.0) {
+            log.info("[AdmissionPolicy] 하위 시스템 과부하로 활성화 인원을 줄입니다. pressure={}", pressure);
+        }
+
+        lastSampledAt = now;
+        lastPressure = pressure;
+        return pressure;
+    }
+
+    /**
+     * 이 노드 부하 : 목표치 대비 가장 높은 지표 비율
+     */
+    synchronized double localPressure() {
+        long now = System.currentTimeMillis();
+        if (lastLocalSampledAt != 0 && now - lastLocalSampledAt < sampleIntervalMillis) {
+            return lastLocalPressure;
+        }
+
+        double pressure = Math.max(poolUtilization() / targetPoolUtilization,
+                Math.max(claimConflictRate() / targetClaimConflictRate, p99Millis() / targetP99Millis));
+
+        lastLocalSampledAt = now;
+        lastLocalPressure = pressure;
+        return pressure;
+    }
+
+    /**
+     * 다른 노드가 게시한 부하 중 최대 (오래된 노드는 무시하고 Hash 에서 제거)
+     * Redis 를 읽지 못하면 이 노드 부하만 사용한다.
+     */
+    private double otherNodesPressure(long now) {
+        String key = RedisKeyUtils.queueAdmissionPressureKey();
+        try {
+            double max = 0;
+            List<Object> staleNodes = new ArrayList<>();
+            for (Map.Entry<Object, Object> entry : redisTemplate.opsForHash().entries(key).entrySet()) {
+                if (nodeId.equals(entry.getKey())) {
+                    continue;
+                }
+                // value = 부하:게시 시각
+                String value = String.valueOf(entry.getValue());
+                int separator = value.lastIndexOf(':');
+                if (separator < 0 || now - Long.parseLong(value.substring(separator + 1)) > nodeStaleMillis) {
+                    staleNodes.add(entry.getKey());
+                    continue;
+                }
+                max = Math.max(max, Double.parseDouble(value.substring(0, separator)));
+            }
+            if (!staleNodes.isEmpty()) {
+                redisTemplate.opsForHash().delete(key, staleNodes.toArray());
+            }
+            return max;
+        } catch (Exception e) {
+            log.info("[AdmissionPolicy] 노드 부하 조회 실패, 이 노드 부하만 사용합니다.", e);
+            return 0;
+        }
+    }
+
+    private double poolUtilization() {
+        double active = meterRegistry.find("hikaricp.connections.active").gauges().stream().mapToDouble(Gauge::value).sum();
+        double max = meterRegistry.find("hikaricp.connections.max").gauges().stream().mapToDouble(Gauge::value).sum();
+        return max > 0 ? active / max : 0;
+    }
+
+    // 직전 샘플 이후 좌석 배정 경합 실패율 (모든 좌석 배정 방식 합계)
+    private double claimConflictRate() {
+        double claimed = count("claimed");
+        double conflicts = count("conflict");
+        double claimedDelta = claimed - lastClaimed;
+        double conflictDelta = conflicts - lastConflicts;
+        lastClaimed = claimed;
+        lastConflicts = conflicts;
+
+        double total = claimedDelta + conflictDelta;
+        return total > 0 ? conflictDelta / total : 0;
+    }
+
+    private double count(String result) {
+        return meterRegistry.find(ReservationMetrics.SEAT_CLAIM).tag("result", result).counters().stream()
+                .mapToDouble(Counter::count)
+                .sum();
+    }
+
+    private double p99Millis() {
+        Timer timer = meterRegistry.find(ReservationMetrics.RESERVE).timer();
+        if (timer == null) {
+            return 0;
+        }
+        for (ValueAtPercentile percentile : timer.takeSnapshot().percentileValues()) {
+            if (percentile.percentile() == 0.99) {
+                return percentile.value(TimeUnit.MILLISECONDS);
+            }
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,25 @@
+package kr.hhplus.be.server.queue.admission;
+
+import kr.hhplus.be.server.config.QueueRoomProperties;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 고정 최대치 정책 (기본)
+ * 빈 슬롯만큼 활성화하며, 대기실별 tick 당 활성화 인원(queue.admission-per-tick)만 제한한다.
+ */
+@Component
+@ConditionalOnProperty(name = "queue.admission.policy", havingValue = "fixed", matchIfMissing = true)
+public class FixedCapAdmissionPolicy implements AdmissionPolicy {
+
+    private final QueueRoomProperties queueRoomProperties;
+
+    public FixedCapAdmissionPolicy(QueueRoomProperties queueRoomProperties) {
+        this.queueRoomProperties = queueRoomProperties;
+    }
+
+    @Override
+    public int admissionLimit(Long concertId) {
+        return queueRoomProperties.admissionPerTick(concertId);
+    }
+}
@@ -0,0 +1,66 @@
+package kr.hhplus.be.server.queue.admission;
+
+import kr.hhplus.be.server.common.RedisKeyUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 토큰 버킷 정책
+ * 대기실별로 초당 rate-per-second 명씩 활성화 권한을 채우고(최대 burst 명), 채워진 만큼만 활성화한다.
+ * 활성화 주기(queue.admission.tick-ms)를 짧게 잡으면 예약 요청이 한꺼번에 몰리지 않고 고르게 들어온다.
+ * 버킷은 Redis Hash(queue:{concertId}:bucket) 에 저장해서 활성화 노드가 바뀌어도 이어서 사용한다.
+ */
+@Component
+@ConditionalOnProperty(name = "queue.admission.policy", havingValue = "token-bucket")
+public class TokenBucketAdmissionPolicy implements AdmissionPolicy {
+
+    private static final String TOKENS = "tokens";
+    private static final String UPDATED_AT = "updatedAt";
+
+    private final StringRedisTemplate redisTemplate;
+
+    // 초당 활성화 인원
+    @Value("${queue.admission.token-bucket.rate-per-second:10}")
+    private double ratePerSecond;
+
+    // 최대 누적 인원 (한 주기에 활성화할 수 있는 최대 인원)
+    @Value("${queue.admission.token-bucket.burst:50}")
+    private int burst;
+
+    public TokenBucketAdmissionPolicy(StringRedisTemplate redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    @Override
+    public int admissionLimit(Long concertId) {
+        return (int) Math.floor(refill(concertId, System.currentTimeMillis()));
+    }
+
+    @Override
+    public void onAdmitted(Long concertId, int admittedCount) {
+        long now = System.currentTimeMillis();
+        double tokens = Math.max(0, refill(concertId, now) - admittedCount);
+
+        redisTemplate.opsForHash().putAll(RedisKeyUtils.admissionBucketKey(concertId), Map.of(
+                TOKENS, String.valueOf(tokens),
+                UPDATED_AT, String.valueOf(now)));
+    }
+
+    // 마지막 갱신 이후 경과 시간만큼 채운 현재 버킷 (처음이면 가득 찬 상태)
+    private double refill(Long concertId, long now) {
+        List<Object> values = redisTemplate.opsForHash()
+                .multiGet(RedisKeyUtils.admissionBucketKey(concertId), List.of(TOKENS, UPDATED_AT));
+        if (values.get(0) == null || values.get(1) == null) {
+            return burst;
+        }
+
+        double tokens = Double.parseDouble(values.get(0).toString());
+        long elapsedMillis = Math.max(0, now - Long.parseLong(values.get(1).toString()));
+        return Math.min(burst, tokens + elapsedMillis / 1000.0 * ratePerSecond);
+    }
+}
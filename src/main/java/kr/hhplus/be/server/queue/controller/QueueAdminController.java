@@ -0,0 +1,35 @@
+package kr.hhplus.be.server.queue.controller;
+
+import kr.hhplus.be.server.queue.domain.QueueSeedReport;
+import kr.hhplus.be.server.queue.dto.QueueSeedRequestDto;
+import kr.hhplus.be.server.queue.dto.QueueSeedResponseDto;
+import kr.hhplus.be.server.queue.service.QueueService;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * 대기열 관리자 API 컨트롤러 (부하 리허설용)
+ * queue.seed.enabled=true 인 환경(리허설 환경)에서만 등록된다.
+ */
+@RestController
+@RequestMapping("/api/v1/admin/queue")
+@ConditionalOnProperty(name = "queue.seed.enabled", havingValue = "true")
+public class QueueAdminController {
+    private final QueueService queueService;
+
+    public QueueAdminController(QueueService queueService) {
+        this.queueService = queueService;
+    }
+
+    /**
+     * 합성 사용자 일괄 등록
+     * POST /api/v1/admin/queue/seed
+     */
+    @PostMapping("/seed")
+    public ResponseEntity<QueueSeedResponseDto> seed(@RequestBody QueueSeedRequestDto request) {
+        QueueSeedReport report = queueService.seedUsers(request.getConcertId(), request.getCount(), request.getLane());
+
+        return ResponseEntity.ok(QueueSeedResponseDto.from(report));
+    }
+}
@@ -1,11 +1,19 @@
 package kr.hhplus.be.server.queue.controller;
 
 import kr.hhplus.be.server.queue.domain.QueueToken;
+import kr.hhplus.be.server.queue.dto.QueueHeartbeatResponseDto;
 import kr.hhplus.be.server.queue.dto.QueueTokenRequestDto;
 import kr.hhplus.be.server.queue.dto.QueueTokenResponseDto;
+import kr.hhplus.be.server.queue.ratelimit.QueueRateLimiter;
+import kr.hhplus.be.server.queue.ratelimit.SlidingWindowRateLimiter;
 import kr.hhplus.be.server.queue.service.QueueService;
+import kr.hhplus.be.server.queue.service.QueueStatusBroadcaster;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 /**
  * 대기열 관리 API 컨트롤러
@@ -14,9 +22,14 @@ import org.springframework.web.bind.annotation.*;
 @RequestMapping("/api/v1/queue")
 public class QueueController {
     private final QueueService queueService;
+    private final QueueStatusBroadcaster queueStatusBroadcaster;
+    private final QueueRateLimiter queueRateLimiter;
 
-    public QueueController(QueueService queueService){
+    public QueueController(QueueService queueService, QueueStatusBroadcaster queueStatusBroadcaster,
+                           QueueRateLimiter queueRateLimiter){
         this.queueService = queueService;
+        this.queueStatusBroadcaster = queueStatusBroadcaster;
+        this.queueRateLimiter = queueRateLimiter;
     }
 
     /**
@@ -25,7 +38,13 @@ public class QueueController {
      */
     @PostMapping("/token")
     public ResponseEntity<QueueTokenResponseDto> issueToken(@RequestBody QueueTokenRequestDto request) {
-        QueueToken queueToken = queueService.issueTokenWithLock(request.getUserId());
+        SlidingWindowRateLimiter.Decision decision = queueRateLimiter.tryAcquireIssue(request.getConcertId(), request.getUserId());
+        if (!decision.allowed()) {
+            return tooManyRequests(decision);
+        }
+
+        QueueToken queueToken = queueService.issueToken(request.getConcertId(), request.getUserId(), request.getLane());
+        queueRateLimiter.recordIssueRetryHint(request.getConcertId(), request.getUserId(), queueToken.getNextPollSeconds());
         QueueTokenResponseDto response = QueueTokenResponseDto.from(queueToken);
 
         return ResponseEntity.ok(response);
@@ -33,18 +52,63 @@ public class QueueController {
 
     /**
      * 대기열 상태 조회
-     * GET /api/v1/queue/status
+     * GET /api/v1/queue/status?concertId={concertId}
      */
     @GetMapping("/status")
-    public ResponseEntity<QueueTokenResponseDto> getQueueStatus(@RequestHeader("Authorization") String authHeader) {
+    public ResponseEntity<QueueTokenResponseDto> getQueueStatus(@RequestHeader("Authorization") String authHeader,
+                                                                @RequestParam Long concertId) {
         String token = extractToken(authHeader);
 
-        QueueToken queueToken = queueService.getQueueStatus(token);
+        SlidingWindowRateLimiter.Decision decision = queueRateLimiter.tryAcquireStatus(concertId, token);
+        if (!decision.allowed()) {
+            return tooManyRequests(decision);
+        }
+
+        QueueToken queueToken = queueService.getQueueStatus(concertId, token);
+        queueRateLimiter.recordValidatedStatus(concertId, token, queueToken.getNextPollSeconds());
         QueueTokenResponseDto response = QueueTokenResponseDto.from(queueToken);
 
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * 활성 사용자 heartbeat (입장 토큰으로 요청)
+     * POST /api/v1/queue/heartbeat?concertId={concertId}
+     * queue.heartbeat.idle-seconds 안에 heartbeat 가 없으면 활성 슬롯이 회수되어 대기자에게 넘어간다.
+     */
+    @PostMapping("/heartbeat")
+    public ResponseEntity<QueueHeartbeatResponseDto> heartbeat(@RequestHeader("Authorization") String authHeader,
+                                                               @RequestParam Long concertId) {
+        String accessToken = extractToken(authHeader);
+
+        Integer nextHeartbeatSeconds = queueService.heartbeat(concertId, accessToken);
+
+        return ResponseEntity.ok(new QueueHeartbeatResponseDto(concertId, nextHeartbeatSeconds));
+    }
+
+    /**
+     * 대기열 상태 구독 (SSE)
+     * GET /api/v1/queue/status/stream?concertId={concertId}
+     * 대기 순서가 바뀌면 position, 활성화되면 입장 토큰을 담은 active, 만료되면 expired 이벤트를 전송한다.
+     */
+    @GetMapping(value = "/status/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamQueueStatus(@RequestHeader("Authorization") String authHeader,
+                                        @RequestParam Long concertId) {
+        String token = extractToken(authHeader);
+
+        return queueStatusBroadcaster.subscribe(concertId, token);
+    }
+
+    /**
+     * 요청 제한 초과 응답 (429, 저장소 호출 없음)
+     * Retry-After 는 마지막으로 안내한 다음 조회 권장 간격과 제한 윈도우가 끝날 때까지 남은 시간 중 큰 값
+     */
+    private ResponseEntity<QueueTokenResponseDto> tooManyRequests(SlidingWindowRateLimiter.Decision decision) {
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(decision.retryAfterSeconds()))
+                .build();
+    }
+
     /**
      * Authorization 헤더에서 토큰 추출
      */
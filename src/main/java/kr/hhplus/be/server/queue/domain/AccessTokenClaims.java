@@ -0,0 +1,29 @@
+package kr.hhplus.be.server.queue.domain;
+
+import lombok.Getter;
+
+/**
+ * 서명된 입장 토큰(access token)에 담긴 정보
+ * 활성화된 사용자에게만 발급되며 Redis 조회 없이 서명만으로 검증한다.
+ */
+@Getter
+public class AccessTokenClaims {
+    private final Long concertId;
+    private final String userId;
+    private final long issuedAtMillis;
+    private final long expiresAtMillis;
+
+    public AccessTokenClaims(Long concertId, String userId, long issuedAtMillis, long expiresAtMillis) {
+        this.concertId = concertId;
+        this.userId = userId;
+        this.issuedAtMillis = issuedAtMillis;
+        this.expiresAtMillis = expiresAtMillis;
+    }
+
+    /**
+     * 토큰이 만료되었는지 확인
+     */
+    public boolean isExpired(long nowMillis) {
+        return expiresAtMillis <= nowMillis;
+    }
+}
@@ -0,0 +1,63 @@
+package kr.hhplus.be.server.queue.domain;
+
+import java.util.List;
+
+/**
+ * 대기열 lane (우선 입장 그룹)
+ * 대기실마다 lane 별로 대기열을 따로 두고, 활성화 batch 를 lane 가중치 비율로 나누어 pop 한다. (lane 안에서는 FIFO)
+ * @param name lane 이름 (general : 일반, 그 외 queue.lanes 에 설정한 우선 입장 그룹)
+ * @param weight 활성화 batch 에서 보장받는 비중
+ */
+public record QueueLane(String name, int weight) {
+
+    public static final String GENERAL = "general";
+
+    public QueueLane {
+        if (name == null || name.isBlank()) {
+            throw new IllegalArgumentException("lane 이름은 필수입니다.");
+        }
+        if (weight <= 0) {
+            throw new IllegalArgumentException("lane 가중치는 0보다 커야 합니다. : " + name);
+        }
+    }
+
+    public boolean isGeneral() {
+        return GENERAL.equals(name);
+    }
+
+    /**
+     * 활성화 batch 를 lane 별 인원으로 나눈다. (smooth weighted round robin)
+     * 한 명씩 배정할 때마다 대기자가 남은 lane 의 credit 에 가중치를 더하고, credit 이 가장 큰 lane 에 배정한 뒤 배정받은 lane 의 credit 에서 가중치 합을 뺀다.
+     * credit 을 활성화 주기 사이에 유지하므로 batch 가 작아도 (예 : 빈 슬롯 1개씩) 여러 주기에 걸쳐 가중치 비율을 지킨다.
+     * 대기자가 없는 lane 의 몫은 대기자가 있는 다른 lane 이 가져간다.
+     * (Redis 구현은 redis/queue/admit_waiting_users.lua 에서 같은 계산을 한다.)
+     * @param lanes lane 목록
+     * @param waitingSizes lane 별 대기 인원 (lanes 와 같은 순서)
+     * @param credits lane 별 누적 credit (lanes 와 같은 순서, 계산 후 갱신됨)
+     * @param slots 배정할 인원
+     * @return lane 별 배정 인원 (lanes 와 같은 순서)
+     */
+    public static int[] allocate(List<QueueLane> lanes, long[] waitingSizes, long[] credits, int slots) {
+        int[] quotas = new int[lanes.size()];
+        for (int slot = 0; slot < slots; slot++) {
+            int best = -1;
+            long totalWeight = 0;
+            for (int i = 0; i < lanes.size(); i++) {
+                if (waitingSizes[i] - quotas[i] <= 0) {
+                    continue;
+                }
+                credits[i] += lanes.get(i).weight();
+                totalWeight += lanes.get(i).weight();
+                if (best < 0 || credits[i] > credits[best]) {
+                    best = i;
+                }
+            }
+            if (best < 0) {
+                break;
+            }
+            credits[best] -= totalWeight;
+            quotas[best]++;
+        }
+        return quotas;
+    }
+}
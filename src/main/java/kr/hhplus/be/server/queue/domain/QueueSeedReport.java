@@ -0,0 +1,30 @@
+package kr.hhplus.be.server.queue.domain;
+
+/**
+ * 부하 리허설용 합성 사용자 등록 결과
+ * @param concertId 콘서트 ID (대기실)
+ * @param lane 등록한 lane
+ * @param seededCount 등록한 인원
+ * @param activatedCount 활성화된 인원
+ * @param waitingCount 대기열에 추가된 인원
+ * @param elapsedMillis 처리 시간 (ms)
+ * @param memoryBeforeBytes 등록 전 저장소 메모리 사용량 (byte)
+ * @param memoryAfterBytes 등록 후 저장소 메모리 사용량 (byte)
+ */
+public record QueueSeedReport(Long concertId, String lane, int seededCount, int activatedCount, int waitingCount,
+                              long elapsedMillis, long memoryBeforeBytes, long memoryAfterBytes) {
+
+    /**
+     * 등록으로 늘어난 메모리 (byte)
+     */
+    public long memoryDeltaBytes() {
+        return memoryAfterBytes - memoryBeforeBytes;
+    }
+
+    /**
+     * 사용자당 메모리 (byte, 토큰 Hash + 매핑 키 + 대기열/활성 대기열 항목)
+     */
+    public long bytesPerUser() {
+        return seededCount == 0 ? 0 : memoryDeltaBytes() / seededCount;
+    }
+}
@@ -0,0 +1,110 @@
+package kr.hhplus.be.server.queue.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+
+/**
+ * 대기열 상태 스냅샷 (Redis 장애 후 대기 순서 / 활성 상태 복구용)
+ * 대기실, 사용자별로 한 행이며 대기열 진입 시 WAITING 으로 추가되고, 활성화되면 같은 행이 ACTIVE 로 갱신된다.
+ * 식별자를 직접 부여하므로 신규 행은 Persistable 로 알려서 조회 없이 batch insert 한다.
+ */
+@Getter
+@Entity
+@Table(name = "queue_snapshot",
+        indexes = @Index(name = "idx_queue_snapshot_room", columnList = "concertId, status, lane, score"))
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class QueueSnapshot implements Persistable<String> {
+
+    // 대기실:사용자 (concertId:userId)
+    @Id
+    private String snapshotId;
+
+    @Column(nullable = false)
+    private Long concertId;
+
+    @Column(nullable = false)
+    private String userId;
+
+    @Column(nullable = false)
+    private String token;
+
+    @Column(nullable = false)
+    private String lane;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private QueueToken.QueueStatus status;
+
+    // WAITING : 대기열 진입 시각 (ms, 대기열 score), ACTIVE : 활성 만료 시각 (ms, 활성 대기열 score)
+    @Column(nullable = false)
+    private long score;
+
+    // 토큰 발급 / 만료 일시 (epoch ms)
+    @Column(nullable = false)
+    private long issuedAt;
+
+    @Column(nullable = false)
+    private long expiresAt;
+
+    private LocalDateTime snapshotAt;
+
+    @Transient
+    private boolean newSnapshot;
+
+    public QueueSnapshot(Long concertId, String userId, String token, String lane, QueueToken.QueueStatus status,
+                         long score, long issuedAt, long expiresAt) {
+        this.snapshotId = snapshotId(concertId, userId);
+        this.concertId = concertId;
+        this.userId = userId;
+        this.token = token;
+        this.lane = lane;
+        this.status = status;
+        this.score = score;
+        this.issuedAt = issuedAt;
+        this.expiresAt = expiresAt;
+        this.snapshotAt = LocalDateTime.now();
+        this.newSnapshot = true;
+    }
+
+    public static String snapshotId(Long concertId, String userId) {
+        return concertId + ":" + userId;
+    }
+
+    /**
+     * 같은 사용자의 최신 상태로 갱신 (대기 -> 활성, 토큰 재발급)
+     */
+    public void update(QueueSnapshot latest) {
+        this.token = latest.token;
+        this.lane = latest.lane;
+        this.status = latest.status;
+        this.score = latest.score;
+        this.issuedAt = latest.issuedAt;
+        this.expiresAt = latest.expiresAt;
+        this.snapshotAt = latest.snapshotAt;
+    }
+
+    public boolean isActive() {
+        return status == QueueToken.QueueStatus.ACTIVE;
+    }
+
+    @Override
+    public String getId() {
+        return snapshotId;
+    }
+
+    @Override
+    public boolean isNew() {
+        return newSnapshot;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.newSnapshot = false;
+    }
+}
@@ -0,0 +1,184 @@
+package kr.hhplus.be.server.queue.domain;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 대기열 저장소
+ * 대기실별 활성 대기열, lane 별 대기열, 대기열 토큰과 활성화 대상 대기실 목록을 관리한다.
+ * 토큰 발급과 대기자 활성화는 저장소 안에서 원자적으로 처리되어야 한다. (Redis : Lua 스크립트, 메모리 : CAS)
+ * 구현체는 queue.store 설정으로 선택한다. (redis : 기본, memory : 단일 노드 / 벤치마크용)
+ */
+public interface QueueStore {
+
+    /**
+     * 토큰 발급 (기존 토큰 확인 + 만료된 활성 사용자 정리 + 활성화/대기열 추가)
+     * @param concertId 콘서트 ID (대기실)
+     * @param userId 사용자 ID
+     * @param lane 대기열 lane (대기열에 추가되는 경우 lane 별 대기열에 추가)
+     * @param lanes 설정된 lane 목록 (기존 토큰의 대기 순서 조회, 다른 lane 대기열에 남은 항목 제거)
+     * @param token 신규 토큰 (기존 토큰이 있으면 사용하지 않음)
+     * @param maxActiveUsers 활성 사용자 최대수
+     * @param ttlSeconds 토큰 만료 시간(초)
+     * @param idleMillis 유휴 허용 시간 (ms, 활성화되면 heartbeat 유휴 만료 시각 등록, 0 이면 미사용)
+     * @param nowMillis 현재 시각 (ms, 대기열 진입 순서 기준)
+     * @param issuedAt 발급 일시
+     * @param expiresAt 만료 일시
+     * @return 발급된 토큰 (lane 안의 대기 순서만 채워짐, 예상 대기 시간은 호출하는 쪽에서 계산)
+     */
+    IssuedToken issue(Long concertId, String userId, String lane, List<QueueLane> lanes, String token, int maxActiveUsers,
+                      long ttlSeconds, long idleMillis, long nowMillis, LocalDateTime issuedAt, LocalDateTime expiresAt);
+
+    /**
+     * 대기 사용자 일괄 활성화 (만료 정리 + 빈 슬롯을 lane 비중으로 배정 + lane 별 대기열 pop + 활성 등록 + 토큰 상태 갱신)
+     * lane 별 배정은 QueueLane.allocate 규칙을 따르고, 배정 상태(credit)는 호출 사이에 유지한다.
+     * 대기실별 활성화 락을 잡은 상태에서만 호출한다.
+     * @param lanes 대기열 lane 목록
+     * @param idleMillis 유휴 허용 시간 (ms, 활성화된 사용자의 heartbeat 유휴 만료 시각 등록, 0 이면 미사용)
+     * @param batchSize 한 번에 처리할 최대 인원
+     * @return pop 된 인원과 활성화된 사용자 목록
+     */
+    AdmissionBatch admit(Long concertId, List<QueueLane> lanes, int maxActiveUsers, long ttlSeconds, long idleMillis,
+                         long nowMillis, LocalDateTime expiresAt, int batchSize);
+
+    /**
+     * 토큰 조회
+     * @return 저장된 토큰 정보, 없거나 만료되어 삭제되었으면 null
+     */
+    QueueToken findToken(Long concertId, String token);
+
+    /**
+     * lane 대기열 순위 조회 (0부터 시작)
+     * @return 대기열에 없으면 null
+     */
+    Long waitingRank(Long concertId, String lane, String userId);
+
+    /**
+     * lane 대기열 순위 일괄 조회 (0부터 시작, 대기열에 없으면 null)
+     * @return userIds 와 같은 순서의 순위 목록
+     */
+    List<Long> waitingRanks(Long concertId, String lane, List<String> userIds);
+
+    /**
+     * lane 대기열 인원 (ZCARD)
+     */
+    long waitingSize(Long concertId, String lane);
+
+    /**
+     * 만료되지 않은 활성 사용자 수
+     */
+    long activeSize(Long concertId, long nowMillis);
+
+    /**
+     * lane 대기열 앞쪽 limit 명의 토큰에 현재 대기 순서 저장 (토큰 만료 시간은 변경하지 않음)
+     * 상태 조회는 대기열 순위로 대기 순서를 계산하므로, 저장된 대기 순서가 필요한 경우에만 주기적으로 호출한다.
+     * @return 대기 순서를 저장한 토큰 수
+     */
+    int persistWaitingPositions(Long concertId, String lane, int limit);
+
+    /**
+     * 활성 슬롯 반환 (활성 대기열 제거 + 활성 사용자 / 토큰 / 사용자-토큰 매핑 삭제를 한 번에 처리)
+     * 만료 / 유휴 회수와 동시에 실행되어도 슬롯은 한 번만 반환되고, 그 사이 다시 발급받은 대기 토큰은 삭제하지 않는다.
+     * @return 활성 대기열에 있었는지 여부
+     */
+    boolean releaseActive(Long concertId, String userId);
+
+    /**
+     * 만료 시각이 지난 경우에만 활성 대기열에서 사용자 제거 (만료 이벤트 처리용)
+     * @return 제거되었는지 여부 (이미 정리되었거나 다시 활성화된 경우 false)
+     */
+    boolean removeExpiredActive(Long concertId, String userId, long nowMillis);
+
+    /**
+     * 활성 사용자 heartbeat (유휴 만료 시각 연장)
+     * @param idleDeadlineMillis 새 유휴 만료 시각 (ms)
+     * @return 연장되었는지 여부 (유휴 만료 시각이 이미 지났거나 회수된 경우 false)
+     */
+    boolean touchActive(Long concertId, String userId, long nowMillis, long idleDeadlineMillis);
+
+    /**
+     * 유휴 만료 시각이 지난 활성 사용자 회수 (활성 대기열 제거 + 토큰 삭제)
+     * 대기실별 활성화 락을 잡은 상태에서만 호출한다.
+     * @param limit 한 번에 확인할 최대 인원
+     * @return 확인한 인원과 회수된 사용자 목록
+     */
+    IdleEviction evictIdleActive(Long concertId, long nowMillis, int limit);
+
+    /**
+     * 활성화 대상 대기실로 등록 (마지막 대기열 진입 시각 갱신)
+     */
+    void registerRoom(Long concertId, long nowMillis);
+
+    /**
+     * 활성화 대상 대기실 목록
+     * 마지막 대기열 진입 시각이 staleBeforeMillis 이전인 대기실은 목록에서 제거한다.
+     */
+    Set<Long> rooms(long staleBeforeMillis);
+
+    /**
+     * 대기실별 활성화 락 획득 시도 (재시도 없음)
+     */
+    boolean tryLockRoom(Long concertId, String owner, long timeoutSeconds);
+
+    /**
+     * 대기실별 활성화 락 해제 (획득한 owner 만 해제)
+     */
+    void unlockRoom(Long concertId, String owner);
+
+    /**
+     * 부하 리허설용 합성 사용자 일괄 등록
+     * 빈 활성 슬롯만큼 활성화하고 나머지는 lane 대기열 끝에 추가한다.
+     * 기존 토큰을 확인하지 않으므로 처음 쓰는 사용자 ID 로만 호출한다.
+     * @param userIds 등록할 사용자 ID (대기 순서)
+     * @return 활성화 / 대기열에 추가된 인원
+     */
+    SeedBatch seed(Long concertId, String lane, List<String> userIds, int maxActiveUsers, long ttlSeconds,
+                   long idleMillis, long nowMillis, LocalDateTime issuedAt, LocalDateTime expiresAt);
+
+    /**
+     * 저장소 메모리 사용량 (byte)
+     */
+    long usedMemoryBytes();
+
+    /**
+     * 발급 결과
+     * @param queueToken 토큰 정보
+     * @param reused 기존 토큰을 반환했는지 여부
+     */
+    record IssuedToken(QueueToken queueToken, boolean reused) {
+    }
+
+    /**
+     * 활성화 결과
+     * @param poppedCount 대기열에서 pop 된 인원 (토큰이 만료되어 건너뛴 사용자 포함)
+     * @param admittedUsers 활성화된 사용자 목록
+     */
+    record AdmissionBatch(int poppedCount, List<AdmittedUser> admittedUsers) {
+    }
+
+    /**
+     * 합성 사용자 등록 결과
+     * @param activatedCount 활성화된 인원
+     * @param waitingCount 대기열에 추가된 인원
+     */
+    record SeedBatch(int activatedCount, int waitingCount) {
+    }
+
+    /**
+     * 유휴 회수 결과
+     * @param scannedCount 유휴 만료 시각이 지나 확인한 인원 (이미 반환/만료된 사용자 포함)
+     * @param evictedUserIds 활성 슬롯을 회수한 사용자 목록
+     */
+    record IdleEviction(int scannedCount, List<String> evictedUserIds) {
+    }
+
+    /**
+     * 활성화된 사용자
+     * @param userId 사용자 ID
+     * @param lane 대기했던 lane
+     * @param enqueuedAtMillis 대기열 진입 시각 (ms)
+     */
+    record AdmittedUser(String userId, String lane, long enqueuedAtMillis) {
+    }
+}
@@ -10,25 +10,39 @@ import java.time.LocalDateTime;
 public class QueueToken {
     private String token;
     private String userId;
+    private Long concertId;
+    // 대기열 lane (general : 일반, 그 외 우선 입장 그룹)
+    private String lane;
     private Long queuePosition;
     private Integer estimatedWaitTimeMinutes;
+    // 다음 상태 조회 권장 간격 (초), 대기 중일 때만 값이 있음
+    private Integer nextPollSeconds;
+    // 다음 heartbeat 권장 간격 (초), 활성 상태이고 heartbeat 를 사용할 때만 값이 있음
+    private Integer nextHeartbeatSeconds;
     private QueueStatus status;
     private LocalDateTime issuedAt;
     private LocalDateTime expiresAt;
+    // 활성 상태일 때만 발급되는 서명된 입장 토큰 (예약/결제 요청 시 사용)
+    private String accessToken;
 
     public enum QueueStatus {
         WAITING, ACTIVE, EXPIRED
     }
 
-    public QueueToken(String token, String userId, Long queuePosition, Integer estimatedWaitTimeMinutes,
-                      QueueStatus status, LocalDateTime issuedAt, LocalDateTime expiresAt) {
+    public QueueToken(String token, String userId, Long concertId, String lane, Long queuePosition, Integer estimatedWaitTimeMinutes,
+                      Integer nextPollSeconds, Integer nextHeartbeatSeconds, QueueStatus status, LocalDateTime issuedAt, LocalDateTime expiresAt, String accessToken) {
         this.token = token;
         this.userId = userId;
+        this.concertId = concertId;
+        this.lane = lane == null ? QueueLane.GENERAL : lane;
         this.queuePosition = queuePosition;
         this.estimatedWaitTimeMinutes = estimatedWaitTimeMinutes;
+        this.nextPollSeconds = nextPollSeconds;
+        this.nextHeartbeatSeconds = nextHeartbeatSeconds;
         this.status = status;
         this.issuedAt = issuedAt;
         this.expiresAt = expiresAt;
+        this.accessToken = accessToken;
     }
 
     /**
@@ -60,11 +74,26 @@ public class QueueToken {
     }
 
     /**
-     * 대기열 토큰 위치 정보 및 예상 대기 시간 갱신
+     * 입장 토큰 발급
      */
-    public void updatePosition(Long position, Integer waitTime){
+    public void issueAccessToken(String accessToken){
+        this.accessToken = accessToken;
+    }
+
+    /**
+     * 다음 heartbeat 권장 간격 갱신
+     */
+    public void updateHeartbeatInterval(Integer nextHeartbeatSeconds){
+        this.nextHeartbeatSeconds = nextHeartbeatSeconds;
+    }
+
+    /**
+     * 대기열 토큰 위치 정보, 예상 대기 시간 및 다음 조회 권장 간격 갱신
+     */
+    public void updatePosition(Long position, Integer waitTime, Integer nextPollSeconds){
         this.queuePosition = position;
         this.estimatedWaitTimeMinutes = waitTime;
+        this.nextPollSeconds = nextPollSeconds;
     }
 
 
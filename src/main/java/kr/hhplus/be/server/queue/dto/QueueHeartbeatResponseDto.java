@@ -0,0 +1,15 @@
+package kr.hhplus.be.server.queue.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 활성 사용자 heartbeat 응답 DTO
+ */
+@Getter
+@AllArgsConstructor
+public class QueueHeartbeatResponseDto {
+    private Long concertId;
+    // 다음 heartbeat 권장 간격 (초), heartbeat 미사용이면 null
+    private Integer nextHeartbeatSeconds;
+}
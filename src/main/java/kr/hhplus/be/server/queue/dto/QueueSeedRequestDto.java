@@ -0,0 +1,19 @@
+package kr.hhplus.be.server.queue.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 합성 사용자 등록 요청 DTO (부하 리허설용)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class QueueSeedRequestDto {
+    private Long concertId;
+    // 등록할 인원
+    private int count;
+    // 대기열 lane (없으면 general)
+    private String lane;
+}
@@ -0,0 +1,37 @@
+package kr.hhplus.be.server.queue.dto;
+
+import kr.hhplus.be.server.queue.domain.QueueSeedReport;
+import lombok.Getter;
+
+/**
+ * 합성 사용자 등록 응답 DTO
+ */
+@Getter
+public class QueueSeedResponseDto {
+    private Long concertId;
+    private String lane;
+    private int seededCount;
+    private int activatedCount;
+    private int waitingCount;
+    private long elapsedMillis;
+    // 등록 전후 저장소 메모리 사용량 (Redis : used_memory)
+    private long memoryBeforeBytes;
+    private long memoryAfterBytes;
+    private long memoryDeltaBytes;
+    private long bytesPerUser;
+
+    public static QueueSeedResponseDto from(QueueSeedReport report) {
+        QueueSeedResponseDto dto = new QueueSeedResponseDto();
+        dto.concertId = report.concertId();
+        dto.lane = report.lane();
+        dto.seededCount = report.seededCount();
+        dto.activatedCount = report.activatedCount();
+        dto.waitingCount = report.waitingCount();
+        dto.elapsedMillis = report.elapsedMillis();
+        dto.memoryBeforeBytes = report.memoryBeforeBytes();
+        dto.memoryAfterBytes = report.memoryAfterBytes();
+        dto.memoryDeltaBytes = report.memoryDeltaBytes();
+        dto.bytesPerUser = report.bytesPerUser();
+        return dto;
+    }
+}
@@ -2,12 +2,21 @@ package kr.hhplus.be.server.queue.dto;
 
 import lombok.AllArgsConstructor;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 
 /**
  * 대기열 토큰 발급 요청 DTO
  */
 @Getter
+@NoArgsConstructor
 @AllArgsConstructor
 public class QueueTokenRequestDto {
     private String userId;
+    private Long concertId;
+    // 대기열 lane (없으면 general, 우선 입장 그룹 자격 확인은 인증 단계에서 처리)
+    private String lane;
+
+    public QueueTokenRequestDto(String userId, Long concertId) {
+        this(userId, concertId, null);
+    }
 }
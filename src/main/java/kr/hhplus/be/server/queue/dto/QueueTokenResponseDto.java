@@ -12,21 +12,31 @@ import java.time.LocalDateTime;
 public class QueueTokenResponseDto {
     private String token;
     private String userId;
+    private Long concertId;
+    private String lane;
     private Long queuePosition;
     private Integer estimatedWaitTimeMinutes;
+    private Integer nextPollSeconds;
+    private Integer nextHeartbeatSeconds;
     private String status;
     private LocalDateTime issuedAt;
     private LocalDateTime expiresAt;
+    private String accessToken;
 
     public static QueueTokenResponseDto from(QueueToken queueToken){
         QueueTokenResponseDto dto = new QueueTokenResponseDto();
         dto.token = queueToken.getToken();
         dto.userId = queueToken.getUserId();
+        dto.concertId = queueToken.getConcertId();
+        dto.lane = queueToken.getLane();
         dto.queuePosition = queueToken.getQueuePosition();
         dto.estimatedWaitTimeMinutes = queueToken.getEstimatedWaitTimeMinutes();
+        dto.nextPollSeconds = queueToken.getNextPollSeconds();
+        dto.nextHeartbeatSeconds = queueToken.getNextHeartbeatSeconds();
         dto.status = queueToken.getStatus().name();
         dto.issuedAt = queueToken.getIssuedAt();
         dto.expiresAt = queueToken.getExpiresAt();
+        dto.accessToken = queueToken.getAccessToken();
         return dto;
     }
 }
@@ -0,0 +1,18 @@
+package kr.hhplus.be.server.queue.event;
+
+import lombok.Getter;
+
+/**
+ * 활성 슬롯 반환 이벤트 (결제 완료, 예약 취소)
+ * 토큰 만료 시간까지 기다리지 않고 바로 슬롯을 반환해서 다음 대기자를 활성화한다.
+ */
+@Getter
+public class QueueSlotReleasedEvent {
+    private final Long concertId;
+    private final String userId;
+
+    public QueueSlotReleasedEvent(Long concertId, String userId) {
+        this.concertId = concertId;
+        this.userId = userId;
+    }
+}
@@ -0,0 +1,646 @@
+package kr.hhplus.be.server.queue.infrastructure;
+
+import kr.hhplus.be.server.queue.domain.QueueLane;
+import kr.hhplus.be.server.queue.domain.QueueStore;
+import kr.hhplus.be.server.queue.domain.QueueToken;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 메모리 대기열 저장소 (queue.store=memory)
+ * 단일 노드 배포와 대기열 알고리즘 벤치마크용으로 Redis 없이 같은 동작을 한 프로세스 안에서 처리한다.
+ * - 활성 대기열 : (만료 시각, 사용자 ID) 순 skip list + 원자적 인원 카운터 (ZSET score = 만료 시각과 동일)
+ * - 대기열 : lane 별 진입 순번 -> 대기자 skip list, 순위는 (내 순번 - pop 된 순번) 으로 O(1) 계산
+ * - 활성화 batch 는 QueueLane.allocate 로 lane 별 인원을 나눈 뒤 lane 마다 앞에서부터 pop 한다.
+ * - heartbeat 유휴 만료 시각은 사용자 -> 시각 map 으로 관리하고, 회수 시 활성 사용자 수(최대치) 만큼만 확인한다.
+ * - 발급은 사용자 단위로만 직렬화되고, 빈 슬롯은 CAS 로 예약하므로 대기실 전체 락이 없다.
+ * - 활성화(pop)는 대기실별 활성화 락을 잡은 한 스레드만 수행한다.
+ * 여러 노드가 대기열을 공유할 수 없으므로 다중 노드 배포에서는 사용하지 않는다.
+ */
+@Repository
+@ConditionalOnProperty(name = "queue.store", havingValue = "memory")
+public class InMemoryQueueStore implements QueueStore {
+
+    // 대기실(concertId) -> 대기실 상태
+    private final Map<Long, Room> rooms = new ConcurrentHashMap<>();
+
+    // 활성화 대상 대기실(concertId) -> 마지막 대기열 진입 시각 (ms)
+    private final Map<Long, Long> roomActivity = new ConcurrentHashMap<>();
+
+    // 대기실(concertId) -> 활성화 락 owner
+    private final Map<Long, String> roomLocks = new ConcurrentHashMap<>();
+
+    /**
+     * lane 대기열은 맨 앞에서만 빠지므로 다른 lane 에 남은 항목은 지우지 않고, 활성화 시 토큰의 lane / 상태를 확인해서 건너뛴다.
+     */
+    @Override
+    public IssuedToken issue(Long concertId, String userId, String lane, List<QueueLane> lanes, String token,
+                             int maxActiveUsers, long ttlSeconds, long idleMillis, long nowMillis,
+                             LocalDateTime issuedAt, LocalDateTime expiresAt) {
+        while (true) {
+            Room room = room(concertId);
+            IssuedToken issued = issue(room, concertId, userId, lane, token, maxActiveUsers, ttlSeconds, idleMillis,
+                    nowMillis, issuedAt, expiresAt);
+
+            // 정리 중인 대기실에 발급한 경우 정리가 끝날 때까지 기다렸다가 (같은 bin 락) 제거되었으면 새 대기실에 다시 발급
+            if (!room.retired || rooms.computeIfPresent(concertId, (id, current) -> current) == room) {
+                return issued;
+            }
+        }
+    }
+
+    private IssuedToken issue(Room room, Long concertId, String userId, String lane, String token, int maxActiveUsers,
+                              long ttlSeconds, long idleMillis, long nowMillis, LocalDateTime issuedAt,
+                              LocalDateTime expiresAt) {
+        long deadline = nowMillis + ttlSeconds * 1000;
+        IssuedToken[] result = new IssuedToken[1];
+
+        // 같은 사용자의 동시 발급만 직렬화 (사용자-토큰 매핑 단위)
+        room.userTokens.compute(userId, (id, existing) -> {
+            // 1. 기존 토큰 확인
+            StoredToken existingToken = existing == null ? null : room.liveToken(existing, nowMillis);
+            if (existingToken != null) {
+                long position = 0;
+                if (existingToken.status() == QueueToken.QueueStatus.WAITING) {
+                    Long rank = room.lane(existingToken.lane()).waitingRank(userId);
+                    position = rank == null ? 0 : rank + 1;
+                }
+                result[0] = new IssuedToken(existingToken.toQueueToken(existing, concertId, position), true);
+                return existing;
+            }
+
+            // 2. 만료된 활성 사용자 정리
+            room.removeExpiredActive(nowMillis);
+
+            // 3. 빈 슬롯이 있으면 활성화 / 없으면 대기열 추가
+            StoredToken stored;
+            if (room.reserveSlot(maxActiveUsers)) {
+                room.addActive(userId, deadline);
+                room.touchIdle(userId, nowMillis, idleMillis);
+                stored = new StoredToken(userId, lane, QueueToken.QueueStatus.ACTIVE, 0, issuedAt, expiresAt, deadline);
+            } else {
+                long position = room.lane(lane).enqueue(userId, nowMillis) + 1;
+                stored = new StoredToken(userId, lane, QueueToken.QueueStatus.WAITING, position, issuedAt, expiresAt, deadline);
+            }
+
+            // 4. 토큰 정보 저장 + 사용자-토큰 매핑 저장
+            if (existing != null) {
+                room.tokens.remove(existing);
+            }
+            room.tokens.put(token, stored);
+            result[0] = new IssuedToken(stored.toQueueToken(token, concertId, stored.position()), false);
+            return token;
+        });
+        return result[0];
+    }
+
+    @Override
+    public AdmissionBatch admit(Long concertId, List<QueueLane> lanes, int maxActiveUsers, long ttlSeconds,
+                                long idleMillis, long nowMillis, LocalDateTime expiresAt, int batchSize) {
+        Room room = rooms.get(concertId);
+        if (room == null) {
+            return new AdmissionBatch(0, List.of());
+        }
+
+        // 1. 만료된 활성 사용자 정리
+        room.removeExpiredActive(nowMillis);
+
+        // 2. 빈 슬롯을 lane 비중으로 배정 (활성화 락 안에서만 호출되므로 credit 은 한 스레드만 갱신)
+        int slots = Math.min(batchSize, Math.max(0, maxActiveUsers - room.activeCount.get()));
+        long[] waitingSizes = new long[lanes.size()];
+        long[] credits = new long[lanes.size()];
+        for (int i = 0; i < lanes.size(); i++) {
+            String lane = lanes.get(i).name();
+            waitingSizes[i] = room.lane(lane).waitingSize();
+            credits[i] = room.laneCredits.getOrDefault(lane, 0L);
+        }
+        int[] quotas = QueueLane.allocate(lanes, waitingSizes, credits, slots);
+        for (int i = 0; i < lanes.size(); i++) {
+            room.laneCredits.put(lanes.get(i).name(), credits[i]);
+        }
+
+        long deadline = nowMillis + ttlSeconds * 1000;
+        int poppedCount = 0;
+        List<AdmittedUser> admittedUsers = new ArrayList<>();
+
+        // 3. lane 별로 빈 슬롯을 먼저 예약하고 가장 오래 기다린 사용자부터 pop
+        for (int i = 0; i < lanes.size(); i++) {
+            String lane = lanes.get(i).name();
+            LaneQueue laneQueue = room.lane(lane);
+            for (int popped = 0; popped < quotas[i]; popped++) {
+                if (!room.reserveSlot(maxActiveUsers)) {
+                    // 발급 중에 빈 슬롯이 채워진 경우
+                    return new AdmissionBatch(poppedCount, admittedUsers);
+                }
+                WaitingEntry entry = laneQueue.pollWaiting();
+                if (entry == null) {
+                    // 대기자 없음 (진입 중인 대기자는 다음 주기에 처리)
+                    room.releaseSlot();
+                    break;
+                }
+                poppedCount++;
+
+                // 4. 활성 등록 + 토큰 상태 갱신 (토큰이 만료된 사용자, 다시 발급받아 다른 lane 에서 대기 중이거나 이미 활성화된 사용자는 pop 만 하고 건너뜀)
+                String token = room.userTokens.get(entry.userId());
+                StoredToken stored = token == null ? null : room.liveToken(token, nowMillis);
+                if (stored == null || stored.status() != QueueToken.QueueStatus.WAITING || !lane.equals(stored.lane())) {
+                    room.releaseSlot();
+                    continue;
+                }
+                room.addActive(entry.userId(), deadline);
+                room.touchIdle(entry.userId(), nowMillis, idleMillis);
+                room.tokens.computeIfPresent(token, (key, stored) -> stored.activate(expiresAt, deadline));
+                admittedUsers.add(new AdmittedUser(entry.userId(), lane, entry.enqueuedAtMillis()));
+            }
+        }
+        return new AdmissionBatch(poppedCount, admittedUsers);
+    }
+
+    @Override
+    public QueueToken findToken(Long concertId, String token) {
+        Room room = rooms.get(concertId);
+        StoredToken stored = room == null ? null : room.liveToken(token, System.currentTimeMillis());
+        return stored == null ? null : stored.toQueueToken(token, concertId, stored.position());
+    }
+
+    @Override
+    public Long waitingRank(Long concertId, String lane, String userId) {
+        Room room = rooms.get(concertId);
+        return room == null ? null : room.lane(lane).waitingRank(userId);
+    }
+
+    @Override
+    public List<Long> waitingRanks(Long concertId, String lane, List<String> userIds) {
+        List<Long> ranks = new ArrayList<>(userIds.size());
+        for (String userId : userIds) {
+            ranks.add(waitingRank(concertId, lane, userId));
+        }
+        return ranks;
+    }
+
+    @Override
+    public long waitingSize(Long concertId, String lane) {
+        Room room = rooms.get(concertId);
+        return room == null ? 0 : room.lane(lane).waitingSize();
+    }
+
+    @Override
+    public long activeSize(Long concertId, long nowMillis) {
+        Room room = rooms.get(concertId);
+        if (room == null) {
+            return 0;
+        }
+        room.removeExpiredActive(nowMillis);
+        return room.activeCount.get();
+    }
+
+    @Override
+    public int persistWaitingPositions(Long concertId, String lane, int limit) {
+        Room room = rooms.get(concertId);
+        if (room == null) {
+            return 0;
+        }
+        LaneQueue laneQueue = room.lane(lane);
+
+        // 대기열 앞쪽 limit 명만 확인 (ZRANGE 0 limit-1)
+        int scanned = 0;
+        int saved = 0;
+        for (WaitingEntry entry : laneQueue.waiting.values()) {
+            if (scanned++ >= limit) {
+                break;
+            }
+            Long rank = laneQueue.waitingRank(entry.userId());
+            String token = room.userTokens.get(entry.userId());
+            if (rank == null || token == null) {
+                continue;
+            }
+            long position = rank + 1;
+            if (room.tokens.computeIfPresent(token, (key, stored) -> stored.withPosition(position)) != null) {
+                saved++;
+            }
+        }
+        return saved;
+    }
+
+    /**
+     * 사용자-토큰 매핑 갱신(compute) 안에서 토큰을 지우므로 같은 사용자의 발급과 겹치지 않는다.
+     */
+    @Override
+    public boolean releaseActive(Long concertId, String userId) {
+        Room room = rooms.get(concertId);
+        if (room == null) {
+            return false;
+        }
+
+        room.idleDeadlines.remove(userId);
+        boolean released = room.removeActive(userId);
+        room.userTokens.computeIfPresent(userId, (id, token) -> {
+            // 이미 만료 / 회수된 뒤 다시 발급받은 대기 토큰은 유지
+            StoredToken stored = room.tokens.get(token);
+            if (!released && (stored == null || stored.status() != QueueToken.QueueStatus.ACTIVE)) {
+                return token;
+            }
+            room.tokens.remove(token);
+            return null;
+        });
+        return released;
+    }
+
+    @Override
+    public boolean removeExpiredActive(Long concertId, String userId, long nowMillis) {
+        Room room = rooms.get(concertId);
+        return room != null && room.removeExpiredActive(userId, nowMillis);
+    }
+
+    @Override
+    public boolean touchActive(Long concertId, String userId, long nowMillis, long idleDeadlineMillis) {
+        Room room = rooms.get(concertId);
+        if (room == null) {
+            return false;
+        }
+        boolean[] touched = new boolean[1];
+        room.idleDeadlines.computeIfPresent(userId, (id, deadline) -> {
+            if (deadline <= nowMillis) {
+                return deadline;
+            }
+            touched[0] = true;
+            return idleDeadlineMillis;
+        });
+        return touched[0];
+    }
+
+    @Override
+    public IdleEviction evictIdleActive(Long concertId, long nowMillis, int limit) {
+        Room room = rooms.get(concertId);
+        if (room == null) {
+            return new IdleEviction(0, List.of());
+        }
+
+        int scanned = 0;
+        List<String> evicted = new ArrayList<>();
+        for (Map.Entry<String, Long> entry : room.idleDeadlines.entrySet()) {
+            if (scanned >= limit) {
+                break;
+            }
+            if (entry.getValue() > nowMillis) {
+                continue;
+            }
+            scanned++;
+            // 동시에 heartbeat 로 연장된 경우 값이 달라져 삭제되지 않음
+            String userId = entry.getKey();
+            if (room.idleDeadlines.remove(userId, entry.getValue()) && room.removeActive(userId)) {
+                deleteToken(concertId, userId);
+                evicted.add(userId);
+            }
+        }
+        return new IdleEviction(scanned, evicted);
+    }
+
+    /**
+     * 사용자의 토큰 및 사용자-토큰 매핑 삭제 (유휴 회수 시)
+     */
+    void deleteToken(Long concertId, String userId) {
+        Room room = rooms.get(concertId);
+        if (room == null) {
+            return;
+        }
+        String token = room.userTokens.remove(userId);
+        if (token != null) {
+            room.tokens.remove(token);
+        }
+    }
+
+    @Override
+    public void registerRoom(Long concertId, long nowMillis) {
+        roomActivity.merge(concertId, nowMillis, Math::max);
+    }
+
+    @Override
+    public Set<Long> rooms(long staleBeforeMillis) {
+        roomActivity.values().removeIf(lastEnqueuedAt -> lastEnqueuedAt <= staleBeforeMillis);
+        return Set.copyOf(roomActivity.keySet());
+    }
+
+    /**
+     * 한 프로세스 안에서만 사용하므로 TTL 없이 owner 만 기록한다. (해제는 항상 finally 에서 호출됨)
+     */
+    @Override
+    public boolean tryLockRoom(Long concertId, String owner, long timeoutSeconds) {
+        return roomLocks.putIfAbsent(concertId, owner) == null;
+    }
+
+    @Override
+    public void unlockRoom(Long concertId, String owner) {
+        roomLocks.remove(concertId, owner);
+    }
+
+    /**
+     * 메모리 저장소는 발급과 같은 경로(사용자 단위 직렬화 + CAS)로 한 명씩 등록한다. (네트워크 왕복이 없으므로 묶을 필요 없음)
+     */
+    @Override
+    public SeedBatch seed(Long concertId, String lane, List<String> userIds, int maxActiveUsers, long ttlSeconds,
+                          long idleMillis, long nowMillis, LocalDateTime issuedAt, LocalDateTime expiresAt) {
+        int activated = 0;
+        for (String userId : userIds) {
+            IssuedToken issued = issue(concertId, userId, lane, List.of(), UUID.randomUUID().toString(), maxActiveUsers,
+                    ttlSeconds, idleMillis, nowMillis, issuedAt, expiresAt);
+            if (issued.queueToken().getStatus() == QueueToken.QueueStatus.ACTIVE) {
+                activated++;
+            }
+        }
+        return new SeedBatch(activated, userIds.size() - activated);
+    }
+
+    /**
+     * JVM 힙 사용량 (GC 시점에 따라 오차가 있으므로 대략적인 값)
+     */
+    @Override
+    public long usedMemoryBytes() {
+        Runtime runtime = Runtime.getRuntime();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    /**
+     * 만료된 토큰 정리 (Redis 키 만료에 해당)
+     * 조회 시점에도 만료 여부를 확인하므로, 다시 조회되지 않는 토큰의 메모리만 회수한다.
+     * 토큰과 활성 사용자가 모두 없어진 대기실은 제거한다. (Redis 에서 대기실 키가 모두 만료된 것과 같음)
+     */
+    @Scheduled(fixedDelayString = "${queue.memory.purge-interval-ms:60000}")
+    public void purgeExpiredTokens() {
+        long now = System.currentTimeMillis();
+        rooms.forEach((concertId, room) -> {
+            room.removeExpiredActive(now);
+            room.userTokens.values().removeIf(token -> room.liveToken(token, now) == null);
+            room.tokens.values().removeIf(stored -> stored.deadlineMillis() <= now);
+            if (room.isEmpty()) {
+                rooms.computeIfPresent(concertId, (id, current) -> current == room && current.retire() ? null : current);
+            }
+        });
+    }
+
+    private Room room(Long concertId) {
+        return rooms.computeIfAbsent(concertId, id -> new Room());
+    }
+
+    /**
+     * 대기실 상태
+     */
+    private static final class Room {
+        // 활성 대기열 : 만료 시각 순 정렬 + 사용자별 항목 + 인원 (ZCARD)
+        private final ConcurrentSkipListSet<ActiveEntry> activeByExpiry = new ConcurrentSkipListSet<>(ActiveEntry.ORDER);
+        private final Map<String, ActiveEntry> active = new ConcurrentHashMap<>();
+        private final AtomicInteger activeCount = new AtomicInteger();
+
+        // 사용자 -> heartbeat 유휴 만료 시각 (ms)
+        private final Map<String, Long> idleDeadlines = new ConcurrentHashMap<>();
+
+        // lane -> lane 대기열, lane -> 활성화 배정 credit
+        private final Map<String, LaneQueue> lanes = new ConcurrentHashMap<>();
+        private final Map<String, Long> laneCredits = new ConcurrentHashMap<>();
+
+        // 토큰 -> 토큰 정보, 사용자 -> 토큰
+        private final Map<String, StoredToken> tokens = new ConcurrentHashMap<>();
+        private final Map<String, String> userTokens = new ConcurrentHashMap<>();
+
+        // 정리 중 (대기실 map 의 bin 락 안에서만 변경)
+        private volatile boolean retired;
+
+        /**
+         * 토큰 / 활성 사용자가 없는지 여부 (남은 대기열 항목은 토큰이 없으므로 활성화 시 건너뛰는 항목)
+         */
+        boolean isEmpty() {
+            return userTokens.isEmpty() && tokens.isEmpty() && active.isEmpty();
+        }
+
+        /**
+         * 정리 표시 후 다시 비어 있는지 확인 (표시 전에 발급 중이던 사용자는 여기서 확인되고, 표시 후 발급한 사용자는 issue 에서 다시 발급)
+         * @return 제거해도 되는지 여부
+         */
+        boolean retire() {
+            retired = true;
+            if (isEmpty()) {
+                return true;
+            }
+            retired = false;
+            return false;
+        }
+
+        /**
+         * 빈 슬롯 예약 (활성 인원 < 최대치 확인과 증가를 CAS 로 한 번에 처리)
+         */
+        boolean reserveSlot(int maxActiveUsers) {
+            while (true) {
+                int count = activeCount.get();
+                if (count >= maxActiveUsers) {
+                    return false;
+                }
+                if (activeCount.compareAndSet(count, count + 1)) {
+                    return true;
+                }
+            }
+        }
+
+        void releaseSlot() {
+            activeCount.decrementAndGet();
+        }
+
+        /**
+         * 활성 등록 (예약한 슬롯 사용), 이미 활성 상태였으면 만료 시각만 갱신 (ZADD 갱신과 동일)
+         */
+        void addActive(String userId, long expireAt) {
+            ActiveEntry entry = new ActiveEntry(expireAt, userId);
+            ActiveEntry previous = active.put(userId, entry);
+            activeByExpiry.add(entry);
+            if (previous != null && activeByExpiry.remove(previous)) {
+                releaseSlot();
+            }
+        }
+
+        /**
+         * heartbeat 유휴 만료 시각 등록 (활성화 시점, idleMillis 가 0 이면 미사용)
+         */
+        void touchIdle(String userId, long now, long idleMillis) {
+            if (idleMillis > 0) {
+                idleDeadlines.put(userId, now + idleMillis);
+            }
+        }
+
+        boolean removeActive(String userId) {
+            ActiveEntry entry = active.remove(userId);
+            if (entry != null && activeByExpiry.remove(entry)) {
+                releaseSlot();
+                return true;
+            }
+            return false;
+        }
+
+        boolean removeExpiredActive(String userId, long now) {
+            ActiveEntry entry = active.get(userId);
+            if (entry != null && entry.expireAt() <= now && activeByExpiry.remove(entry)) {
+                active.remove(userId, entry);
+                releaseSlot();
+                return true;
+            }
+            return false;
+        }
+
+        /**
+         * 만료 시각이 지난 활성 사용자 정리 (ZREMRANGEBYSCORE -inf now)
+         * 정렬된 앞쪽부터 제거하므로 만료된 인원만큼만 확인한다.
+         */
+        void removeExpiredActive(long now) {
+            Iterator<ActiveEntry> iterator = activeByExpiry.iterator();
+            while (iterator.hasNext()) {
+                ActiveEntry entry = iterator.next();
+                if (entry.expireAt() > now) {
+                    return;
+                }
+                // 동시에 정리하는 다른 스레드와 한 번만 카운터를 줄이도록 remove 성공한 쪽만 처리
+                if (activeByExpiry.remove(entry)) {
+                    active.remove(entry.userId(), entry);
+                    releaseSlot();
+                }
+            }
+        }
+
+        LaneQueue lane(String lane) {
+            return lanes.computeIfAbsent(lane, name -> new LaneQueue());
+        }
+
+        /**
+         * 만료되지 않은 토큰 조회 (만료된 토큰은 조회 시점에 삭제)
+         * 사용자-토큰 매핑 갱신 중에도 호출되므로 매핑은 건드리지 않는다. (남은 매핑은 purgeExpiredTokens 에서 정리)
+         */
+        StoredToken liveToken(String token, long now) {
+            StoredToken stored = tokens.get(token);
+            if (stored == null) {
+                return null;
+            }
+            if (stored.deadlineMillis() <= now) {
+                tokens.remove(token, stored);
+                return null;
+            }
+            return stored;
+        }
+    }
+
+    /**
+     * lane 대기열
+     */
+    private static final class LaneQueue {
+        // 진입 순번 -> 대기자, 사용자 -> 진입 순번
+        private final ConcurrentSkipListMap<Long, WaitingEntry> waiting = new ConcurrentSkipListMap<>();
+        private final Map<String, Long> waitingSeq = new ConcurrentHashMap<>();
+        // 다음에 부여할 진입 순번 / 다음에 pop 할 진입 순번
+        private final AtomicLong tailSeq = new AtomicLong();
+        private final AtomicLong headSeq = new AtomicLong();
+
+        /**
+         * 대기열 추가 (ZADD NX : 이미 대기 중이면 기존 순번 유지)
+         * @return 대기열 순위 (0부터 시작)
+         */
+        long enqueue(String userId, long nowMillis) {
+            long seq = waitingSeq.computeIfAbsent(userId, id -> {
+                long next = tailSeq.getAndIncrement();
+                waiting.put(next, new WaitingEntry(userId, nowMillis));
+                return next;
+            });
+            return Math.max(0, seq - headSeq.get());
+        }
+
+        /**
+         * 가장 먼저 진입한 대기자 pop (ZPOPMIN), 활성화 락을 잡은 한 스레드만 호출한다.
+         * 순번을 받았지만 아직 추가되지 않은 대기자가 맨 앞이면 순서를 지키기 위해 pop 하지 않는다.
+         */
+        WaitingEntry pollWaiting() {
+            long head = headSeq.get();
+            if (head >= tailSeq.get()) {
+                return null;
+            }
+            WaitingEntry entry = waiting.remove(head);
+            if (entry == null) {
+                return null;
+            }
+            headSeq.incrementAndGet();
+            waitingSeq.remove(entry.userId(), head);
+            return entry;
+        }
+
+        /**
+         * 대기열 인원 (부여한 순번 - pop 된 순번, skip list 크기 계산 O(n) 을 피함)
+         */
+        long waitingSize() {
+            return Math.max(0, tailSeq.get() - headSeq.get());
+        }
+
+        /**
+         * 대기열 순위 (ZRANK, 0부터 시작)
+         * 대기열에서는 맨 앞에서만 빠지므로 (내 순번 - 다음 pop 순번) 이 순위가 된다.
+         */
+        Long waitingRank(String userId) {
+            Long seq = waitingSeq.get(userId);
+            if (seq == null) {
+                return null;
+            }
+            long rank = seq - headSeq.get();
+            return rank < 0 ? null : rank;
+        }
+    }
+
+    /**
+     * 활성 사용자 (만료 시각, 사용자 ID 순 정렬)
+     */
+    private record ActiveEntry(long expireAt, String userId) {
+        static final Comparator<ActiveEntry> ORDER =
+                Comparator.comparingLong(ActiveEntry::expireAt).thenComparing(ActiveEntry::userId);
+    }
+
+    /**
+     * 대기자
+     */
+    private record WaitingEntry(String userId, long enqueuedAtMillis) {
+    }
+
+    /**
+     * 저장된 토큰 정보 (Redis Hash 필드 + 키 만료 시각)
+     */
+    private record StoredToken(String userId, String lane, QueueToken.QueueStatus status, long position,
+                               LocalDateTime issuedAt, LocalDateTime expiresAt, long deadlineMillis) {
+
+        StoredToken activate(LocalDateTime activeExpiresAt, long activeDeadline) {
+            return new StoredToken(userId, lane, QueueToken.QueueStatus.ACTIVE, 0, issuedAt, activeExpiresAt, activeDeadline);
+        }
+
+        StoredToken withPosition(long newPosition) {
+            return new StoredToken(userId, lane, status, newPosition, issuedAt, expiresAt, deadlineMillis);
+        }
+
+        QueueToken toQueueToken(String token, Long concertId, long queuePosition) {
+            return QueueToken.builder()
+                    .token(token)
+                    .userId(userId)
+                    .concertId(concertId)
+                    .lane(lane)
+                    .queuePosition(queuePosition)
+                    .status(status)
+                    .issuedAt(issuedAt)
+                    .expiresAt(expiresAt)
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package kr.hhplus.be.server.queue.infrastructure;
+
+import kr.hhplus.be.server.queue.domain.QueueSnapshot;
+import kr.hhplus.be.server.queue.domain.QueueToken;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Repository
+public interface QueueSnapshotJpaRepository extends JpaRepository<QueueSnapshot, String> {
+
+    /**
+     * 스냅샷이 있는 대기실 목록
+     */
+    @Query("SELECT DISTINCT s.concertId FROM QueueSnapshot s")
+    List<Long> findConcertIds();
+
+    /**
+     * lane 대기열에서 마지막으로 저장한 진입 시각 (다음 스냅샷은 이 시각부터 이어서 저장)
+     */
+    @Query("SELECT MAX(s.score) FROM QueueSnapshot s WHERE s.concertId = :concertId AND s.status = 'WAITING' AND s.lane = :lane")
+    Long findLastWaitingScore(@Param("concertId") Long concertId, @Param("lane") String lane);
+
+    /**
+     * 대기실의 활성 사용자 스냅샷
+     */
+    List<QueueSnapshot> findByConcertIdAndStatus(Long concertId, QueueToken.QueueStatus status);
+
+    /**
+     * 복구용 대기실 스냅샷 (페이지가 겹치지 않도록 식별자 순, 대기 순서는 score 로 복구)
+     */
+    Slice<QueueSnapshot> findByConcertIdOrderBySnapshotIdAsc(Long concertId, Pageable pageable);
+
+    /**
+     * 대기열 맨 앞보다 먼저 진입한 (이미 활성화되었거나 빠진) 대기자 스냅샷 삭제
+     */
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM QueueSnapshot s WHERE s.concertId = :concertId AND s.status = 'WAITING' AND s.lane = :lane AND s.score < :headScore")
+    int deleteWaitingBefore(@Param("concertId") Long concertId, @Param("lane") String lane, @Param("headScore") long headScore);
+
+    /**
+     * 토큰이 만료된 스냅샷 삭제
+     */
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM QueueSnapshot s WHERE s.expiresAt <= :nowMillis")
+    int deleteExpired(@Param("nowMillis") long nowMillis);
+}
@@ -0,0 +1,63 @@
+package kr.hhplus.be.server.queue.infrastructure;
+
+import kr.hhplus.be.server.queue.domain.QueueSnapshot;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 대기열 스냅샷 저장 (DB)
+ * 이미 있는 행은 한 번의 IN 조회 후 변경 감지로 갱신하고, 신규 행은 조회 없이 batch insert 한다.
+ */
+@Component
+public class QueueSnapshotWriter {
+
+    private final QueueSnapshotJpaRepository queueSnapshotJpaRepository;
+
+    public QueueSnapshotWriter(QueueSnapshotJpaRepository queueSnapshotJpaRepository) {
+        this.queueSnapshotJpaRepository = queueSnapshotJpaRepository;
+    }
+
+    /**
+     * 스냅샷 저장 (대기실:사용자 단위 upsert)
+     * @return 저장한 행 수
+     */
+    @Transactional
+    public int upsert(List<QueueSnapshot> snapshots) {
+        if (snapshots.isEmpty()) {
+            return 0;
+        }
+
+        Map<String, QueueSnapshot> stored = queueSnapshotJpaRepository
+                .findAllById(snapshots.stream().map(QueueSnapshot::getSnapshotId).toList())
+                .stream()
+                .collect(Collectors.toMap(QueueSnapshot::getSnapshotId, Function.identity()));
+
+        List<QueueSnapshot> inserts = new ArrayList<>();
+        for (QueueSnapshot snapshot : snapshots) {
+            QueueSnapshot existing = stored.get(snapshot.getSnapshotId());
+            if (existing != null) {
+                existing.update(snapshot);
+            } else {
+                inserts.add(snapshot);
+            }
+        }
+        queueSnapshotJpaRepository.saveAll(inserts);
+        return snapshots.size();
+    }
+
+    /**
+     * 반환/만료되어 활성 대기열에서 빠진 사용자 스냅샷 삭제
+     */
+    @Transactional
+    public void deleteAll(List<String> snapshotIds) {
+        if (!snapshotIds.isEmpty()) {
+            queueSnapshotJpaRepository.deleteAllByIdInBatch(snapshotIds);
+        }
+    }
+}
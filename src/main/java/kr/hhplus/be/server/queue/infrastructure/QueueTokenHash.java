@@ -0,0 +1,77 @@
+package kr.hhplus.be.server.queue.infrastructure;
+
+import kr.hhplus.be.server.queue.domain.QueueLane;
+import kr.hhplus.be.server.queue.domain.QueueToken;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+/**
+ * 대기열 토큰 Redis Hash 인코딩
+ * 토큰 수만큼 키가 생기므로 필드명은 한 글자, 상태는 한 글자 코드, 일시는 epoch ms 로 저장한다.
+ * (Hash 가 작아 listpack 으로 저장되므로 필드명/값 길이가 그대로 메모리 사용량이 됨)
+ *   u : 사용자 ID, s : 상태 (W/A), p : 대기 순서, i : 발급 일시 (ms), e : 만료 일시 (ms), l : lane (general 이면 저장하지 않음)
+ */
+final class QueueTokenHash {
+
+    static final String USER_ID = "u";
+    static final String STATUS = "s";
+    static final String POSITION = "p";
+    static final String ISSUED_AT = "i";
+    static final String EXPIRES_AT = "e";
+    static final String LANE = "l";
+
+    // 상태 조회 시 HMGET 으로 읽는 필드 (순서 고정)
+    static final List<Object> FIELDS = List.of(USER_ID, STATUS, POSITION, ISSUED_AT, EXPIRES_AT, LANE);
+
+    private QueueTokenHash() {
+    }
+
+    static String encodeStatus(QueueToken.QueueStatus status) {
+        return switch (status) {
+            case WAITING -> "W";
+            case ACTIVE -> "A";
+            case EXPIRED -> "X";
+        };
+    }
+
+    static QueueToken.QueueStatus decodeStatus(String code) {
+        return switch (code) {
+            case "W" -> QueueToken.QueueStatus.WAITING;
+            case "A" -> QueueToken.QueueStatus.ACTIVE;
+            case "X" -> QueueToken.QueueStatus.EXPIRED;
+            default -> throw new IllegalStateException("알 수 없는 토큰 상태입니다. : " + code);
+        };
+    }
+
+    static String encodeTime(LocalDateTime dateTime) {
+        return String.valueOf(dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+    }
+
+    static LocalDateTime decodeTime(String epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(Long.parseLong(epochMillis)), ZoneId.systemDefault());
+    }
+
+    /**
+     * HMGET 결과(FIELDS 순서)를 토큰 정보로 변환
+     * @return 토큰 키가 없으면 null
+     */
+    static QueueToken decode(Long concertId, String token, List<Object> values) {
+        if (values == null || values.size() < FIELDS.size() || values.get(1) == null) {
+            return null;
+        }
+
+        return QueueToken.builder()
+                .token(token)
+                .userId(values.get(0).toString())
+                .concertId(concertId)
+                .lane(values.get(5) == null ? QueueLane.GENERAL : values.get(5).toString())
+                .status(decodeStatus(values.get(1).toString()))
+                .queuePosition(Long.parseLong(values.get(2).toString()))
+                .issuedAt(decodeTime(values.get(3).toString()))
+                .expiresAt(decodeTime(values.get(4).toString()))
+                .build();
+    }
+}
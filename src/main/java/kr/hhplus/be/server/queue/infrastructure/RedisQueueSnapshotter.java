@@ -0,0 +1,453 @@
+package kr.hhplus.be.server.queue.infrastructure;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import kr.hhplus.be.server.common.RedisKeyUtils;
+import kr.hhplus.be.server.common.lock.RedisDistributedLock;
+import kr.hhplus.be.server.config.QueueRoomProperties;
+import kr.hhplus.be.server.queue.domain.QueueLane;
+import kr.hhplus.be.server.queue.domain.QueueSnapshot;
+import kr.hhplus.be.server.queue.domain.QueueToken;
+import kr.hhplus.be.server.queue.scheduler.QueueLeaderElection;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 대기열 상태 스냅샷 / 복구 (Redis 장애 대비)
+ * 대기 순서(lane 별 대기열)와 활성 사용자를 주기적으로 queue_snapshot 테이블에 저장하고,
+ * Redis 데이터가 유실되면 스냅샷으로 대기열, 토큰, 활성 사용자 키를 다시 채운다.
+ *
+ * 유실 여부는 TTL 없는 기준 키(queue:snapshot:epoch)로 판단한다.
+ * 장애 조치 후에도 노드는 계속 토큰을 발급하므로 대기실 키 유무로는 판단할 수 없고,
+ * 기준 키가 없으면 스냅샷 저장 전에 모든 대기실을 현재 Redis 상태와 병합한다. (새로 발급받은 사용자는 그대로 두고 나머지만 추가)
+ *
+ * 스냅샷은 변경분만 저장한다.
+ *   - 대기열 : 대기열 맨 앞보다 먼저 진입한 행은 삭제하고, 마지막으로 저장한 진입 시각 이후 대기자만 추가
+ *   - 활성 사용자 : 활성 대기열과 저장된 행을 비교해서 빠진 사용자는 삭제, 새로 활성화되거나 만료 시각이 바뀐 사용자만 저장
+ * 복구는 batch size 단위로 스크립트 한 번에 기록한다. (사용자마다 매핑 SET NX 로 확인 + 기록, 활성 사용자는 빈 슬롯만큼만 복구)
+ * 스냅샷은 전용 스레드에서 실행한다. (대기실 전체를 Redis 에서 읽어 DB 에 쓰는 동안 @Scheduled 공용 스레드의 활성화 / 폐기 목록 갱신이 밀리지 않도록)
+ *
+ * queue:
+ *   snapshot:
+ *     enabled: true        # 기본 false
+ *     interval-ms: 5000
+ *     batch-size: 1000
+ */
+@Component
+@ConditionalOnProperty(name = "queue.snapshot.enabled", havingValue = "true")
+public class RedisQueueSnapshotter {
+    private static final Logger log = LoggerFactory.getLogger(RedisQueueSnapshotter.class);
+
+    // 스냅샷 사용자 병합 복구 스크립트 (매핑 SET NX + 토큰 / 활성 / 대기열 기록, 활성 최대수 확인)
+    private static final RedisScript<List> RESTORE_SNAPSHOT_USERS_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/queue/restore_snapshot_users.lua"), List.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisDistributedLock redisDistributedLock;
+    private final QueueSnapshotJpaRepository queueSnapshotJpaRepository;
+    private final QueueSnapshotWriter queueSnapshotWriter;
+    private final QueueRoomProperties queueRoomProperties;
+    private final QueueLeaderElection queueLeaderElection;
+
+    // 한 번에 저장/복구하는 인원 (Redis 파이프라인, DB batch 단위)
+    @Value("${queue.snapshot.batch-size:1000}")
+    private int batchSize;
+
+    // 스냅샷 락 TTL(초)
+    @Value("${queue.snapshot.lock-timeout-seconds:60}")
+    private long lockTimeoutSeconds;
+
+    // 유휴 허용 시간(초) (복구한 활성 사용자의 heartbeat 재등록)
+    @Value("${queue.heartbeat.idle-seconds:0}")
+    private int heartbeatIdleSeconds;
+
+    // 스냅샷 저장 주기 (ms)
+    @Value("${queue.snapshot.interval-ms:5000}")
+    private long intervalMillis;
+
+    // 스냅샷 전용 스레드
+    private ScheduledExecutorService snapshotExecutor;
+
+    public RedisQueueSnapshotter(StringRedisTemplate redisTemplate, RedisDistributedLock redisDistributedLock,
+                                 QueueSnapshotJpaRepository queueSnapshotJpaRepository, QueueSnapshotWriter queueSnapshotWriter,
+                                 QueueRoomProperties queueRoomProperties, QueueLeaderElection queueLeaderElection) {
+        this.redisTemplate = redisTemplate;
+        this.redisDistributedLock = redisDistributedLock;
+        this.queueSnapshotJpaRepository = queueSnapshotJpaRepository;
+        this.queueSnapshotWriter = queueSnapshotWriter;
+        this.queueRoomProperties = queueRoomProperties;
+        this.queueLeaderElection = queueLeaderElection;
+    }
+
+    /**
+     * 기동 시 Redis 데이터가 유실되었으면 복구
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void restoreOnStartup() {
+        withSnapshotLock(() -> restoreAfterRedisLoss(System.currentTimeMillis()));
+    }
+
+    @PostConstruct
+    void startSnapshots() {
+        snapshotExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "queue-snapshot");
+            thread.setDaemon(true);
+            return thread;
+        });
+        snapshotExecutor.scheduleWithFixedDelay(() -> {
+            try {
+                snapshotRooms();
+            } catch (Exception e) {
+                // 예외로 다음 주기가 취소되지 않도록 로깅만 함
+                log.info("[Snapshot] 대기열 스냅샷 실행 실패", e);
+            }
+        }, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stopSnapshots() {
+        if (snapshotExecutor != null) {
+            snapshotExecutor.shutdownNow();
+        }
+    }
+
+    /**
+     * 대기열 스냅샷 저장 (queue.snapshot.interval-ms 주기, 스냅샷 전용 스레드)
+     * Redis 데이터가 유실되었으면 저장 전에 먼저 병합 복구한다. (장애 후 진입한 대기자 기준으로 이전 대기 행을 지우지 않도록)
+     * 복구에 실패하면 이번 주기 스냅샷은 저장하지 않고 다음 주기에 다시 복구한다.
+     * 리더 노드만 실행하고, 리더가 바뀌는 중에 겹치지 않도록 스냅샷 락을 함께 잡는다.
+     */
+    public void snapshotRooms() {
+        if (!queueLeaderElection.isLeader()) {
+            return;
+        }
+
+        withSnapshotLock(() -> {
+            long now = System.currentTimeMillis();
+            queueSnapshotJpaRepository.deleteExpired(now);
+            restoreAfterRedisLoss(now);
+
+            for (Long concertId : redisRooms()) {
+                // 저장 중에 리더 임대 기한이 지나면 남은 대기실은 새 리더에게 맡김
+                if (!queueLeaderElection.isLeader()) {
+                    log.info("[Snapshot] 리더 임대 기한이 지나 남은 대기실 스냅샷을 중단합니다.");
+                    return;
+                }
+                try {
+                    snapshotRoom(concertId, now);
+                } catch (Exception e) {
+                    // 한 대기실 저장 실패가 다른 대기실 스냅샷을 막지 않도록 로깅만 하고 계속 진행
+                    log.info("[Snapshot] 대기열 스냅샷 저장 실패 concertId={}", concertId, e);
+                }
+            }
+        });
+    }
+
+    /**
+     * 대기실 스냅샷 저장 (lane 별 대기열 + 활성 사용자)
+     * @return 저장한 인원
+     */
+    public int snapshotRoom(Long concertId, long nowMillis) {
+        long start = System.nanoTime();
+
+        int savedCount = 0;
+        for (QueueLane lane : queueRoomProperties.queueLanes()) {
+            savedCount += snapshotWaiting(concertId, lane.name());
+        }
+        savedCount += snapshotActive(concertId, nowMillis);
+
+        log.info("[Snapshot] 대기열 스냅샷 저장 완료. concertId={}, 저장 {}명, 실행 시간: {}ms",
+                concertId, savedCount, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        return savedCount;
+    }
+
+    /**
+     * Redis 데이터 유실 시 스냅샷이 있는 모든 대기실 병합 복구
+     * 기준 키가 남아 있으면 유실되지 않은 것으로 보고 건너뛰며, 복구를 마친 뒤 기준 키를 다시 기록한다.
+     * @return 복구한 대기실 수 (유실되지 않았으면 0)
+     */
+    public int restoreAfterRedisLoss(long nowMillis) {
+        String epochKey = RedisKeyUtils.queueSnapshotEpochKey();
+        if (Boolean.TRUE.equals(redisTemplate.hasKey(epochKey))) {
+            return 0;
+        }
+
+        int restoredRooms = 0;
+        for (Long concertId : queueSnapshotJpaRepository.findConcertIds()) {
+            restoreRoom(concertId, nowMillis);
+            restoredRooms++;
+        }
+        redisTemplate.opsForValue().set(epochKey, UUID.randomUUID() + ":" + nowMillis);
+
+        if (restoredRooms > 0) {
+            log.warn("[Snapshot] Redis 대기열 데이터 유실 감지, 스냅샷으로 {}개 대기실 병합 복구", restoredRooms);
+        }
+        return restoredRooms;
+    }
+
+    /**
+     * 대기실 스냅샷으로 Redis 병합 복구
+     * 대기자는 저장된 진입 시각(score)으로 다시 넣으므로 lane 안의 대기 순서가 그대로 유지되고,
+     * 장애 후 새로 진입한 대기자보다 앞에 선다.
+     * 이미 토큰 매핑이 있는 사용자(장애 후 다시 발급받음)는 현재 상태를 유지한다.
+     * 활성 사용자는 대기실 활성 최대수까지만 복구하고, 넘치는 사용자는 lane 대기열 맨 앞으로 돌려보낸다.
+     * @return 복구한 인원
+     */
+    public int restoreRoom(Long concertId, long nowMillis) {
+        long start = System.nanoTime();
+
+        int restoredCount = 0;
+        Pageable pageable = PageRequest.of(0, batchSize);
+        while (true) {
+            Slice<QueueSnapshot> slice = queueSnapshotJpaRepository.findByConcertIdOrderBySnapshotIdAsc(concertId, pageable);
+
+            // 토큰 또는 활성 시간이 만료된 사용자는 복구하지 않음
+            List<QueueSnapshot> snapshots = slice.getContent().stream()
+                    .filter(snapshot -> snapshot.getExpiresAt() > nowMillis)
+                    .filter(snapshot -> !snapshot.isActive() || snapshot.getScore() > nowMillis)
+                    .toList();
+            restoredCount += writeRoom(concertId, snapshots, nowMillis);
+
+            if (!slice.hasNext()) {
+                break;
+            }
+            pageable = slice.nextPageable();
+        }
+
+        redisTemplate.opsForZSet().add(RedisKeyUtils.queueRoomsKey(), String.valueOf(concertId), nowMillis);
+
+        log.info("[Snapshot] 대기열 복구 완료. concertId={}, 복구 {}명, 실행 시간: {}ms",
+                concertId, restoredCount, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        return restoredCount;
+    }
+
+    /**
+     * lane 대기열 스냅샷 (마지막으로 저장한 진입 시각 이후 대기자만 저장)
+     */
+    private int snapshotWaiting(Long concertId, String lane) {
+        String waitingKey = RedisKeyUtils.waitingQueueKey(concertId, lane);
+        ZSetOperations<String, String> zSet = redisTemplate.opsForZSet();
+
+        // 1. 대기열 맨 앞보다 먼저 진입한 행 삭제 (이미 활성화되었거나 대기열에서 빠진 사용자)
+        Set<ZSetOperations.TypedTuple<String>> head = zSet.rangeWithScores(waitingKey, 0, 0);
+        if (head == null || head.isEmpty()) {
+            queueSnapshotJpaRepository.deleteWaitingBefore(concertId, lane, Long.MAX_VALUE);
+            return 0;
+        }
+        long headScore = score(head.iterator().next());
+        queueSnapshotJpaRepository.deleteWaitingBefore(concertId, lane, headScore);
+
+        // 2. 마지막으로 저장한 진입 시각부터 이어서 저장 (같은 시각에 진입한 대기자가 있으므로 경계 포함)
+        Long lastScore = queueSnapshotJpaRepository.findLastWaitingScore(concertId, lane);
+        long from = lastScore == null ? headScore : Math.max(lastScore, headScore);
+
+        int savedCount = 0;
+        long offset = 0;
+        while (true) {
+            Set<ZSetOperations.TypedTuple<String>> page =
+                    zSet.rangeByScoreWithScores(waitingKey, from, Double.POSITIVE_INFINITY, offset, batchSize);
+            if (page == null || page.isEmpty()) {
+                break;
+            }
+            savedCount += queueSnapshotWriter.upsert(readSnapshots(concertId, QueueToken.QueueStatus.WAITING, new ArrayList<>(page)));
+
+            if (page.size() < batchSize) {
+                break;
+            }
+            offset += page.size();
+        }
+        return savedCount;
+    }
+
+    /**
+     * 활성 사용자 스냅샷 (저장된 행과 비교해서 변경분만 반영)
+     */
+    private int snapshotActive(Long concertId, long nowMillis) {
+        Set<ZSetOperations.TypedTuple<String>> active = redisTemplate.opsForZSet()
+                .rangeByScoreWithScores(RedisKeyUtils.activeQueueKey(concertId), nowMillis, Double.POSITIVE_INFINITY);
+
+        Map<String, QueueSnapshot> stored = queueSnapshotJpaRepository
+                .findByConcertIdAndStatus(concertId, QueueToken.QueueStatus.ACTIVE)
+                .stream()
+                .collect(Collectors.toMap(QueueSnapshot::getUserId, Function.identity()));
+
+        Set<String> activeUserIds = new HashSet<>();
+        List<ZSetOperations.TypedTuple<String>> changed = new ArrayList<>();
+        if (active != null) {
+            for (ZSetOperations.TypedTuple<String> tuple : active) {
+                activeUserIds.add(tuple.getValue());
+                QueueSnapshot snapshot = stored.get(tuple.getValue());
+                if (snapshot == null || snapshot.getScore() != score(tuple)) {
+                    changed.add(tuple);
+                }
+            }
+        }
+
+        // 반환/만료/회수되어 활성 대기열에서 빠진 사용자 삭제
+        queueSnapshotWriter.deleteAll(stored.values().stream()
+                .filter(snapshot -> !activeUserIds.contains(snapshot.getUserId()))
+                .map(QueueSnapshot::getSnapshotId)
+                .toList());
+
+        int savedCount = 0;
+        for (int from = 0; from < changed.size(); from += batchSize) {
+            List<ZSetOperations.TypedTuple<String>> batch = changed.subList(from, Math.min(from + batchSize, changed.size()));
+            savedCount += queueSnapshotWriter.upsert(readSnapshots(concertId, QueueToken.QueueStatus.ACTIVE, batch));
+        }
+        return savedCount;
+    }
+
+    /**
+     * 사용자-토큰 매핑과 토큰 Hash 를 파이프라인 두 번으로 읽어 스냅샷 행 생성
+     * 그 사이 토큰이 만료된 사용자는 제외한다.
+     */
+    private List<QueueSnapshot> readSnapshots(Long concertId, QueueToken.QueueStatus status,
+                                              List<ZSetOperations.TypedTuple<String>> tuples) {
+        RedisSerializer<String> serializer = redisTemplate.getStringSerializer();
+
+        // 1. 사용자 -> 토큰
+        List<Object> tokens = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (ZSetOperations.TypedTuple<String> tuple : tuples) {
+                connection.stringCommands().get(serializer.serialize(RedisKeyUtils.userTokenKey(concertId, tuple.getValue())));
+            }
+            return null;
+        });
+
+        List<ZSetOperations.TypedTuple<String>> found = new ArrayList<>();
+        List<String> foundTokens = new ArrayList<>();
+        for (int i = 0; i < tuples.size() && i < tokens.size(); i++) {
+            if (tokens.get(i) != null) {
+                found.add(tuples.get(i));
+                foundTokens.add(tokens.get(i).toString());
+            }
+        }
+        if (found.isEmpty()) {
+            return List.of();
+        }
+
+        // 2. 토큰 Hash (u, s, p, i, e, l)
+        byte[][] fields = QueueTokenHash.FIELDS.stream()
+                .map(field -> serializer.serialize(field.toString()))
+                .toArray(byte[][]::new);
+        List<Object> hashes = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (String token : foundTokens) {
+                connection.hashCommands().hMGet(serializer.serialize(RedisKeyUtils.queueTokenKey(concertId, token)), fields);
+            }
+            return null;
+        });
+
+        List<QueueSnapshot> snapshots = new ArrayList<>(found.size());
+        for (int i = 0; i < found.size() && i < hashes.size(); i++) {
+            List<?> values = (List<?>) hashes.get(i);
+            if (values == null || values.size() < QueueTokenHash.FIELDS.size() || values.get(1) == null) {
+                continue;
+            }
+            String lane = values.get(5) == null ? QueueLane.GENERAL : values.get(5).toString();
+            snapshots.add(new QueueSnapshot(concertId, found.get(i).getValue(), foundTokens.get(i), lane, status,
+                    score(found.get(i)),
+                    Long.parseLong(values.get(3).toString()),
+                    Long.parseLong(values.get(4).toString())));
+        }
+        return snapshots;
+    }
+
+    /**
+     * 스냅샷을 대기실 키로 기록 (스크립트 1회)
+     * 매핑 확인과 기록을 사용자마다 스크립트 안에서 처리하므로, 복구 중에 다시 발급받은 사용자의 매핑을 덮어쓰지 않는다.
+     * 토큰 Hash / 매핑 키는 토큰 만료 일시, 활성 사용자 키는 활성 만료 시각에 만료되도록 절대 시각으로 지정한다.
+     * @return 기록한 인원 (이미 토큰 매핑이 있는 사용자 제외)
+     */
+    private int writeRoom(Long concertId, List<QueueSnapshot> batch, long nowMillis) {
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        List<String> keys = new ArrayList<>(2 + batch.size() * 4);
+        keys.add(RedisKeyUtils.activeQueueKey(concertId));
+        keys.add(RedisKeyUtils.activeHeartbeatKey(concertId));
+
+        List<String> args = new ArrayList<>(3 + batch.size() * 7);
+        args.add(String.valueOf(nowMillis));
+        args.add(String.valueOf(queueRoomProperties.maxActiveUsers(concertId)));
+        args.add(String.valueOf(TimeUnit.SECONDS.toMillis(Math.max(0, heartbeatIdleSeconds))));
+
+        for (QueueSnapshot snapshot : batch) {
+            keys.add(RedisKeyUtils.userTokenKey(concertId, snapshot.getUserId()));
+            keys.add(RedisKeyUtils.queueTokenKey(concertId, snapshot.getToken()));
+            keys.add(RedisKeyUtils.activeUserKey(concertId, snapshot.getUserId()));
+            keys.add(RedisKeyUtils.waitingQueueKey(concertId, snapshot.getLane()));
+
+            args.add(snapshot.getUserId());
+            args.add(snapshot.getToken());
+            args.add(QueueTokenHash.encodeStatus(snapshot.getStatus()));
+            args.add(String.valueOf(snapshot.getScore()));
+            args.add(String.valueOf(snapshot.getIssuedAt()));
+            args.add(String.valueOf(snapshot.getExpiresAt()));
+            args.add(snapshot.getLane());
+        }
+
+        List<String> result = redisTemplate.execute(RESTORE_SNAPSHOT_USERS_SCRIPT, keys, args.toArray());
+        if (result == null || result.size() < 2) {
+            return 0;
+        }
+
+        int demoted = Integer.parseInt(result.get(1));
+        if (demoted > 0) {
+            log.warn("[Snapshot] 활성 최대수를 넘어 대기열 맨 앞으로 복구한 활성 사용자 concertId={}, {}명", concertId, demoted);
+        }
+        return Integer.parseInt(result.get(0));
+    }
+
+    private Set<Long> redisRooms() {
+        Set<String> rooms = redisTemplate.opsForZSet().range(RedisKeyUtils.queueRoomsKey(), 0, -1);
+        if (rooms == null || rooms.isEmpty()) {
+            return Set.of();
+        }
+        return rooms.stream().map(Long::valueOf).collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+
+    private long score(ZSetOperations.TypedTuple<String> tuple) {
+        return tuple.getScore() == null ? 0 : tuple.getScore().longValue();
+    }
+
+    // 여러 노드 중 한 노드만 스냅샷 저장/복구
+    private void withSnapshotLock(Runnable task) {
+        String lockValue = UUID.randomUUID().toString();
+        if (!redisDistributedLock.tryLock(RedisKeyUtils.queueSnapshotLockKey(), lockValue, lockTimeoutSeconds)) {
+            log.info("[Snapshot] 다른 노드에서 대기열 스냅샷 처리 중입니다.");
+            return;
+        }
+        try {
+            task.run();
+        } finally {
+            redisDistributedLock.releaseLock(RedisKeyUtils.queueSnapshotLockKey(), lockValue);
+        }
+    }
+}
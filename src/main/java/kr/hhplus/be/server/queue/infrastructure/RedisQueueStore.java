@@ -0,0 +1,396 @@
+package kr.hhplus.be.server.queue.infrastructure;
+
+import kr.hhplus.be.server.common.RedisKeyUtils;
+import kr.hhplus.be.server.common.lock.RedisDistributedLock;
+import kr.hhplus.be.server.queue.domain.QueueLane;
+import kr.hhplus.be.server.queue.domain.QueueStore;
+import kr.hhplus.be.server.queue.domain.QueueToken;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.connection.RedisZSetCommands;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Redis 대기열 저장소 (기본)
+ * 키 구성은 docs/RedisKey.md 참고, 토큰 Hash 인코딩은 QueueTokenHash 참고
+ */
+@Repository
+@ConditionalOnProperty(name = "queue.store", havingValue = "redis", matchIfMissing = true)
+public class RedisQueueStore implements QueueStore {
+
+    // 토큰 발급 스크립트 (기존 토큰 확인 + 활성 인원 확인 + 활성화/대기열 추가)
+    private static final RedisScript<List> ISSUE_TOKEN_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/queue/issue_token.lua"), List.class);
+
+    // 대기 사용자 일괄 활성화 스크립트 (빈 슬롯만큼 대기열 pop + 활성 등록 + 토큰 상태 갱신)
+    private static final RedisScript<List> ADMIT_WAITING_USERS_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/queue/admit_waiting_users.lua"), List.class);
+
+    // 만료된 활성 사용자 제거 스크립트 (만료 시각 확인 + 제거)
+    private static final RedisScript<Long> REMOVE_EXPIRED_ACTIVE_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/queue/remove_expired_active.lua"), Long.class);
+
+    // 대기 순서 저장 스크립트 (대기열 앞쪽 대기자의 토큰에 대기 순서 저장)
+    private static final RedisScript<Long> PERSIST_WAITING_POSITIONS_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/queue/persist_waiting_positions.lua"), Long.class);
+
+    // 활성 사용자 heartbeat 스크립트 (유휴 만료 시각 확인 + 연장)
+    private static final RedisScript<Long> HEARTBEAT_ACTIVE_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/queue/heartbeat_active.lua"), Long.class);
+
+    // 유휴 활성 사용자 회수 스크립트 (유휴 만료 시각이 지난 사용자 활성 대기열 제거 + 토큰 삭제)
+    private static final RedisScript<List> EVICT_IDLE_ACTIVE_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/queue/evict_idle_active.lua"), List.class);
+
+    // 활성 슬롯 반환 스크립트 (활성 대기열 제거 + 활성 사용자 / 토큰 / 매핑 삭제)
+    private static final RedisScript<Long> RELEASE_ACTIVE_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/queue/release_active.lua"), Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisDistributedLock redisDistributedLock;
+
+    public RedisQueueStore(StringRedisTemplate redisTemplate, RedisDistributedLock redisDistributedLock) {
+        this.redisTemplate = redisTemplate;
+        this.redisDistributedLock = redisDistributedLock;
+    }
+
+    /**
+     * 설정된 lane 별 대기열 키를 모두 넘겨 기존 토큰의 lane 순서 조회와 다른 lane 대기열 정리를 스크립트 안에서 처리한다.
+     */
+    @Override
+    public IssuedToken issue(Long concertId, String userId, String lane, List<QueueLane> lanes, String token,
+                             int maxActiveUsers, long ttlSeconds, long idleMillis, long nowMillis,
+                             LocalDateTime issuedAt, LocalDateTime expiresAt) {
+        List<String> keys = new ArrayList<>(lanes.size() + 6);
+        keys.add(RedisKeyUtils.userTokenKey(concertId, userId));
+        keys.add(RedisKeyUtils.activeQueueKey(concertId));
+        keys.add(RedisKeyUtils.waitingQueueKey(concertId, lane));
+        keys.add(RedisKeyUtils.queueTokenKey(concertId, token));
+        keys.add(RedisKeyUtils.activeUserKey(concertId, userId));
+        keys.add(RedisKeyUtils.activeHeartbeatKey(concertId));
+
+        List<String> args = new ArrayList<>(List.of(
+                userId,
+                token,
+                String.valueOf(maxActiveUsers),
+                String.valueOf(ttlSeconds),
+                String.valueOf(nowMillis),
+                QueueTokenHash.encodeTime(issuedAt),
+                QueueTokenHash.encodeTime(expiresAt),
+                RedisKeyUtils.queueTokenKeyPrefix(concertId),
+                lane,
+                String.valueOf(idleMillis)));
+
+        for (QueueLane queueLane : lanes) {
+            keys.add(RedisKeyUtils.waitingQueueKey(concertId, queueLane.name()));
+            args.add(queueLane.name());
+        }
+
+        List<String> result = redisTemplate.execute(ISSUE_TOKEN_SCRIPT, keys, args.toArray());
+
+        if (result == null || result.size() < 7) {
+            throw new RuntimeException("토큰 발급에 실패했습니다.");
+        }
+
+        QueueToken queueToken = QueueToken.builder()
+                .token(result.get(0))
+                .userId(userId)
+                .concertId(concertId)
+                .lane(result.get(6))
+                .queuePosition(Long.parseLong(result.get(2)))
+                .status(QueueTokenHash.decodeStatus(result.get(1)))
+                .issuedAt(QueueTokenHash.decodeTime(result.get(3)))
+                .expiresAt(QueueTokenHash.decodeTime(result.get(4)))
+                .build();
+        return new IssuedToken(queueToken, "1".equals(result.get(5)));
+    }
+
+    /**
+     * lane 별 대기열 키와 (lane 이름, 비중) 을 함께 넘겨 스크립트 한 번으로 lane 별 배정과 pop 을 처리한다.
+     */
+    @Override
+    public AdmissionBatch admit(Long concertId, List<QueueLane> lanes, int maxActiveUsers, long ttlSeconds,
+                                long idleMillis, long nowMillis, LocalDateTime expiresAt, int batchSize) {
+        List<String> keys = new ArrayList<>(lanes.size() + 3);
+        keys.add(RedisKeyUtils.activeQueueKey(concertId));
+        keys.add(RedisKeyUtils.laneCreditKey(concertId));
+        keys.add(RedisKeyUtils.activeHeartbeatKey(concertId));
+
+        List<String> args = new ArrayList<>(List.of(
+                String.valueOf(maxActiveUsers),
+                String.valueOf(ttlSeconds),
+                String.valueOf(nowMillis),
+                QueueTokenHash.encodeTime(expiresAt),
+                RedisKeyUtils.queueTokenKeyPrefix(concertId),
+                RedisKeyUtils.userTokenKeyPrefix(concertId),
+                String.valueOf(batchSize),
+                RedisKeyUtils.activeUserKeyPrefix(concertId),
+                String.valueOf(idleMillis)));
+
+        for (QueueLane lane : lanes) {
+            keys.add(RedisKeyUtils.waitingQueueKey(concertId, lane.name()));
+            args.add(lane.name());
+            args.add(String.valueOf(lane.weight()));
+        }
+
+        List<String> result = redisTemplate.execute(ADMIT_WAITING_USERS_SCRIPT, keys, args.toArray());
+
+        if (result == null || result.isEmpty()) {
+            return new AdmissionBatch(0, List.of());
+        }
+
+        // 첫 번째 값 : pop 된 인원, 이후 값 : (사용자 ID, 대기열 진입 시각, lane 순번) 묶음
+        List<AdmittedUser> admittedUsers = new ArrayList<>();
+        for (int i = 1; i + 2 < result.size(); i += 3) {
+            String lane = lanes.get(Integer.parseInt(result.get(i + 2)) - 1).name();
+            admittedUsers.add(new AdmittedUser(result.get(i), lane, (long) Double.parseDouble(result.get(i + 1))));
+        }
+        return new AdmissionBatch(Integer.parseInt(result.get(0)), admittedUsers);
+    }
+
+    /**
+     * 필요한 필드만 HMGET 으로 조회한다.
+     */
+    @Override
+    public QueueToken findToken(Long concertId, String token) {
+        List<Object> values = redisTemplate.opsForHash().multiGet(RedisKeyUtils.queueTokenKey(concertId, token), QueueTokenHash.FIELDS);
+        return QueueTokenHash.decode(concertId, token, values);
+    }
+
+    @Override
+    public Long waitingRank(Long concertId, String lane, String userId) {
+        return redisTemplate.opsForZSet().rank(RedisKeyUtils.waitingQueueKey(concertId, lane), userId);
+    }
+
+    /**
+     * 대기실 lane 별로 ZRANK 를 파이프라인으로 묶어 한 번의 왕복으로 조회한다.
+     */
+    @Override
+    public List<Long> waitingRanks(Long concertId, String lane, List<String> userIds) {
+        if (userIds.isEmpty()) {
+            return List.of();
+        }
+
+        RedisSerializer<String> serializer = redisTemplate.getStringSerializer();
+        byte[] waitingKey = serializer.serialize(RedisKeyUtils.waitingQueueKey(concertId, lane));
+        List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (String userId : userIds) {
+                connection.zSetCommands().zRank(waitingKey, serializer.serialize(userId));
+            }
+            return null;
+        });
+
+        List<Long> ranks = new ArrayList<>(userIds.size());
+        for (int i = 0; i < userIds.size(); i++) {
+            Object rank = i < results.size() ? results.get(i) : null;
+            ranks.add(rank instanceof Long ? (Long) rank : null);
+        }
+        return ranks;
+    }
+
+    @Override
+    public long waitingSize(Long concertId, String lane) {
+        Long size = redisTemplate.opsForZSet().zCard(RedisKeyUtils.waitingQueueKey(concertId, lane));
+        return size == null ? 0 : size;
+    }
+
+    /**
+     * 만료 시각(score)이 지난 사용자는 정리 전이어도 제외한다.
+     */
+    @Override
+    public long activeSize(Long concertId, long nowMillis) {
+        Long size = redisTemplate.opsForZSet().count(RedisKeyUtils.activeQueueKey(concertId), nowMillis + 1, Double.POSITIVE_INFINITY);
+        return size == null ? 0 : size;
+    }
+
+    @Override
+    public int persistWaitingPositions(Long concertId, String lane, int limit) {
+        Long saved = redisTemplate.execute(PERSIST_WAITING_POSITIONS_SCRIPT,
+                List.of(RedisKeyUtils.waitingQueueKey(concertId, lane)),
+                String.valueOf(limit),
+                RedisKeyUtils.userTokenKeyPrefix(concertId),
+                RedisKeyUtils.queueTokenKeyPrefix(concertId));
+        return saved == null ? 0 : saved.intValue();
+    }
+
+    /**
+     * 스크립트 1회로 처리한다. 활성 사용자 키도 함께 삭제해서 반환된 슬롯에 대한 만료 이벤트가 발생하지 않도록 한다.
+     */
+    @Override
+    public boolean releaseActive(Long concertId, String userId) {
+        Long removed = redisTemplate.execute(RELEASE_ACTIVE_SCRIPT,
+                List.of(RedisKeyUtils.activeQueueKey(concertId),
+                        RedisKeyUtils.activeHeartbeatKey(concertId),
+                        RedisKeyUtils.activeUserKey(concertId, userId),
+                        RedisKeyUtils.userTokenKey(concertId, userId)),
+                userId,
+                RedisKeyUtils.queueTokenKeyPrefix(concertId));
+        return removed != null && removed > 0;
+    }
+
+    @Override
+    public boolean removeExpiredActive(Long concertId, String userId, long nowMillis) {
+        Long removed = redisTemplate.execute(REMOVE_EXPIRED_ACTIVE_SCRIPT,
+                List.of(RedisKeyUtils.activeQueueKey(concertId)), userId, String.valueOf(nowMillis));
+        return removed != null && removed > 0;
+    }
+
+    /**
+     * 스크립트 1회 (ZSCORE + ZADD XX) 로 처리한다.
+     */
+    @Override
+    public boolean touchActive(Long concertId, String userId, long nowMillis, long idleDeadlineMillis) {
+        Long touched = redisTemplate.execute(HEARTBEAT_ACTIVE_SCRIPT,
+                List.of(RedisKeyUtils.activeHeartbeatKey(concertId)),
+                userId, String.valueOf(nowMillis), String.valueOf(idleDeadlineMillis));
+        return touched != null && touched > 0;
+    }
+
+    @Override
+    public IdleEviction evictIdleActive(Long concertId, long nowMillis, int limit) {
+        List<String> result = redisTemplate.execute(EVICT_IDLE_ACTIVE_SCRIPT,
+                List.of(RedisKeyUtils.activeHeartbeatKey(concertId), RedisKeyUtils.activeQueueKey(concertId)),
+                String.valueOf(nowMillis),
+                String.valueOf(limit),
+                RedisKeyUtils.activeUserKeyPrefix(concertId),
+                RedisKeyUtils.userTokenKeyPrefix(concertId),
+                RedisKeyUtils.queueTokenKeyPrefix(concertId));
+
+        if (result == null || result.isEmpty()) {
+            return new IdleEviction(0, List.of());
+        }
+        // 첫 번째 값 : 확인한 인원, 이후 값 : 회수된 사용자 ID
+        return new IdleEviction(Integer.parseInt(result.get(0)), List.copyOf(result.subList(1, result.size())));
+    }
+
+    @Override
+    public void registerRoom(Long concertId, long nowMillis) {
+        redisTemplate.opsForZSet().add(RedisKeyUtils.queueRoomsKey(), String.valueOf(concertId), nowMillis);
+    }
+
+    @Override
+    public Set<Long> rooms(long staleBeforeMillis) {
+        redisTemplate.opsForZSet().removeRangeByScore(RedisKeyUtils.queueRoomsKey(), Double.NEGATIVE_INFINITY, staleBeforeMillis);
+
+        Set<String> rooms = redisTemplate.opsForZSet().range(RedisKeyUtils.queueRoomsKey(), 0, -1);
+        if (rooms == null || rooms.isEmpty()) {
+            return Set.of();
+        }
+
+        Set<Long> concertIds = new LinkedHashSet<>();
+        for (String room : rooms) {
+            concertIds.add(Long.valueOf(room));
+        }
+        return concertIds;
+    }
+
+    @Override
+    public boolean tryLockRoom(Long concertId, String owner, long timeoutSeconds) {
+        return redisDistributedLock.tryLock(RedisKeyUtils.queueLockKey(concertId), owner, timeoutSeconds);
+    }
+
+    @Override
+    public void unlockRoom(Long concertId, String owner) {
+        redisDistributedLock.releaseLock(RedisKeyUtils.queueLockKey(concertId), owner);
+    }
+
+    /**
+     * 빈 슬롯 / 대기열 인원 조회 1회 + 쓰기 파이프라인 1회로 처리한다. (사용자마다 스크립트를 호출하지 않음)
+     * 키와 값은 발급 스크립트(issue_token.lua)와 같은 형식으로 기록하고, 대기자는 모두 같은 진입 시각이므로 사용자 ID 순으로 정렬된다.
+     */
+    @Override
+    public SeedBatch seed(Long concertId, String lane, List<String> userIds, int maxActiveUsers, long ttlSeconds,
+                          long idleMillis, long nowMillis, LocalDateTime issuedAt, LocalDateTime expiresAt) {
+        if (userIds.isEmpty()) {
+            return new SeedBatch(0, 0);
+        }
+
+        RedisSerializer<String> serializer = redisTemplate.getStringSerializer();
+        byte[] activeKey = serializer.serialize(RedisKeyUtils.activeQueueKey(concertId));
+        byte[] waitingKey = serializer.serialize(RedisKeyUtils.waitingQueueKey(concertId, lane));
+        byte[] heartbeatKey = serializer.serialize(RedisKeyUtils.activeHeartbeatKey(concertId));
+
+        // 1. 만료되지 않은 활성 사용자 수, lane 대기열 인원
+        List<Object> sizes = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            connection.zSetCommands().zCount(activeKey, nowMillis + 1, Double.POSITIVE_INFINITY);
+            connection.zSetCommands().zCard(waitingKey);
+            return null;
+        });
+        long activeSize = sizes.get(0) == null ? 0 : (Long) sizes.get(0);
+        long waitingSize = sizes.get(1) == null ? 0 : (Long) sizes.get(1);
+        int activated = (int) Math.min(userIds.size(), Math.max(0, maxActiveUsers - activeSize));
+
+        // 2. 토큰 Hash + 매핑, 활성 등록 또는 대기열 추가
+        byte[] issuedAtValue = serializer.serialize(QueueTokenHash.encodeTime(issuedAt));
+        byte[] expiresAtValue = serializer.serialize(QueueTokenHash.encodeTime(expiresAt));
+        Expiration expiration = Expiration.seconds(ttlSeconds);
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (int i = 0; i < userIds.size(); i++) {
+                String userId = userIds.get(i);
+                String token = UUID.randomUUID().toString();
+                boolean active = i < activated;
+                byte[] member = serializer.serialize(userId);
+                byte[] tokenValue = serializer.serialize(token);
+
+                Map<byte[], byte[]> hash = new LinkedHashMap<>();
+                hash.put(serializer.serialize(QueueTokenHash.USER_ID), member);
+                hash.put(serializer.serialize(QueueTokenHash.STATUS), serializer.serialize(
+                        QueueTokenHash.encodeStatus(active ? QueueToken.QueueStatus.ACTIVE : QueueToken.QueueStatus.WAITING)));
+                hash.put(serializer.serialize(QueueTokenHash.POSITION),
+                        serializer.serialize(String.valueOf(active ? 0 : waitingSize + (i - activated) + 1)));
+                hash.put(serializer.serialize(QueueTokenHash.ISSUED_AT), issuedAtValue);
+                hash.put(serializer.serialize(QueueTokenHash.EXPIRES_AT), expiresAtValue);
+                if (!QueueLane.GENERAL.equals(lane)) {
+                    hash.put(serializer.serialize(QueueTokenHash.LANE), serializer.serialize(lane));
+                }
+                byte[] tokenKey = serializer.serialize(RedisKeyUtils.queueTokenKey(concertId, token));
+                connection.hashCommands().hMSet(tokenKey, hash);
+                connection.keyCommands().expire(tokenKey, ttlSeconds);
+                connection.stringCommands().set(serializer.serialize(RedisKeyUtils.userTokenKey(concertId, userId)),
+                        tokenValue, expiration, RedisStringCommands.SetOption.upsert());
+
+                if (active) {
+                    connection.zSetCommands().zAdd(activeKey, nowMillis + ttlSeconds * 1000, member);
+                    connection.stringCommands().set(serializer.serialize(RedisKeyUtils.activeUserKey(concertId, userId)),
+                            tokenValue, expiration, RedisStringCommands.SetOption.upsert());
+                    if (idleMillis > 0) {
+                        connection.zSetCommands().zAdd(heartbeatKey, nowMillis + idleMillis, member);
+                    }
+                } else {
+                    connection.zSetCommands().zAdd(waitingKey, nowMillis, member, RedisZSetCommands.ZAddArgs.ifNotExists());
+                }
+            }
+            return null;
+        });
+        return new SeedBatch(activated, userIds.size() - activated);
+    }
+
+    /**
+     * Redis 전체 메모리 사용량 (INFO memory 의 used_memory)
+     */
+    @Override
+    public long usedMemoryBytes() {
+        Properties memory = redisTemplate.execute((RedisCallback<Properties>) connection ->
+                connection.serverCommands().info("memory"));
+        if (memory == null || memory.getProperty("used_memory") == null) {
+            return 0;
+        }
+        return Long.parseLong(memory.getProperty("used_memory"));
+    }
+}
@@ -0,0 +1,113 @@
+package kr.hhplus.be.server.queue.listener;
+
+import jakarta.annotation.PostConstruct;
+import kr.hhplus.be.server.queue.service.QueueService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.PatternTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Properties;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 활성 사용자 키 만료 이벤트 구독
+ * 활성 사용자 키(queue:{concertId}:active:user:{userId})가 만료되면 활성 대기열에서 바로 제거하고 대기자를 활성화한다.
+ * 키 만료 이벤트는 전달이 보장되지 않으므로 (구독 끊김, 노드 재시작) 놓친 만료는 활성화 주기의 만료 정리가 처리한다.
+ */
+@Component
+@ConditionalOnProperty(name = "queue.expiry-listener.enabled", havingValue = "true", matchIfMissing = true)
+public class ActiveUserExpirationListener implements MessageListener {
+    private static final Logger log = LoggerFactory.getLogger(ActiveUserExpirationListener.class);
+
+    // 모든 DB 의 키 만료 이벤트 (message = 만료된 키)
+    private static final PatternTopic EXPIRED_TOPIC = new PatternTopic("__keyevent@*__:expired");
+
+    // queue:{concertId}:active:user:{userId}
+    private static final Pattern ACTIVE_USER_KEY = Pattern.compile("^queue:\\{(\\d+)}:active:user:(.+)$");
+
+    private static final String NOTIFY_KEYSPACE_EVENTS = "notify-keyspace-events";
+
+    private final QueueService queueService;
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+    // 시작 시 Redis 키 만료 이벤트 발행 설정 (CONFIG SET 이 막힌 관리형 Redis 는 false 로 두고 직접 설정)
+    @Value("${queue.expiry-listener.configure-notifications:true}")
+    private boolean configureNotifications;
+
+    public ActiveUserExpirationListener(QueueService queueService, StringRedisTemplate redisTemplate,
+                                        RedisMessageListenerContainer redisMessageListenerContainer) {
+        this.queueService = queueService;
+        this.redisTemplate = redisTemplate;
+        this.redisMessageListenerContainer = redisMessageListenerContainer;
+    }
+
+    @PostConstruct
+    void subscribe() {
+        if (configureNotifications) {
+            enableExpiredEvents();
+        }
+        redisMessageListenerContainer.addMessageListener(this, EXPIRED_TOPIC);
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String expiredKey = new String(message.getBody(), StandardCharsets.UTF_8);
+        Matcher matcher = ACTIVE_USER_KEY.matcher(expiredKey);
+        if (!matcher.matches()) {
+            return;
+        }
+
+        Long concertId = Long.valueOf(matcher.group(1));
+        String userId = matcher.group(2);
+        try {
+            queueService.expireActiveUser(concertId, userId);
+        } catch (Exception e) {
+            // 처리 실패 시 활성화 주기의 만료 정리가 처리하므로 로깅만 한다.
+            log.warn("활성 사용자 만료 이벤트 처리 중 오류 발생 - concertId : {}, userId : {}", concertId, userId, e);
+        }
+    }
+
+    /**
+     * notify-keyspace-events 에 키 만료 이벤트(E: keyevent 채널, x: expired) 추가
+     * 기존에 켜져 있던 이벤트 설정은 유지한다.
+     */
+    private void enableExpiredEvents() {
+        try {
+            redisTemplate.execute((RedisCallback<Void>) connection -> {
+                Properties config = connection.serverCommands().getConfig(NOTIFY_KEYSPACE_EVENTS);
+                String current = config == null ? "" : config.getProperty(NOTIFY_KEYSPACE_EVENTS, "");
+                String updated = withExpiredEvents(current);
+                if (!updated.equals(current)) {
+                    connection.serverCommands().setConfig(NOTIFY_KEYSPACE_EVENTS, updated);
+                    log.info("Redis 키 만료 이벤트 설정 : {} -> {}", current, updated);
+                }
+                return null;
+            });
+        } catch (Exception e) {
+            log.warn("Redis 키 만료 이벤트 설정 실패, notify-keyspace-events 에 Ex 를 직접 설정해야 합니다.", e);
+        }
+    }
+
+    static String withExpiredEvents(String flags) {
+        StringBuilder updated = new StringBuilder(flags);
+        if (flags.indexOf('E') < 0) {
+            updated.append('E');
+        }
+        // A 는 x 를 포함하는 별칭
+        if (flags.indexOf('x') < 0 && flags.indexOf('A') < 0) {
+            updated.append('x');
+        }
+        return updated.toString();
+    }
+}
@@ -0,0 +1,95 @@
+package kr.hhplus.be.server.queue.listener;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import kr.hhplus.be.server.queue.event.QueueSlotReleasedEvent;
+import kr.hhplus.be.server.queue.service.QueueService;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 활성 슬롯 반환 이벤트 처리
+ * 결제 / 취소 요청 스레드에서는 입장 토큰 폐기 등록만 하고,
+ * 슬롯 반환과 대기자 활성화(활성화 락 + 스크립트 실행)는 전용 스레드에서 처리한다. (Redis 지연이 결제 / 취소 응답 시간에 더해지지 않도록)
+ * 전용 스레드의 작업 큐가 가득 차면 요청 스레드에서 직접 처리한다. (반환 누락 방지)
+ *
+ * queue:
+ *   slot-release:
+ *     threads: 2
+ *     queue-capacity: 1000
+ */
+@Component
+@RequiredArgsConstructor
+public class QueueSlotEventListener {
+    private static final Logger log = LoggerFactory.getLogger(QueueSlotEventListener.class);
+
+    private final QueueService queueService;
+
+    // 슬롯 반환 전용 스레드 수
+    @Value("${queue.slot-release.threads:2}")
+    private int threads;
+
+    // 슬롯 반환 대기 작업 최대수
+    @Value("${queue.slot-release.queue-capacity:1000}")
+    private int queueCapacity;
+
+    private ThreadPoolExecutor releaseExecutor;
+
+    @PostConstruct
+    void startReleaseExecutor() {
+        AtomicInteger sequence = new AtomicInteger();
+        releaseExecutor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "queue-slot-release-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    @PreDestroy
+    void stopReleaseExecutor() throws InterruptedException {
+        if (releaseExecutor != null) {
+            releaseExecutor.shutdown();
+            releaseExecutor.awaitTermination(5, TimeUnit.SECONDS);
+        }
+    }
+
+    /**
+     * 활성 슬롯 반환 및 대기자 즉시 활성화 (이벤트)
+     * 결제/취소 트랜잭션이 커밋된 후에만 반환한다.
+     * @param event
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleSlotReleased(QueueSlotReleasedEvent event) {
+        Long concertId = event.getConcertId();
+        String userId = event.getUserId();
+        try {
+            // 폐기 등록은 바로 처리 (반환 전까지 같은 토큰으로 다시 결제 / 예약하지 못하도록)
+            queueService.revokeAccessTokenOnly(concertId, userId);
+            releaseExecutor.execute(() -> releaseSlot(concertId, userId));
+        } catch (Exception e) {
+            // 반환 실패 시 토큰 만료 시간이 지나면 정리되므로 로깅만 한다.
+            log.info("활성 슬롯 반환 이벤트 처리 중 오류 발생 - concertId : {}, userId : {}", concertId, userId, e);
+        }
+    }
+
+    private void releaseSlot(Long concertId, String userId) {
+        try {
+            queueService.releaseRevokedSlot(concertId, userId);
+        } catch (Exception e) {
+            log.info("활성 슬롯 반환 중 오류 발생 - concertId : {}, userId : {}", concertId, userId, e);
+        }
+    }
+}
@@ -0,0 +1,292 @@
+package kr.hhplus.be.server.queue.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import kr.hhplus.be.server.queue.domain.QueueToken;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+
+/**
+ * 대기열 Micrometer 지표
+ * actuator 의 /actuator/metrics 로 조회 가능 (대기실별 concertId 태그)
+ */
+@Component
+public class QueueMetrics {
+
+    public static final String WAITING_SIZE = "queue.waiting.size";
+    public static final String ACTIVE_SIZE = "queue.active.size";
+    public static final String ISSUE = "queue.issue";
+    public static final String ISSUE_STORE = "queue.issue.store";
+    public static final String ADMISSION_LOCK = "queue.admission.lock";
+    public static final String STATUS_POLL = "queue.status.poll";
+    public static final String WAITING_TIME = "queue.waiting.time";
+    public static final String RATE_LIMITED = "queue.rate.limited";
+    public static final String LANE_WAITING_SIZE = "queue.lane.waiting.size";
+    public static final String LANE_ADMITTED = "queue.lane.admitted";
+    public static final String HEARTBEAT = "queue.heartbeat";
+    public static final String IDLE_EVICTED = "queue.active.idle.evicted";
+    public static final String LEADER = "queue.leader";
+    public static final String LEADER_CHANGE = "queue.leader.change";
+
+    private final MeterRegistry meterRegistry;
+
+    // 대기실(concertId) -> 대기열 인원 / 활성 사용자 수 (활성화 주기마다 갱신, 스크레이프 시 Redis 호출 없음)
+    private final Map<Long, AtomicLong> waitingSizes = new ConcurrentHashMap<>();
+    private final Map<Long, AtomicLong> activeSizes = new ConcurrentHashMap<>();
+
+    // (대기실, lane) -> lane 대기열 인원
+    private final Map<LaneKey, AtomicLong> laneWaitingSizes = new ConcurrentHashMap<>();
+
+    public QueueMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * 활성화 주기 결과 기록
+     * @param concertId 콘서트 ID (대기실)
+     * @param admittedCount 활성화된 사용자 수
+     * @param elapsedNanos 처리 시간 (ns)
+     */
+    public void recordAdmissionTick(Long concertId, int admittedCount, long elapsedNanos) {
+        String room = String.valueOf(concertId);
+
+        // 활성화 주기(tick)마다 활성화된 사용자 수
+        DistributionSummary.builder("queue.admission.admitted")
+                .description("활성화 주기마다 활성화된 사용자 수")
+                .baseUnit("users")
+                .tag("concertId", room)
+                .register(meterRegistry)
+                .record(admittedCount);
+
+        // 활성화 주기(tick) 처리 시간
+        Timer.builder("queue.admission.tick")
+                .description("활성화 주기 처리 시간")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .tag("concertId", room)
+                .register(meterRegistry)
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 대기실별 활성화 락 획득 대기 시간 기록
+     * @param acquired 획득 여부 (실패하면 다른 노드가 처리 중이므로 이번 주기는 건너뜀)
+     * @param waitNanos 락 획득 시도 시간 (ns)
+     */
+    public void recordAdmissionLock(Long concertId, boolean acquired, long waitNanos) {
+        Timer.builder(ADMISSION_LOCK)
+                .description("대기실별 활성화 락 획득 시도 시간")
+                .tag("concertId", String.valueOf(concertId))
+                .tag("result", acquired ? "acquired" : "skipped")
+                .register(meterRegistry)
+                .record(waitNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 토큰 발급 처리 시간 기록
+     * 토큰 발급은 락 없이 저장소 호출 한 번으로 처리하므로 저장소 시간(Redis 스크립트)과 전체 시간을 나누어 기록한다.
+     * @param status 발급된 토큰 상태
+     * @param storeNanos 저장소 처리 시간 (ns)
+     * @param totalNanos 전체 처리 시간 (ns, 대기실 등록 + 입장 토큰 서명 포함)
+     */
+    public void recordIssue(Long concertId, QueueToken.QueueStatus status, long storeNanos, long totalNanos) {
+        String room = String.valueOf(concertId);
+
+        Timer.builder(ISSUE_STORE)
+                .description("토큰 발급 저장소(Redis 스크립트) 처리 시간")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .tag("concertId", room)
+                .register(meterRegistry)
+                .record(storeNanos, TimeUnit.NANOSECONDS);
+
+        Timer.builder(ISSUE)
+                .description("토큰 발급 전체 처리 시간")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .tag("concertId", room)
+                .tag("status", status.name())
+                .register(meterRegistry)
+                .record(totalNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 대기열 상태 조회 수 (초당 조회 수는 rate 로 계산)
+     */
+    public void recordStatusPoll(Long concertId) {
+        Counter.builder(STATUS_POLL)
+                .description("대기열 상태 조회 수")
+                .tag("concertId", String.valueOf(concertId))
+                .register(meterRegistry)
+                .increment();
+    }
+
+    /**
+     * 요청 제한으로 거절된 요청 수
+     * @param endpoint 거절된 API (status : 상태 조회, issue : 토큰 발급)
+     */
+    public void recordRateLimited(Long concertId, String endpoint) {
+        Counter.builder(RATE_LIMITED)
+                .description("요청 제한으로 거절된 대기열 API 요청 수")
+                .tag("concertId", String.valueOf(concertId))
+                .tag("endpoint", endpoint)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    /**
+     * 활성 사용자 heartbeat 수
+     * @param renewed 유휴 만료 시각을 연장했는지 여부 (false 면 이미 회수된 사용자)
+     */
+    public void recordHeartbeat(Long concertId, boolean renewed) {
+        Counter.builder(HEARTBEAT)
+                .description("활성 사용자 heartbeat 수")
+                .tag("concertId", String.valueOf(concertId))
+                .tag("result", renewed ? "renewed" : "evicted")
+                .register(meterRegistry)
+                .increment();
+    }
+
+    /**
+     * heartbeat 없이 유휴 허용 시간이 지나 회수된 활성 사용자 수
+     */
+    public void recordIdleEvictions(Long concertId, int count) {
+        Counter.builder(IDLE_EVICTED)
+                .description("유휴 활성 사용자 회수 수")
+                .tag("concertId", String.valueOf(concertId))
+                .register(meterRegistry)
+                .increment(count);
+    }
+
+    /**
+     * 대기열 작업 리더 여부 (1 : 리더, 0 : 팔로워)
+     */
+    public void registerLeader(BooleanSupplier leader) {
+        Gauge.builder(LEADER, leader, supplier -> supplier.getAsBoolean() ? 1 : 0)
+                .description("대기열 작업 리더 여부")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 리더 획득 / 상실 수 (잦으면 임대 시간에 비해 Redis 응답이 느린 것)
+     */
+    public void recordLeaderChange(boolean acquired) {
+        Counter.builder(LEADER_CHANGE)
+                .description("대기열 작업 리더 획득/상실 수")
+                .tag("result", acquired ? "acquired" : "lost")
+                .register(meterRegistry)
+                .increment();
+    }
+
+    /**
+     * 대기 시간 기록 (대기열 진입 ~ 활성화)
+     * @param lane 대기했던 lane
+     * @param waitMillis 대기 시간 (ms)
+     */
+    public void recordWaitingTime(Long concertId, String lane, long waitMillis) {
+        Timer.builder(WAITING_TIME)
+                .description("대기열 진입부터 활성화까지 걸린 시간")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .tag("concertId", String.valueOf(concertId))
+                .tag("lane", lane)
+                .register(meterRegistry)
+                .record(Math.max(0, waitMillis), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * lane 별 활성화 인원 (lane 비중대로 배정되는지 rate 로 비교)
+     */
+    public void recordLaneAdmissions(Long concertId, String lane, int admittedCount) {
+        Counter.builder(LANE_ADMITTED)
+                .description("lane 별 활성화된 사용자 수")
+                .baseUnit("users")
+                .tag("concertId", String.valueOf(concertId))
+                .tag("lane", lane)
+                .register(meterRegistry)
+                .increment(admittedCount);
+    }
+
+    /**
+     * lane 대기열 인원 갱신
+     */
+    public void recordLaneWaitingSize(Long concertId, String lane, long waitingSize) {
+        laneWaitingSizes.computeIfAbsent(new LaneKey(concertId, lane), key -> {
+            AtomicLong size = new AtomicLong();
+            Gauge.builder(LANE_WAITING_SIZE, size, AtomicLong::get)
+                    .description("lane 대기열 인원")
+                    .baseUnit("users")
+                    .tag("concertId", String.valueOf(concertId))
+                    .tag("lane", lane)
+                    .register(meterRegistry);
+            return size;
+        }).set(waitingSize);
+    }
+
+    /**
+     * 대기실별 대기열 인원, 활성 사용자 수 갱신
+     */
+    public void recordQueueSizes(Long concertId, long waitingSize, long activeSize) {
+        sizeGauge(waitingSizes, WAITING_SIZE, "대기열 인원", concertId).set(waitingSize);
+        sizeGauge(activeSizes, ACTIVE_SIZE, "활성 사용자 수", concertId).set(activeSize);
+    }
+
+    /**
+     * 활성화 대상에서 빠진 대기실의 인원 지표를 0으로 초기화
+     * @param rooms 현재 활성화 대상 대기실 목록
+     */
+    public void retainRooms(Set<Long> rooms) {
+        waitingSizes.forEach((concertId, size) -> {
+            if (!rooms.contains(concertId)) {
+                size.set(0);
+            }
+        });
+        activeSizes.forEach((concertId, size) -> {
+            if (!rooms.contains(concertId)) {
+                size.set(0);
+            }
+        });
+        laneWaitingSizes.forEach((key, size) -> {
+            if (!rooms.contains(key.concertId())) {
+                size.set(0);
+            }
+        });
+    }
+
+    /**
+     * 대기실 인원 지표 해제 (리더에서 물러난 노드, 리더가 아니면 갱신하지 않으므로 지난 값을 남기지 않음)
+     * 다시 리더가 되면 다음 활성화 주기에 새로 등록된다.
+     */
+    public void clearQueueSizes() {
+        if (waitingSizes.isEmpty() && activeSizes.isEmpty() && laneWaitingSizes.isEmpty()) {
+            return;
+        }
+        for (String name : List.of(WAITING_SIZE, ACTIVE_SIZE, LANE_WAITING_SIZE)) {
+            meterRegistry.find(name).gauges().forEach(meterRegistry::remove);
+        }
+        waitingSizes.clear();
+        activeSizes.clear();
+        laneWaitingSizes.clear();
+    }
+
+    private AtomicLong sizeGauge(Map<Long, AtomicLong> sizes, String name, String description, Long concertId) {
+        return sizes.computeIfAbsent(concertId, id -> {
+            AtomicLong size = new AtomicLong();
+            Gauge.builder(name, size, AtomicLong::get)
+                    .description(description)
+                    .baseUnit("users")
+                    .tag("concertId", String.valueOf(id))
+                    .register(meterRegistry);
+            return size;
+        });
+    }
+
+    private record LaneKey(Long concertId, String lane) {
+    }
+}
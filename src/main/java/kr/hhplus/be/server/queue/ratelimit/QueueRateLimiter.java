@@ -0,0 +1,112 @@
+package kr.hhplus.be.server.queue.ratelimit;
+
+import kr.hhplus.be.server.queue.metrics.QueueMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 대기열 API 사용자별 요청 제한 (노드 내 처리, Redis 호출 없음)
+ * 상태 조회는 토큰 단위, 토큰 발급은 (대기실, 사용자) 단위로 제한한다.
+ * 상태 조회 제한 상태는 저장소에서 토큰을 확인한 뒤에 만든다. (위조 토큰을 대량으로 보내도 상태가 늘지 않음)
+ * 제한을 넘은 요청은 저장소를 호출하기 전에 거절하고, 마지막으로 안내한 다음 조회 권장 간격(예상 대기 시간 기반)을 Retry-After 로 돌려준다.
+ * 노드별로 따로 세므로 전체 허용량은 (노드 수 * limit) 까지 늘어날 수 있다. (로드밸런서의 사용자 고정 여부와 무관하게 과도한 반복 호출만 차단하는 용도)
+ */
+@Component
+public class QueueRateLimiter {
+    private static final Logger log = LoggerFactory.getLogger(QueueRateLimiter.class);
+
+    private static final String STATUS = "status";
+    private static final String ISSUE = "issue";
+
+    private final QueueMetrics queueMetrics;
+    private final boolean enabled;
+    private final SlidingWindowRateLimiter statusLimiter;
+    private final SlidingWindowRateLimiter issueLimiter;
+
+    public QueueRateLimiter(QueueMetrics queueMetrics,
+                            @Value("${queue.rate-limit.enabled:true}") boolean enabled,
+                            @Value("${queue.rate-limit.window-ms:10000}") long windowMillis,
+                            @Value("${queue.rate-limit.status-limit:10}") int statusLimit,
+                            @Value("${queue.rate-limit.issue-limit:5}") int issueLimit) {
+        this.queueMetrics = queueMetrics;
+        this.enabled = enabled;
+        this.statusLimiter = new SlidingWindowRateLimiter(statusLimit, windowMillis);
+        this.issueLimiter = new SlidingWindowRateLimiter(issueLimit, windowMillis);
+    }
+
+    /**
+     * 대기열 상태 조회 허용 여부
+     * @param concertId 콘서트 ID (대기실)
+     * @param token 대기열 토큰
+     */
+    public SlidingWindowRateLimiter.Decision tryAcquireStatus(Long concertId, String token) {
+        if (!enabled) {
+            return SlidingWindowRateLimiter.Decision.ALLOWED;
+        }
+        return recordRejected(statusLimiter.tryAcquireExisting(statusKey(concertId, token), System.currentTimeMillis()),
+                STATUS, concertId);
+    }
+
+    /**
+     * 대기열 토큰 발급 허용 여부
+     * @param concertId 콘서트 ID (대기실)
+     * @param userId 사용자 ID
+     */
+    public SlidingWindowRateLimiter.Decision tryAcquireIssue(Long concertId, String userId) {
+        if (!enabled) {
+            return SlidingWindowRateLimiter.Decision.ALLOWED;
+        }
+        return recordRejected(issueLimiter.tryAcquire(issueKey(concertId, userId), System.currentTimeMillis()),
+                ISSUE, concertId);
+    }
+
+    /**
+     * 상태 조회 성공(토큰 확인) 기록 + 응답으로 안내한 다음 조회 권장 간격 저장
+     */
+    public void recordValidatedStatus(Long concertId, String token, Integer nextPollSeconds) {
+        if (enabled) {
+            statusLimiter.recordValidated(statusKey(concertId, token), System.currentTimeMillis(),
+                    nextPollSeconds == null ? 0 : nextPollSeconds);
+        }
+    }
+
+    /**
+     * 토큰 발급 응답으로 안내한 다음 조회 권장 간격 저장
+     */
+    public void recordIssueRetryHint(Long concertId, String userId, Integer nextPollSeconds) {
+        if (enabled && nextPollSeconds != null) {
+            issueLimiter.recordRetryHint(issueKey(concertId, userId), nextPollSeconds);
+        }
+    }
+
+    /**
+     * 최근 윈도우에 요청이 없는 사용자 상태 정리
+     */
+    @Scheduled(fixedDelayString = "${queue.rate-limit.purge-interval-ms:60000}")
+    public void purge() {
+        long now = System.currentTimeMillis();
+        int purged = statusLimiter.purge(now) + issueLimiter.purge(now);
+        if (purged > 0) {
+            log.info("[Scheduler] 요청 제한 상태 정리 : {}건, 남은 상태 {}건", purged, statusLimiter.size() + issueLimiter.size());
+        }
+    }
+
+    private SlidingWindowRateLimiter.Decision recordRejected(SlidingWindowRateLimiter.Decision decision,
+                                                             String endpoint, Long concertId) {
+        if (!decision.allowed()) {
+            queueMetrics.recordRateLimited(concertId, endpoint);
+        }
+        return decision;
+    }
+
+    private String statusKey(Long concertId, String token) {
+        return concertId + ":" + token;
+    }
+
+    private String issueKey(Long concertId, String userId) {
+        return concertId + ":" + userId;
+    }
+}
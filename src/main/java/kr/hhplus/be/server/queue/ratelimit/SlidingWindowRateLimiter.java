@@ -0,0 +1,188 @@
+package kr.hhplus.be.server.queue.ratelimit;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 노드 내 슬라이딩 윈도우 요청 제한 (sliding window counter)
+ * 직전 윈도우 요청 수를 현재 윈도우에 겹친 비율만큼 더해서 최근 windowMillis 동안의 요청 수를 근사한다.
+ *   추정 요청 수 = 직전 윈도우 요청 수 * (1 - 현재 윈도우 경과 비율) + 현재 윈도우 요청 수
+ * 사용자별 상태는 long 하나에 묶어서 Map 값으로 저장하고 replace(key, 이전 값, 새 값) 으로 CAS 갱신한다. (요청 로그를 저장하지 않으므로 사용자 수만큼만 메모리 사용)
+ * 정리(purge)도 remove(key, 이전 값) 으로 지우므로 그 사이에 갱신된 상태는 지워지지 않는다.
+ *   [윈도우 번호 32bit][직전 윈도우 요청 수 10bit][현재 윈도우 요청 수 10bit][다음 조회 권장 간격(초) 12bit]
+ */
+public final class SlidingWindowRateLimiter {
+
+    private static final int COUNT_BITS = 10;
+    private static final int HINT_BITS = 12;
+    private static final long COUNT_MASK = (1L << COUNT_BITS) - 1;
+    private static final long HINT_MASK = (1L << HINT_BITS) - 1;
+    private static final long WINDOW_MASK = 0xFFFFFFFFL;
+
+    private final int limit;
+    private final long windowMillis;
+
+    // 제한 대상 키 -> 윈도우 상태
+    private final Map<String, Long> windows = new ConcurrentHashMap<>();
+
+    /**
+     * @param limit 윈도우당 허용 요청 수 (최대 1023)
+     * @param windowMillis 윈도우 크기 (ms)
+     */
+    public SlidingWindowRateLimiter(int limit, long windowMillis) {
+        if (limit <= 0 || limit > COUNT_MASK) {
+            throw new IllegalArgumentException("윈도우당 허용 요청 수는 1 ~ " + COUNT_MASK + " 사이여야 합니다.");
+        }
+        if (windowMillis <= 0) {
+            throw new IllegalArgumentException("윈도우 크기는 0보다 커야 합니다.");
+        }
+        this.limit = limit;
+        this.windowMillis = windowMillis;
+    }
+
+    /**
+     * 요청 허용 여부 확인 + 허용된 경우 요청 수 증가
+     * @param key 제한 대상 키 (예 : 엔드포인트 + 대기실 + 사용자)
+     * @param nowMillis 현재 시각 (ms)
+     * @return 제한 결과 (거절된 경우 재시도 권장 시간 포함)
+     */
+    public Decision tryAcquire(String key, long nowMillis) {
+        return tryAcquire(key, nowMillis, true);
+    }
+
+    /**
+     * 상태가 있는 키만 요청 허용 여부 확인 + 요청 수 증가
+     * 상태가 없으면 만들지 않고 허용한다. (윈도우의 첫 요청은 항상 허용되므로 결과는 같음)
+     * 유효하지 않은 키(위조 토큰 등)로 반복 호출해도 상태가 늘지 않도록, 검증 후 recordValidated 로 상태를 만든다.
+     * @param key 제한 대상 키
+     * @param nowMillis 현재 시각 (ms)
+     */
+    public Decision tryAcquireExisting(String key, long nowMillis) {
+        return tryAcquire(key, nowMillis, false);
+    }
+
+    private Decision tryAcquire(String key, long nowMillis, boolean createIfAbsent) {
+        long window = (nowMillis / windowMillis) & WINDOW_MASK;
+        double elapsedRatio = (double) (nowMillis % windowMillis) / windowMillis;
+
+        while (true) {
+            Long current = windows.get(key);
+            if (current == null) {
+                if (!createIfAbsent) {
+                    return Decision.ALLOWED;
+                }
+                if (windows.putIfAbsent(key, encode(window, 0, 1, 0)) == null) {
+                    return Decision.ALLOWED;
+                }
+                continue;
+            }
+
+            long previousCount = previousCount(current, window);
+            long currentCount = currentCount(current, window);
+            long hint = current & HINT_MASK;
+
+            double estimated = previousCount * (1 - elapsedRatio) + currentCount;
+            if (estimated + 1 > limit) {
+                // 거절은 상태를 바꾸지 않는다. (계속 두드려도 윈도우가 밀리지 않음)
+                long windowRemainingSeconds = TimeUnit.MILLISECONDS.toSeconds(windowMillis - nowMillis % windowMillis - 1) + 1;
+                return Decision.rejected(Math.max(windowRemainingSeconds, hint));
+            }
+
+            long updated = encode(window, previousCount, Math.min(currentCount + 1, COUNT_MASK), hint);
+            if (windows.replace(key, current, updated)) {
+                return Decision.ALLOWED;
+            }
+        }
+    }
+
+    /**
+     * 검증된 키의 요청 기록 (tryAcquireExisting 으로 허용된 요청)
+     * 상태가 없으면 이번 요청 1건으로 상태를 만들고 (tryAcquireExisting 이 세지 않았음), 있으면 다음 조회 권장 간격만 저장한다.
+     * 상태가 없을 때 동시에 들어온 첫 요청들은 1건으로 세어질 수 있다. (다음 요청부터 정확히 셈)
+     * @param key 제한 대상 키
+     * @param nowMillis 현재 시각 (ms)
+     * @param retryHintSeconds 다음 조회 권장 간격 (초)
+     */
+    public void recordValidated(String key, long nowMillis, long retryHintSeconds) {
+        long window = (nowMillis / windowMillis) & WINDOW_MASK;
+        long hint = Math.max(0, Math.min(retryHintSeconds, HINT_MASK));
+        if (windows.putIfAbsent(key, encode(window, 0, 1, hint)) != null) {
+            recordRetryHint(key, retryHintSeconds);
+        }
+    }
+
+    /**
+     * 다음 조회 권장 간격 저장 (거절 시 Retry-After 로 사용)
+     * @param seconds 대기열 예상 대기 시간으로 계산한 다음 조회 권장 간격 (초)
+     */
+    public void recordRetryHint(String key, long seconds) {
+        long hint = Math.max(0, Math.min(seconds, HINT_MASK));
+        while (true) {
+            Long current = windows.get(key);
+            if (current == null || windows.replace(key, current, (current & ~HINT_MASK) | hint)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * 직전 윈도우보다 오래된 상태 정리 (더 이상 추정 요청 수에 영향이 없음)
+     * 읽은 값 그대로일 때만 지우므로, 정리 중에 새 요청으로 갱신된 상태는 남는다.
+     * @return 정리된 키 수
+     */
+    public int purge(long nowMillis) {
+        long window = (nowMillis / windowMillis) & WINDOW_MASK;
+        int purged = 0;
+        for (Map.Entry<String, Long> entry : windows.entrySet()) {
+            long state = entry.getValue();
+            long stateWindow = state >>> (COUNT_BITS * 2 + HINT_BITS);
+            if (stateWindow != window && stateWindow != ((window - 1) & WINDOW_MASK)
+                    && windows.remove(entry.getKey(), state)) {
+                purged++;
+            }
+        }
+        return purged;
+    }
+
+    public int size() {
+        return windows.size();
+    }
+
+    private long previousCount(long state, long window) {
+        long stateWindow = state >>> (COUNT_BITS * 2 + HINT_BITS);
+        if (stateWindow == window) {
+            return (state >>> (COUNT_BITS + HINT_BITS)) & COUNT_MASK;
+        }
+        // 윈도우가 하나 지났으면 저장된 현재 윈도우 요청 수가 직전 윈도우 요청 수가 된다.
+        if (stateWindow == ((window - 1) & WINDOW_MASK)) {
+            return (state >>> HINT_BITS) & COUNT_MASK;
+        }
+        return 0;
+    }
+
+    private long currentCount(long state, long window) {
+        long stateWindow = state >>> (COUNT_BITS * 2 + HINT_BITS);
+        return stateWindow == window ? (state >>> HINT_BITS) & COUNT_MASK : 0;
+    }
+
+    private long encode(long window, long previousCount, long currentCount, long hint) {
+        return (window << (COUNT_BITS * 2 + HINT_BITS))
+                | (previousCount << (COUNT_BITS + HINT_BITS))
+                | (currentCount << HINT_BITS)
+                | hint;
+    }
+
+    /**
+     * 제한 결과
+     * @param allowed 허용 여부
+     * @param retryAfterSeconds 거절된 경우 재시도 권장 시간 (초)
+     */
+    public record Decision(boolean allowed, long retryAfterSeconds) {
+        public static final Decision ALLOWED = new Decision(true, 0);
+
+        static Decision rejected(long retryAfterSeconds) {
+            return new Decision(false, retryAfterSeconds);
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package kr.hhplus.be.server.queue.scheduler;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import kr.hhplus.be.server.common.RedisKeyUtils;
+import kr.hhplus.be.server.queue.metrics.QueueMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 대기열 작업 리더 선출 (Redis 임대)
+ * 리더 노드만 대기열 유지 작업(활성화, 스냅샷)을 실행하고, 팔로워는 임대 획득 시도 외에는 아무것도 하지 않는다.
+ * 리더는 queue.leader.renew-ms 마다 임대를 연장하고, 리더가 죽으면 임대(queue.leader.lease-ms)가 만료된 뒤 다음 획득 시도에서 다른 노드가 리더가 된다.
+ * 연장에 실패하면 로컬 임대 기한이 지나는 즉시 리더가 아닌 것으로 보므로 두 노드가 동시에 리더로 동작하지 않는다.
+ * 임대 연장은 전용 스레드에서 실행한다. (@Scheduled 공용 스레드에서 리더 작업이 길어져도 연장이 밀리지 않도록)
+ * 리더 작업은 대기실마다 isLeader 를 다시 확인해서 작업 중에 임대 기한이 지나면 남은 작업을 멈춘다.
+ *
+ * queue:
+ *   leader:
+ *     enabled: true      # false 면 모든 노드가 리더 (대기실별 락으로만 직렬화)
+ *     lease-ms: 3000
+ *     renew-ms: 1000
+ */
+@Component
+public class QueueLeaderElection {
+    private static final Logger log = LoggerFactory.getLogger(QueueLeaderElection.class);
+
+    // 리더 임대 획득 / 연장 스크립트 (내 임대면 연장, 비어 있으면 획득)
+    private static final RedisScript<Long> ACQUIRE_LEADER_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/queue/acquire_leader.lua"), Long.class);
+
+    // 리더 임대 반납 스크립트 (내 임대인 경우에만 삭제)
+    private static final RedisScript<Long> RELEASE_LEADER_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/queue/release_leader.lua"), Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final QueueMetrics queueMetrics;
+
+    // 노드 ID (임대 value)
+    private final String nodeId = UUID.randomUUID().toString();
+
+    // 리더 선출 사용 여부
+    @Value("${queue.leader.enabled:true}")
+    private boolean enabled;
+
+    // 리더 임대 시간 (ms, 리더 장애 시 최대 이 시간 뒤에 다른 노드가 이어받음)
+    @Value("${queue.leader.lease-ms:3000}")
+    private long leaseMillis;
+
+    // 임대 연장 주기 (ms, 임대 시간보다 충분히 짧게)
+    @Value("${queue.leader.renew-ms:1000}")
+    private long renewMillis;
+
+    // 임대 연장 전용 스레드
+    private ScheduledExecutorService renewExecutor;
+
+    // 로컬 임대 기한 (System.nanoTime 기준, 연장 요청을 보내기 전 시각 + 임대 시간)
+    private volatile long leaseDeadlineNanos = System.nanoTime();
+    private volatile boolean leader;
+
+    public QueueLeaderElection(StringRedisTemplate redisTemplate, QueueMetrics queueMetrics) {
+        this.redisTemplate = redisTemplate;
+        this.queueMetrics = queueMetrics;
+        queueMetrics.registerLeader(this::isLeader);
+    }
+
+    @PostConstruct
+    void startRenewal() {
+        if (!enabled) {
+            return;
+        }
+        renewExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "queue-leader-renew");
+            thread.setDaemon(true);
+            return thread;
+        });
+        renewExecutor.scheduleWithFixedDelay(this::renewLease, 0, renewMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 리더 여부 (Redis 호출 없음)
+     * 마지막으로 연장한 임대 기한 안에서만 리더로 본다.
+     */
+    public boolean isLeader() {
+        if (!enabled) {
+            return true;
+        }
+        return leader && leaseDeadlineNanos - System.nanoTime() > 0;
+    }
+
+    /**
+     * 리더 임대 획득 / 연장 (queue.leader.renew-ms 주기, 임대 연장 전용 스레드)
+     */
+    public void renewLease() {
+        if (!enabled) {
+            return;
+        }
+
+        long start = System.nanoTime();
+        boolean acquired;
+        try {
+            Long result = redisTemplate.execute(ACQUIRE_LEADER_SCRIPT,
+                    List.of(RedisKeyUtils.queueLeaderKey()), nodeId, String.valueOf(leaseMillis));
+            acquired = result != null && result > 0;
+        } catch (Exception e) {
+            // Redis 에 연결되지 않으면 임대를 연장할 수 없으므로 리더에서 물러남
+            log.info("[Leader] 리더 임대 연장 실패 nodeId={}", nodeId, e);
+            acquired = false;
+        }
+
+        if (acquired) {
+            leaseDeadlineNanos = start + TimeUnit.MILLISECONDS.toNanos(leaseMillis);
+        }
+        if (acquired != leader) {
+            leader = acquired;
+            queueMetrics.recordLeaderChange(acquired);
+            log.info("[Leader] 대기열 작업 {} nodeId={}", acquired ? "리더가 되었습니다." : "리더에서 물러났습니다.", nodeId);
+        }
+    }
+
+    /**
+     * 종료 시 임대 반납 (다른 노드가 임대 만료를 기다리지 않고 바로 이어받음)
+     */
+    @PreDestroy
+    public void releaseLease() {
+        if (renewExecutor != null) {
+            renewExecutor.shutdownNow();
+        }
+        if (!enabled || !leader) {
+            return;
+        }
+
+        leader = false;
+        try {
+            redisTemplate.execute(RELEASE_LEADER_SCRIPT, List.of(RedisKeyUtils.queueLeaderKey()), nodeId);
+        } catch (Exception e) {
+            log.info("[Leader] 리더 임대 반납 실패 nodeId={}", nodeId, e);
+        }
+    }
+}
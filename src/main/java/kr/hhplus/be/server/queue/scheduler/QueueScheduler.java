@@ -0,0 +1,39 @@
+package kr.hhplus.be.server.queue.scheduler;
+
+import kr.hhplus.be.server.queue.metrics.QueueMetrics;
+import kr.hhplus.be.server.queue.service.QueueService;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 대기열 활성화 스케줄러
+ * 리더 노드만 실행하므로 팔로워는 대기실 목록 조회, 대기실별 락 획득 시도를 하지 않는다.
+ * 대기실 인원 지표는 리더만 갱신하므로, 팔로워는 지난 값이 남지 않도록 인원 지표를 해제한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class QueueScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(QueueScheduler.class);
+
+    private final QueueService queueService;
+    private final QueueLeaderElection queueLeaderElection;
+    private final QueueMetrics queueMetrics;
+
+    @Scheduled(fixedDelayString = "${queue.admission.tick-ms:1000}") // 기본 1초마다 실행 (리더만)
+    public void activateWaitingRoomsScheduler() {
+        if (!queueLeaderElection.isLeader()) {
+            queueMetrics.clearQueueSizes();
+            return;
+        }
+
+        try {
+            queueService.activateWaitingRooms(queueLeaderElection::isLeader);
+        } catch (Exception e) {
+            log.info("[QueueScheduler] 대기열 활성화 스케줄러 중 오류 발생", e);
+        }
+    }
+}
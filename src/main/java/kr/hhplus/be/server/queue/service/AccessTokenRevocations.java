@@ -0,0 +1,114 @@
+package kr.hhplus.be.server.queue.service;
+
+import kr.hhplus.be.server.common.RedisKeyUtils;
+import kr.hhplus.be.server.queue.domain.AccessTokenClaims;
+import kr.hhplus.be.server.queue.scheduler.QueueLeaderElection;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 입장 토큰 폐기 목록
+ * Redis(queue:revoked) 의 폐기 목록을 주기적으로 로컬에 복제해 두고, 토큰 검증 시에는 로컬 목록만 확인한다.
+ * 다른 노드에서 폐기한 토큰은 최대 갱신 주기만큼 늦게 반영된다.
+ * 갱신은 마지막으로 읽은 폐기 시각 이후 항목만 읽고 (노드 간 시계 차이만큼 겹쳐 읽음), 만료된 항목은 노드마다 로컬에서 지운다.
+ * Redis 의 만료 항목 정리는 리더 노드만 실행한다.
+ */
+@Component
+public class AccessTokenRevocations {
+    private static final Logger log = LoggerFactory.getLogger(AccessTokenRevocations.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final QueueLeaderElection queueLeaderElection;
+
+    // 폐기 대상 (concertId:userId) -> 폐기 시각(ms)
+    private final Map<String, Long> revokedAt = new ConcurrentHashMap<>();
+
+    // 마지막으로 읽은 가장 큰 폐기 시각 (다음 갱신은 이 시각 이후만 조회, 처음에는 전체 조회)
+    private long lastSeenScore = Long.MIN_VALUE;
+
+    // 토큰만료시간(분), 폐기 후 이 시간이 지나면 폐기 이전에 발급된 입장 토큰은 모두 만료된 상태
+    @Value("${queue.token-expire-minutes:30}")
+    private int tokenExpireMinutes;
+
+    // 겹쳐 읽는 시간 (ms, 다른 노드 시계가 늦어 마지막 폐기 시각보다 작은 score 로 늦게 들어온 항목 대비)
+    @Value("${queue.access-token.revocation-overlap-ms:5000}")
+    private long overlapMillis;
+
+    public AccessTokenRevocations(StringRedisTemplate redisTemplate, QueueLeaderElection queueLeaderElection) {
+        this.redisTemplate = redisTemplate;
+        this.queueLeaderElection = queueLeaderElection;
+    }
+
+    /**
+     * 입장 토큰 폐기 (폐기 시각 이전에 발급된 해당 사용자의 입장 토큰을 모두 무효화)
+     * @param concertId 콘서트 ID (대기실)
+     * @param userId 사용자 ID
+     */
+    public void revoke(Long concertId, String userId) {
+        String member = member(concertId, userId);
+        long now = System.currentTimeMillis();
+
+        redisTemplate.opsForZSet().add(RedisKeyUtils.revokedAccessTokensKey(), member, now);
+        revokedAt.put(member, now);
+    }
+
+    /**
+     * 폐기된 입장 토큰인지 확인 (Redis 조회 없음)
+     * @param claims 입장 토큰 정보
+     */
+    public boolean isRevoked(AccessTokenClaims claims) {
+        Long revokedAtMillis = revokedAt.get(member(claims.getConcertId(), claims.getUserId()));
+        return revokedAtMillis != null && claims.getIssuedAtMillis() <= revokedAtMillis;
+    }
+
+    /**
+     * Redis 폐기 목록을 로컬로 갱신 (마지막으로 읽은 폐기 시각 이후 항목만 조회)
+     * 토큰 만료 시간이 지난 폐기 항목은 더 이상 필요 없으므로 로컬에서 지우고, Redis 에서는 리더만 지운다.
+     */
+    @Scheduled(fixedDelayString = "${queue.access-token.revocation-refresh-ms:1000}")
+    public void refresh() {
+        String key = RedisKeyUtils.revokedAccessTokensKey();
+        long retainFrom = System.currentTimeMillis() - TimeUnit.MINUTES.toMillis(tokenExpireMinutes);
+
+        try {
+            if (queueLeaderElection.isLeader()) {
+                redisTemplate.opsForZSet().removeRangeByScore(key, Double.NEGATIVE_INFINITY, retainFrom);
+            }
+
+            double from = lastSeenScore == Long.MIN_VALUE ? Double.NEGATIVE_INFINITY : lastSeenScore - overlapMillis;
+            Set<ZSetOperations.TypedTuple<String>> entries =
+                    redisTemplate.opsForZSet().rangeByScoreWithScores(key, from, Double.POSITIVE_INFINITY);
+
+            long maxScore = lastSeenScore;
+            if (entries != null) {
+                for (ZSetOperations.TypedTuple<String> entry : entries) {
+                    if (entry.getValue() != null && entry.getScore() != null) {
+                        long at = entry.getScore().longValue();
+                        revokedAt.merge(entry.getValue(), at, Math::max);
+                        maxScore = Math.max(maxScore, at);
+                    }
+                }
+            }
+            lastSeenScore = maxScore == Long.MIN_VALUE ? retainFrom : maxScore;
+        } catch (Exception e) {
+            // 갱신 실패 시 기존 로컬 목록을 유지하고 다음 주기에 같은 시각부터 다시 조회
+            log.warn("입장 토큰 폐기 목록 갱신 실패", e);
+        }
+
+        revokedAt.values().removeIf(at -> at < retainFrom);
+    }
+
+    private String member(Long concertId, String userId) {
+        return concertId + ":" + userId;
+    }
+}
@@ -0,0 +1,99 @@
+package kr.hhplus.be.server.queue.service;
+
+import kr.hhplus.be.server.queue.domain.AccessTokenClaims;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Base64;
+
+/**
+ * 입장 토큰(access token) 서명/검증
+ * 형식 : base64url(concertId:issuedAtMillis:expiresAtMillis:userId) + "." + base64url(HMAC-SHA256)
+ * 모든 노드가 같은 secret 을 사용해야 다른 노드에서 발급한 토큰을 검증할 수 있다.
+ */
+@Component
+public class AccessTokenSigner {
+    private static final Logger log = LoggerFactory.getLogger(AccessTokenSigner.class);
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final SecretKeySpec secretKey;
+
+    public AccessTokenSigner(@Value("${queue.access-token.secret:}") String secret) {
+        byte[] keyBytes;
+        if (secret == null || secret.isBlank()) {
+            // secret 미설정 시 노드별 임의 키 사용 (단일 노드 / 테스트 환경 전용)
+            keyBytes = new byte[32];
+            new SecureRandom().nextBytes(keyBytes);
+            log.warn("queue.access-token.secret 이 설정되지 않아 임의 키를 사용합니다. 다중 노드 환경에서는 반드시 설정해야 합니다.");
+        } else {
+            keyBytes = secret.getBytes(StandardCharsets.UTF_8);
+        }
+        this.secretKey = new SecretKeySpec(keyBytes, ALGORITHM);
+    }
+
+    /**
+     * 입장 토큰 서명
+     * @param claims 토큰 정보
+     * @return 서명된 입장 토큰
+     */
+    public String sign(AccessTokenClaims claims) {
+        String payload = claims.getConcertId() + ":" + claims.getIssuedAtMillis() + ":"
+                + claims.getExpiresAtMillis() + ":" + claims.getUserId();
+        String encodedPayload = ENCODER.encodeToString(payload.getBytes(StandardCharsets.UTF_8));
+        return encodedPayload + "." + ENCODER.encodeToString(hmac(encodedPayload));
+    }
+
+    /**
+     * 입장 토큰 검증
+     * @param token 서명된 입장 토큰
+     * @return 서명이 올바르면 토큰 정보, 형식이 잘못되었거나 위조된 경우 null (만료 여부는 확인하지 않음)
+     */
+    public AccessTokenClaims verify(String token) {
+        if (token == null) {
+            return null;
+        }
+
+        int separator = token.indexOf('.');
+        if (separator <= 0 || separator == token.length() - 1) {
+            return null;
+        }
+
+        try {
+            String encodedPayload = token.substring(0, separator);
+            byte[] signature = DECODER.decode(token.substring(separator + 1));
+            if (!MessageDigest.isEqual(hmac(encodedPayload), signature)) {
+                return null;
+            }
+
+            String[] fields = new String(DECODER.decode(encodedPayload), StandardCharsets.UTF_8).split(":", 4);
+            if (fields.length != 4) {
+                return null;
+            }
+            return new AccessTokenClaims(Long.parseLong(fields[0]), fields[3],
+                    Long.parseLong(fields[1]), Long.parseLong(fields[2]));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private byte[] hmac(String encodedPayload) {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(secretKey);
+            return mac.doFinal(encodedPayload.getBytes(StandardCharsets.US_ASCII));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("입장 토큰 서명에 실패했습니다.", e);
+        }
+    }
+}
@@ -1,379 +1,717 @@
 package kr.hhplus.be.server.queue.service;
 
-import kr.hhplus.be.server.common.RedisKeyUtils;
-import kr.hhplus.be.server.common.lock.RedisDistributedLock;
+import kr.hhplus.be.server.config.QueueRoomProperties;
+import kr.hhplus.be.server.queue.admission.AdmissionPolicy;
+import kr.hhplus.be.server.queue.domain.AccessTokenClaims;
+import kr.hhplus.be.server.queue.domain.QueueLane;
+import kr.hhplus.be.server.queue.domain.QueueSeedReport;
+import kr.hhplus.be.server.queue.domain.QueueStore;
 import kr.hhplus.be.server.queue.domain.QueueToken;
+import kr.hhplus.be.server.queue.metrics.QueueMetrics;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
 
 @Service
 public class QueueService {
     private static final Logger log = LoggerFactory.getLogger(QueueService.class);
 
-    private final RedisTemplate<String, Object> redisTemplate;
-    private final RedisDistributedLock redisDistributedLock;
-
-    // 활성 사용자 최대수
-    @Value("${queue.max-active-users:100}")
-    private int maxActiveUsers;
+    private final QueueStore queueStore;
+    private final QueueMetrics queueMetrics;
+    private final QueueRoomProperties queueRoomProperties;
+    private final AccessTokenSigner accessTokenSigner;
+    private final AccessTokenRevocations accessTokenRevocations;
+    private final QueueThroughputEstimator queueThroughputEstimator;
+    private final AdmissionPolicy admissionPolicy;
 
     // 토큰만료시간(분)
     @Value("${queue.token-expire-minutes:30}")
     private int tokenExpireMinutes;
 
-    // 사용자별 대기 시간(초)
+    // 사용자별 대기 시간(초), 대기실 처리량 기록이 없을 때 사용
     @Value("${queue.wait-time-per-user:20}")
     private int waitTimePerUser;
 
+    // 최소 처리량 (초당 인원), 이보다 낮은 처리량은 감쇠 중인 기록으로 보고 사용자별 대기 시간 설정값을 사용
+    @Value("${queue.throughput.min-per-second:0.01}")
+    private double minThroughputPerSecond;
+
+    // 예상 대기 시간 상한 (분)
+    @Value("${queue.max-estimated-wait-minutes:1440}")
+    private int maxEstimatedWaitMinutes;
+
+    // 대기 중 상태 조회 권장 간격 범위(초)
+    @Value("${queue.poll.min-seconds:2}")
+    private int minPollSeconds;
+
+    @Value("${queue.poll.max-seconds:30}")
+    private int maxPollSeconds;
+
     // 락 TTL (데드락 방지)
     @Value("${queue.lock-timeout-seconds:10}")
     private int lockTimeoutSeconds;
 
-    // Redis 키 패턴
-
-    public QueueService(RedisTemplate<String, Object> redisTemplate, RedisDistributedLock redisDistributedLock) {
-        this.redisTemplate = redisTemplate;
-        this.redisDistributedLock = redisDistributedLock;
+    // 활성화 1회 호출당 최대 처리 인원 (Redis 단일 스크립트 실행 시간 제한)
+    @Value("${queue.admission-batch-size:500}")
+    private int admissionBatchSize;
+
+    // 활성화 주기마다 대기열 앞쪽 대기자의 토큰에 대기 순서 저장 여부 (상태 조회는 저장하지 않음)
+    @Value("${queue.position-persist.enabled:false}")
+    private boolean positionPersistEnabled;
+
+    // 대기 순서를 저장할 대기열 앞쪽 인원
+    @Value("${queue.position-persist.limit:1000}")
+    private int positionPersistLimit;
+
+    // 활성 사용자 유휴 허용 시간(초), 이 시간 안에 heartbeat 가 없으면 활성 슬롯 회수 (0 이하면 미사용)
+    @Value("${queue.heartbeat.idle-seconds:0}")
+    private int heartbeatIdleSeconds;
+
+    // 합성 사용자 등록 시 한 번에 쓰는 인원 (Redis 파이프라인 단위)
+    @Value("${queue.seed.batch-size:5000}")
+    private int seedBatchSize;
+
+    public QueueService(QueueStore queueStore, QueueMetrics queueMetrics, QueueRoomProperties queueRoomProperties,
+                        AccessTokenSigner accessTokenSigner, AccessTokenRevocations accessTokenRevocations,
+                        QueueThroughputEstimator queueThroughputEstimator, AdmissionPolicy admissionPolicy) {
+        this.queueStore = queueStore;
+        this.queueMetrics = queueMetrics;
+        this.queueRoomProperties = queueRoomProperties;
+        this.accessTokenSigner = accessTokenSigner;
+        this.accessTokenRevocations = accessTokenRevocations;
+        this.queueThroughputEstimator = queueThroughputEstimator;
+        this.admissionPolicy = admissionPolicy;
     }
 
     /**
-     * 대기열 토큰 발급 (분산 락 획득으로 동시성 문제 해결)
+     * 대기열 토큰 발급 (general lane)
+     * @param concertId 콘서트 ID (대기실)
      * @param userId 사용자Id
-     * @return 발급된 토큰 정보
+     * @return 발급된 토큰 정보 (기존 토큰이 있으면 기존 토큰)
      */
-    public QueueToken issueTokenWithLock(String userId) {
+    public QueueToken issueToken(Long concertId, String userId) {
+        return issueToken(concertId, userId, QueueLane.GENERAL);
+    }
 
-        // 1. 기존 토큰 확인
-        QueueToken existingToken = findExistingToken(userId);
-        if(existingToken != null && !existingToken.isExpired()) {
-            log.info("기존 토큰 반환: userID={}, token={}", userId, existingToken.getToken());
-            return existingToken;
+    /**
+     * 대기열 토큰 발급
+     * 기존 토큰 확인, 활성 인원 확인, 활성화/대기열 추가를 저장소에서 원자적으로 처리하므로 분산 락이 필요 없다.
+     * 기존 토큰이 있으면 처음 발급받은 lane 을 유지한다.
+     * @param concertId 콘서트 ID (대기실)
+     * @param userId 사용자Id
+     * @param lane 대기열 lane (없으면 general)
+     * @return 발급된 토큰 정보 (기존 토큰이 있으면 기존 토큰)
+     */
+    public QueueToken issueToken(Long concertId, String userId, String lane) {
+        if (concertId == null) {
+            throw new IllegalArgumentException("콘서트 ID는 필수입니다.");
         }
+        String resolvedLane = queueRoomProperties.resolveLane(lane);
 
-        // 2. 분산 락 획득 시도 (동시성 문제)
-        if(!redisDistributedLock.tryLockWithRetry(RedisKeyUtils.queueLockKey(), userId, lockTimeoutSeconds)) {
-            throw new RuntimeException("대기열 처리 중입니다. 잠시 후 다시 시도해주세요.");
+        String token = UUID.randomUUID().toString();
+        LocalDateTime nowTime = LocalDateTime.now();
+        long nowMillis = System.currentTimeMillis();
+        long start = System.nanoTime();
+
+        QueueStore.IssuedToken issued = queueStore.issue(concertId, userId, resolvedLane,
+                queueRoomProperties.queueLanes(), token,
+                queueRoomProperties.maxActiveUsers(concertId),
+                TimeUnit.MINUTES.toSeconds(tokenExpireMinutes),
+                idleMillis(),
+                nowMillis,
+                nowTime,
+                nowTime.plusMinutes(tokenExpireMinutes));
+        long storeNanos = System.nanoTime() - start;
+
+        QueueToken queueToken = issued.queueToken();
+        Long position = queueToken.getQueuePosition();
+        applyPosition(queueToken, position);
+        issueAccessTokenIfActive(queueToken);
+
+        // 새로 발급된 경우 활성화 스케줄러 / 스냅샷이 처리할 대기실로 등록 (바로 활성화된 사용자만 있는 대기실 포함)
+        if (!issued.reused()) {
+            queueStore.registerRoom(concertId, nowMillis);
         }
+        queueMetrics.recordIssue(concertId, queueToken.getStatus(), storeNanos, System.nanoTime() - start);
 
-        QueueToken queueToken;
-        try {
-            // 3. 토큰 발급
-            queueToken = issueToken(userId);
-        } catch (Exception e) {
-            // 4. 수동 롤백, 예외 발생 시 제거
-            redisTemplate.opsForSet().remove(RedisKeyUtils.activeQueueKey(), userId);
-            redisTemplate.delete(RedisKeyUtils.activeUserKey(userId));
-            throw new RuntimeException("토큰 발급에 실패했습니다.");
-        } finally {
-            // 5. 분산 락 해제
-            redisDistributedLock.releaseLock(RedisKeyUtils.queueLockKey(), userId);
+        if (issued.reused()) {
+            log.info("기존 토큰 반환: concertId={}, userID={}, token={}", concertId, userId, queueToken.getToken());
+            return queueToken;
         }
+
+        log.info("토큰 발급 완료 : concertId={}, userId={}, lane={}, token={}, status={}, position={}",
+                concertId, userId, queueToken.getLane(), queueToken.getToken(), queueToken.getStatus(), position);
+
         return queueToken;
     }
 
     /**
-     * 활성 사용자 수를 확인하여 즉시 활성화(활성 대기열) 하거나 대기열에 추가
-     * @param userId 사용자 ID
-     * @return 발급된 토큰 정보
+     * 부하 리허설용 합성 사용자 일괄 등록 (관리자)
+     * 토큰 발급 API 를 사용자마다 호출하지 않고, batch size 단위 파이프라인으로 활성 대기열과 lane 대기열을 채운다.
+     * 사용자 ID 는 seed-{실행 ID}-{순번} 이며 순번 순서대로 대기열 뒤에 추가된다.
+     * @param concertId 콘서트 ID (대기실)
+     * @param count 등록할 인원
+     * @param lane 대기열 lane (없으면 general)
+     * @return 등록 결과와 등록 전후 저장소 메모리 사용량
      */
-    private QueueToken issueToken(String userId) {
-
-        // 1. 현재 활성 사용자 수 확인
-        // 1-1. 만료된 사용자들 먼저 정리
-        cleanupExpiredUsers();
-
-        // 1-2. 정리 후 현재 활성 사용자 수 조회
-        Long activeUserCount = redisTemplate.opsForSet().size(RedisKeyUtils.activeQueueKey());
-        log.info("현재 활성 사용자 수 : {}, 최대 허용 : {}", activeUserCount, maxActiveUsers);
-
-        // 2. 새 토큰 생성
-        String token = UUID.randomUUID().toString();
-        LocalDateTime nowTime = LocalDateTime.now();
-
-        // 3. 활성 사용자 최대치 미만 -> 활성화된 토큰 / 최대치인 경우 -> 대기열 추가, 대기 토큰 발급
-        QueueToken queueToken;
-        if (activeUserCount != null && activeUserCount < maxActiveUsers){ // 활성 사용자가 최대치 미만인 경우
-            // 활성화된 토큰 발급 (활성 대기열)
-            queueToken = issueActiveToken(userId, token, nowTime);
-        } else { // 최대치인 경우
-            // 대기열에 추가
-            queueToken = issueWaitingToken(userId, token, nowTime);
+    public QueueSeedReport seedUsers(Long concertId, int count, String lane) {
+        if (concertId == null) {
+            throw new IllegalArgumentException("콘서트 ID는 필수입니다.");
         }
+        if (count <= 0) {
+            throw new IllegalArgumentException("등록할 인원은 1명 이상이어야 합니다.");
+        }
+        String resolvedLane = queueRoomProperties.resolveLane(lane);
+
+        long start = System.nanoTime();
+        long memoryBefore = queueStore.usedMemoryBytes();
+
+        String runId = Long.toString(System.currentTimeMillis(), 36);
+        int activatedCount = 0;
+        int waitingCount = 0;
+        for (int from = 0; from < count; from += seedBatchSize) {
+            int to = Math.min(from + seedBatchSize, count);
+            List<String> userIds = new ArrayList<>(to - from);
+            for (int i = from; i < to; i++) {
+                userIds.add(String.format("seed-%s-%08d", runId, i));
+            }
 
-        // 4. 토큰 정보 Redis에 저장
-        redisTemplate.opsForValue().set(RedisKeyUtils.queueTokenKey(token), queueToken,
-                tokenExpireMinutes, TimeUnit.MINUTES);
-
-        // 5. 사용자-토큰 매핑 저장 (기존 토큰 찾기용)
-        redisTemplate.opsForValue().set(RedisKeyUtils.userTokenKey(userId), token,
-                tokenExpireMinutes, TimeUnit.MINUTES);
+            LocalDateTime nowTime = LocalDateTime.now();
+            QueueStore.SeedBatch batch = queueStore.seed(concertId, resolvedLane, userIds,
+                    queueRoomProperties.maxActiveUsers(concertId),
+                    TimeUnit.MINUTES.toSeconds(tokenExpireMinutes),
+                    idleMillis(),
+                    System.currentTimeMillis(),
+                    nowTime,
+                    nowTime.plusMinutes(tokenExpireMinutes));
+            activatedCount += batch.activatedCount();
+            waitingCount += batch.waitingCount();
+        }
 
-        log.info("토큰 발급 완료 : userId={}, token={}, status={}", userId, token, queueToken.getStatus());
+        // 활성화 스케줄러 / 스냅샷이 처리할 대기실로 등록
+        if (activatedCount + waitingCount > 0) {
+            queueStore.registerRoom(concertId, System.currentTimeMillis());
+        }
 
-        return queueToken;
+        QueueSeedReport report = new QueueSeedReport(concertId, resolvedLane, count, activatedCount, waitingCount,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), memoryBefore, queueStore.usedMemoryBytes());
+        log.info("[Seed] 합성 사용자 등록 완료 : concertId={}, lane={}, 등록 {}명 (활성 {}명, 대기 {}명), 실행 시간: {}ms, 메모리 증가 {}byte ({}byte/명)",
+                concertId, resolvedLane, count, activatedCount, waitingCount, report.elapsedMillis(),
+                report.memoryDeltaBytes(), report.bytesPerUser());
+        return report;
     }
 
     /**
-     * 기존 토큰 찾기
-     * @param userId 사용자Id
-     * @return 기존 토큰 정보 or null (최초 요청)
+     * 대기자가 있는 대기실마다 대기열에서 활성 대기열로 업데이트
+     * 마지막 대기열 진입 후 토큰 만료 시간이 지난 대기실은 남은 대기 토큰이 모두 만료되었으므로 목록에서 제거한다.
+     * 리더 노드(QueueScheduler)만 주기적으로 실행한다.
      */
-    private QueueToken findExistingToken(String userId) {
-        String userTokenKey = RedisKeyUtils.userTokenKey(userId);
-        String existingToken = (String) redisTemplate.opsForValue().get(userTokenKey);
-
-        if(existingToken != null) {
-            String queueTokenKey = RedisKeyUtils.queueTokenKey(existingToken);
-            Map<Object, Object> entries = redisTemplate.opsForHash().entries(queueTokenKey);
-
-            return QueueToken.builder()
-                    .token(queueTokenKey)
-                    .userId(entries.get("userId").toString())
-                    .queuePosition(Long.parseLong(entries.get("queuePosition").toString()))
-                    .estimatedWaitTimeMinutes(Integer.parseInt(entries.get("estimatedWaitTimeMinutes").toString()))
-                    .status(QueueToken.QueueStatus.valueOf(entries.get("status").toString()))
-                    .issuedAt(LocalDateTime.parse(entries.get("issuedAt").toString()))
-                    .expiresAt(LocalDateTime.parse(entries.get("expiresAt").toString()))
-                    .build();
-        }
-
-        return null;
+    public void activateWaitingRooms() {
+        activateWaitingRooms(() -> true);
     }
 
     /**
-     * 활성 사용자용 토큰 발급
-     * @param userId 사용자 ID
-     * @param token 생성한 토큰
-     * @param nowTime 토큰 생성 일시
-     * @return 발급된 토큰 정보
+     * 대기자가 있는 대기실마다 대기열에서 활성 대기열로 업데이트 (대기실마다 리더 여부 확인)
+     * 처리 중에 리더 임대 기한이 지나면 남은 대기실은 새 리더에게 맡기고 멈춘다.
+     * @param stillLeader 리더 여부 (Redis 호출 없이 로컬 임대 기한으로 판단)
      */
-    private QueueToken issueActiveToken(String userId, String token, LocalDateTime nowTime) {
-        QueueToken queueToken = new QueueToken(token, userId, 0L, 0,
-                QueueToken.QueueStatus.ACTIVE, nowTime, nowTime.plusMinutes(tokenExpireMinutes));
+    public void activateWaitingRooms(BooleanSupplier stillLeader) {
+        log.info("[Scheduler] 대기 중인 사용자 활성화 프로세스 시작");
 
-        // 활성 사용자 목록에 추가 + 개별 TTL 관리
-        boolean addedToSet = addActiveUserWithIndividualExpire(userId, token);
-        if(!addedToSet) {
-            throw new RuntimeException("활성 사용자 등록 실패했습니다.");
+        long staleBefore = System.currentTimeMillis() - TimeUnit.MINUTES.toMillis(tokenExpireMinutes);
+        Set<Long> rooms = queueStore.rooms(staleBefore);
+        queueMetrics.retainRooms(rooms);
+        if (rooms.isEmpty()) {
+            return;
         }
 
-        log.info("{}({}) 사용자가 활성 상태로 등록되었습니다.", userId, token);
-
-        return queueToken;
+        for (Long room : rooms) {
+            if (!stillLeader.getAsBoolean()) {
+                log.info("[Scheduler] 리더 임대 기한이 지나 남은 대기실 활성화를 중단합니다.");
+                return;
+            }
+            try {
+                activateWaitingUsersWithLock(room);
+                recordQueueSizes(room);
+            } catch (Exception e) {
+                // 한 대기실 처리 실패가 다른 대기실 활성화를 막지 않도록 로깅만 하고 계속 진행
+                log.info("[Scheduler] 대기실 활성화 실패 concertId={}", room, e);
+            }
+        }
     }
 
     /**
-     * 대기 사용자용 토큰 발급
-     * @param userId 사용자 ID
-     * @param token 생성한 토큰
-     * @param nowTime 토큰 생성 일시
-     * @return 발급된 토큰 정보
+     * 대기열에서 활성 대기열로 업데이트 (대기실별 분산 락 획득으로 동시성 문제 해결)
+     * 다른 노드가 같은 대기실을 처리 중이면 이번 주기는 건너뛴다.
+     * @param concertId 콘서트 ID (대기실)
      */
-    private QueueToken issueWaitingToken(String userId, String token, LocalDateTime nowTime) {
-        // 대기열에 추가
-        Double score = (double) System.currentTimeMillis();
-        redisTemplate.opsForZSet().add(RedisKeyUtils.waitingQueueKey(), userId, score);
+    public void activateWaitingUsersWithLock(Long concertId) {
+        long start = System.nanoTime();
 
-        // 대기 순서 계산
-        Long position = redisTemplate.opsForZSet().rank(RedisKeyUtils.waitingQueueKey(), userId);
-        position = (position != null) ? position + 1 : 1; // rank는 0부터 시작
+        // 1. 분산 락 획득 시도 (동시성 문제)
+        String lockValue = UUID.randomUUID().toString();
+        boolean locked = queueStore.tryLockRoom(concertId, lockValue, lockTimeoutSeconds);
+        queueMetrics.recordAdmissionLock(concertId, locked, System.nanoTime() - start);
+        if(!locked) {
+            log.info("[Scheduler] 다른 노드에서 대기실 활성화 처리 중입니다. concertId={}", concertId);
+            return;
+        }
 
-        Integer estimatedWaitTime = (int) (position * waitTimePerUser / 60); // 분 단위
+        int admittedCount = 0;
+        try {
+            // 2. heartbeat 가 끊긴 활성 사용자 회수
+            evictIdleActiveUsers(concertId);
 
-        // 대기 토큰 발급
-        QueueToken queueToken = new QueueToken(token, userId, position, estimatedWaitTime,
-                QueueToken.QueueStatus.WAITING, nowTime, nowTime.plusMinutes(tokenExpireMinutes));
+            // 3. 대기열에서 사용자 활성화
+            admittedCount = activateWaitingUsers(concertId);
+            queueThroughputEstimator.recordAdmissions(concertId, admittedCount);
 
-        log.info("대기열 추가 : userId={}, position={}, waitTime={}분", userId, position, estimatedWaitTime);
+            // 4. (선택) 대기 순서 저장
+            persistWaitingPositions(concertId);
+        } finally {
+            queueStore.unlockRoom(concertId, lockValue);
 
-        return queueToken;
+            long elapsedNanos = System.nanoTime() - start;
+            queueMetrics.recordAdmissionTick(concertId, admittedCount, elapsedNanos);
+            log.info("[Scheduler] 대기열 활성화 처리 완료. concertId={}, 활성화 {}명, 실행 시간: {}ms",
+                    concertId, admittedCount, TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
+        }
     }
 
     /**
-     * 활성 사용자를 개별 TTL과 함께 추가
-     * 활성 대기열 Set에 사용자를 추가하고, 개별 TTL 관리
-     * @param userId 추가할 사용자 ID
-     * @param token 생성한 토큰
+     * heartbeat 없이 유휴 허용 시간(queue.heartbeat.idle-seconds)이 지난 활성 사용자 회수
+     * 회수한 사용자의 입장 토큰을 폐기해서, 넘겨받은 슬롯이 대기자에게 활성화된 뒤에 예약하지 못하게 한다.
+     * 다시 입장하려면 토큰을 새로 발급받아 대기열 맨 뒤에서 기다린다.
+     * @param concertId 콘서트 ID (대기실)
+     * @return 회수된 사용자 수
      */
-    private boolean addActiveUserWithIndividualExpire(String userId, String token) {
-        boolean addedToSet = false;
+    private int evictIdleActiveUsers(Long concertId) {
+        if (heartbeatIdleSeconds <= 0) {
+            return 0;
+        }
 
-        // Set에 사용자 추가
-        addedToSet = redisTemplate.opsForSet().add(RedisKeyUtils.activeQueueKey(), userId) > 0;
+        int evictedCount = 0;
+        while (true) {
+            QueueStore.IdleEviction eviction = queueStore.evictIdleActive(concertId, System.currentTimeMillis(), admissionBatchSize);
+            for (String userId : eviction.evictedUserIds()) {
+                accessTokenRevocations.revoke(concertId, userId);
+            }
+            evictedCount += eviction.evictedUserIds().size();
 
-        // 개별 TTL 관리 (활성 대기열에 사용자가 추가된 경우에 관리)
-        if(addedToSet) {
-            redisTemplate.opsForValue().set(RedisKeyUtils.activeUserKey(userId), token, tokenExpireMinutes, TimeUnit.MINUTES);
+            // 확인한 인원이 batch size 보다 적으면 유휴 사용자 소진
+            if (eviction.scannedCount() < admissionBatchSize) {
+                break;
+            }
         }
 
-        return addedToSet;
+        if (evictedCount > 0) {
+            queueThroughputEstimator.recordReleases(concertId, evictedCount);
+            queueMetrics.recordIdleEvictions(concertId, evictedCount);
+            log.info("[Scheduler] 유휴 활성 사용자 회수 완료. concertId={}, 회수 {}명", concertId, evictedCount);
+        }
+        return evictedCount;
     }
 
     /**
-     * 만료된 사용자 정리
-     * 개별 활성 키가 만료되었을 경우 활성 대기열(set) 에서도 제거
+     * 대기열에서 활성 대기열로 업데이트 (사용자 활성화)
+     * 빈 슬롯만큼 대기열에서 pop 하고 활성 등록 + 토큰 상태 갱신을 저장소 호출 한 번으로 일괄 처리한다.
+     * 한 번에 너무 많은 인원을 처리하면 Redis 가 오래 블로킹되므로 batch size 단위로 나누어 호출하고,
+     * 대기실별 tick 당 활성화 인원은 활성화 정책(queue.admission.policy)이 결정한다.
+     * 각 batch 는 lane 비중(queue.lanes)으로 나누어 lane 별 대기열에서 pop 한다. (lane 안에서는 먼저 들어온 순서)
+     * @param concertId 콘서트 ID (대기실)
+     * @return 활성화된 사용자 수
      */
-    private void cleanupExpiredUsers() {
-        // 활성 대기열 사용자 데이터 가져오기
-        Set<Object> activeUsers = redisTemplate.opsForSet().members(RedisKeyUtils.activeQueueKey());
-        if (activeUsers != null) {
-            for (Object userIdObj : activeUsers) {
-                String userId = (String) userIdObj;
-                if (!redisTemplate.hasKey(RedisKeyUtils.activeUserKey(userId))) {
-                    // 개별 활성 키 만료 시, 활성 대기열(set)에서 제거
-                    redisTemplate.opsForSet().remove(RedisKeyUtils.activeQueueKey(), userId);
-                    log.info("만료된 사용자 {} 정리", userId);
-                }
+    private int activateWaitingUsers(Long concertId) {
+        int admissionLimit = admissionPolicy.admissionLimit(concertId);
+        List<QueueLane> lanes = queueRoomProperties.queueLanes();
+        int admittedCount = 0;
+
+        while (admittedCount < admissionLimit) {
+            int batchSize = Math.min(admissionBatchSize, admissionLimit - admittedCount);
+
+            QueueStore.AdmissionBatch batch = queueStore.admit(concertId,
+                    lanes,
+                    queueRoomProperties.maxActiveUsers(concertId),
+                    TimeUnit.MINUTES.toSeconds(tokenExpireMinutes),
+                    idleMillis(),
+                    System.currentTimeMillis(),
+                    LocalDateTime.now().plusMinutes(tokenExpireMinutes),
+                    batchSize);
+            admittedCount += batch.admittedUsers().size();
+            recordAdmittedUsers(concertId, batch.admittedUsers());
+
+            // 빈 슬롯이나 대기자가 batch size 보다 적게 남은 경우 종료
+            if (batch.poppedCount() < batchSize) {
+                break;
             }
         }
+        admissionPolicy.onAdmitted(concertId, admittedCount);
+
+        if (admittedCount == 0) {
+            log.info("활성화된 사용자가 없습니다. (빈 슬롯 또는 대기자 없음) concertId={}", concertId);
+        } else {
+            log.info("대기 중인 사용자를 활성화 완료했습니다.: concertId = {}, activatedCount = {}", concertId, admittedCount);
+        }
+        return admittedCount;
     }
 
+
     /**
-     * 대기열에서 활성 대기열로 업데이트 (분산 락 획득으로 동시성 문제 해결)
+     * 대기열 앞쪽 대기자의 토큰에 대기 순서 저장 (queue.position-persist.enabled)
+     * 상태 조회가 저장소에 쓰지 않으므로, 저장된 대기 순서를 직접 읽는 경우를 위해 활성화 주기에만 갱신한다.
+     * @param concertId 콘서트 ID (대기실)
      */
-    @Scheduled(fixedDelay = 5000) // 5초마다 실행
-    public void activateWaitingUsersWithLock() {
-        log.info("[Scheduler] 대기 중인 사용자 활성화 프로세스 시작");
-
-        long start = System.currentTimeMillis();
+    private void persistWaitingPositions(Long concertId) {
+        if (!positionPersistEnabled) {
+            return;
+        }
 
-        // 1. 분산 락 획득 시도 (동시성 문제)
-        String lockValue = UUID.randomUUID().toString();
-        if(!redisDistributedLock.tryLockWithRetry(RedisKeyUtils.queueLockKey(), lockValue, lockTimeoutSeconds)) {
-            throw new RuntimeException("대기열 처리 중입니다. 잠시 후 다시 시도해주세요.");
+        int saved = 0;
+        for (QueueLane lane : queueRoomProperties.queueLanes()) {
+            saved += queueStore.persistWaitingPositions(concertId, lane.name(), positionPersistLimit);
         }
+        log.info("[Scheduler] 대기 순서 저장 완료. concertId={}, 저장 {}건", concertId, saved);
+    }
 
-        try {
-            // 2. 대기열에서 사용자 활성화
-            activateWaitingUsers();
-        } finally {
-            redisDistributedLock.releaseLock(RedisKeyUtils.queueLockKey(), lockValue);
-            log.info("[Scheduler] 대기열 활성화 처리 완료. 실행 시간: {}ms", System.currentTimeMillis() - start);
+    /**
+     * 활성화된 사용자별 대기 시간 (대기열 진입 ~ 활성화), lane 별 활성화 인원 기록
+     */
+    private void recordAdmittedUsers(Long concertId, List<QueueStore.AdmittedUser> admittedUsers) {
+        long now = System.currentTimeMillis();
+        Map<String, Integer> laneCounts = new HashMap<>();
+        for (QueueStore.AdmittedUser admittedUser : admittedUsers) {
+            queueMetrics.recordWaitingTime(concertId, admittedUser.lane(), now - admittedUser.enqueuedAtMillis());
+            laneCounts.merge(admittedUser.lane(), 1, Integer::sum);
         }
+        laneCounts.forEach((lane, count) -> queueMetrics.recordLaneAdmissions(concertId, lane, count));
     }
 
     /**
-     *대기열에서 활성 대기열로 업데이트 (사용자 활성화)
+     * 대기실별 대기열 인원 (lane 별 + 전체), 활성 사용자 수 지표 갱신
      */
-    private void activateWaitingUsers() {
-        // 1. 현재 이용가능한 활성화 수 확인
-        // 1-1. 만료된 사용자들 먼저 정리
-        cleanupExpiredUsers();
+    private void recordQueueSizes(Long concertId) {
+        long waitingSize = 0;
+        for (QueueLane lane : queueRoomProperties.queueLanes()) {
+            long laneSize = queueStore.waitingSize(concertId, lane.name());
+            queueMetrics.recordLaneWaitingSize(concertId, lane.name(), laneSize);
+            waitingSize += laneSize;
+        }
+        queueMetrics.recordQueueSizes(concertId, waitingSize, queueStore.activeSize(concertId, System.currentTimeMillis()));
+    }
 
-        // 1-2. 현재 활성 사용자 수 조회 및 활성화 가능 슬롯 확인
-        Long activeUserCount = redisTemplate.opsForSet().size(RedisKeyUtils.activeQueueKey());
-        long availableSlots = maxActiveUsers - (activeUserCount != null ? activeUserCount : 0);
+    /**
+     * 대기열 상태 조회
+     * 조회만 하고 저장소에 쓰지 않는다. (대기 순서는 대기열 순위로 계산, 토큰 만료 시간 연장 없음)
+     * @param concertId 콘서트 ID (대기실)
+     * @param token 대기열 토큰
+     * @return 현재 대기열 상태
+     */
+    public QueueToken getQueueStatus(Long concertId, String token) {
+        queueMetrics.recordStatusPoll(concertId);
 
-        if (availableSlots <= 0) {
-           log.info("활성화 가능한 슬롯이 없습니다.: activeUser = {}, maxActive = {}", activeUserCount, maxActiveUsers);
-           return;
+        QueueToken queueToken = queueStore.findToken(concertId, token);
+        if(queueToken == null) {
+            throw new IllegalStateException("유효하지 않은 토큰입니다.");
         }
+        applyPosition(queueToken, queueToken.getQueuePosition());
 
-        // 2. 대기열에서 가장 오래 기다린 사용자 가져오기
-        Set<Object> waitingUsersObj = redisTemplate.opsForZSet().range(RedisKeyUtils.waitingQueueKey(), 0, availableSlots - 1);
+        // 만료된 토큰인지 확인
+        if(queueToken.isExpired()) {
+            throw new IllegalStateException("만료된 토큰입니다.");
+        }
 
-        if (waitingUsersObj == null || waitingUsersObj.isEmpty()) {
-            log.info("대기 중인 사용자가 없습니다.");
-            return;
+        // 대기 중인 경우 현재 대기 순서 계산
+        if(queueToken.getStatus() == QueueToken.QueueStatus.WAITING) {
+            applyWaitingRank(queueToken);
         }
 
-        for (Object userIdObj : waitingUsersObj) {
-            String userId = (String) userIdObj;
+        // 활성화된 경우 입장 토큰 발급
+        issueAccessTokenIfActive(queueToken);
+
+        log.info("토큰 상태 조회 완료 : concertId={}, token={}, status={}, position={}, estimatedWaitTimeMinutes={}",
+                concertId, token, queueToken.getStatus(), queueToken.getQueuePosition(), queueToken.getEstimatedWaitTimeMinutes());
 
-            // 2-1. 대기열에서 사용자 제거
-            redisTemplate.opsForZSet().remove(RedisKeyUtils.waitingQueueKey(), userId);
+        return queueToken;
+    }
+
+    /**
+     * lane 대기열 순위로 대기 순서 계산 (저장소에 다시 저장하지 않음)
+     * 대기열에 없으면 (활성화 직전 또는 만료) 저장된 대기 순서를 그대로 둔다.
+     * @param queueToken 토큰 정보
+     */
+    private void applyWaitingRank(QueueToken queueToken) {
+        Long rank = queueStore.waitingRank(queueToken.getConcertId(), queueToken.getLane(), queueToken.getUserId());
+        if(rank != null) {
+            applyPosition(queueToken, rank + 1); // rank는 0부터 시작
+        }
+    }
 
-            // 2-2. 활성 대기열에 사용자 추가 및 개별 만료 관리 추가
-            String userToken = (String) redisTemplate.opsForValue().get(RedisKeyUtils.userTokenKey(userId));
-            if (userToken != null) {
-                addActiveUserWithIndividualExpire(userId, userToken);
+    /**
+     * 대기 중인 토큰들의 대기 순서를 한 번에 갱신 (SSE 구독자 일괄 갱신용)
+     * 대기실 lane 별로 순위를 한 번에 조회하며 (Redis : lane 마다 ZRANK 파이프라인 1회 왕복), 저장소에 다시 저장하지 않는다.
+     * @param concertId 콘서트 ID (대기실)
+     * @param queueTokens 대기 중인 토큰 목록 (대기 순서, 예상 대기 시간이 갱신됨)
+     * @return 대기열에서 빠진(활성화 또는 만료된) 토큰 목록
+     */
+    public List<QueueToken> refreshWaitingPositions(Long concertId, Collection<QueueToken> queueTokens) {
+        List<QueueToken> tokens = new ArrayList<>(queueTokens);
+        if (tokens.isEmpty()) {
+            return List.of();
+        }
 
-                // 3. 사용자 토큰 상태 업데이트
-                QueueToken queueToken = (QueueToken) redisTemplate.opsForValue().get(RedisKeyUtils.queueTokenKey(userToken));
-                if (queueToken != null) {
-                    queueToken.activate();
-                    queueToken.updatePosition(0L, 0);
+        Map<String, List<QueueToken>> tokensByLane = new LinkedHashMap<>();
+        for (QueueToken token : tokens) {
+            tokensByLane.computeIfAbsent(token.getLane(), lane -> new ArrayList<>()).add(token);
+        }
 
-                    // 3-1. Redis 토큰 업데이트
-                    redisTemplate.opsForValue().set(RedisKeyUtils.queueTokenKey(userToken), queueToken, tokenExpireMinutes, TimeUnit.MINUTES);
+        List<QueueToken> leftTokens = new ArrayList<>();
+        tokensByLane.forEach((lane, laneTokens) -> {
+            List<Long> ranks = queueStore.waitingRanks(concertId, lane, laneTokens.stream().map(QueueToken::getUserId).toList());
+            for (int i = 0; i < laneTokens.size(); i++) {
+                QueueToken token = laneTokens.get(i);
+                Long rank = i < ranks.size() ? ranks.get(i) : null;
+                if (rank != null) {
+                    long position = rank + 1; // rank는 0부터 시작
+                    applyPosition(token, position);
+                } else {
+                    leftTokens.add(token);
                 }
             }
-            log.info("사용자 활성화를 완료했습니다.: userId = {}", userId);
-        }
-        log.info("대기 중인 사용자를 모두 활성화 완료했습니다.: activatedCount = {}", waitingUsersObj.size());
+        });
+        return leftTokens;
     }
 
+    /**
+     * 대기 순서 갱신 + 예상 대기 시간, 다음 조회 권장 간격 계산
+     * @param queueToken 토큰 정보
+     * @param position 대기 순서
+     */
+    private void applyPosition(QueueToken queueToken, Long position) {
+        long waitSeconds = estimateWaitSeconds(queueToken.getConcertId(), position);
+        queueToken.updatePosition(position, Math.toIntExact(TimeUnit.SECONDS.toMinutes(waitSeconds)),
+                nextPollSeconds(queueToken.getStatus(), waitSeconds));
+    }
 
     /**
-     * 대기열 상태 조회
-     * @param token 대기열 토큰
-     * @return 현재 대기열 상태
+     * 예상 대기 시간 계산
+     * 대기실의 실제 처리량(초당 인원)으로 계산하고, 처리량 기록이 없거나 최소 처리량(queue.throughput.min-per-second)보다 낮으면
+     * 사용자별 대기 시간 설정값을 사용한다. (활성화가 멈춘 뒤 감쇠된 처리량으로 나누면 대기 시간이 비정상적으로 커짐)
+     * @param concertId 콘서트 ID (대기실)
+     * @param position 대기 순서
+     * @return 예상 대기 시간 (초, 최대 queue.max-estimated-wait-minutes)
      */
-    public QueueToken getQueueStatus(String token) {
-        QueueToken queueToken = (QueueToken) redisTemplate.opsForValue().get(RedisKeyUtils.queueTokenKey(token));
-        if(queueToken == null) {
-            throw new IllegalStateException("유효하지 않은 토큰입니다.");
+    private long estimateWaitSeconds(Long concertId, Long position) {
+        if (position == null || position <= 0) {
+            return 0;
         }
 
-        // 만료된 토큰인지 확인
-        if(queueToken.isExpired()) {
-            throw new IllegalStateException("만료된 토큰입니다.");
+        long maxWaitSeconds = TimeUnit.MINUTES.toSeconds(maxEstimatedWaitMinutes);
+        double throughput = queueThroughputEstimator.throughputPerSecond(concertId);
+        if (throughput < minThroughputPerSecond || throughput <= 0) {
+            return Math.min(maxWaitSeconds, position * waitTimePerUser);
         }
+        return (long) Math.min(maxWaitSeconds, Math.ceil(position / throughput));
+    }
 
-        // 대기 중인 경우 순서 업데이트
-        if(queueToken.getStatus() == QueueToken.QueueStatus.WAITING) {
-            updateWaitingPosition(queueToken);
+    /**
+     * 다음 상태 조회 권장 간격 계산
+     * 남은 대기 시간의 1/10 간격으로 조회하도록 권장해서, 입장이 멀수록 조회 빈도를 줄인다.
+     * @param status 토큰 상태
+     * @param waitSeconds 예상 대기 시간 (초)
+     * @return 조회 권장 간격 (초), 대기 중이 아니면 null
+     */
+    private Integer nextPollSeconds(QueueToken.QueueStatus status, long waitSeconds) {
+        if (status != QueueToken.QueueStatus.WAITING) {
+            return null;
         }
+        return (int) Math.max(minPollSeconds, Math.min(maxPollSeconds, waitSeconds / 10));
+    }
 
-        log.info("토큰 상태 조회 완료 : token={}, status={}, position={}, estimatedWaitTimeMinutes={}",
-                token, queueToken.getStatus(), queueToken.getQueuePosition(), queueToken.getEstimatedWaitTimeMinutes());
+    /**
+     * 활성 상태인 토큰에 서명된 입장 토큰 발급 (heartbeat 사용 시 권장 간격 안내)
+     * 토큰 발급 시각을 입장 토큰 발급 시각으로 사용하므로 같은 대기열 토큰으로는 항상 같은 입장 토큰이 발급된다.
+     * @param queueToken 토큰 정보
+     */
+    private void issueAccessTokenIfActive(QueueToken queueToken) {
+        if (queueToken.getStatus() != QueueToken.QueueStatus.ACTIVE) {
+            return;
+        }
+        queueToken.updateHeartbeatInterval(nextHeartbeatSeconds());
+
+        AccessTokenClaims claims = new AccessTokenClaims(
+                queueToken.getConcertId(),
+                queueToken.getUserId(),
+                toEpochMillis(queueToken.getIssuedAt()),
+                toEpochMillis(queueToken.getExpiresAt()));
+        queueToken.issueAccessToken(accessTokenSigner.sign(claims));
+    }
 
-        return queueToken;
+    private long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
     }
 
     /**
-     * 대기 순서 업데이트
-     * @param queueToken 토큰 정보
+     * 유휴 허용 시간 (ms, heartbeat 미사용이면 0)
      */
-    private void updateWaitingPosition(QueueToken queueToken) {
-        Long position = redisTemplate.opsForZSet().rank(RedisKeyUtils.waitingQueueKey(), queueToken.getUserId());
-        if(position != null) {
-            position = position + 1; // rank는 0부터 시작
-            Integer estimatedWaitTimeMinutes = (int) (position * waitTimePerUser / 60);
-            queueToken.updatePosition(position, estimatedWaitTimeMinutes);
+    private long idleMillis() {
+        return TimeUnit.SECONDS.toMillis(Math.max(0, heartbeatIdleSeconds));
+    }
+
+    /**
+     * 다음 heartbeat 권장 간격 (유휴 허용 시간의 1/3, 한두 번 누락되어도 회수되지 않도록)
+     * @return 권장 간격 (초), heartbeat 미사용이면 null
+     */
+    private Integer nextHeartbeatSeconds() {
+        if (heartbeatIdleSeconds <= 0) {
+            return null;
+        }
+        return Math.max(1, heartbeatIdleSeconds / 3);
+    }
+
+    /**
+     * 활성 사용자 heartbeat (유휴 만료 시각 연장)
+     * 입장 토큰은 Redis 조회 없이 검증하고, 유휴 만료 시각 연장은 저장소 호출 1회 (Redis : ZSCORE + ZADD XX 스크립트) 로 처리한다.
+     * 토큰 만료 시각(queue.token-expire-minutes)은 연장하지 않는다.
+     * @param concertId 콘서트 ID (대기실)
+     * @param accessToken 입장 토큰
+     * @return 다음 heartbeat 권장 간격(초), heartbeat 미사용이면 null
+     * @throws IllegalStateException 유효하지 않은 입장 토큰이거나 유휴 시간이 지나 이미 회수된 경우
+     */
+    public Integer heartbeat(Long concertId, String accessToken) {
+        AccessTokenClaims claims = accessToken == null ? null : accessTokenSigner.verify(accessToken);
+        long now = System.currentTimeMillis();
+        if (claims == null || !claims.getConcertId().equals(concertId) || claims.isExpired(now)
+                || accessTokenRevocations.isRevoked(claims)) {
+            throw new IllegalStateException("유효하지 않은 입장 토큰입니다.");
+        }
+        if (heartbeatIdleSeconds <= 0) {
+            return null;
+        }
 
-            // Redis에 업데이트된 정보 저장
-            redisTemplate.opsForValue().set(RedisKeyUtils.queueTokenKey(queueToken.getToken()), queueToken,
-                    tokenExpireMinutes, TimeUnit.MINUTES);
+        boolean renewed = queueStore.touchActive(concertId, claims.getUserId(), now, now + idleMillis());
+        queueMetrics.recordHeartbeat(concertId, renewed);
+        if (!renewed) {
+            throw new IllegalStateException("유휴 시간이 지나 활성 상태가 해제되었습니다. 토큰을 다시 발급받아 주세요.");
         }
+        return nextHeartbeatSeconds();
     }
 
     /**
      * 활성 토큰 유효성 검증 (좌석 예약시)
-     * @param token 대기열 토큰
+     * 서명된 입장 토큰을 Redis 조회 없이 검증한다. (서명, 콘서트, 사용자, 만료 시각, 로컬 폐기 목록)
+     * @param concertId 콘서트 ID (대기실)
+     * @param userId 사용자 ID
+     * @param accessToken 입장 토큰
      * @return 유효한 활성 토큰인지 여부
      */
-    public boolean validateActiveToken(String token) {
-        if(token == null) {
+    public boolean validateActiveToken(Long concertId, String userId, String accessToken) {
+        if(concertId == null || userId == null || accessToken == null) {
             return false;
         }
 
-        try {
-            QueueToken queueToken = getQueueStatus(token);
-            return queueToken.isActive();
-        } catch (Exception e) {
+        AccessTokenClaims claims = accessTokenSigner.verify(accessToken);
+        if(claims == null) {
+            log.info("입장 토큰 서명 검증 실패 : concertId={}, userId={}", concertId, userId);
+            return false;
+        }
+
+        // 예약하려는 콘서트 대기실에서 해당 사용자에게 발급된 토큰이어야 한다.
+        if(!concertId.equals(claims.getConcertId()) || !userId.equals(claims.getUserId())) {
             return false;
         }
+
+        if(claims.isExpired(System.currentTimeMillis())) {
+            return false;
+        }
+
+        return !accessTokenRevocations.isRevoked(claims);
+    }
+
+    /**
+     * 입장 토큰 폐기
+     * 폐기 목록에 등록하고 활성 대기열 및 대기열 토큰을 삭제한다.
+     * @param concertId 콘서트 ID (대기실)
+     * @param userId 사용자 ID
+     * @return 활성 슬롯이 반환되었는지 여부
+     */
+    public boolean revokeAccessToken(Long concertId, String userId) {
+        accessTokenRevocations.revoke(concertId, userId);
+        log.info("입장 토큰 폐기 완료 : concertId={}, userId={}", concertId, userId);
+
+        return releaseActive(concertId, userId);
+    }
+
+    /**
+     * 활성 슬롯 반환 (결제 완료, 예약 취소 시)
+     * 입장 토큰을 폐기하고, 반환된 슬롯만큼 다음 활성화 주기를 기다리지 않고 바로 대기자를 활성화한다.
+     * 다른 노드가 같은 대기실을 활성화 중이면 그 처리에서 반환된 슬롯도 함께 채운다.
+     * @param concertId 콘서트 ID (대기실)
+     * @param userId 사용자 ID
+     */
+    public void releaseSlot(Long concertId, String userId) {
+        accessTokenRevocations.revoke(concertId, userId);
+        releaseRevokedSlot(concertId, userId);
+    }
+
+    /**
+     * 입장 토큰 폐기 목록 등록만 처리 (결제 / 취소 요청 스레드에서 바로 실행)
+     * 슬롯 반환과 대기자 활성화는 releaseRevokedSlot 으로 요청 스레드 밖에서 처리한다.
+     * @param concertId 콘서트 ID (대기실)
+     * @param userId 사용자 ID
+     */
+    public void revokeAccessTokenOnly(Long concertId, String userId) {
+        accessTokenRevocations.revoke(concertId, userId);
+    }
+
+    /**
+     * 폐기된 입장 토큰의 활성 슬롯 반환 + 반환된 슬롯만큼 바로 대기자 활성화
+     * @param concertId 콘서트 ID (대기실)
+     * @param userId 사용자 ID
+     */
+    public void releaseRevokedSlot(Long concertId, String userId) {
+        if (releaseActive(concertId, userId)) {
+            activateWaitingUsersWithLock(concertId);
+        }
+    }
+
+    // 활성 대기열 제거 + 토큰 삭제 (저장소 호출 1회)
+    private boolean releaseActive(Long concertId, String userId) {
+        boolean released = queueStore.releaseActive(concertId, userId);
+        if (released) {
+            queueThroughputEstimator.recordReleases(concertId, 1);
+        }
+        return released;
+    }
+
+    /**
+     * 만료된 활성 사용자 정리 (활성 사용자 키 만료 이벤트)
+     * 활성화 주기를 기다리지 않고 만료된 슬롯을 바로 정리하고 대기자를 활성화한다.
+     * 모든 노드가 같은 이벤트를 받지만 실제로 제거한 노드만 활성화를 실행한다.
+     * @param concertId 콘서트 ID (대기실)
+     * @param userId 사용자 ID
+     */
+    public void expireActiveUser(Long concertId, String userId) {
+        if (!queueStore.removeExpiredActive(concertId, userId, System.currentTimeMillis())) {
+            return;
+        }
+
+        log.info("만료된 활성 사용자 정리 : concertId={}, userId={}", concertId, userId);
+        queueThroughputEstimator.recordReleases(concertId, 1);
+        activateWaitingUsersWithLock(concertId);
     }
 
 }
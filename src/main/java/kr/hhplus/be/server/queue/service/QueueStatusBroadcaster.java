@@ -0,0 +1,189 @@
+package kr.hhplus.be.server.queue.service;
+
+import kr.hhplus.be.server.queue.domain.QueueToken;
+import kr.hhplus.be.server.queue.dto.QueueTokenResponseDto;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 대기열 상태 SSE 푸시
+ * 노드에 연결된 대기자의 순서를 주기마다 대기실별 파이프라인 조회 한 번으로 계산해서 변경된 경우에만 전송한다.
+ * 클라이언트별 폴링(토큰 조회 + ZRANK + 순서 저장)을 대체한다.
+ */
+@Component
+public class QueueStatusBroadcaster {
+    private static final Logger log = LoggerFactory.getLogger(QueueStatusBroadcaster.class);
+
+    private static final String POSITION_EVENT = "position";
+    private static final String ACTIVE_EVENT = "active";
+    private static final String EXPIRED_EVENT = "expired";
+
+    private final QueueService queueService;
+
+    // 대기실(concertId) -> (대기열 토큰 -> 구독자)
+    private final Map<Long, Map<String, Subscriber>> subscribers = new ConcurrentHashMap<>();
+
+    // SSE 연결 유지 시간 (ms), 기본값은 토큰 만료 시간과 같은 30분
+    @Value("${queue.sse.timeout-ms:1800000}")
+    private long emitterTimeoutMs;
+
+    public QueueStatusBroadcaster(QueueService queueService) {
+        this.queueService = queueService;
+    }
+
+    /**
+     * 대기열 상태 구독
+     * 현재 상태를 바로 전송하고, 이미 활성화된 토큰이면 입장 토큰을 전송한 뒤 연결을 종료한다.
+     * 같은 토큰으로 다시 구독하면 (EventSource 재연결) 이전 연결을 종료하고 새 연결로 바꾼다.
+     * @param concertId 콘서트 ID (대기실)
+     * @param token 대기열 토큰
+     * @return SSE 연결
+     */
+    public SseEmitter subscribe(Long concertId, String token) {
+        QueueToken queueToken = queueService.getQueueStatus(concertId, token);
+        SseEmitter emitter = new SseEmitter(emitterTimeoutMs);
+
+        if (queueToken.getStatus() == QueueToken.QueueStatus.ACTIVE) {
+            sendAndComplete(emitter, ACTIVE_EVENT, queueToken);
+            return emitter;
+        }
+
+        Subscriber subscriber = new Subscriber(queueToken, emitter);
+        emitter.onCompletion(() -> unsubscribe(concertId, token, subscriber));
+        emitter.onTimeout(() -> unsubscribe(concertId, token, subscriber));
+        emitter.onError(e -> unsubscribe(concertId, token, subscriber));
+
+        if (send(subscriber, POSITION_EVENT)) {
+            Subscriber previous = subscribers.computeIfAbsent(concertId, id -> new ConcurrentHashMap<>()).put(token, subscriber);
+            if (previous != null) {
+                previous.emitter().complete();
+            }
+        }
+        return emitter;
+    }
+
+    /**
+     * 구독 중인 대기자에게 대기 순서 / 활성화 알림 전송
+     */
+    @Scheduled(fixedDelayString = "${queue.sse.push-interval-ms:2000}")
+    public void broadcast() {
+        for (Map.Entry<Long, Map<String, Subscriber>> room : subscribers.entrySet()) {
+            Long concertId = room.getKey();
+            Map<String, Subscriber> roomSubscribers = room.getValue();
+            if (roomSubscribers.isEmpty()) {
+                subscribers.remove(concertId, roomSubscribers);
+                continue;
+            }
+
+            try {
+                broadcastRoom(concertId, roomSubscribers);
+            } catch (Exception e) {
+                // 한 대기실 전송 실패가 다른 대기실 전송을 막지 않도록 로깅만 하고 계속 진행
+                log.warn("[SSE] 대기열 상태 전송 실패 concertId={}", concertId, e);
+            }
+        }
+    }
+
+    private void broadcastRoom(Long concertId, Map<String, Subscriber> roomSubscribers) {
+        List<QueueToken> tokens = roomSubscribers.values().stream().map(Subscriber::queueToken).toList();
+        List<QueueToken> leftTokens = queueService.refreshWaitingPositions(concertId, tokens);
+
+        // 대기열에서 빠진 토큰 : 활성화되었으면 입장 토큰 전송, 만료되었으면 만료 알림 후 종료
+        for (QueueToken leftToken : leftTokens) {
+            Subscriber subscriber = roomSubscribers.remove(leftToken.getToken());
+            if (subscriber == null) {
+                continue;
+            }
+            try {
+                QueueToken current = queueService.getQueueStatus(concertId, leftToken.getToken());
+                sendAndComplete(subscriber.emitter(), current.isActive() ? ACTIVE_EVENT : EXPIRED_EVENT, current);
+            } catch (IllegalStateException e) {
+                sendAndComplete(subscriber.emitter(), EXPIRED_EVENT, leftToken);
+            }
+        }
+
+        // 대기 중인 토큰 : 순서가 바뀐 경우에만 전송
+        for (Subscriber subscriber : roomSubscribers.values()) {
+            if (subscriber.positionChanged()) {
+                send(subscriber, POSITION_EVENT);
+            }
+        }
+    }
+
+    private boolean send(Subscriber subscriber, String eventName) {
+        try {
+            subscriber.emitter().send(SseEmitter.event()
+                    .name(eventName)
+                    .data(QueueTokenResponseDto.from(subscriber.queueToken())));
+            subscriber.markSent();
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            // 클라이언트 연결 종료
+            subscriber.emitter().completeWithError(e);
+            return false;
+        }
+    }
+
+    private void sendAndComplete(SseEmitter emitter, String eventName, QueueToken queueToken) {
+        try {
+            emitter.send(SseEmitter.event().name(eventName).data(QueueTokenResponseDto.from(queueToken)));
+            emitter.complete();
+        } catch (IOException | IllegalStateException e) {
+            emitter.completeWithError(e);
+        }
+    }
+
+    // 같은 토큰으로 다시 구독한 새 연결은 지우지 않도록 자기 자신인 경우에만 제거
+    private void unsubscribe(Long concertId, String token, Subscriber subscriber) {
+        Map<String, Subscriber> roomSubscribers = subscribers.get(concertId);
+        if (roomSubscribers != null) {
+            roomSubscribers.remove(token, subscriber);
+        }
+    }
+
+    /**
+     * 현재 노드의 구독자 수
+     */
+    public int subscriberCount() {
+        return subscribers.values().stream().mapToInt(Map::size).sum();
+    }
+
+    /**
+     * SSE 구독자 (마지막으로 전송한 대기 순서를 기억해서 변경된 경우에만 전송)
+     */
+    private static class Subscriber {
+        private final QueueToken queueToken;
+        private final SseEmitter emitter;
+        private Long lastSentPosition;
+
+        Subscriber(QueueToken queueToken, SseEmitter emitter) {
+            this.queueToken = queueToken;
+            this.emitter = emitter;
+        }
+
+        QueueToken queueToken() {
+            return queueToken;
+        }
+
+        SseEmitter emitter() {
+            return emitter;
+        }
+
+        boolean positionChanged() {
+            return !queueToken.getQueuePosition().equals(lastSentPosition);
+        }
+
+        void markSent() {
+            lastSentPosition = queueToken.getQueuePosition();
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package kr.hhplus.be.server.queue.service;
+
+import kr.hhplus.be.server.common.RedisKeyUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 대기실별 처리량(초당 인원) 추정
+ * 실제 활성화 인원과 슬롯 반환 인원을 지수 가중 이동 평균(EWMA)으로 누적한다.
+ *   rate = rate * e^(-경과시간/τ) + 인원/τ   (일정한 속도 λ 로 처리되면 rate ≈ λ)
+ * 활성화 노드가 바뀌어도 같은 값을 이어서 갱신하도록 Redis Hash(queue:{concertId}:throughput) 에 저장하고,
+ * 조회는 노드별로 짧게 캐시해서 상태 조회마다 Redis 를 호출하지 않는다.
+ * 슬롯 반환은 여러 노드에서 동시에 기록하므로 갱신은 Lua 스크립트 한 번으로 처리하고, 기록이 끊긴 키는 만료된다.
+ */
+@Component
+public class QueueThroughputEstimator {
+    private static final Logger log = LoggerFactory.getLogger(QueueThroughputEstimator.class);
+
+    private static final String ADMISSION = "admission";
+    private static final String RELEASE = "release";
+
+    // 처리량 EWMA 기록 스크립트 (조회 + 감쇠 + 누적 + 저장 + 만료 시간 갱신)
+    private static final RedisScript<Long> RECORD_THROUGHPUT_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/queue/record_throughput.lua"), Long.class);
+
+    // 키 만료 시간 = 시간 상수의 배수 (e^-10 ≈ 0.00005, 그때까지 기록이 없으면 처리량은 사실상 0)
+    private static final int EXPIRE_TIME_CONSTANTS = 10;
+
+    private final StringRedisTemplate redisTemplate;
+
+    // 대기실(concertId) -> 캐시된 처리량
+    private final Map<Long, CachedRate> cache = new ConcurrentHashMap<>();
+
+    // EWMA 시간 상수 τ (초), 클수록 완만하게 변함
+    @Value("${queue.throughput.time-constant-seconds:60}")
+    private long timeConstantSeconds;
+
+    // 노드별 처리량 캐시 유지 시간 (ms)
+    @Value("${queue.throughput.cache-ms:2000}")
+    private long cacheMillis;
+
+    public QueueThroughputEstimator(StringRedisTemplate redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    /**
+     * 활성화 인원 기록 (활성화 주기마다 호출, 0명도 기록해서 감쇠 반영)
+     * 대기실별 활성화 락을 잡은 상태에서 호출되므로 대기실당 동시에 한 노드만 갱신한다.
+     */
+    public void recordAdmissions(Long concertId, int count) {
+        record(concertId, ADMISSION, count);
+    }
+
+    /**
+     * 슬롯 반환 인원 기록 (결제 완료, 예약 취소 등으로 활성 슬롯이 반환된 경우)
+     */
+    public void recordReleases(Long concertId, int count) {
+        record(concertId, RELEASE, count);
+    }
+
+    /**
+     * 현재 초당 처리 인원
+     * 활성화 기록이 있으면 활성화 속도를, 아직 없으면 슬롯 반환 속도를 사용한다. (둘 다 없으면 0)
+     */
+    public double throughputPerSecond(Long concertId) {
+        long now = System.currentTimeMillis();
+        CachedRate cached = cache.get(concertId);
+        if (cached == null || now - cached.fetchedAt() > cacheMillis) {
+            cached = fetch(concertId, now);
+            cache.put(concertId, cached);
+        }
+        return cached.admissionRate() > 0 ? cached.admissionRate() : cached.releaseRate();
+    }
+
+    private void record(Long concertId, String field, int count) {
+        String key = RedisKeyUtils.queueThroughputKey(concertId);
+        long now = System.currentTimeMillis();
+
+        try {
+            redisTemplate.execute(RECORD_THROUGHPUT_SCRIPT, List.of(key),
+                    field,
+                    String.valueOf(count),
+                    String.valueOf(now),
+                    String.valueOf(timeConstantSeconds),
+                    String.valueOf(timeConstantSeconds * EXPIRE_TIME_CONSTANTS));
+            cache.remove(concertId);
+        } catch (Exception e) {
+            // 처리량 기록 실패가 활성화/슬롯 반환을 막지 않도록 로깅만 한다.
+            log.warn("대기실 처리량 기록 실패 concertId={}", concertId, e);
+        }
+    }
+
+    private CachedRate fetch(Long concertId, long now) {
+        List<Object> values = redisTemplate.opsForHash().multiGet(RedisKeyUtils.queueThroughputKey(concertId),
+                List.of(ADMISSION + "Rate", ADMISSION + "UpdatedAt", RELEASE + "Rate", RELEASE + "UpdatedAt"));
+        return new CachedRate(
+                decayed(parse(values.get(0)), parse(values.get(1)), now),
+                decayed(parse(values.get(2)), parse(values.get(3)), now),
+                now);
+    }
+
+    // 마지막 갱신 이후 경과 시간만큼 감쇠
+    private double decayed(double rate, double updatedAt, long now) {
+        if (rate <= 0 || updatedAt <= 0) {
+            return 0;
+        }
+        double elapsedSeconds = Math.max(0, now - updatedAt) / 1000.0;
+        return rate * Math.exp(-elapsedSeconds / timeConstantSeconds);
+    }
+
+    private double parse(Object value) {
+        return value == null ? 0 : Double.parseDouble(value.toString());
+    }
+
+    private record CachedRate(double admissionRate, double releaseRate, long fetchedAt) {
+    }
+}
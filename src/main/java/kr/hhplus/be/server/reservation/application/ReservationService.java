@@ -1,22 +1,23 @@
 package kr.hhplus.be.server.reservation.application;
 
-import kr.hhplus.be.server.common.RedisKeyUtils;
-import kr.hhplus.be.server.common.lock.RedisDistributedLock;
 import kr.hhplus.be.server.external.kafka.DataPlatformKafkaProducer;
 import kr.hhplus.be.server.external.kafka.test.kafkaTestProducer;
+import kr.hhplus.be.server.queue.event.QueueSlotReleasedEvent;
 import kr.hhplus.be.server.queue.service.QueueService;
 import kr.hhplus.be.server.reservation.application.input.ReserveSeatCommand;
 import kr.hhplus.be.server.reservation.application.output.ReserveSeatResult;
+import kr.hhplus.be.server.reservation.claim.SeatClaimStrategies;
 import kr.hhplus.be.server.reservation.domain.Reservation;
 import kr.hhplus.be.server.reservation.domain.ReservationRepository;
 import kr.hhplus.be.server.reservation.event.ReservationCompletedEvent;
+import kr.hhplus.be.server.reservation.metrics.ReservationMetrics;
 import kr.hhplus.be.server.seat.domain.Seat;
 import kr.hhplus.be.server.seat.repository.SeatJpaRepository;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
@@ -32,14 +33,11 @@ public class ReservationService{
 
     private final SeatJpaRepository seatJpaRepository;
     private final ReservationRepository reservationRepository;
-    private final RedisDistributedLock redisDistributedLock;
+    private final SeatClaimStrategies seatClaimStrategies;
     private final QueueService queueService;
     private final ApplicationEventPublisher eventPublisher;
     private final DataPlatformKafkaProducer kafkaProducer;
-
-    // 예약 만료 시간 (5분)
-    @Value("${reservation.ttl.minutes:5}")
-    private int reservationTTLMinutes;
+    private final ReservationMetrics reservationMetrics;
 
     /**
      * 좌석 예약 기능
@@ -47,69 +45,36 @@ public class ReservationService{
      * @return 생성된 예약 정보
      */
     public ReserveSeatResult reserveSeat(ReserveSeatCommand command, String token) {
-        // 1. 토큰 유효한지 확인 (token은 controller에서 넘겨준다 가정)
-        boolean isValid = queueService.validateActiveToken(token);
+        // 1. 토큰 유효한지 확인 (token은 controller에서 넘겨준 입장 토큰, 예약하려는 콘서트 대기실에서 본인에게 발급된 토큰이어야 함)
+        boolean isValid = queueService.validateActiveToken(command.getConcertId(), command.getUserId(), token);
         if(!isValid) {
             throw new IllegalStateException("유효하지 않은 토큰입니다.");
         }
 
         log.info("[reserveSeat] 유효한 토큰입니다.");
-
-        // 2. 분산락 획득 (동시성 문제)
-        String seatLockKey = RedisKeyUtils.seatLockKey(command.getConcertId(), command.getSeatNumber());
-        String seatLockValue = command.getUserId();
-
-        log.info("[reserveSeat] 락 획득 시도 seatLockKey : {}, seatLockValue : {}", seatLockKey, seatLockValue);
-
-        // 분산 락 획득 시도
-        if(!redisDistributedLock.tryLockWithRetry(seatLockKey, seatLockValue, reservationTTLMinutes * 60L)) {
-            log.info("[reserveSeat] 분산 락 획득 실패");
-            throw new RuntimeException("대기열 처리 중입니다. 잠시 후 다시 시도해주세요.");
-        }
-
-        log.info("[reserveSeat] 락 획득 seatLockKey : {}, seatLockValue : {}", seatLockKey, seatLockValue);
+        long start = System.nanoTime();
 
         try {
-            // 좌석 예약 로직
-            return reserveSeatWithTransaction(command);
+            // 2. 좌석 임시 배정 (동시성 문제, reservation.seat-claim.strategy 로 제어 방식 선택)
+            LocalDateTime expiredAt = LocalDateTime.now().plusMinutes(5);
+            Seat seat = seatClaimStrategies.current().claim(command, expiredAt);
+
+            // 3. 예약 생성
+            return createReservation(command, seat, expiredAt);
         } finally {
-            // 3. 분산락 해제
-            redisDistributedLock.releaseLock(seatLockKey, seatLockValue);
+            reservationMetrics.recordReservation(System.nanoTime() - start);
         }
     }
 
     /**
-     * 좌석 예약 기능 (트랜잭션)
+     * 임시 배정된 좌석의 예약 생성
      * @param command 예약 요청 정보
+     * @param seat 임시 배정된 좌석
+     * @param expiredAt 임시 배정 만료 시간
      * @return 생성된 예약 정보
      */
-    @Transactional
-    protected ReserveSeatResult reserveSeatWithTransaction(ReserveSeatCommand command) {
-        // 1. 좌석 조회 및 상태 확인
-        Seat seat = seatJpaRepository.findByConcertIdAndSeatNumber(command.getConcertId(), command.getSeatNumber());
-        if(seat == null) {
-            throw new IllegalStateException("좌석이 존재하지 않습니다.");
-        }
-
-        // 2. 이용 가능한 좌석인지 확인
-        if(!seat.isAvailable()){
-            // 임시 배정 만료 시
-            if(seat.isExpired()){
-                // 임시 배정 해제
-                seat.releaseAssign();
-                // 변경된 상태 DB에 반영
-                seatJpaRepository.save(seat);
-            } else {
-                throw new IllegalStateException("이미 선택된 좌석입니다.");
-            }
-        }
-
-        // 2-1. 이용 가능하면 임시 배정 처리
-        LocalDateTime expiredAt = LocalDateTime.now().plusMinutes(5);
-        seat.assign(expiredAt);
-        seatJpaRepository.save(seat);
-
-        // 2-2. 예약 생성
+    private ReserveSeatResult createReservation(ReserveSeatCommand command, Seat seat, LocalDateTime expiredAt) {
+        // 1. 예약 생성
         Reservation reservation = new Reservation(
                 command.getUserId(),
                 command.getConcertId(),
@@ -120,11 +85,11 @@ public class ReservationService{
         );
         reservationRepository.save(reservation);
 
-        // 3. 예약 정보 이벤트 발행 (최소한의 데이터만 전달)
+        // 2. 예약 정보 이벤트 발행 (최소한의 데이터만 전달)
         ReservationCompletedEvent event = new ReservationCompletedEvent(reservation.getReservationId());
         eventPublisher.publishEvent(event);
 
-        // 4. 예약 정보 kafka 발행
+        // 3. 예약 정보 kafka 발행
         kafkaProducer.sendDataPlatform(event);
 
         return new ReserveSeatResult(reservation);
@@ -170,7 +135,10 @@ public class ReservationService{
                 .orElseThrow(() -> new IllegalStateException("좌석 정보를 찾을 수 없습니다."));
 
         seat.releaseAssign();
-        seatJpaRepository.save(seat);
+        saveReleasedSeat(seat);
+
+        // 4. 대기열 활성 슬롯 반환 이벤트 발행 (커밋 후 다음 대기자 활성화)
+        eventPublisher.publishEvent(new QueueSlotReleasedEvent(reservation.getConcertId(), userId));
     }
 
     /**
@@ -211,9 +179,22 @@ public class ReservationService{
         seat.releaseAssign();
 
         // 3. 좌석 정보 저장
-        seatJpaRepository.save(seat);
+        saveReleasedSeat(seat);
 
         // 4. 예약 정보 저장
         reservationRepository.save(reservation);
     }
+
+    /**
+     * 해제한 좌석 저장 (좌석 버전 확인)
+     * 조회 후 저장 전에 결제 / 만료 처리로 좌석이 바뀌었으면 좌석 해제를 실패 처리한다.
+     * @param seat 해제한 좌석
+     */
+    private void saveReleasedSeat(Seat seat) {
+        try {
+            seatJpaRepository.saveAndFlush(seat);
+        } catch (OptimisticLockingFailureException e) {
+            throw new IllegalStateException("좌석 상태가 변경되어 해제할 수 없습니다. seatId : " + seat.getSeatId());
+        }
+    }
 }
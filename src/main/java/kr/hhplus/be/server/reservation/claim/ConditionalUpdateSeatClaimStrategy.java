@@ -0,0 +1,52 @@
+package kr.hhplus.be.server.reservation.claim;
+
+import kr.hhplus.be.server.reservation.application.input.ReserveSeatCommand;
+import kr.hhplus.be.server.reservation.metrics.ReservationMetrics;
+import kr.hhplus.be.server.seat.domain.Seat;
+import kr.hhplus.be.server.seat.repository.SeatJpaRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+/**
+ * 조건부 UPDATE (결제 포인트 차감과 같은 방식)
+ * UPDATE ... WHERE status = 'AVAILABLE' (또는 배정 만료) 한 번으로 확인과 배정을 처리한다.
+ * 같은 좌석 UPDATE 는 DB 행 락으로 순서대로 처리되고, 먼저 배정된 뒤에는 0 건이 되어 실패한다.
+ */
+@Component
+public class ConditionalUpdateSeatClaimStrategy implements SeatClaimStrategy {
+
+    public static final String NAME = "conditional-update";
+
+    private final SeatJpaRepository seatJpaRepository;
+    private final ReservationMetrics reservationMetrics;
+
+    public ConditionalUpdateSeatClaimStrategy(SeatJpaRepository seatJpaRepository, ReservationMetrics reservationMetrics) {
+        this.seatJpaRepository = seatJpaRepository;
+        this.reservationMetrics = reservationMetrics;
+    }
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    @Transactional
+    public Seat claim(ReserveSeatCommand command, LocalDateTime assignedUntil) {
+        int updated = seatJpaRepository.assignIfAvailable(command.getConcertId(), command.getSeatNumber(),
+                assignedUntil, LocalDateTime.now(), Seat.SeatStatus.AVAILABLE, Seat.SeatStatus.TEMPORARILY_ASSIGNED);
+
+        Seat seat = seatJpaRepository.findByConcertIdAndSeatNumber(command.getConcertId(), command.getSeatNumber());
+        if (seat == null) {
+            throw new IllegalStateException("좌석이 존재하지 않습니다.");
+        }
+        if (updated == 0) {
+            reservationMetrics.recordSeatClaim(NAME, false);
+            throw new IllegalStateException("이미 선택된 좌석입니다.");
+        }
+        reservationMetrics.recordSeatClaim(NAME, true);
+        return seat;
+    }
+}
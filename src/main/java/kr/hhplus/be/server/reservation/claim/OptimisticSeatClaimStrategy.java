@@ -0,0 +1,59 @@
+package kr.hhplus.be.server.reservation.claim;
+
+import kr.hhplus.be.server.reservation.application.input.ReserveSeatCommand;
+import kr.hhplus.be.server.reservation.metrics.ReservationMetrics;
+import kr.hhplus.be.server.seat.domain.Seat;
+import kr.hhplus.be.server.seat.repository.SeatJpaRepository;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+/**
+ * 낙관적 락 (Seat @Version)
+ * 락 없이 조회 / 배정하고, 저장할 때 버전이 바뀌었으면 (먼저 배정한 요청이 있으면) 실패한다.
+ * 좌석 경쟁에서 진 요청은 이미 선택된 좌석이므로 재시도하지 않는다.
+ */
+@Component
+public class OptimisticSeatClaimStrategy implements SeatClaimStrategy {
+
+    public static final String NAME = "optimistic";
+
+    private final SeatJpaRepository seatJpaRepository;
+    private final ReservationMetrics reservationMetrics;
+
+    public OptimisticSeatClaimStrategy(SeatJpaRepository seatJpaRepository, ReservationMetrics reservationMetrics) {
+        this.seatJpaRepository = seatJpaRepository;
+        this.reservationMetrics = reservationMetrics;
+    }
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    @Transactional
+    public Seat claim(ReserveSeatCommand command, LocalDateTime assignedUntil) {
+        Seat seat = seatJpaRepository.findByConcertIdAndSeatNumber(command.getConcertId(), command.getSeatNumber());
+        if (seat == null) {
+            throw new IllegalStateException("좌석이 존재하지 않습니다.");
+        }
+
+        try {
+            seat.claim(assignedUntil);
+            Seat claimed = seatJpaRepository.saveAndFlush(seat);
+            reservationMetrics.recordSeatClaim(NAME, true);
+            return claimed;
+        } catch (IllegalStateException e) {
+            // 조회 시점에 이미 배정된 좌석
+            reservationMetrics.recordSeatClaim(NAME, false);
+            throw e;
+        } catch (OptimisticLockingFailureException e) {
+            // 조회 후 저장 전에 다른 요청이 먼저 배정
+            reservationMetrics.recordSeatClaim(NAME, false);
+            throw new IllegalStateException("이미 선택된 좌석입니다.");
+        }
+    }
+}
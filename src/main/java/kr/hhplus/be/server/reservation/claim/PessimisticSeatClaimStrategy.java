@@ -0,0 +1,52 @@
+package kr.hhplus.be.server.reservation.claim;
+
+import kr.hhplus.be.server.reservation.application.input.ReserveSeatCommand;
+import kr.hhplus.be.server.reservation.metrics.ReservationMetrics;
+import kr.hhplus.be.server.seat.domain.Seat;
+import kr.hhplus.be.server.seat.repository.SeatJpaRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+/**
+ * 비관적 락 (SELECT ... FOR UPDATE)
+ * 좌석 행 락을 잡고 조회 / 배정하므로, 같은 좌석 요청은 앞 트랜잭션이 끝날 때까지 DB 커넥션을 잡은 채 기다린다.
+ */
+@Component
+public class PessimisticSeatClaimStrategy implements SeatClaimStrategy {
+
+    public static final String NAME = "pessimistic";
+
+    private final SeatJpaRepository seatJpaRepository;
+    private final ReservationMetrics reservationMetrics;
+
+    public PessimisticSeatClaimStrategy(SeatJpaRepository seatJpaRepository, ReservationMetrics reservationMetrics) {
+        this.seatJpaRepository = seatJpaRepository;
+        this.reservationMetrics = reservationMetrics;
+    }
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    @Transactional
+    public Seat claim(ReserveSeatCommand command, LocalDateTime assignedUntil) {
+        Seat seat = seatJpaRepository.findByConcertIdAndSeatNumberForUpdate(command.getConcertId(), command.getSeatNumber());
+        if (seat == null) {
+            throw new IllegalStateException("좌석이 존재하지 않습니다.");
+        }
+
+        try {
+            seat.claim(assignedUntil);
+        } catch (IllegalStateException e) {
+            // 행 락을 기다리는 동안 앞 트랜잭션이 먼저 배정
+            reservationMetrics.recordSeatClaim(NAME, false);
+            throw e;
+        }
+        reservationMetrics.recordSeatClaim(NAME, true);
+        return seat;
+    }
+}
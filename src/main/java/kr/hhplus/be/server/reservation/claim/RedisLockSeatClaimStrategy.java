@@ -0,0 +1,92 @@
+package kr.hhplus.be.server.reservation.claim;
+
+import kr.hhplus.be.server.common.RedisKeyUtils;
+import kr.hhplus.be.server.common.lock.RedisDistributedLock;
+import kr.hhplus.be.server.reservation.application.input.ReserveSeatCommand;
+import kr.hhplus.be.server.reservation.metrics.ReservationMetrics;
+import kr.hhplus.be.server.seat.domain.Seat;
+import kr.hhplus.be.server.seat.repository.SeatJpaRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * Redis 분산 락 (기본)
+ * 좌석별 락(lock:seat:{concertId}:{seatNumber})을 잡은 스레드만 좌석을 조회 / 배정한다.
+ * DB 에 좌석 경쟁이 도달하지 않지만, 요청마다 Redis 왕복과 락 대기가 추가된다.
+ */
+@Component
+public class RedisLockSeatClaimStrategy implements SeatClaimStrategy {
+
+    public static final String NAME = "redis-lock";
+
+    private static final Logger log = LoggerFactory.getLogger(RedisLockSeatClaimStrategy.class);
+
+    private final SeatJpaRepository seatJpaRepository;
+    private final RedisDistributedLock redisDistributedLock;
+    private final ReservationMetrics reservationMetrics;
+
+    public RedisLockSeatClaimStrategy(SeatJpaRepository seatJpaRepository, RedisDistributedLock redisDistributedLock,
+                                      ReservationMetrics reservationMetrics) {
+        this.seatJpaRepository = seatJpaRepository;
+        this.redisDistributedLock = redisDistributedLock;
+        this.reservationMetrics = reservationMetrics;
+    }
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public Seat claim(ReserveSeatCommand command, LocalDateTime assignedUntil) {
+        String seatLockKey = RedisKeyUtils.seatLockKey(command.getConcertId(), command.getSeatNumber());
+        String seatLockValue = command.getUserId();
+
+        log.info("[reserveSeat] 락 획득 시도 seatLockKey : {}, seatLockValue : {}", seatLockKey, seatLockValue);
+
+        // 분산 락 획득 시도 (짧은 임대 + watchdog 연장, 보유 노드가 죽으면 임대 시간 안에 풀림)
+        if (!redisDistributedLock.tryLockWithWatchdog(seatLockKey, seatLockValue)) {
+            log.info("[reserveSeat] 분산 락 획득 실패");
+            reservationMetrics.recordSeatLock(false);
+            reservationMetrics.recordSeatClaim(NAME, false);
+            throw new RuntimeException("대기열 처리 중입니다. 잠시 후 다시 시도해주세요.");
+        }
+        reservationMetrics.recordSeatLock(true);
+
+        log.info("[reserveSeat] 락 획득 seatLockKey : {}, seatLockValue : {}", seatLockKey, seatLockValue);
+
+        try {
+            // 1. 좌석 조회 및 상태 확인
+            Seat seat = seatJpaRepository.findByConcertIdAndSeatNumber(command.getConcertId(), command.getSeatNumber());
+            if (seat == null) {
+                throw new IllegalStateException("좌석이 존재하지 않습니다.");
+            }
+
+            // 2. 이용 가능한 좌석인지 확인
+            if (!seat.isAvailable()) {
+                // 임시 배정 만료 시
+                if (seat.isExpired()) {
+                    // 임시 배정 해제
+                    seat.releaseAssign();
+                    // 변경된 상태 DB에 반영
+                    seatJpaRepository.save(seat);
+                } else {
+                    reservationMetrics.recordSeatClaim(NAME, false);
+                    throw new IllegalStateException("이미 선택된 좌석입니다.");
+                }
+            }
+
+            // 3. 이용 가능하면 임시 배정 처리
+            seat.assign(assignedUntil);
+            seatJpaRepository.save(seat);
+            reservationMetrics.recordSeatClaim(NAME, true);
+            return seat;
+        } finally {
+            // 4. 분산락 해제
+            redisDistributedLock.releaseLock(seatLockKey, seatLockValue);
+        }
+    }
+}
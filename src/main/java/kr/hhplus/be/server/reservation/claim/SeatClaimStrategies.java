@@ -0,0 +1,49 @@
+package kr.hhplus.be.server.reservation.claim;
+
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 좌석 배정 방식 선택
+ * 모든 방식을 빈으로 등록해 두고 reservation.seat-claim.strategy 값으로 사용할 방식을 고른다.
+ */
+@Component
+public class SeatClaimStrategies {
+
+    private final Map<String, SeatClaimStrategy> strategies;
+
+    // 좌석 배정 방식 (redis-lock / optimistic / conditional-update / pessimistic)
+    @Value("${reservation.seat-claim.strategy:redis-lock}")
+    private String strategy;
+
+    public SeatClaimStrategies(List<SeatClaimStrategy> strategies) {
+        this.strategies = strategies.stream()
+                .collect(Collectors.toMap(SeatClaimStrategy::name, Function.identity()));
+    }
+
+    @PostConstruct
+    void validate() {
+        get(strategy);
+    }
+
+    /**
+     * 설정된 좌석 배정 방식
+     */
+    public SeatClaimStrategy current() {
+        return get(strategy);
+    }
+
+    public SeatClaimStrategy get(String name) {
+        SeatClaimStrategy seatClaimStrategy = strategies.get(name);
+        if (seatClaimStrategy == null) {
+            throw new IllegalStateException("지원하지 않는 좌석 배정 방식입니다 : " + name);
+        }
+        return seatClaimStrategy;
+    }
+}
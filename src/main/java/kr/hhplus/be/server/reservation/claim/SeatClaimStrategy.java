@@ -0,0 +1,27 @@
+package kr.hhplus.be.server.reservation.claim;
+
+import kr.hhplus.be.server.reservation.application.input.ReserveSeatCommand;
+import kr.hhplus.be.server.seat.domain.Seat;
+
+import java.time.LocalDateTime;
+
+/**
+ * 좌석 임시 배정 방식 (같은 좌석 동시 요청 제어)
+ * reservation.seat-claim.strategy 로 배포 환경마다 선택 : redis-lock(기본), optimistic, conditional-update, pessimistic
+ */
+public interface SeatClaimStrategy {
+
+    /**
+     * 설정 값과 같은 방식 이름
+     */
+    String name();
+
+    /**
+     * 좌석 임시 배정 (이용 가능하거나 배정 시간이 만료된 좌석 -> TEMPORARILY_ASSIGNED)
+     * 같은 좌석에 동시에 요청하면 하나만 배정되고 나머지는 예외가 발생한다.
+     * @param command 예약 요청 정보
+     * @param assignedUntil 임시 배정 만료 시간
+     * @return 배정된 좌석
+     */
+    Seat claim(ReserveSeatCommand command, LocalDateTime assignedUntil);
+}
@@ -0,0 +1,75 @@
+package kr.hhplus.be.server.reservation.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 좌석 예약 Micrometer 지표
+ * 대기열 활성화 정책(feedback)의 입력으로도 사용
+ */
+@Component
+public class ReservationMetrics {
+
+    public static final String SEAT_LOCK = "reservation.seat.lock";
+    public static final String SEAT_CLAIM = "reservation.seat.claim";
+    public static final String RESERVE = "reservation.reserve";
+
+    private final MeterRegistry meterRegistry;
+
+    // 좌석 락 획득 성공/실패 수
+    private final Counter seatLockAcquired;
+    private final Counter seatLockFailed;
+
+    // 좌석 예약 처리 시간 (토큰 검증 이후 락 획득 ~ 예약 저장)
+    private final Timer reserveTimer;
+
+    public ReservationMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.seatLockAcquired = Counter.builder(SEAT_LOCK)
+                .description("좌석 락 획득 결과")
+                .tag("result", "acquired")
+                .register(meterRegistry);
+        this.seatLockFailed = Counter.builder(SEAT_LOCK)
+                .description("좌석 락 획득 결과")
+                .tag("result", "failed")
+                .register(meterRegistry);
+        this.reserveTimer = Timer.builder(RESERVE)
+                .description("좌석 예약 처리 시간")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 좌석 락 획득 결과 기록
+     * @param acquired 획득 여부
+     */
+    public void recordSeatLock(boolean acquired) {
+        (acquired ? seatLockAcquired : seatLockFailed).increment();
+    }
+
+    /**
+     * 좌석 배정 결과 기록 (모든 배정 방식 공통, 같은 좌석을 먼저 배정한 요청이 있으면 경합)
+     * @param strategy 좌석 배정 방식 (reservation.seat-claim.strategy)
+     * @param claimed 배정 여부 (false 면 경합으로 실패)
+     */
+    public void recordSeatClaim(String strategy, boolean claimed) {
+        Counter.builder(SEAT_CLAIM)
+                .description("좌석 배정 결과")
+                .tag("strategy", strategy)
+                .tag("result", claimed ? "claimed" : "conflict")
+                .register(meterRegistry)
+                .increment();
+    }
+
+    /**
+     * 좌석 예약 처리 시간 기록
+     * @param elapsedNanos 처리 시간 (ns)
+     */
+    public void recordReservation(long elapsedNanos) {
+        reserveTimer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+}
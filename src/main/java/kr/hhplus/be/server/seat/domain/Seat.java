@@ -30,6 +30,10 @@ public class Seat {
     private LocalDateTime assignedUntil;
     private LocalDateTime reservedAt;
 
+    // 낙관적 락 버전 (좌석 배정 방식 optimistic, 조건부 UPDATE 도 함께 증가)
+    @Version
+    private Long version;
+
     public enum SeatStatus {
         AVAILABLE, TEMPORARILY_ASSIGNED, RESERVED
     }
@@ -52,6 +56,19 @@ public class Seat {
         this.assignedUntil = expiredAt;
     }
 
+    /**
+     * 좌석 임시 배정 (배정 시간이 만료된 좌석은 해제 후 다시 배정)
+     */
+    public void claim(LocalDateTime expiredAt) {
+        if (isExpired()) {
+            releaseAssign();
+        }
+        if (!isAvailable()) {
+            throw new IllegalStateException("이미 선택된 좌석입니다.");
+        }
+        assign(expiredAt);
+    }
+
     public void confirmReservation(LocalDateTime confirmedAt) {
         if (!isTemporarilyAssigned()) {
             throw new IllegalStateException("임시 배정되지 않은 좌석입니다.");
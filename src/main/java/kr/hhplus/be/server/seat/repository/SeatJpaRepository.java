@@ -1,11 +1,15 @@
 package kr.hhplus.be.server.seat.repository;
 
-import io.lettuce.core.dynamic.annotation.Param;
+import jakarta.persistence.LockModeType;
 import kr.hhplus.be.server.seat.domain.Seat;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
@@ -28,6 +32,36 @@ public interface SeatJpaRepository extends JpaRepository<Seat, Long> {
      */
     Seat findByConcertIdAndSeatNumber(Long concertId, Integer seatNumber);
 
+    /**
+     * 콘서트 ID와 좌석 번호로 좌석을 조회하고 행 락을 겁니다. (SELECT ... FOR UPDATE)
+     * 트랜잭션이 끝날 때까지 같은 좌석을 조회하는 다른 트랜잭션은 기다립니다.
+     *
+     * @param concertId 콘서트 ID
+     * @param seatNumber 좌석 번호
+     * @return 좌석 정보
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM Seat s WHERE s.concertId = :concertId AND s.seatNumber = :seatNumber")
+    Seat findByConcertIdAndSeatNumberForUpdate(@Param("concertId") Long concertId, @Param("seatNumber") Integer seatNumber);
+
+    /**
+     * 좌석 임시 배정 (조건부 UPDATE - 동시성 제어)
+     * 이용 가능하거나 임시 배정 시간이 만료된 좌석만 배정합니다.
+     *
+     * @param concertId 콘서트 ID
+     * @param seatNumber 좌석 번호
+     * @param assignedUntil 임시 배정 만료 시간
+     * @param now 현재 시간 (배정 만료 판단)
+     * @return 업데이트된 row 수 (1:성공, 0:이미 선택된 좌석 or 좌석 없음)
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Seat s SET s.status = :assigned, s.assignedUntil = :assignedUntil, s.version = s.version + 1" +
+            " WHERE s.concertId = :concertId AND s.seatNumber = :seatNumber" +
+            " AND (s.status = :available OR (s.status = :assigned AND s.assignedUntil < :now))")
+    int assignIfAvailable(@Param("concertId") Long concertId, @Param("seatNumber") Integer seatNumber,
+                          @Param("assignedUntil") LocalDateTime assignedUntil, @Param("now") LocalDateTime now,
+                          @Param("available") Seat.SeatStatus available, @Param("assigned") Seat.SeatStatus assigned);
+
     /**
      * 콘서트 ID로 이용가능한 좌석 리스트를 조회합니다.
      *
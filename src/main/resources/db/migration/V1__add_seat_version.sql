@@ -0,0 +1,5 @@
+-- 좌석 낙관적 락 버전 컬럼 추가 (Seat @Version, reservation.seat-claim.strategy = optimistic)
+-- ddl-auto 가 none 이므로 배포 전에 운영 DB 에 직접 적용한다. (erd.md DDL 로 새로 만든 DB 는 이미 포함)
+-- 기존 행은 0 으로 채운다. (version 이 null 이면 Hibernate 가 새 엔티티로 판단해서 저장 시 INSERT 를 시도함)
+ALTER TABLE seat
+    ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
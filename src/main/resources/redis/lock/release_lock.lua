@@ -0,0 +1,13 @@
+-- 분산 락 해제 (보유자 확인 + 삭제 + 해제 알림을 한 번에)
+-- GET 후 DEL 을 따로 보내면 그 사이 TTL 이 만료되어 다른 보유자가 얻은 락을 지울 수 있다.
+-- KEYS[1] : 락 key (String, value = 보유자)
+-- ARGV[1] : 보유자 value
+-- ARGV[2] : 해제 알림 채널
+-- return : 1 (해제) / 0 (보유자 아님, 이미 만료)
+
+if redis.call('GET', KEYS[1]) ~= ARGV[1] then
+    return 0
+end
+redis.call('DEL', KEYS[1])
+redis.call('PUBLISH', ARGV[2], KEYS[1])
+return 1
@@ -0,0 +1,11 @@
+-- 분산 락 임대 연장 (watchdog)
+-- 아직 내가 보유자일 때만 임대 시간을 연장한다.
+-- KEYS[1] : 락 key (String, value = 보유자)
+-- ARGV[1] : 보유자 value
+-- ARGV[2] : 임대 시간 (ms)
+-- return : 1 (연장) / 0 (보유자 아님, 이미 만료)
+
+if redis.call('GET', KEYS[1]) == ARGV[1] then
+    return redis.call('PEXPIRE', KEYS[1], ARGV[2])
+end
+return 0
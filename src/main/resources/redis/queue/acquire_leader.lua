@@ -0,0 +1,17 @@
+-- 대기열 작업 리더 임대 획득 / 연장
+-- 내가 리더면 임대 시간을 연장하고, 리더가 없으면 (이전 리더의 임대가 만료됨) 리더가 된다.
+-- KEYS[1] : 리더 키 (String, value = 노드 ID)
+-- ARGV[1] : 노드 ID
+-- ARGV[2] : 임대 시간 (ms)
+-- return : 1 (리더) / 0 (팔로워)
+
+local owner = redis.call('GET', KEYS[1])
+if owner == ARGV[1] then
+    redis.call('PEXPIRE', KEYS[1], ARGV[2])
+    return 1
+end
+if not owner then
+    redis.call('SET', KEYS[1], ARGV[1], 'PX', ARGV[2])
+    return 1
+end
+return 0
@@ -0,0 +1,116 @@
+-- 대기 사용자 일괄 활성화 (만료 정리 + 빈 슬롯 계산 + lane 별 배정 + 대기열 pop + 활성 등록 + 토큰 상태 갱신)
+-- KEYS[1] : 활성 대기열 키 (Sorted Set, score = 만료 시각 ms)
+-- KEYS[2] : lane 별 활성화 credit 키 (Hash, field = lane)
+-- KEYS[3] : 활성 사용자 heartbeat 키 (Sorted Set, score = 유휴 만료 시각 ms)
+-- KEYS[4..] : lane 별 대기열 키 (Sorted Set, score = 요청 시각 ms, ARGV 의 lane 순서와 같음)
+-- ARGV[1] : 활성 사용자 최대수
+-- ARGV[2] : 토큰 만료 시간(초)
+-- ARGV[3] : 현재 시각 (ms)
+-- ARGV[4] : 활성 토큰 만료 일시 (epoch ms)
+-- ARGV[5] : 토큰 키 prefix
+-- ARGV[6] : 사용자-토큰 매핑 키 prefix
+-- ARGV[7] : 한 번에 처리할 최대 인원 (batch size)
+-- ARGV[8] : 활성 사용자 키 prefix (만료 이벤트용)
+-- ARGV[9] : 유휴 허용 시간 (ms, 0 이면 heartbeat 미사용)
+-- ARGV[10..] : (lane 이름, lane 비중) 쌍
+-- pop 한 사용자의 매핑 / 활성 사용자 / 토큰 키는 pop 결과로 정해지므로 ARGV[5], ARGV[6], ARGV[8] prefix 로 조합한다.
+--   prefix 는 모두 queue:{concertId}: 로 시작해서 KEYS 와 같은 슬롯 (RedisKey.md 1-0)
+-- return : {poppedCount, userId1, enqueuedAt1, laneIndex1, userId2, ...} (활성화된 사용자만 포함, laneIndex 는 1부터)
+-- Redis 명령 수는 lane 수와 pop 인원에만 비례 (lane 별 ZCARD/ZPOPMIN 1회 + credit HMGET/HSET 1회)
+
+local now = tonumber(ARGV[3])
+
+-- 1. 만료된 활성 사용자 정리 후 빈 슬롯 계산
+redis.call('ZREMRANGEBYSCORE', KEYS[1], '-inf', now)
+local slots = math.min(tonumber(ARGV[1]) - redis.call('ZCARD', KEYS[1]), tonumber(ARGV[7]))
+if slots <= 0 then
+    return {'0'}
+end
+
+-- 2. 빈 슬롯을 lane 비중으로 나눔 (smooth weighted round robin, QueueLane.allocate 와 같은 계산)
+--    credit 을 주기 사이에 유지해서 빈 슬롯이 적은 주기가 이어져도 비중을 지키고, 대기자가 없는 lane 의 몫은 다른 lane 이 가져감
+local laneCount = #KEYS - 3
+local names, weights, sizes, quotas, credits = {}, {}, {}, {}, {}
+for i = 1, laneCount do
+    names[i] = ARGV[8 + i * 2]
+    weights[i] = tonumber(ARGV[9 + i * 2])
+    sizes[i] = redis.call('ZCARD', KEYS[3 + i])
+    quotas[i] = 0
+    credits[i] = 0
+end
+
+if laneCount > 1 then
+    local stored = redis.call('HMGET', KEYS[2], unpack(names))
+    for i = 1, laneCount do
+        credits[i] = tonumber(stored[i]) or 0
+    end
+end
+
+for slot = 1, slots do
+    local best = nil
+    local totalWeight = 0
+    for i = 1, laneCount do
+        if sizes[i] - quotas[i] > 0 then
+            credits[i] = credits[i] + weights[i]
+            totalWeight = totalWeight + weights[i]
+            if best == nil or credits[i] > credits[best] then
+                best = i
+            end
+        end
+    end
+    if best == nil then
+        break
+    end
+    credits[best] = credits[best] - totalWeight
+    quotas[best] = quotas[best] + 1
+end
+
+if laneCount > 1 then
+    local fields = {}
+    for i = 1, laneCount do
+        fields[#fields + 1] = names[i]
+        fields[#fields + 1] = credits[i]
+    end
+    redis.call('HSET', KEYS[2], unpack(fields))
+    redis.call('EXPIRE', KEYS[2], ARGV[2])
+end
+
+-- 3. lane 별로 가장 오래 기다린 사용자부터 pop + 활성 등록 + 토큰 상태 갱신 (토큰이 만료된 사용자는 pop 만 하고 건너뜀)
+local expireAt = now + tonumber(ARGV[2]) * 1000
+local idleMillis = tonumber(ARGV[9])
+local poppedCount = 0
+local result = {'0'}
+
+for i = 1, laneCount do
+    if quotas[i] > 0 then
+        local popped = redis.call('ZPOPMIN', KEYS[3 + i], quotas[i])
+        poppedCount = poppedCount + #popped / 2
+
+        for j = 1, #popped, 2 do
+            local userId = popped[j]
+            local token = redis.call('GET', ARGV[6] .. userId)
+            if token then
+                redis.call('ZADD', KEYS[1], expireAt, userId)
+                redis.call('SET', ARGV[8] .. userId, token, 'EX', ARGV[2])
+                if idleMillis > 0 then
+                    redis.call('ZADD', KEYS[3], now + idleMillis, userId)
+                end
+
+                local tokenKey = ARGV[5] .. token
+                if redis.call('EXISTS', tokenKey) == 1 then
+                    redis.call('HSET', tokenKey, 's', 'A', 'p', 0, 'e', ARGV[4])
+                    redis.call('EXPIRE', tokenKey, ARGV[2])
+                    -- 사용자-토큰 매핑도 토큰과 같이 연장 (발급 시 TTL 로 먼저 만료되면 같은 사용자가 토큰을 중복 발급받음)
+                    redis.call('EXPIRE', ARGV[6] .. userId, ARGV[2])
+                end
+
+                result[#result + 1] = userId
+                result[#result + 1] = popped[j + 1]
+                result[#result + 1] = tostring(i)
+            end
+        end
+    end
+end
+
+result[1] = tostring(poppedCount)
+return result
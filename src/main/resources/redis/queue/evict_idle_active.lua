@@ -0,0 +1,29 @@
+-- 유휴 활성 사용자 회수 (유휴 만료 시각까지 heartbeat 가 없는 사용자)
+-- 활성 대기열에 남아 있는 사용자만 회수하고, 이미 반환/만료된 사용자의 heartbeat 항목은 삭제만 한다.
+-- KEYS[1] : 활성 사용자 heartbeat 키 (Sorted Set, score = 유휴 만료 시각 ms)
+-- KEYS[2] : 활성 대기열 키 (Sorted Set, score = 만료 시각 ms)
+-- ARGV[1] : 현재 시각 (ms)
+-- ARGV[2] : 한 번에 확인할 최대 인원
+-- ARGV[3] : 활성 사용자 키 prefix (만료 이벤트용)
+-- ARGV[4] : 사용자-토큰 매핑 키 prefix
+-- ARGV[5] : 토큰 키 prefix
+-- 회수 대상은 heartbeat 조회 결과로 정해지므로 사용자별 키는 ARGV[3..5] prefix 로 조합 (KEYS 와 같은 {concertId} hash tag, RedisKey.md 1-0)
+-- return : {확인한 인원, 회수한 userId1, userId2, ...}
+
+local idle = redis.call('ZRANGEBYSCORE', KEYS[1], '-inf', ARGV[1], 'LIMIT', 0, tonumber(ARGV[2]))
+local result = {tostring(#idle)}
+
+for _, userId in ipairs(idle) do
+    redis.call('ZREM', KEYS[1], userId)
+    if redis.call('ZREM', KEYS[2], userId) == 1 then
+        -- 만료 이벤트가 발생하지 않도록 활성 사용자 키 삭제, 다시 입장하려면 토큰을 새로 발급받아야 함
+        redis.call('DEL', ARGV[3] .. userId)
+        local token = redis.call('GET', ARGV[4] .. userId)
+        if token then
+            redis.call('DEL', ARGV[5] .. token, ARGV[4] .. userId)
+        end
+        result[#result + 1] = userId
+    end
+end
+
+return result
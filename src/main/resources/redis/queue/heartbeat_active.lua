@@ -0,0 +1,14 @@
+-- 활성 사용자 heartbeat (유휴 만료 시각 연장)
+-- 이미 유휴 만료 시각이 지났거나 회수된 사용자는 다시 살리지 않는다. (ZADD XX 로 없는 사용자는 추가하지 않음)
+-- KEYS[1] : 활성 사용자 heartbeat 키 (Sorted Set, score = 유휴 만료 시각 ms)
+-- ARGV[1] : 사용자 ID
+-- ARGV[2] : 현재 시각 (ms)
+-- ARGV[3] : 새 유휴 만료 시각 (ms)
+-- return : 1 (연장) / 0 (활성 상태 아님)
+
+local score = redis.call('ZSCORE', KEYS[1], ARGV[1])
+if score and tonumber(score) > tonumber(ARGV[2]) then
+    redis.call('ZADD', KEYS[1], 'XX', ARGV[3], ARGV[1])
+    return 1
+end
+return 0
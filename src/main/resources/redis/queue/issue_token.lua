@@ -0,0 +1,82 @@
+-- 대기열 토큰 발급 (기존 토큰 확인 + 활성 인원 확인 + 활성화/대기열 추가를 한 번의 호출로 처리)
+-- KEYS[1] : 사용자-토큰 매핑 키
+-- KEYS[2] : 활성 대기열 키 (Sorted Set, score = 만료 시각 ms)
+-- KEYS[3] : 요청한 lane 의 대기열 키 (Sorted Set, score = 요청 시각 ms)
+-- KEYS[4] : 신규 토큰 키 (Hash)
+-- KEYS[5] : 활성 사용자 키 (만료 이벤트용, 활성화된 경우에만 저장)
+-- KEYS[6] : 활성 사용자 heartbeat 키 (Sorted Set, score = 유휴 만료 시각 ms)
+-- KEYS[7..] : 설정된 lane 별 대기열 키 (ARGV[11..] 의 lane 순서와 같음)
+-- ARGV[1] : 사용자 ID
+-- ARGV[2] : 신규 토큰
+-- ARGV[3] : 활성 사용자 최대수
+-- ARGV[4] : 토큰 만료 시간(초)
+-- ARGV[5] : 현재 시각 (ms, 대기열 score)
+-- ARGV[6] : 발급 일시 (epoch ms)
+-- ARGV[7] : 만료 일시 (epoch ms)
+-- ARGV[8] : 토큰 키 prefix (기존 토큰 키는 매핑 값을 읽어야 정해지므로 prefix 로 조합, KEYS 와 같은 {concertId} hash tag, RedisKey.md 1-0)
+-- ARGV[9] : 요청한 lane
+-- ARGV[10] : 유휴 허용 시간 (ms, 0 이면 heartbeat 미사용)
+-- ARGV[11..] : 설정된 lane 이름 (KEYS[7..] 순서)
+-- return : {token, status(W/A), queuePosition(lane 안의 순서), issuedAt, expiresAt, reused(1/0), lane}
+-- 토큰 Hash 필드 : u(사용자 ID), s(상태 W/A), p(대기 순서), i(발급 일시 ms), e(만료 일시 ms), l(lane, general 이면 저장하지 않음)
+
+-- 1. 기존 토큰 확인
+local existing = redis.call('GET', KEYS[1])
+if existing then
+    local fields = redis.call('HMGET', ARGV[8] .. existing, 's', 'i', 'e', 'l')
+    if fields[1] then
+        local lane = fields[4] or 'general'
+        local position = 0
+        if fields[1] == 'W' then
+            -- 기존 토큰의 lane 대기열에서 순서 확인 (설정에서 빠진 lane 이면 0)
+            for i = 11, #ARGV do
+                if ARGV[i] == lane then
+                    local rank = redis.call('ZRANK', KEYS[i - 4], ARGV[1])
+                    if rank then
+                        position = rank + 1
+                    end
+                    break
+                end
+            end
+        end
+        return {existing, fields[1], tostring(position), fields[2], fields[3], '1', lane}
+    end
+end
+
+-- 2. 만료된 활성 사용자 정리 (만료 시각이 지난 사용자 범위 삭제)
+local now = tonumber(ARGV[5])
+redis.call('ZREMRANGEBYSCORE', KEYS[2], '-inf', now)
+
+-- 3. 활성 사용자 최대치 미만 -> 활성화 / 최대치인 경우 -> 대기열 추가
+local status
+local position
+if redis.call('ZCARD', KEYS[2]) < tonumber(ARGV[3]) then
+    redis.call('ZADD', KEYS[2], now + tonumber(ARGV[4]) * 1000, ARGV[1])
+    redis.call('SET', KEYS[5], ARGV[2], 'EX', ARGV[4])
+    if tonumber(ARGV[10]) > 0 then
+        redis.call('ZADD', KEYS[6], now + tonumber(ARGV[10]), ARGV[1])
+    end
+    status = 'A'
+    position = 0
+else
+    redis.call('ZADD', KEYS[3], 'NX', now, ARGV[1])
+    status = 'W'
+    position = redis.call('ZRANK', KEYS[3], ARGV[1]) + 1
+end
+
+-- 3-1. 다른 lane 대기열에 남은 항목 제거 (토큰 만료 후 다른 lane 으로 다시 발급받은 사용자가 두 lane 에서 활성화되지 않도록)
+for i = 11, #ARGV do
+    if status == 'A' or ARGV[i] ~= ARGV[9] then
+        redis.call('ZREM', KEYS[i - 4], ARGV[1])
+    end
+end
+
+-- 4. 토큰 정보 저장 + 사용자-토큰 매핑 저장
+redis.call('HSET', KEYS[4], 'u', ARGV[1], 's', status, 'p', position, 'i', ARGV[6], 'e', ARGV[7])
+if ARGV[9] ~= 'general' then
+    redis.call('HSET', KEYS[4], 'l', ARGV[9])
+end
+redis.call('EXPIRE', KEYS[4], ARGV[4])
+redis.call('SET', KEYS[1], ARGV[2], 'EX', ARGV[4])
+
+return {ARGV[2], status, tostring(position), ARGV[6], ARGV[7], '0', ARGV[9]}
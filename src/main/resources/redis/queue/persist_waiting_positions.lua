@@ -0,0 +1,25 @@
+-- 대기열 앞쪽 대기자의 토큰에 현재 대기 순서 저장 (선택 기능, 상태 조회와 무관하게 활성화 주기에만 실행)
+-- KEYS[1] : 대기열 키 (Sorted Set, score = 요청 시각 ms)
+-- ARGV[1] : 저장할 최대 인원 (대기열 앞쪽부터)
+-- ARGV[2] : 사용자-토큰 매핑 키 prefix
+-- ARGV[3] : 토큰 키 prefix
+-- 매핑 / 토큰 키는 대기열에서 읽은 사용자로 정해지므로 prefix 로 조합 (KEYS[1] 과 같은 {concertId} hash tag, RedisKey.md 1-0)
+-- return : 대기 순서를 저장한 토큰 수
+-- 토큰 TTL 은 변경하지 않는다. (대기 순서 저장이 토큰 만료를 연장하지 않도록)
+
+local users = redis.call('ZRANGE', KEYS[1], 0, tonumber(ARGV[1]) - 1)
+local saved = 0
+
+for i = 1, #users do
+    local token = redis.call('GET', ARGV[2] .. users[i])
+    if token then
+        local tokenKey = ARGV[3] .. token
+        -- 만료된 토큰 키를 TTL 없이 다시 만들지 않도록 존재하는 경우에만 저장
+        if redis.call('EXISTS', tokenKey) == 1 then
+            redis.call('HSET', tokenKey, 'p', i)
+            saved = saved + 1
+        end
+    end
+end
+
+return saved
@@ -0,0 +1,31 @@
+-- 대기실 처리량 EWMA 기록 (조회 + 감쇠 + 누적 + 저장을 한 번에 처리해서 동시에 기록해도 서로 덮어쓰지 않음)
+-- rate = rate * e^(-경과시간/τ) + 인원/τ
+-- KEYS[1] : 대기실 처리량 키 (Hash)
+-- ARGV[1] : 기록 종류 (admission / release, field = {종류}Rate, {종류}UpdatedAt)
+-- ARGV[2] : 인원
+-- ARGV[3] : 현재 시각 (ms)
+-- ARGV[4] : 시간 상수 τ (초)
+-- ARGV[5] : 키 만료 시간 (초, 기록이 없으면 처리량이 0 으로 감쇠된 뒤 삭제)
+-- return : 1
+
+local rateField = ARGV[1] .. 'Rate'
+local updatedAtField = ARGV[1] .. 'UpdatedAt'
+local now = tonumber(ARGV[3])
+local timeConstant = tonumber(ARGV[4])
+
+local values = redis.call('HMGET', KEYS[1], rateField, updatedAtField)
+local rate = tonumber(values[1]) or 0
+local updatedAt = tonumber(values[2]) or 0
+
+if rate > 0 and updatedAt > 0 then
+    local elapsedSeconds = math.max(0, now - updatedAt) / 1000
+    rate = rate * math.exp(-elapsedSeconds / timeConstant)
+else
+    rate = 0
+end
+rate = rate + tonumber(ARGV[2]) / timeConstant
+
+-- 시계가 늦은 노드가 기록해도 갱신 시각은 뒤로 가지 않음
+redis.call('HSET', KEYS[1], rateField, tostring(rate), updatedAtField, string.format('%d', math.max(now, updatedAt)))
+redis.call('EXPIRE', KEYS[1], ARGV[5])
+return 1
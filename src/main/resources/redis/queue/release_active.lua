@@ -0,0 +1,29 @@
+-- 활성 슬롯 반환 (결제 완료, 예약 취소 : 활성 대기열 제거 + 활성 사용자 키 / 토큰 삭제를 한 번에 처리)
+-- 만료 / 유휴 회수와 동시에 실행되어도 슬롯은 한 번만 반환되고, 그 사이 다시 발급받은 대기 토큰은 지우지 않는다.
+-- KEYS[1] : 활성 대기열 키 (Sorted Set, score = 만료 시각 ms)
+-- KEYS[2] : 활성 사용자 heartbeat 키 (Sorted Set, score = 유휴 만료 시각 ms)
+-- KEYS[3] : 활성 사용자 키 (value = 활성화된 토큰)
+-- KEYS[4] : 사용자-토큰 매핑 키
+-- ARGV[1] : 사용자 ID
+-- ARGV[2] : 토큰 키 prefix (토큰 값은 스크립트 안에서 읽으므로 KEYS 로 넘길 수 없음, {concertId} hash tag 로 같은 슬롯, RedisKey.md 1-0)
+-- return : 1 (활성 대기열에서 제거) / 0 (이미 반환 / 만료 / 회수됨)
+
+local token = redis.call('GET', KEYS[3])
+redis.call('DEL', KEYS[3])
+local removed = redis.call('ZREM', KEYS[1], ARGV[1])
+redis.call('ZREM', KEYS[2], ARGV[1])
+
+-- 활성 사용자 키가 먼저 만료된 경우 매핑된 토큰이 활성 상태일 때만 삭제 (새로 발급받은 대기 토큰은 유지)
+local mapped = redis.call('GET', KEYS[4])
+if not token and mapped and redis.call('HGET', ARGV[2] .. mapped, 's') == 'A' then
+    token = mapped
+end
+
+if token then
+    redis.call('DEL', ARGV[2] .. token)
+    if mapped == token then
+        redis.call('DEL', KEYS[4])
+    end
+end
+
+return removed
@@ -0,0 +1,10 @@
+-- 대기열 작업 리더 임대 반납 (종료 시 다음 노드가 임대 만료를 기다리지 않도록)
+-- 다른 노드가 이미 리더가 된 경우에는 삭제하지 않는다.
+-- KEYS[1] : 리더 키 (String, value = 노드 ID)
+-- ARGV[1] : 노드 ID
+-- return : 1 (반납) / 0 (리더 아님)
+
+if redis.call('GET', KEYS[1]) == ARGV[1] then
+    return redis.call('DEL', KEYS[1])
+end
+return 0
@@ -0,0 +1,13 @@
+-- 만료된 활성 사용자 제거 (활성 사용자 키 만료 이벤트 처리)
+-- 만료 이벤트가 늦게 도착하는 사이 같은 사용자가 다시 활성화되었을 수 있으므로 만료 시각이 지난 경우에만 제거한다.
+-- KEYS[1] : 활성 대기열 키 (Sorted Set, score = 만료 시각 ms)
+-- ARGV[1] : 사용자 ID
+-- ARGV[2] : 현재 시각 (ms)
+-- return : 1 (제거) / 0 (없거나 아직 만료 전)
+
+local score = redis.call('ZSCORE', KEYS[1], ARGV[1])
+if score and tonumber(score) <= tonumber(ARGV[2]) then
+    redis.call('ZREM', KEYS[1], ARGV[1])
+    return 1
+end
+return 0
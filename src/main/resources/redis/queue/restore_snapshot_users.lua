@@ -0,0 +1,62 @@
+-- 스냅샷 사용자 병합 복구 (사용자마다 매핑 확인 + 기록을 한 번에 처리해서 복구 중에 다시 발급받은 사용자를 덮어쓰지 않음)
+-- KEYS[1] : 활성 대기열 키 (Sorted Set, score = 만료 시각 ms)
+-- KEYS[2] : 활성 사용자 heartbeat 키 (Sorted Set, score = 유휴 만료 시각 ms)
+-- KEYS[3 + (n-1)*4 .. 6 + (n-1)*4] : n 번째 사용자의 (사용자-토큰 매핑 키, 토큰 키, 활성 사용자 키, lane 대기열 키)
+-- ARGV[1] : 현재 시각 (ms)
+-- ARGV[2] : 활성 사용자 최대수
+-- ARGV[3] : 유휴 허용 시간 (ms, 0 이면 heartbeat 미사용)
+-- ARGV[4 + (n-1)*7 .. 10 + (n-1)*7] : n 번째 사용자의 (사용자 ID, 토큰, 상태 A/W, score, 발급 일시 ms, 만료 일시 ms, lane)
+-- return : {복구한 인원, 빈 슬롯이 없어 대기열 맨 앞으로 돌려보낸 활성 사용자 수}
+-- 활성 사용자는 빈 슬롯만큼만 복구하고 (장애 후 활성화된 사용자와 합쳐 최대수를 넘지 않도록), 나머지는 lane 대기열 맨 앞에 넣는다.
+
+local now = tonumber(ARGV[1])
+local maxActive = tonumber(ARGV[2])
+local idleMillis = tonumber(ARGV[3])
+
+redis.call('ZREMRANGEBYSCORE', KEYS[1], '-inf', now)
+local activeCount = redis.call('ZCARD', KEYS[1])
+
+local restored, demoted = 0, 0
+local userCount = (#ARGV - 3) / 7
+
+for n = 1, userCount do
+    local k = 2 + (n - 1) * 4
+    local a = 3 + (n - 1) * 7
+    local userId, token, status, score = ARGV[a + 1], ARGV[a + 2], ARGV[a + 3], tonumber(ARGV[a + 4])
+    local issuedAt, expiresAt, lane = ARGV[a + 5], ARGV[a + 6], ARGV[a + 7]
+
+    -- 장애 후 다시 발급받은 사용자는 덮어쓰지 않음 (매핑이 있으면 건너뜀)
+    if redis.call('SET', KEYS[k + 1], token, 'NX', 'PXAT', expiresAt) then
+        if status == 'A' and activeCount >= maxActive then
+            -- 빈 슬롯이 없으면 대기자로 바꿔서 lane 대기열 맨 앞에 넣음
+            status = 'W'
+            local head = redis.call('ZRANGE', KEYS[k + 4], 0, 0, 'WITHSCORES')
+            score = tonumber(issuedAt)
+            if head[2] and tonumber(head[2]) <= score then
+                score = tonumber(head[2]) - 1
+            end
+            demoted = demoted + 1
+        end
+
+        -- 토큰 Hash (대기 순서는 상태 조회 시 다시 계산되므로 0으로 저장)
+        redis.call('HSET', KEYS[k + 2], 'u', userId, 's', status, 'p', 0, 'i', issuedAt, 'e', expiresAt)
+        if lane ~= 'general' then
+            redis.call('HSET', KEYS[k + 2], 'l', lane)
+        end
+        redis.call('PEXPIREAT', KEYS[k + 2], expiresAt)
+
+        if status == 'A' then
+            redis.call('ZADD', KEYS[1], score, userId)
+            redis.call('SET', KEYS[k + 3], token, 'PXAT', score)
+            if idleMillis > 0 then
+                redis.call('ZADD', KEYS[2], now + idleMillis, userId)
+            end
+            activeCount = activeCount + 1
+        else
+            redis.call('ZADD', KEYS[k + 4], 'NX', score, userId)
+        end
+        restored = restored + 1
+    end
+end
+
+return {tostring(restored), tostring(demoted)}
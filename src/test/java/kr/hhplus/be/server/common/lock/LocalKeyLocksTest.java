@@ -0,0 +1,80 @@
+package kr.hhplus.be.server.common.lock;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+class LocalKeyLocksTest {
+
+    private LocalKeyLocks localKeyLocks;
+
+    private static final String HOT_SEAT = "lock:seat:1:10";
+    private static final String OTHER_SEAT = "lock:seat:1:11";
+
+    @BeforeEach
+    void setUp() {
+        localKeyLocks = new LocalKeyLocks();
+    }
+
+    @Test
+    @DisplayName("다른 key 는 선점 중인 key 와 상관없이 바로 선점한다.")
+    void tryAcquire_OtherKey_ShouldNotWait() throws InterruptedException {
+        //given
+        assertThat(localKeyLocks.tryAcquire(HOT_SEAT, 0, TimeUnit.MILLISECONDS)).isTrue();
+
+        //when
+        boolean sameKey = localKeyLocks.tryAcquire(HOT_SEAT, 0, TimeUnit.MILLISECONDS);
+        boolean otherKey = localKeyLocks.tryAcquire(OTHER_SEAT, 0, TimeUnit.MILLISECONDS);
+
+        //then
+        assertThat(sameKey).isFalse();
+        assertThat(otherKey).isTrue();
+    }
+
+    @Test
+    @DisplayName("반납하면 같은 key 를 기다리던 스레드가 선점하고, 모두 반납하면 key 가 제거된다.")
+    void release_ShouldHandOverAndRemoveKey() throws Exception {
+        //given
+        assertThat(localKeyLocks.tryAcquire(HOT_SEAT, 0, TimeUnit.MILLISECONDS)).isTrue();
+        CompletableFuture<Boolean> waiter = CompletableFuture.supplyAsync(() -> {
+            try {
+                return localKeyLocks.tryAcquire(HOT_SEAT, 5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        while (localKeyLocks.queueLength(HOT_SEAT) == 0) {
+            Thread.onSpinWait();
+        }
+
+        //when (획득 스레드가 아닌 스레드가 반납해도 넘어감 : watchdog 대신 반납)
+        localKeyLocks.release(HOT_SEAT);
+
+        //then
+        assertThat(waiter.get(1, TimeUnit.SECONDS)).isTrue();
+        assertThat(localKeyLocks.keyCount()).isEqualTo(1);
+
+        localKeyLocks.release(HOT_SEAT);
+        assertThat(localKeyLocks.keyCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("선점하지 못하고 포기한 key 는 남지 않는다.")
+    void tryAcquire_Timeout_ShouldNotLeakKey() throws InterruptedException {
+        //given
+        assertThat(localKeyLocks.tryAcquire(HOT_SEAT, 0, TimeUnit.MILLISECONDS)).isTrue();
+
+        //when
+        boolean acquired = localKeyLocks.tryAcquire(HOT_SEAT, 10, TimeUnit.MILLISECONDS);
+        localKeyLocks.release(HOT_SEAT);
+
+        //then
+        assertThat(acquired).isFalse();
+        assertThat(localKeyLocks.keyCount()).isZero();
+    }
+}
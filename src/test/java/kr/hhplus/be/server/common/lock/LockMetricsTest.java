@@ -0,0 +1,111 @@
+package kr.hhplus.be.server.common.lock;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class LockMetricsTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private LockMetrics lockMetrics;
+
+    private static final String HOT_SEAT = "lock:seat:1:10";
+    private static final String COLD_SEAT = "lock:seat:1:11";
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        lockMetrics = new LockMetrics(meterRegistry);
+        ReflectionTestUtils.setField(lockMetrics, "maxTrackedKeys", 100);
+    }
+
+    @Test
+    @DisplayName("락 key 는 좌석 / 대기실 / 스냅샷 family 로 구분된다.")
+    void family_ShouldGroupKeysByLockType() {
+        assertThat(LockMetrics.family("lock:seat:1:10")).isEqualTo("seat");
+        assertThat(LockMetrics.family("queue:{1}:lock")).isEqualTo("queue");
+        assertThat(LockMetrics.family("queue:snapshot:lock")).isEqualTo("queue-snapshot");
+        assertThat(LockMetrics.family("something")).isEqualTo("other");
+    }
+
+    @Test
+    @DisplayName("획득 시도 / 결과 / 보유 시간 / 임대 만료가 family 태그로 기록된다.")
+    void record_ShouldTagByFamily() {
+        //when
+        lockMetrics.recordAttempt(HOT_SEAT, false);
+        lockMetrics.recordAttempt(HOT_SEAT, true);
+        lockMetrics.recordAcquire(HOT_SEAT, true, 1_000_000);
+        lockMetrics.recordLeaseExpired(HOT_SEAT);
+        lockMetrics.recordRelease(HOT_SEAT);
+
+        //then
+        assertThat(meterRegistry.get(LockMetrics.ATTEMPT).tag("family", "seat").tag("result", "contended").counter().count())
+                .isEqualTo(1);
+        assertThat(meterRegistry.get(LockMetrics.ACQUIRE).tag("family", "seat").tag("result", "acquired").counter().count())
+                .isEqualTo(1);
+        assertThat(meterRegistry.get(LockMetrics.WAIT).tag("family", "seat").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get(LockMetrics.HOLD).tag("family", "seat").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get(LockMetrics.LEASE_EXPIRED).tag("family", "seat").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("임대 만료로 제거된 보유 시각은 늦게 도착한 해제에서 보유 시간으로 기록되지 않는다.")
+    void evictHold_ShouldDropHeldSince() {
+        //given
+        lockMetrics.recordAcquire(HOT_SEAT, true, 1_000_000);
+
+        //when
+        lockMetrics.evictHold(HOT_SEAT);
+        lockMetrics.recordRelease(HOT_SEAT);
+
+        //then
+        assertThat(lockMetrics.heldKeyCount()).isZero();
+        assertThat(meterRegistry.find(LockMetrics.HOLD).timer()).isNull();
+    }
+
+    @Test
+    @DisplayName("해제되지 않은 보유 시각은 최대 추적 key 수를 넘어 쌓이지 않는다.")
+    void recordAcquire_ShouldBoundHeldSince() {
+        //given
+        ReflectionTestUtils.setField(lockMetrics, "maxTrackedKeys", 2);
+
+        //when
+        for (int i = 0; i < 5; i++) {
+            lockMetrics.recordAcquire("lock:seat:1:" + i, true, 1_000_000);
+        }
+
+        //then
+        assertThat(lockMetrics.heldKeyCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("경합이 많은 key 순으로 조회되고, 구간이 두 번 바뀌면 지난 통계는 사라진다.")
+    void hotKeys_ShouldOrderByContentionAndExpireOldWindows() {
+        //given
+        for (int i = 0; i < 5; i++) {
+            lockMetrics.recordAttempt(HOT_SEAT, false);
+        }
+        lockMetrics.recordAcquire(HOT_SEAT, false, 1_000_000);
+        lockMetrics.recordAttempt(COLD_SEAT, false);
+
+        //when
+        lockMetrics.rotateHotKeyWindow();
+        lockMetrics.recordAttempt(HOT_SEAT, false);
+        List<LockMetrics.HotLockKey> hotKeys = lockMetrics.hotKeys(10);
+
+        //then
+        assertThat(hotKeys).extracting(LockMetrics.HotLockKey::key).containsExactly(HOT_SEAT, COLD_SEAT);
+        assertThat(hotKeys.get(0).contended()).isEqualTo(6);
+        assertThat(hotKeys.get(0).failed()).isEqualTo(1);
+
+        lockMetrics.rotateHotKeyWindow();
+        lockMetrics.rotateHotKeyWindow();
+        assertThat(lockMetrics.hotKeys(10)).isEmpty();
+    }
+}
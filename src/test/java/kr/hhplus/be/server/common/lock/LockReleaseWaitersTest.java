@@ -0,0 +1,79 @@
+package kr.hhplus.be.server.common.lock;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class LockReleaseWaitersTest {
+
+    private LockReleaseWaiters lockReleaseWaiters;
+
+    private static final String KEY = "lock:seat:1:1";
+
+    @BeforeEach
+    void setUp() {
+        lockReleaseWaiters = new LockReleaseWaiters(mock(RedisMessageListenerContainer.class));
+    }
+
+    @Test
+    @DisplayName("해제 알림이 오면 같은 key 를 기다리던 스레드가 기한 전에 깨어난다.")
+    void signal_ShouldWakeWaiter() throws Exception {
+        //given
+        CountDownLatch registered = new CountDownLatch(1);
+        CompletableFuture<Boolean> waiter = CompletableFuture.supplyAsync(() -> {
+            try (LockReleaseWaiters.Registration registration = lockReleaseWaiters.register(KEY)) {
+                registered.countDown();
+                return registration.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        registered.await();
+
+        //when
+        long start = System.nanoTime();
+        lockReleaseWaiters.signal(KEY);
+        boolean signaled = waiter.get(1, TimeUnit.SECONDS);
+
+        //then
+        assertThat(signaled).isTrue();
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isLessThan(1000);
+    }
+
+    @Test
+    @DisplayName("등록 후 대기 전에 온 알림도 놓치지 않는다.")
+    void signal_BeforeAwait_ShouldNotBeLost() throws InterruptedException {
+        //given
+        try (LockReleaseWaiters.Registration registration = lockReleaseWaiters.register(KEY)) {
+            //when
+            lockReleaseWaiters.signal(KEY);
+
+            //then
+            assertThat(registration.await(10, TimeUnit.MILLISECONDS)).isTrue();
+        }
+    }
+
+    @Test
+    @DisplayName("다른 key 의 알림으로는 깨어나지 않고, 대기가 끝나면 key 가 정리된다.")
+    void await_OtherKeySignal_ShouldTimeout() throws InterruptedException {
+        //given
+        LockReleaseWaiters.Registration registration = lockReleaseWaiters.register(KEY);
+
+        //when
+        lockReleaseWaiters.signal("lock:seat:1:2");
+        boolean signaled = registration.await(20, TimeUnit.MILLISECONDS);
+        registration.close();
+
+        //then
+        assertThat(signaled).isFalse();
+        assertThat(lockReleaseWaiters.waitingKeyCount()).isZero();
+    }
+}
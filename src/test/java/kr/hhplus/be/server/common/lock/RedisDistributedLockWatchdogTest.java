@@ -0,0 +1,141 @@
+package kr.hhplus.be.server.common.lock;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 분산 락 해제 / watchdog 임대 연장 테스트
+ * 임대 시간 600ms, 연장 주기 200ms 로 줄여서 확인한다.
+ */
+@SpringBootTest(properties = {
+        "DistributedLock.lease-ms=600",
+        "DistributedLock.watchdog-interval-ms=200"
+})
+@ActiveProfiles("test")
+class RedisDistributedLockWatchdogTest {
+
+    @Autowired
+    private RedisDistributedLock redisDistributedLock;
+
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
+    @Autowired
+    private TaskScheduler taskScheduler;
+
+    private static final String KEY = "lock:seat:watchdog:1";
+
+    @AfterEach
+    void tearDown() {
+        redisTemplate.delete(KEY);
+    }
+
+    @Test
+    @DisplayName("보유 중인 락은 임대 시간이 지나도 watchdog 이 연장해서 유지된다.")
+    void tryLockWithWatchdog_ShouldKeepLockWhileHeld() throws InterruptedException {
+        //given
+        assertThat(redisDistributedLock.tryLockWithWatchdog(KEY, "user-1")).isTrue();
+
+        //when
+        Thread.sleep(1_500);
+
+        //then
+        assertThat(redisTemplate.opsForValue().get(KEY)).isEqualTo("user-1");
+
+        redisDistributedLock.releaseLock(KEY, "user-1");
+        assertThat(redisTemplate.hasKey(KEY)).isFalse();
+        assertThat(redisDistributedLock.watchedLockCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("@Scheduled 공용 스레드가 다른 작업에 막혀 있어도 watchdog 은 임대를 연장한다.")
+    void tryLockWithWatchdog_WhenSchedulerThreadBlocked_ShouldStillRenew() throws InterruptedException {
+        //given (공용 스케줄러 스레드를 임대 시간보다 오래 점유)
+        CountDownLatch blocking = new CountDownLatch(1);
+        CountDownLatch unblock = new CountDownLatch(1);
+        taskScheduler.schedule(() -> {
+            blocking.countDown();
+            try {
+                unblock.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }, Instant.now());
+        assertThat(blocking.await(1, TimeUnit.SECONDS)).isTrue();
+
+        try {
+            //when
+            assertThat(redisDistributedLock.tryLockWithWatchdog(KEY, "user-1")).isTrue();
+            Thread.sleep(1_500);
+
+            //then
+            assertThat(redisTemplate.opsForValue().get(KEY)).isEqualTo("user-1");
+        } finally {
+            unblock.countDown();
+            redisDistributedLock.releaseLock(KEY, "user-1");
+        }
+    }
+
+    @Test
+    @DisplayName("보유 노드가 죽어 연장이 멈추면 임대 시간 안에 락이 풀린다.")
+    void tryLockWithWatchdog_WhenHolderStopsRenewing_ShouldExpireWithinLease() throws InterruptedException {
+        //given
+        assertThat(redisDistributedLock.tryLockWithWatchdog(KEY, "user-1")).isTrue();
+
+        //when (노드 장애 : watchdog 연장 대상에서 사라짐)
+        @SuppressWarnings("unchecked")
+        Map<String, String> watchedLocks = (Map<String, String>) ReflectionTestUtils.getField(redisDistributedLock, "watchedLocks");
+        watchedLocks.clear();
+        Thread.sleep(1_000);
+
+        //then
+        assertThat(redisTemplate.hasKey(KEY)).isFalse();
+        assertThat(redisDistributedLock.tryLockWithWatchdog(KEY, "user-2")).isTrue();
+        redisDistributedLock.releaseLock(KEY, "user-2");
+    }
+
+    @Test
+    @DisplayName("해제하지 않은 채 임대 시간이 지난 락은 watchdog 이 노드 내 선점을 반납해서 같은 key 를 다시 획득할 수 있다.")
+    void tryLockWithRetry_WhenLeaseElapsedWithoutRelease_ShouldFreeLocalPermit() throws InterruptedException {
+        //given (보유 스레드가 해제하지 못함)
+        assertThat(redisDistributedLock.tryLockWithRetry(KEY, "user-1", 1)).isTrue();
+
+        //when
+        Thread.sleep(1_500);
+
+        //then
+        assertThat(redisDistributedLock.tryLockWithRetry(KEY, "user-2", 1)).isTrue();
+
+        // 늦게 도착한 이전 보유자의 해제는 새 보유자의 락을 지우지 않음
+        redisDistributedLock.releaseLock(KEY, "user-1");
+        assertThat(redisTemplate.opsForValue().get(KEY)).isEqualTo("user-2");
+        redisDistributedLock.releaseLock(KEY, "user-2");
+    }
+
+    @Test
+    @DisplayName("만료 후 다른 보유자가 얻은 락은 이전 보유자가 해제해도 지워지지 않는다.")
+    void releaseLock_AfterExpiry_ShouldNotDeleteOtherOwnersLock() {
+        //given
+        redisTemplate.opsForValue().set(KEY, "user-2");
+
+        //when
+        redisDistributedLock.releaseLock(KEY, "user-1");
+
+        //then
+        assertThat(redisTemplate.opsForValue().get(KEY)).isEqualTo("user-2");
+    }
+}
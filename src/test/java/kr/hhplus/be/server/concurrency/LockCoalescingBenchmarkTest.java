@@ -0,0 +1,111 @@
+package kr.hhplus.be.server.concurrency;
+
+import kr.hhplus.be.server.common.lock.RedisDistributedLock;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Properties;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 노드 내 선점 비교 (같은 좌석 락에 50 스레드가 동시에 요청, 락 보유 시간 10ms)
+ * - 선점 없음 : 모든 스레드가 Redis 에 SET NX 를 보내고 해제 알림마다 다시 보냄
+ * - 선점 : 노드 안에서 줄을 선 뒤 한 스레드만 Redis 에 SET NX
+ * Redis SET 호출 수(INFO commandstats)와 획득 수를 출력한다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class LockCoalescingBenchmarkTest {
+
+    @Autowired
+    private RedisDistributedLock redisDistributedLock;
+
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
+    private static final int THREAD_COUNT = 50;
+    private static final long HOLD_MILLIS = 10;
+
+    @Test
+    @DisplayName("노드 내 선점을 거치면 같은 좌석 락에 대한 Redis SET 요청이 줄어든다.")
+    void compareLocalCoalescing() throws InterruptedException {
+        //when
+        ReflectionTestUtils.setField(redisDistributedLock, "localCoalescing", false);
+        Result direct = contend("lock:benchmark:direct");
+
+        ReflectionTestUtils.setField(redisDistributedLock, "localCoalescing", true);
+        Result coalesced = contend("lock:benchmark:coalesced");
+
+        //then
+        System.out.println("[LockCoalescingBenchmarkTest] 선점 없음 : " + direct);
+        System.out.println("[LockCoalescingBenchmarkTest] 노드 내 선점 : " + coalesced);
+
+        assertThat(coalesced.setCalls()).isLessThan(direct.setCalls());
+        assertThat(coalesced.acquired()).isGreaterThanOrEqualTo(direct.acquired());
+    }
+
+    private Result contend(String key) throws InterruptedException {
+        redisTemplate.delete(key);
+
+        ExecutorService executorService = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch ready = new CountDownLatch(THREAD_COUNT);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(THREAD_COUNT);
+        AtomicInteger acquired = new AtomicInteger();
+
+        long setCallsBefore = setCalls();
+        for (int i = 0; i < THREAD_COUNT; i++) {
+            String value = "user-" + i;
+            executorService.submit(() -> {
+                try {
+                    ready.countDown();
+                    start.await();
+                    if (redisDistributedLock.tryLockWithRetry(key, value, 10)) {
+                        acquired.incrementAndGet();
+                        Thread.sleep(HOLD_MILLIS);
+                        redisDistributedLock.releaseLock(key, value);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        ready.await();
+        start.countDown();
+        done.await();
+        executorService.shutdown();
+
+        return new Result(acquired.get(), setCalls() - setCallsBefore);
+    }
+
+    private long setCalls() {
+        Properties commandStats = redisTemplate.execute((RedisCallback<Properties>) connection ->
+                connection.serverCommands().info("commandstats"));
+        String setStats = commandStats == null ? null : commandStats.getProperty("cmdstat_set");
+        if (setStats == null) {
+            return 0;
+        }
+        // calls=12,usec=34,...
+        return Long.parseLong(setStats.substring("calls=".length(), setStats.indexOf(',')));
+    }
+
+    private record Result(int acquired, long setCalls) {
+        @Override
+        public String toString() {
+            return String.format("획득 %d/%d, Redis SET 호출 %d회", acquired, THREAD_COUNT, setCalls);
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package kr.hhplus.be.server.concurrency;
+
+import kr.hhplus.be.server.common.lock.RedisDistributedLock;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 락 대기 방식 비교 (같은 좌석 락에 50 스레드가 동시에 요청, 락 보유 시간 10ms)
+ * - backoff : sleep(200ms * 시도 횟수) 후 재시도, 3회 (최대 약 600ms 대기)
+ * - pubsub : 해제 알림 대기, 같은 600ms 기한
+ * 획득 성공률과 획득까지 걸린 시간(p50, p99)을 출력한다.
+ * Redis 대기 방식만 비교하기 위해 노드 내 선점은 끈다.
+ */
+@SpringBootTest(properties = "DistributedLock.local-coalescing=false")
+@ActiveProfiles("test")
+class LockWaitBenchmarkTest {
+
+    @Autowired
+    private RedisDistributedLock redisDistributedLock;
+
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
+    private static final int THREAD_COUNT = 50;
+    private static final long HOLD_MILLIS = 10;
+    private static final long WAIT_MILLIS = 600;
+
+    @Test
+    @DisplayName("해제 알림 대기는 sleep 재시도보다 같은 대기 시간 안에 더 많이, 더 빨리 락을 획득한다.")
+    void compareWaitModes() throws InterruptedException {
+        //when
+        ReflectionTestUtils.setField(redisDistributedLock, "waitMode", RedisDistributedLock.WAIT_MODE_BACKOFF);
+        Result backoff = contend("lock:benchmark:backoff", (key, value) -> redisDistributedLock.tryLockWithRetry(key, value, 10));
+
+        ReflectionTestUtils.setField(redisDistributedLock, "waitMode", RedisDistributedLock.WAIT_MODE_PUBSUB);
+        Result pubsub = contend("lock:benchmark:pubsub", (key, value) -> redisDistributedLock.tryLockWithWait(key, value, 10, WAIT_MILLIS));
+
+        //then
+        System.out.println("[LockWaitBenchmarkTest] backoff : " + backoff);
+        System.out.println("[LockWaitBenchmarkTest] pubsub  : " + pubsub);
+
+        assertThat(pubsub.acquired()).isGreaterThanOrEqualTo(backoff.acquired());
+    }
+
+    private Result contend(String key, LockAttempt attempt) throws InterruptedException {
+        redisTemplate.delete(key);
+
+        ExecutorService executorService = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch ready = new CountDownLatch(THREAD_COUNT);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(THREAD_COUNT);
+        AtomicInteger acquired = new AtomicInteger();
+        List<Long> latencies = Collections.synchronizedList(new ArrayList<>());
+
+        for (int i = 0; i < THREAD_COUNT; i++) {
+            String value = "user-" + i;
+            executorService.submit(() -> {
+                try {
+                    ready.countDown();
+                    start.await();
+                    long begin = System.nanoTime();
+                    if (attempt.tryLock(key, value)) {
+                        latencies.add(System.nanoTime() - begin);
+                        acquired.incrementAndGet();
+                        Thread.sleep(HOLD_MILLIS);
+                        redisDistributedLock.releaseLock(key, value);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        ready.await();
+        start.countDown();
+        done.await();
+        executorService.shutdown();
+
+        List<Long> sorted = new ArrayList<>(latencies);
+        Collections.sort(sorted);
+        return new Result(acquired.get(), percentileMillis(sorted, 0.5), percentileMillis(sorted, 0.99));
+    }
+
+    private long percentileMillis(List<Long> sorted, double percentile) {
+        if (sorted.isEmpty()) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile * sorted.size()) - 1;
+        return TimeUnit.NANOSECONDS.toMillis(sorted.get(Math.max(0, index)));
+    }
+
+    @FunctionalInterface
+    private interface LockAttempt {
+        boolean tryLock(String key, String value);
+    }
+
+    private record Result(int acquired, long p50Millis, long p99Millis) {
+        @Override
+        public String toString() {
+            return String.format("획득 %d/%d (%.0f%%), 획득 시간 p50 %dms, p99 %dms",
+                    acquired, THREAD_COUNT, acquired * 100.0 / THREAD_COUNT, p50Millis, p99Millis);
+        }
+    }
+}
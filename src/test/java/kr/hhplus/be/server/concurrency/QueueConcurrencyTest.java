@@ -9,7 +9,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.test.context.SpringBootTest;
-import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.testcontainers.junit.jupiter.Testcontainers;
 
 import java.util.ArrayList;
@@ -31,7 +31,9 @@ public class QueueConcurrencyTest {
     private QueueService queueService;
 
     @Autowired
-    private RedisTemplate<String, Object> redisTemplate;
+    private StringRedisTemplate redisTemplate;
+
+    private static final Long CONCERT_ID = 1L;
 
     // 활성 사용자 최대수
     @Value("${queue.max-active-users:50}")
@@ -56,7 +58,7 @@ public class QueueConcurrencyTest {
 
             CompletableFuture<QueueToken> future = CompletableFuture.supplyAsync(() -> {
                 try {
-                    QueueToken token = queueService.issueTokenWithLock(userId);
+                    QueueToken token = queueService.issueToken(CONCERT_ID, userId);
 
                     if (token.getStatus() == QueueToken.QueueStatus.ACTIVE) {
                         activeTokenCount.incrementAndGet();
@@ -79,7 +81,7 @@ public class QueueConcurrencyTest {
         latch.await();
 
         // Then
-        Long activeUserCount = redisTemplate.opsForSet().size(RedisKeyUtils.activeQueueKey());
+        Long activeUserCount = redisTemplate.opsForZSet().zCard(RedisKeyUtils.activeQueueKey(CONCERT_ID));
 
         assertNotNull(activeUserCount);
         assertTrue(activeUserCount <= maxActiveUsers, "[QueueConcurrencyTest] 활성 사용자 수가 최댓값을 초과함");
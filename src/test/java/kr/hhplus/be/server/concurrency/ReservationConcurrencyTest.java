@@ -1,31 +1,41 @@
 package kr.hhplus.be.server.concurrency;
 
-import kr.hhplus.be.server.common.lock.RedisDistributedLock;
+import kr.hhplus.be.server.external.kafka.DataPlatformKafkaProducer;
 import kr.hhplus.be.server.queue.service.QueueService;
 import kr.hhplus.be.server.reservation.application.ReservationService;
 import kr.hhplus.be.server.reservation.application.input.ReserveSeatCommand;
-import kr.hhplus.be.server.reservation.application.output.ReserveSeatResult;
+import kr.hhplus.be.server.reservation.claim.ConditionalUpdateSeatClaimStrategy;
+import kr.hhplus.be.server.reservation.claim.OptimisticSeatClaimStrategy;
+import kr.hhplus.be.server.reservation.claim.PessimisticSeatClaimStrategy;
+import kr.hhplus.be.server.reservation.claim.RedisLockSeatClaimStrategy;
+import kr.hhplus.be.server.reservation.claim.SeatClaimStrategies;
 import kr.hhplus.be.server.seat.domain.Seat;
 import kr.hhplus.be.server.seat.repository.SeatJpaRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
-import org.mockito.Mock;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.util.ReflectionTestUtils;
 import org.testcontainers.junit.jupiter.Testcontainers;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.*;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.Mockito.*;
-import static org.junit.jupiter.api.Assertions.*;
 
+/**
+ * 좌석 배정 방식별 동시 예약 비교
+ * - hot-seat : 요청 전체가 좌석 하나에 몰림 (한 건만 배정되어야 함)
+ * - spread-seat : 요청이 좌석 50개에 고르게 나뉨 (좌석마다 한 건씩 배정되어야 함)
+ * 방식별 처리량(요청/초), p99 응답 시간, 실패율(이미 선택된 좌석 거절 / 그 외 오류)을 출력한다.
+ */
 @SpringBootTest
 @Testcontainers
 @ActiveProfiles("test")
@@ -37,22 +47,143 @@ public class ReservationConcurrencyTest {
     @Autowired
     private ReservationService reservationService;
 
+    @Autowired
+    private SeatClaimStrategies seatClaimStrategies;
+
     @MockitoBean
     private QueueService queueService;
 
+    // 예약 완료 kafka 발행은 측정에서 제외
     @MockitoBean
-    private RedisDistributedLock redisDistributedLock;
+    private DataPlatformKafkaProducer dataPlatformKafkaProducer;
 
-    private static final int THREAD_COUNT = 5;
+    private static final int THREAD_COUNT = 32;
+    private static final int REQUEST_COUNT = 200;
+    private static final int SPREAD_SEAT_COUNT = 50;
     private static final String VALID_TOKEN = "VALID_TOKEN";
 
+    private static final List<String> STRATEGIES = List.of(
+            RedisLockSeatClaimStrategy.NAME,
+            OptimisticSeatClaimStrategy.NAME,
+            ConditionalUpdateSeatClaimStrategy.NAME,
+            PessimisticSeatClaimStrategy.NAME
+    );
+
+    // 방식 / 부하마다 다른 콘서트 좌석을 사용 (초기 더미 데이터 콘서트 1 ~ 10 과 겹치지 않게)
+    private static final AtomicInteger CONCERT_SEQUENCE = new AtomicInteger(1_000);
+
     @BeforeEach
     void setUp() {
-        when(queueService.validateActiveToken(anyString())).thenReturn(true);
-        
-        // 분산락이 항상 성공하도록 설정 (실제 동시성 테스트를 위해)
-//        when(redisDistributedLock.tryLockWithRetry(anyString(), anyString(), anyLong()))
-//            .thenReturn(true);
+        when(queueService.validateActiveToken(anyLong(), anyString(), anyString())).thenReturn(true);
+    }
+
+    @Test
+    @DisplayName("모든 좌석 배정 방식에서 한 좌석에 몰린 요청 중 한 건만 배정된다.")
+    void compareStrategies_HotSeat() throws InterruptedException {
+        for (String strategy : STRATEGIES) {
+            //given
+            Long concertId = createSeats(1);
+
+            //when
+            Result result = run(strategy, concertId, 1);
+
+            //then
+            System.out.printf("[ReservationConcurrencyTest] hot-seat    %-18s : %s%n", strategy, result);
+            assertThat(result.succeeded()).isEqualTo(1);
+            assertThat(seatJpaRepository.findByConcertIdAndSeatNumber(concertId, 1).getStatus())
+                    .isEqualTo(Seat.SeatStatus.TEMPORARILY_ASSIGNED);
+        }
+    }
+
+    @Test
+    @DisplayName("모든 좌석 배정 방식에서 여러 좌석에 나뉜 요청은 좌석마다 한 건씩 배정된다.")
+    void compareStrategies_SpreadSeats() throws InterruptedException {
+        for (String strategy : STRATEGIES) {
+            //given
+            Long concertId = createSeats(SPREAD_SEAT_COUNT);
+
+            //when
+            Result result = run(strategy, concertId, SPREAD_SEAT_COUNT);
+
+            //then
+            System.out.printf("[ReservationConcurrencyTest] spread-seat %-18s : %s%n", strategy, result);
+            assertThat(result.succeeded()).isEqualTo(SPREAD_SEAT_COUNT);
+        }
     }
 
+    private Long createSeats(int seatCount) {
+        Long concertId = (long) CONCERT_SEQUENCE.incrementAndGet();
+        List<Seat> seats = new ArrayList<>(seatCount);
+        for (int seatNumber = 1; seatNumber <= seatCount; seatNumber++) {
+            seats.add(new Seat(null, concertId, seatNumber, 100000));
+        }
+        seatJpaRepository.saveAll(seats);
+        return concertId;
+    }
+
+    private Result run(String strategy, Long concertId, int seatCount) throws InterruptedException {
+        ReflectionTestUtils.setField(seatClaimStrategies, "strategy", strategy);
+
+        ExecutorService executorService = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(REQUEST_COUNT);
+        AtomicInteger succeeded = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        AtomicInteger errors = new AtomicInteger();
+        List<Long> latencies = Collections.synchronizedList(new ArrayList<>());
+
+        for (int i = 0; i < REQUEST_COUNT; i++) {
+            ReserveSeatCommand command = new ReserveSeatCommand("user-" + i, concertId, i % seatCount + 1);
+            executorService.submit(() -> {
+                try {
+                    start.await();
+                    long begin = System.nanoTime();
+                    try {
+                        reservationService.reserveSeat(command, VALID_TOKEN);
+                        succeeded.incrementAndGet();
+                    } catch (IllegalStateException e) {
+                        // 이미 선택된 좌석 (정상 거절)
+                        rejected.incrementAndGet();
+                    } catch (Exception e) {
+                        // 락 대기 시간 초과, DB 락 대기 초과 등
+                        errors.incrementAndGet();
+                    } finally {
+                        latencies.add(System.nanoTime() - begin);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        long begin = System.nanoTime();
+        start.countDown();
+        done.await();
+        long elapsedNanos = System.nanoTime() - begin;
+        executorService.shutdown();
+
+        List<Long> sorted = new ArrayList<>(latencies);
+        Collections.sort(sorted);
+        return new Result(succeeded.get(), rejected.get(), errors.get(),
+                REQUEST_COUNT / (elapsedNanos / 1_000_000_000.0), percentileMillis(sorted, 0.99));
+    }
+
+    private long percentileMillis(List<Long> sorted, double percentile) {
+        if (sorted.isEmpty()) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile * sorted.size()) - 1;
+        return TimeUnit.NANOSECONDS.toMillis(sorted.get(Math.max(0, index)));
+    }
+
+    private record Result(int succeeded, int rejected, int errors, double throughput, long p99Millis) {
+        @Override
+        public String toString() {
+            return String.format("처리량 %.0f req/s, p99 %dms, 배정 %d, 거절 %d (%.0f%%), 오류 %d (%.0f%%)",
+                    throughput, p99Millis, succeeded,
+                    rejected, rejected * 100.0 / REQUEST_COUNT, errors, errors * 100.0 / REQUEST_COUNT);
+        }
+    }
 }
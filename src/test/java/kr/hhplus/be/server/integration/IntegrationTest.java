@@ -56,7 +56,6 @@ class IntegrationTest {
     void setUp() {
         user = testDataHelper.createUser();
         userId = user.getUserId();
-        tokenRequest = new QueueTokenRequestDto(userId);
 
         seat = testDataHelper.createSeat();
         seatId = seat.getSeatId();
@@ -64,6 +63,7 @@ class IntegrationTest {
 
         concert = testDataHelper.createConcert();
         concertId = concert.getConcertId();
+        tokenRequest = new QueueTokenRequestDto(userId, concertId);
         reservationRequest = new ReservationRequestDto(userId, concertId, seatNumber);
     }
 
@@ -82,17 +82,19 @@ class IntegrationTest {
                 .andExpect(jsonPath("$.status").value(QueueToken.QueueStatus.ACTIVE.name()))
                 .andExpect(jsonPath("$.issuedAt").exists())
                 .andExpect(jsonPath("$.expiresAt").exists())
+                .andExpect(jsonPath("$.accessToken").exists())
                 .andReturn()
                 .getResponse()
                 .getContentAsString();
 
         String token = objectMapper.readTree(tokenResponse).get("token").asText();
+        String accessToken = objectMapper.readTree(tokenResponse).get("accessToken").asText();
 
         logger.info("토큰 발급 성공 : {}", token);
 
         // 2. 좌석 예약 요청
         mockMvc.perform(post("/api/v1/reservations")
-                    .header("Authorization", "Bearer " + token)
+                    .header("Authorization", "Bearer " + accessToken)
                     .contentType(MediaType.APPLICATION_JSON)
                     .content(objectMapper.writeValueAsString(reservationRequest)))
                 .andExpect(status().isOk())
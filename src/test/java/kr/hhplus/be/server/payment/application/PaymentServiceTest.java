@@ -6,6 +6,7 @@ import kr.hhplus.be.server.payment.domain.Payment;
 import kr.hhplus.be.server.payment.domain.PaymentRepository;
 import kr.hhplus.be.server.point.domain.BalanceHistory;
 import kr.hhplus.be.server.point.repository.BalanceHistoryJpaRepository;
+import kr.hhplus.be.server.queue.event.QueueSlotReleasedEvent;
 import kr.hhplus.be.server.reservation.domain.Reservation;
 import kr.hhplus.be.server.reservation.domain.ReservationRepository;
 import kr.hhplus.be.server.seat.domain.Seat;
@@ -19,6 +20,8 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 
 import java.time.LocalDateTime;
 import java.util.Optional;
@@ -44,6 +47,9 @@ class PaymentServiceTest {
     @Mock
     private BalanceHistoryJpaRepository balanceHistoryJpaRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private PaymentService paymentService;
 
@@ -74,7 +80,7 @@ class PaymentServiceTest {
         given(paymentRepository.save(any(Payment.class))).willAnswer(invocation -> invocation.getArgument(0));
         given(reservationRepository.save(any(Reservation.class))).willAnswer(invocation -> invocation.getArgument(0));
         given(seatJpaRepository.findById(1L)).willReturn(Optional.of(seat));
-        given(seatJpaRepository.save(any(Seat.class))).willAnswer(invocation -> invocation.getArgument(0));
+        given(seatJpaRepository.saveAndFlush(any(Seat.class))).willAnswer(invocation -> invocation.getArgument(0));
         given(balanceHistoryJpaRepository.save(any(BalanceHistory.class))).willAnswer(invocation -> invocation.getArgument(0));
 
         //when
@@ -100,11 +106,15 @@ class PaymentServiceTest {
                 r.getStatus() == Reservation.ReservationStatus.CONFIRMED));
 
         // 검증:좌석 확정
-        verify(seatJpaRepository).save(argThat((s ->
+        verify(seatJpaRepository).saveAndFlush(argThat((s ->
                 s.getStatus() == Seat.SeatStatus.RESERVED)));
 
         // 검증:포인트 거래 내역 저장
         verify(balanceHistoryJpaRepository).save(any(BalanceHistory.class));
+
+        // 검증:대기열 활성 슬롯 반환 이벤트 발행
+        verify(eventPublisher).publishEvent(argThat((Object e) -> e instanceof QueueSlotReleasedEvent released
+                && released.getConcertId().equals(1L) && released.getUserId().equals(USER_ID)));
     }
 
     @Test
@@ -150,4 +160,25 @@ class PaymentServiceTest {
                 .isInstanceOf(IllegalStateException.class)
                 .hasMessageContaining("예약이 만료되었습니다.");
     }
+
+    @Test
+    @DisplayName("좌석 조회 후 저장 전에 좌석이 바뀌면 결제가 실패하고 슬롯 반환 이벤트를 발행하지 않는다.")
+    void whenSeatChangedBeforeSave_ThenShouldThrowException() {
+        //given
+        given(reservationRepository.findById(RES_ID)).willReturn(Optional.of(reservation));
+        given(userJpaRepository.deductBalanceWithCondition(USER_ID, 100000L)).willReturn(1);
+        given(userJpaRepository.findByUserId(USER_ID)).willReturn(Optional.of(user));
+        given(seatJpaRepository.findById(1L)).willReturn(Optional.of(seat));
+        given(seatJpaRepository.saveAndFlush(any(Seat.class)))
+                .willThrow(new ObjectOptimisticLockingFailureException(Seat.class, 1L));
+
+        //when & then
+        assertThatThrownBy(() -> paymentService.processPayment(command))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("좌석 상태가 변경되었습니다. 다시 시도해주세요.");
+
+        // 검증:포인트 거래 내역 / 이벤트 미발행 (트랜잭션 롤백)
+        verify(balanceHistoryJpaRepository, never()).save(any(BalanceHistory.class));
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
 }
\ No newline at end of file
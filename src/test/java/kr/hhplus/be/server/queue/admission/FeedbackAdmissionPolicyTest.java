@@ -0,0 +1,162 @@
+package kr.hhplus.be.server.queue.admission;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.hhplus.be.server.reservation.claim.OptimisticSeatClaimStrategy;
+import kr.hhplus.be.server.reservation.claim.RedisLockSeatClaimStrategy;
+import kr.hhplus.be.server.reservation.metrics.ReservationMetrics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class FeedbackAdmissionPolicyTest {
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private HashOperations<String, Object, Object> hashOperations;
+
+    private ReservationMetrics reservationMetrics;
+
+    private FeedbackAdmissionPolicy policy;
+
+    private static final Long CONCERT_ID = 1L;
+    private static final String PRESSURE_KEY = "queue:admission:pressure";
+
+    @BeforeEach
+    void setUp() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        reservationMetrics = new ReservationMetrics(meterRegistry);
+
+        given(redisTemplate.opsForHash()).willReturn(hashOperations);
+        given(hashOperations.entries(PRESSURE_KEY)).willReturn(Map.of());
+
+        policy = new FeedbackAdmissionPolicy(meterRegistry, redisTemplate);
+        ReflectionTestUtils.setField(policy, "maxPerTick", 100);
+        ReflectionTestUtils.setField(policy, "minPerTick", 1);
+        ReflectionTestUtils.setField(policy, "increaseStep", 10);
+        ReflectionTestUtils.setField(policy, "decreaseFactor", 0.5);
+        ReflectionTestUtils.setField(policy, "targetPoolUtilization", 0.8);
+        ReflectionTestUtils.setField(policy, "targetClaimConflictRate", 0.2);
+        ReflectionTestUtils.setField(policy, "targetP99Millis", 500.0);
+        ReflectionTestUtils.setField(policy, "sampleIntervalMillis", 0L);
+        ReflectionTestUtils.setField(policy, "nodeStaleMillis", 5000L);
+    }
+
+    @Test
+    @DisplayName("좌석 배정 경합 실패율이 목표치를 넘으면 활성화 인원을 절반으로 줄인다.")
+    void admissionLimit_HighClaimConflictRate_ShouldDecrease() {
+        //given
+        // 좌석 배정 5건 중 3건 경합 실패 (60%)
+        for (int i = 0; i < 2; i++) {
+            reservationMetrics.recordSeatClaim(RedisLockSeatClaimStrategy.NAME, true);
+        }
+        for (int i = 0; i < 3; i++) {
+            reservationMetrics.recordSeatClaim(RedisLockSeatClaimStrategy.NAME, false);
+        }
+
+        //when
+        int limit = policy.admissionLimit(CONCERT_ID);
+
+        //then
+        assertThat(limit).isEqualTo(50);
+    }
+
+    @Test
+    @DisplayName("Redis 락이 아닌 좌석 배정 방식의 경합 실패도 부하로 본다.")
+    void admissionLimit_OptimisticConflicts_ShouldDecrease() {
+        //given
+        reservationMetrics.recordSeatClaim(OptimisticSeatClaimStrategy.NAME, true);
+        reservationMetrics.recordSeatClaim(OptimisticSeatClaimStrategy.NAME, false);
+
+        //when
+        int limit = policy.admissionLimit(CONCERT_ID);
+
+        //then
+        assertThat(limit).isEqualTo(50);
+    }
+
+    @Test
+    @DisplayName("지표가 모두 목표치 이하이면 활성화 인원을 조금씩 늘린다.")
+    void admissionLimit_Healthy_ShouldIncreaseUpToMax() {
+        //given
+        reservationMetrics.recordSeatClaim(RedisLockSeatClaimStrategy.NAME, false);
+        reservationMetrics.recordSeatClaim(RedisLockSeatClaimStrategy.NAME, false);
+        int decreased = policy.admissionLimit(CONCERT_ID); // 100 -> 50
+
+        // 이후 좌석 배정 모두 성공
+        for (int i = 0; i < 10; i++) {
+            reservationMetrics.recordSeatClaim(RedisLockSeatClaimStrategy.NAME, true);
+        }
+
+        //when
+        int increased = policy.admissionLimit(CONCERT_ID);
+
+        //then
+        assertThat(decreased).isEqualTo(50);
+        assertThat(increased).isEqualTo(60);
+    }
+
+    @Test
+    @DisplayName("이 노드가 여유로워도 다른 노드가 게시한 부하가 목표치를 넘으면 활성화 인원을 줄인다.")
+    void admissionLimit_OtherNodeOverloaded_ShouldDecrease() {
+        //given
+        long now = System.currentTimeMillis();
+        given(hashOperations.entries(PRESSURE_KEY)).willReturn(Map.of(
+                "node-a", "0.3:" + now,
+                "node-b", "1.6:" + now));
+
+        //when
+        int limit = policy.admissionLimit(CONCERT_ID);
+
+        //then
+        assertThat(limit).isEqualTo(50);
+    }
+
+    @Test
+    @DisplayName("오래 게시하지 않은 노드의 부하는 무시하고 Hash 에서 제거한다.")
+    void admissionLimit_StaleNode_ShouldBeIgnoredAndRemoved() {
+        //given (종료된 노드가 마지막으로 게시한 과부하)
+        given(hashOperations.entries(PRESSURE_KEY)).willReturn(Map.of(
+                "node-dead", "3.0:" + (System.currentTimeMillis() - 60_000)));
+
+        //when
+        int limit = policy.admissionLimit(CONCERT_ID);
+
+        //then
+        assertThat(limit).isEqualTo(100);
+        verify(hashOperations).delete(PRESSURE_KEY, "node-dead");
+    }
+
+    @Test
+    @DisplayName("이 노드 부하를 노드 ID field 로 게시하고 키 만료 시간을 갱신한다.")
+    void publishPressure_ShouldWriteNodeFieldWithTtl() {
+        //given
+        reservationMetrics.recordSeatClaim(RedisLockSeatClaimStrategy.NAME, true);
+        reservationMetrics.recordSeatClaim(RedisLockSeatClaimStrategy.NAME, false);
+
+        //when
+        policy.publishPressure();
+
+        //then
+        String nodeId = (String) ReflectionTestUtils.getField(policy, "nodeId");
+        verify(hashOperations).put(eq(PRESSURE_KEY), eq(nodeId), startsWith("2.5:"));
+        verify(redisTemplate).expire(eq(PRESSURE_KEY), eq(5000L), any());
+    }
+}
@@ -0,0 +1,87 @@
+package kr.hhplus.be.server.queue.admission;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TokenBucketAdmissionPolicyTest {
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private HashOperations<String, Object, Object> hashOperations;
+
+    private TokenBucketAdmissionPolicy policy;
+
+    private static final Long CONCERT_ID = 1L;
+
+    @BeforeEach
+    void setUp() {
+        when(redisTemplate.<Object, Object>opsForHash()).thenReturn(hashOperations);
+
+        policy = new TokenBucketAdmissionPolicy(redisTemplate);
+        ReflectionTestUtils.setField(policy, "ratePerSecond", 10.0);
+        ReflectionTestUtils.setField(policy, "burst", 50);
+    }
+
+    @Test
+    @DisplayName("버킷 기록이 없으면 burst 만큼 활성화할 수 있다.")
+    void admissionLimit_EmptyBucket_ShouldAllowBurst() {
+        //given
+        given(hashOperations.multiGet(eq("queue:{1}:bucket"), anyCollection())).willReturn(Arrays.asList(null, null));
+
+        //when
+        int limit = policy.admissionLimit(CONCERT_ID);
+
+        //then
+        assertThat(limit).isEqualTo(50);
+    }
+
+    @Test
+    @DisplayName("경과 시간 x 초당 활성화 인원만큼 채워진 인원까지만 활성화할 수 있다.")
+    void admissionLimit_ShouldRefillByElapsedTime() {
+        //given
+        // 1초 전 버킷이 비어 있었음 -> 초당 10명
+        String updatedAt = String.valueOf(System.currentTimeMillis() - 1000);
+        given(hashOperations.multiGet(eq("queue:{1}:bucket"), anyCollection())).willReturn(List.of("0", updatedAt));
+
+        //when
+        int limit = policy.admissionLimit(CONCERT_ID);
+
+        //then
+        assertThat(limit).isBetween(10, 11);
+    }
+
+    @Test
+    @DisplayName("활성화된 인원만큼 버킷에서 차감해서 저장한다.")
+    void onAdmitted_ShouldConsumeTokens() {
+        //given
+        given(hashOperations.multiGet(eq("queue:{1}:bucket"), anyCollection())).willReturn(Arrays.asList(null, null));
+
+        //when
+        policy.onAdmitted(CONCERT_ID, 30);
+
+        //then
+        ArgumentCaptor<Map<String, String>> captor = ArgumentCaptor.forClass(Map.class);
+        verify(hashOperations).putAll(eq("queue:{1}:bucket"), captor.capture());
+        assertThat(Double.parseDouble(captor.getValue().get("tokens"))).isEqualTo(20.0);
+    }
+}
@@ -0,0 +1,78 @@
+package kr.hhplus.be.server.queue.domain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class QueueLaneTest {
+
+    private static final List<QueueLane> LANES = List.of(new QueueLane(QueueLane.GENERAL, 3), new QueueLane("presale", 1));
+
+    @Test
+    @DisplayName("활성화 batch 를 lane 가중치 비율로 나눈다.")
+    void allocate_ShouldSplitByWeight() {
+        //given
+        long[] credits = new long[2];
+
+        //when
+        int[] quotas = QueueLane.allocate(LANES, new long[]{100, 100}, credits, 8);
+
+        //then
+        assertThat(quotas).containsExactly(6, 2);
+        assertThat(credits).containsExactly(0, 0); // 비율대로 배정하면 credit 이 원점으로 돌아옴
+    }
+
+    @Test
+    @DisplayName("빈 슬롯이 1개씩 나와도 누적 credit 으로 여러 주기에 걸쳐 가중치 비율을 지킨다.")
+    void allocate_SingleSlotTicks_ShouldKeepRatioAcrossTicks() {
+        //given
+        long[] credits = new long[2];
+        int[] admitted = new int[2];
+
+        //when
+        for (int tick = 0; tick < 40; tick++) {
+            int[] quotas = QueueLane.allocate(LANES, new long[]{100, 100}, credits, 1);
+            admitted[0] += quotas[0];
+            admitted[1] += quotas[1];
+        }
+
+        //then
+        assertThat(admitted).containsExactly(30, 10);
+    }
+
+    @Test
+    @DisplayName("대기자가 부족한 lane 의 몫은 대기자가 남은 lane 이 가져간다.")
+    void allocate_EmptyLane_ShouldRedistribute() {
+        //given
+        long[] credits = new long[2];
+
+        //when
+        int[] quotas = QueueLane.allocate(LANES, new long[]{2, 100}, credits, 8);
+
+        //then
+        assertThat(quotas).containsExactly(2, 6);
+    }
+
+    @Test
+    @DisplayName("모든 lane 의 대기자가 슬롯보다 적으면 대기자 수만큼만 배정한다.")
+    void allocate_NotEnoughWaiting_ShouldStopAtWaitingSize() {
+        //given
+        long[] credits = new long[2];
+
+        //when
+        int[] quotas = QueueLane.allocate(LANES, new long[]{1, 1}, credits, 8);
+
+        //then
+        assertThat(quotas).containsExactly(1, 1);
+    }
+
+    @Test
+    @DisplayName("가중치가 0 이하인 lane 은 만들 수 없다.")
+    void create_NonPositiveWeight_ShouldThrow() {
+        assertThatThrownBy(() -> new QueueLane("presale", 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,335 @@
+package kr.hhplus.be.server.queue.infrastructure;
+
+import kr.hhplus.be.server.queue.domain.QueueLane;
+import kr.hhplus.be.server.queue.domain.QueueStore;
+import kr.hhplus.be.server.queue.domain.QueueToken;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+class InMemoryQueueStoreTest {
+
+    private InMemoryQueueStore queueStore;
+
+    private static final Long CONCERT_ID = 1L;
+    private static final long TTL_SECONDS = 1800;
+    private static final List<QueueLane> LANES = List.of(new QueueLane(QueueLane.GENERAL, 1), new QueueLane("presale", 1));
+
+    @BeforeEach
+    void setUp() {
+        queueStore = new InMemoryQueueStore();
+    }
+
+    @Test
+    @DisplayName("동시에 발급해도 활성 사용자는 최대치를 넘지 않고, 대기자는 겹치지 않는 순서를 받는다.")
+    void issue_Concurrently_ShouldRespectMaxActiveUsers() throws InterruptedException {
+        //given
+        int userCount = 2000;
+        int maxActiveUsers = 100;
+        ExecutorService executorService = Executors.newFixedThreadPool(32);
+        CountDownLatch latch = new CountDownLatch(userCount);
+        AtomicInteger activeCount = new AtomicInteger();
+        Set<Long> positions = ConcurrentHashMap.newKeySet();
+
+        //when
+        for (int i = 0; i < userCount; i++) {
+            final String userId = "user-" + i;
+            executorService.submit(() -> {
+                try {
+                    QueueToken token = issue(userId, maxActiveUsers).queueToken();
+                    if (token.getStatus() == QueueToken.QueueStatus.ACTIVE) {
+                        activeCount.incrementAndGet();
+                    } else {
+                        positions.add(token.getQueuePosition());
+                    }
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await();
+        executorService.shutdown();
+
+        //then
+        assertThat(activeCount.get()).isEqualTo(maxActiveUsers);
+        assertThat(positions).hasSize(userCount - maxActiveUsers);
+        assertThat(positions).allMatch(position -> position >= 1 && position <= userCount - maxActiveUsers);
+    }
+
+    @Test
+    @DisplayName("같은 사용자가 다시 발급하면 기존 토큰과 현재 대기 순서를 반환한다.")
+    void issue_SameUser_ShouldReuseExistingToken() {
+        //given
+        issue("user-1", 1);
+        QueueStore.IssuedToken first = issue("user-2", 1);
+
+        //when
+        QueueStore.IssuedToken second = issue("user-2", 1);
+
+        //then
+        assertThat(second.reused()).isTrue();
+        assertThat(second.queueToken().getToken()).isEqualTo(first.queueToken().getToken());
+        assertThat(second.queueToken().getQueuePosition()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("빈 슬롯만큼 먼저 들어온 대기자부터 활성화하고 남은 대기자의 순위를 갱신한다.")
+    void admit_ShouldPopInArrivalOrder() {
+        //given
+        issue("user-1", 1);
+        issue("user-2", 1);
+        issue("user-3", 1);
+        issue("user-4", 1);
+        assertThat(queueStore.releaseActive(CONCERT_ID, "user-1")).isTrue();
+
+        //when
+        QueueStore.AdmissionBatch batch = admit(1, 10);
+
+        //then
+        assertThat(batch.poppedCount()).isEqualTo(1);
+        assertThat(batch.admittedUsers()).extracting(QueueStore.AdmittedUser::userId).containsExactly("user-2");
+        assertThat(queueStore.waitingRanks(CONCERT_ID, QueueLane.GENERAL, List.of("user-2", "user-3", "user-4")))
+                .containsExactly(null, 0L, 1L);
+    }
+
+    @Test
+    @DisplayName("활성화된 사용자의 토큰은 활성 상태로 바뀐다.")
+    void admit_ShouldActivateToken() {
+        //given
+        issue("user-1", 1);
+        String token = issue("user-2", 1).queueToken().getToken();
+        queueStore.releaseActive(CONCERT_ID, "user-1");
+
+        //when
+        admit(1, 10);
+
+        //then
+        QueueToken queueToken = queueStore.findToken(CONCERT_ID, token);
+        assertThat(queueToken.getStatus()).isEqualTo(QueueToken.QueueStatus.ACTIVE);
+        assertThat(queueToken.getQueuePosition()).isEqualTo(0L);
+    }
+
+    @Test
+    @DisplayName("토큰이 삭제된 대기자는 pop 만 하고 활성화하지 않는다.")
+    void admit_DeletedToken_ShouldSkip() {
+        //given
+        issue("user-1", 1);
+        issue("user-2", 1);
+        issue("user-3", 1);
+        queueStore.releaseActive(CONCERT_ID, "user-1");
+        queueStore.deleteToken(CONCERT_ID, "user-2");
+
+        //when
+        QueueStore.AdmissionBatch batch = admit(1, 10);
+
+        //then
+        assertThat(batch.poppedCount()).isEqualTo(2);
+        assertThat(batch.admittedUsers()).extracting(QueueStore.AdmittedUser::userId).containsExactly("user-3");
+    }
+
+    @Test
+    @DisplayName("대기열 앞쪽 limit 명의 토큰에만 현재 대기 순서를 저장한다.")
+    void persistWaitingPositions_ShouldSaveHeadPositions() {
+        //given
+        issue("user-1", 1);
+        issue("user-2", 1);
+        String third = issue("user-3", 1).queueToken().getToken();
+        String fourth = issue("user-4", 1).queueToken().getToken();
+        queueStore.releaseActive(CONCERT_ID, "user-1");
+        admit(1, 10);
+
+        //when
+        int saved = queueStore.persistWaitingPositions(CONCERT_ID, QueueLane.GENERAL, 1);
+
+        //then
+        assertThat(saved).isEqualTo(1);
+        assertThat(queueStore.findToken(CONCERT_ID, third).getQueuePosition()).isEqualTo(1L);
+        assertThat(queueStore.findToken(CONCERT_ID, fourth).getQueuePosition()).isEqualTo(3L); // 발급 시 저장된 순서
+    }
+
+    @Test
+    @DisplayName("활성화 batch 를 lane 비중으로 나누고, lane 안에서는 먼저 들어온 순서로 활성화한다.")
+    void admit_WithLanes_ShouldSplitBatchByWeight() {
+        //given
+        List<QueueLane> lanes = List.of(new QueueLane(QueueLane.GENERAL, 3), new QueueLane("presale", 1));
+        issue("active-user", 1);
+        for (int i = 0; i < 10; i++) {
+            issue("general-" + i, QueueLane.GENERAL, 1);
+            issue("presale-" + i, "presale", 1);
+        }
+        queueStore.releaseActive(CONCERT_ID, "active-user");
+
+        //when
+        QueueStore.AdmissionBatch batch = admit(lanes, 9, 8);
+
+        //then
+        assertThat(batch.poppedCount()).isEqualTo(8);
+        assertThat(batch.admittedUsers()).filteredOn(user -> user.lane().equals(QueueLane.GENERAL))
+                .extracting(QueueStore.AdmittedUser::userId)
+                .containsExactly("general-0", "general-1", "general-2", "general-3", "general-4", "general-5");
+        assertThat(batch.admittedUsers()).filteredOn(user -> user.lane().equals("presale"))
+                .extracting(QueueStore.AdmittedUser::userId)
+                .containsExactly("presale-0", "presale-1");
+        assertThat(queueStore.waitingRank(CONCERT_ID, "presale", "presale-2")).isEqualTo(0L);
+    }
+
+    @Test
+    @DisplayName("토큰 만료 후 다른 lane 으로 다시 발급받으면 이전 lane 에 남은 항목으로는 활성화되지 않는다.")
+    void admit_ReissuedInOtherLane_ShouldSkipStaleLaneEntry() {
+        //given
+        long now = System.currentTimeMillis();
+        LocalDateTime issuedAt = LocalDateTime.now();
+        issue("holder", 1);
+        queueStore.issue(CONCERT_ID, "user-1", QueueLane.GENERAL, LANES, "user-1-token", 1, 0, 0, now, issuedAt, issuedAt);
+        queueStore.issue(CONCERT_ID, "user-1", "presale", LANES, "user-1-new-token", 1, TTL_SECONDS, 0, now + 1,
+                issuedAt, issuedAt.plusSeconds(TTL_SECONDS));
+        queueStore.releaseActive(CONCERT_ID, "holder");
+
+        //when (general 의 남은 항목은 pop 만 하고, 다음 활성화에서 presale 로 활성화)
+        QueueStore.AdmissionBatch stale = admit(LANES, 1, 1);
+        QueueStore.AdmissionBatch admitted = admit(LANES, 1, 1);
+
+        //then
+        assertThat(stale.poppedCount()).isEqualTo(1);
+        assertThat(stale.admittedUsers()).isEmpty();
+        assertThat(admitted.admittedUsers()).extracting(QueueStore.AdmittedUser::userId, QueueStore.AdmittedUser::lane)
+                .containsExactly(tuple("user-1", "presale"));
+    }
+
+    @Test
+    @DisplayName("heartbeat 가 끊긴 활성 사용자만 회수되고, 회수된 사용자는 heartbeat 로 다시 연장되지 않는다.")
+    void evictIdleActive_ShouldEvictOnlyIdleUsers() {
+        //given
+        long idleMillis = 30_000;
+        long now = System.currentTimeMillis();
+        LocalDateTime issuedAt = LocalDateTime.now();
+        for (String userId : List.of("idle-user", "live-user")) {
+            queueStore.issue(CONCERT_ID, userId, QueueLane.GENERAL, LANES, userId + "-token", 10, TTL_SECONDS, idleMillis,
+                    now, issuedAt, issuedAt.plusSeconds(TTL_SECONDS));
+        }
+
+        // live-user 만 유휴 만료 전에 heartbeat
+        assertThat(queueStore.touchActive(CONCERT_ID, "live-user", now + 20_000, now + 50_000)).isTrue();
+
+        //when
+        QueueStore.IdleEviction eviction = queueStore.evictIdleActive(CONCERT_ID, now + 40_000, 100);
+
+        //then
+        assertThat(eviction.evictedUserIds()).containsExactly("idle-user");
+        assertThat(queueStore.activeSize(CONCERT_ID, now + 40_000)).isEqualTo(1L);
+        assertThat(queueStore.findToken(CONCERT_ID, "idle-user-token")).isNull(); // 다시 발급받아야 함
+        assertThat(queueStore.touchActive(CONCERT_ID, "idle-user", now + 41_000, now + 71_000)).isFalse();
+    }
+
+    @Test
+    @DisplayName("유휴 회수 후 다시 발급받은 사용자의 슬롯 반환이 늦게 실행되어도 새 대기 토큰은 삭제되지 않는다.")
+    void releaseActive_AfterEvictionAndReissue_ShouldKeepWaitingToken() {
+        //given
+        long idleMillis = 30_000;
+        long now = System.currentTimeMillis();
+        LocalDateTime issuedAt = LocalDateTime.now();
+        queueStore.issue(CONCERT_ID, "user-1", QueueLane.GENERAL, LANES, "user-1-token", 1, TTL_SECONDS, idleMillis,
+                now, issuedAt, issuedAt.plusSeconds(TTL_SECONDS));
+        queueStore.evictIdleActive(CONCERT_ID, now + 40_000, 100);
+        issue("user-2", 1);
+        QueueToken reissued = queueStore.issue(CONCERT_ID, "user-1", QueueLane.GENERAL, LANES, "user-1-new-token", 1,
+                TTL_SECONDS, idleMillis, now + 41_000, issuedAt, issuedAt.plusSeconds(TTL_SECONDS)).queueToken();
+
+        //when
+        boolean released = queueStore.releaseActive(CONCERT_ID, "user-1");
+
+        //then
+        assertThat(released).isFalse();
+        assertThat(reissued.getStatus()).isEqualTo(QueueToken.QueueStatus.WAITING);
+        assertThat(queueStore.findToken(CONCERT_ID, "user-1-new-token")).isNotNull();
+    }
+
+    @Test
+    @DisplayName("합성 사용자를 일괄 등록하면 빈 슬롯만큼 활성화되고 나머지는 순서대로 대기열에 추가된다.")
+    void seed_ShouldFillActiveSlotsThenWaiting() {
+        //given
+        issue("user-0", 3);
+        List<String> userIds = List.of("seed-1", "seed-2", "seed-3", "seed-4", "seed-5");
+        LocalDateTime now = LocalDateTime.now();
+
+        //when
+        QueueStore.SeedBatch batch = queueStore.seed(CONCERT_ID, QueueLane.GENERAL, userIds, 3, TTL_SECONDS, 0,
+                System.currentTimeMillis(), now, now.plusSeconds(TTL_SECONDS));
+
+        //then
+        assertThat(batch.activatedCount()).isEqualTo(2);
+        assertThat(batch.waitingCount()).isEqualTo(3);
+        assertThat(queueStore.activeSize(CONCERT_ID, System.currentTimeMillis())).isEqualTo(3L);
+        assertThat(queueStore.waitingRanks(CONCERT_ID, QueueLane.GENERAL, List.of("seed-3", "seed-4", "seed-5")))
+                .containsExactly(0L, 1L, 2L);
+    }
+
+    @Test
+    @DisplayName("마지막 대기열 진입 후 오래된 대기실은 활성화 대상에서 제외된다.")
+    void rooms_ShouldDropStaleRooms() {
+        //given
+        queueStore.registerRoom(1L, 1_000);
+        queueStore.registerRoom(2L, 5_000);
+
+        //when
+        Set<Long> rooms = queueStore.rooms(2_000);
+
+        //then
+        assertThat(rooms).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("토큰이 모두 만료된 대기실은 정리 시 제거되고, 다시 발급하면 새 대기실로 만들어진다.")
+    void purgeExpiredTokens_ShouldDropEmptyRooms() {
+        //given (TTL 0 : 발급 즉시 만료)
+        long now = System.currentTimeMillis();
+        LocalDateTime issuedAt = LocalDateTime.now();
+        queueStore.issue(CONCERT_ID, "user-1", QueueLane.GENERAL, LANES, "user-1-token", 1, 0, 0, now, issuedAt, issuedAt);
+        queueStore.issue(CONCERT_ID, "user-2", QueueLane.GENERAL, LANES, "user-2-token", 1, 0, 0, now, issuedAt, issuedAt);
+        issue("live-user", 1);
+        queueStore.issue(2L, "user-3", QueueLane.GENERAL, LANES, "user-3-token", 1, 0, 0, now, issuedAt, issuedAt);
+
+        //when
+        queueStore.purgeExpiredTokens();
+
+        //then
+        Map<?, ?> rooms = (Map<?, ?>) ReflectionTestUtils.getField(queueStore, "rooms");
+        assertThat(rooms.keySet()).containsExactly(CONCERT_ID); // 살아 있는 토큰이 남은 대기실만 유지
+        QueueStore.IssuedToken reissued = queueStore.issue(2L, "user-3", QueueLane.GENERAL, LANES, "user-3-new-token", 1,
+                TTL_SECONDS, 0, System.currentTimeMillis(), LocalDateTime.now(), LocalDateTime.now().plusSeconds(TTL_SECONDS));
+        assertThat(reissued.reused()).isFalse();
+        assertThat(reissued.queueToken().getStatus()).isEqualTo(QueueToken.QueueStatus.ACTIVE);
+    }
+
+    private QueueStore.IssuedToken issue(String userId, int maxActiveUsers) {
+        return issue(userId, QueueLane.GENERAL, maxActiveUsers);
+    }
+
+    private QueueStore.IssuedToken issue(String userId, String lane, int maxActiveUsers) {
+        LocalDateTime now = LocalDateTime.now();
+        return queueStore.issue(CONCERT_ID, userId, lane, LANES, userId + "-token", maxActiveUsers, TTL_SECONDS, 0,
+                System.currentTimeMillis(), now, now.plusSeconds(TTL_SECONDS));
+    }
+
+    private QueueStore.AdmissionBatch admit(int maxActiveUsers, int batchSize) {
+        return admit(List.of(new QueueLane(QueueLane.GENERAL, 1)), maxActiveUsers, batchSize);
+    }
+
+    private QueueStore.AdmissionBatch admit(List<QueueLane> lanes, int maxActiveUsers, int batchSize) {
+        return queueStore.admit(CONCERT_ID, lanes, maxActiveUsers, TTL_SECONDS, 0, System.currentTimeMillis(),
+                LocalDateTime.now().plusSeconds(TTL_SECONDS), batchSize);
+    }
+}
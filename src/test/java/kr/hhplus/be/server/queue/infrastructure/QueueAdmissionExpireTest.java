@@ -0,0 +1,84 @@
+package kr.hhplus.be.server.queue.infrastructure;
+
+import kr.hhplus.be.server.common.RedisKeyUtils;
+import kr.hhplus.be.server.queue.domain.QueueToken;
+import kr.hhplus.be.server.queue.service.QueueService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 대기자 활성화 시 토큰 / 사용자-토큰 매핑 만료 시간 연장 테스트
+ * 측정 중 스케줄러가 대기열을 바꾸지 않도록 활성화 주기를 길게 설정한다.
+ */
+@SpringBootTest(properties = {
+        "queue.admission.tick-ms=3600000",
+        "queue.max-active-users=10",
+        "queue.token-expire-minutes=30"
+})
+@ActiveProfiles("test")
+class QueueAdmissionExpireTest {
+
+    @Autowired
+    private QueueService queueService;
+
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
+    private static final Long CONCERT_ID = 1L;
+
+    @BeforeEach
+    void setUp() {
+        clearQueueKeys();
+    }
+
+    @AfterEach
+    void tearDown() {
+        clearQueueKeys();
+    }
+
+    @Test
+    @DisplayName("대기자가 활성화되면 토큰과 함께 사용자-토큰 매핑의 만료 시간도 연장된다.")
+    void activateWaitingUsers_ShouldExtendUserTokenMapping() {
+        //given
+        for (int i = 0; i < 10; i++) {
+            queueService.issueToken(CONCERT_ID, "active-" + i);
+        }
+        QueueToken waiting = queueService.issueToken(CONCERT_ID, "waiting-user");
+        assertThat(waiting.getStatus()).isEqualTo(QueueToken.QueueStatus.WAITING);
+
+        // 발급 후 오래 기다려서 매핑 / 토큰 TTL 이 거의 남지 않은 상태
+        String mappingKey = RedisKeyUtils.userTokenKey(CONCERT_ID, "waiting-user");
+        String tokenKey = RedisKeyUtils.queueTokenKey(CONCERT_ID, waiting.getToken());
+        redisTemplate.expire(mappingKey, 5, TimeUnit.SECONDS);
+        redisTemplate.expire(tokenKey, 5, TimeUnit.SECONDS);
+
+        //when (활성 사용자가 모두 빠져 빈 슬롯이 생김)
+        redisTemplate.delete(RedisKeyUtils.activeQueueKey(CONCERT_ID));
+        queueService.activateWaitingUsersWithLock(CONCERT_ID);
+
+        //then
+        assertThat(queueService.getQueueStatus(CONCERT_ID, waiting.getToken()).getStatus())
+                .isEqualTo(QueueToken.QueueStatus.ACTIVE);
+        assertThat(redisTemplate.getExpire(tokenKey, TimeUnit.SECONDS)).isGreaterThan(TimeUnit.MINUTES.toSeconds(29));
+        assertThat(redisTemplate.getExpire(mappingKey, TimeUnit.SECONDS)).isGreaterThan(TimeUnit.MINUTES.toSeconds(29));
+        assertThat(redisTemplate.opsForValue().get(mappingKey)).isEqualTo(waiting.getToken());
+    }
+
+    private void clearQueueKeys() {
+        Set<String> keys = redisTemplate.keys("queue:*");
+        if (keys != null && !keys.isEmpty()) {
+            redisTemplate.delete(keys);
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package kr.hhplus.be.server.queue.infrastructure;
+
+import kr.hhplus.be.server.common.RedisKeyUtils;
+import kr.hhplus.be.server.queue.domain.QueueToken;
+import kr.hhplus.be.server.queue.service.QueueService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 대기열 스냅샷 / 복구 테스트
+ * 대기열을 스냅샷으로 저장한 뒤 Redis 대기열 키를 모두 지우고(장애 후 빈 Redis, 기준 키 포함), 복구 후 대기 순서와 활성 사용자가 유지되는지 확인한다.
+ * 측정 중 스케줄러가 대기열을 바꾸지 않도록 활성화 / 스냅샷 주기를 길게 설정한다.
+ */
+@SpringBootTest(properties = {
+        "queue.admission.tick-ms=3600000",
+        "queue.snapshot.enabled=true",
+        "queue.snapshot.interval-ms=3600000"
+})
+@ActiveProfiles("test")
+class QueueSnapshotRestoreTest {
+
+    @Autowired
+    private QueueService queueService;
+
+    @Autowired
+    private RedisQueueSnapshotter redisQueueSnapshotter;
+
+    @Autowired
+    private QueueSnapshotJpaRepository queueSnapshotJpaRepository;
+
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
+    private static final Long CONCERT_ID = 1L;
+    private static final int USER_COUNT = 5_000;
+
+    @BeforeEach
+    void setUp() {
+        clearQueueKeys();
+        queueSnapshotJpaRepository.deleteAllInBatch();
+    }
+
+    @AfterEach
+    void tearDown() {
+        clearQueueKeys();
+        queueSnapshotJpaRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("Redis 가 비워져도 스냅샷으로 대기 순서와 활성 사용자가 복구된다.")
+    void restoreRoom_ShouldKeepWaitingOrderAndActiveUsers() {
+        //given
+        List<String> tokens = new ArrayList<>(USER_COUNT);
+        for (int i = 0; i < USER_COUNT; i++) {
+            tokens.add(queueService.issueToken(CONCERT_ID, "user-" + i).getToken());
+        }
+        long now = System.currentTimeMillis();
+        redisQueueSnapshotter.snapshotRoom(CONCERT_ID, now);
+
+        List<String> waitingBefore = new ArrayList<>(redisTemplate.opsForZSet().range(RedisKeyUtils.waitingQueueKey(CONCERT_ID), 0, -1));
+        Set<String> activeBefore = redisTemplate.opsForZSet().range(RedisKeyUtils.activeQueueKey(CONCERT_ID), 0, -1);
+
+        //when
+        clearQueueKeys();
+        long start = System.nanoTime();
+        int restoredRooms = redisQueueSnapshotter.restoreAfterRedisLoss(System.currentTimeMillis());
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        //then
+        System.out.printf("[QueueSnapshotRestoreTest] 대기 %d명, 활성 %d명 복구 소요 시간 %dms%n",
+                waitingBefore.size(), activeBefore.size(), elapsedMs);
+
+        assertThat(restoredRooms).isEqualTo(1);
+        assertThat(redisTemplate.opsForZSet().range(RedisKeyUtils.waitingQueueKey(CONCERT_ID), 0, -1))
+                .containsExactlyElementsOf(waitingBefore);
+        assertThat(redisTemplate.opsForZSet().range(RedisKeyUtils.activeQueueKey(CONCERT_ID), 0, -1))
+                .containsExactlyInAnyOrderElementsOf(activeBefore);
+
+        QueueToken last = queueService.getQueueStatus(CONCERT_ID, tokens.get(USER_COUNT - 1));
+        assertThat(last.getStatus()).isEqualTo(QueueToken.QueueStatus.WAITING);
+        assertThat(last.getQueuePosition()).isEqualTo(waitingBefore.indexOf("user-" + (USER_COUNT - 1)) + 1L);
+    }
+
+    @Test
+    @DisplayName("활성화된 대기자는 다음 스냅샷에서 대기 행이 활성 행으로 바뀐다.")
+    void snapshotRoom_AfterAdmission_ShouldMoveWaitingToActive() {
+        //given
+        for (int i = 0; i < 200; i++) {
+            queueService.issueToken(CONCERT_ID, "user-" + i);
+        }
+        redisQueueSnapshotter.snapshotRoom(CONCERT_ID, System.currentTimeMillis());
+
+        //when
+        redisTemplate.delete(RedisKeyUtils.activeQueueKey(CONCERT_ID));
+        queueService.activateWaitingUsersWithLock(CONCERT_ID);
+        redisQueueSnapshotter.snapshotRoom(CONCERT_ID, System.currentTimeMillis());
+
+        //then
+        Long waitingSize = redisTemplate.opsForZSet().zCard(RedisKeyUtils.waitingQueueKey(CONCERT_ID));
+        Long activeSize = redisTemplate.opsForZSet().zCard(RedisKeyUtils.activeQueueKey(CONCERT_ID));
+        assertThat(queueSnapshotJpaRepository.findByConcertIdAndStatus(CONCERT_ID, QueueToken.QueueStatus.WAITING))
+                .hasSize(waitingSize.intValue());
+        assertThat(queueSnapshotJpaRepository.findByConcertIdAndStatus(CONCERT_ID, QueueToken.QueueStatus.ACTIVE))
+                .hasSize(activeSize.intValue());
+    }
+
+    @Test
+    @DisplayName("장애 후 복구 전에 새 사용자가 발급받아도 스냅샷이 병합 복구되고, 활성 최대수를 넘는 활성 사용자는 대기열 맨 앞으로 복구된다.")
+    void restoreAfterRedisLoss_WhenRoomRecreatedByNewIssuance_ShouldMergeSnapshot() {
+        //given
+        for (int i = 0; i < 500; i++) {
+            queueService.issueToken(CONCERT_ID, "user-" + i);
+        }
+        redisQueueSnapshotter.restoreAfterRedisLoss(System.currentTimeMillis()); // 기준 키 기록
+        redisQueueSnapshotter.snapshotRoom(CONCERT_ID, System.currentTimeMillis());
+        List<String> waitingBefore = new ArrayList<>(redisTemplate.opsForZSet().range(RedisKeyUtils.waitingQueueKey(CONCERT_ID), 0, -1));
+        Long activeBefore = redisTemplate.opsForZSet().zCard(RedisKeyUtils.activeQueueKey(CONCERT_ID));
+
+        // Redis 유실 후 복구 전에 새 사용자가 발급받아 대기실 키가 다시 생김
+        clearQueueKeys();
+        String lateToken = queueService.issueToken(CONCERT_ID, "late-user").getToken();
+
+        //when
+        int restoredRooms = redisQueueSnapshotter.restoreAfterRedisLoss(System.currentTimeMillis());
+        redisQueueSnapshotter.snapshotRoom(CONCERT_ID, System.currentTimeMillis());
+
+        //then
+        assertThat(restoredRooms).isEqualTo(1);
+        assertThat(redisQueueSnapshotter.restoreAfterRedisLoss(System.currentTimeMillis())).isZero();
+
+        // 장애 후 활성화된 late-user 가 슬롯 하나를 차지하므로 스냅샷의 활성 사용자 중 한 명은 대기열 맨 앞으로 복구됨
+        assertThat(redisTemplate.opsForZSet().zCard(RedisKeyUtils.activeQueueKey(CONCERT_ID))).isEqualTo(activeBefore);
+        List<String> waitingAfter = new ArrayList<>(redisTemplate.opsForZSet().range(RedisKeyUtils.waitingQueueKey(CONCERT_ID), 0, -1));
+        assertThat(waitingAfter).hasSize(waitingBefore.size() + 1);
+        assertThat(waitingAfter.get(0)).doesNotStartWith("late-user").isNotIn(waitingBefore);
+        assertThat(waitingAfter.subList(1, waitingBefore.size() + 1)).containsExactlyElementsOf(waitingBefore);
+        assertThat(redisTemplate.opsForValue().get(RedisKeyUtils.userTokenKey(CONCERT_ID, "late-user"))).isEqualTo(lateToken);
+        assertThat(queueSnapshotJpaRepository.findByConcertIdAndStatus(CONCERT_ID, QueueToken.QueueStatus.WAITING))
+                .hasSize(waitingAfter.size());
+    }
+
+    private void clearQueueKeys() {
+        Set<String> keys = redisTemplate.keys("queue:*");
+        if (keys != null && !keys.isEmpty()) {
+            redisTemplate.delete(keys);
+        }
+    }
+}
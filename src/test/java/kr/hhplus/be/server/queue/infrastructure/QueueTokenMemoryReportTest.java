@@ -0,0 +1,127 @@
+package kr.hhplus.be.server.queue.infrastructure;
+
+import kr.hhplus.be.server.queue.domain.QueueToken;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.serializer.JdkSerializationRedisSerializer;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 대기열 토큰 저장 형식별 메모리 사용량 비교 (토큰 100만 개 기준 환산)
+ * - jdk : 토큰 객체를 JDK 직렬화해서 String 값으로 저장 (RedisTemplate 기본 직렬화)
+ * - hash-v1 : 긴 필드명 + ISO 일시 문자열 Hash (userId, status, queuePosition, issuedAt, expiresAt)
+ * - hash-v2 : 한 글자 필드명 + 상태 코드 + epoch ms Hash (QueueTokenHash)
+ * 키마다 MEMORY USAGE 로 측정하므로 키 자체 오버헤드까지 포함한다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class QueueTokenMemoryReportTest {
+
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
+    private static final int SAMPLE_SIZE = 10_000;
+    private static final long TOKENS_PER_REPORT = 1_000_000L;
+    private static final String KEY_PREFIX = "queue:{memory-report}:";
+
+    @AfterEach
+    void tearDown() {
+        Set<String> keys = redisTemplate.keys(KEY_PREFIX + "*");
+        if (keys != null && !keys.isEmpty()) {
+            redisTemplate.delete(keys);
+        }
+    }
+
+    @Test
+    @DisplayName("토큰 저장 형식별 메모리 사용량 비교 - JDK 직렬화 vs 기존 Hash vs 압축 Hash")
+    void memoryPerMillionTokens() {
+        JdkSerializationRedisSerializer jdkSerializer = new JdkSerializationRedisSerializer();
+
+        long jdk = measure("jdk", (key, userId, issuedAt, expiresAt) -> {
+            HashMap<String, Object> token = new HashMap<>();
+            token.put("userId", userId);
+            token.put("status", QueueToken.QueueStatus.WAITING);
+            token.put("queuePosition", 1234L);
+            token.put("issuedAt", issuedAt);
+            token.put("expiresAt", expiresAt);
+            byte[] value = jdkSerializer.serialize(token);
+            redisTemplate.execute((RedisCallback<Void>) connection -> {
+                connection.stringCommands().set(key.getBytes(StandardCharsets.UTF_8), value);
+                return null;
+            });
+        });
+
+        long hashV1 = measure("hash-v1", (key, userId, issuedAt, expiresAt) -> {
+            Map<String, String> fields = new LinkedHashMap<>();
+            fields.put("userId", userId);
+            fields.put("status", QueueToken.QueueStatus.WAITING.name());
+            fields.put("queuePosition", "1234");
+            fields.put("issuedAt", issuedAt.toString());
+            fields.put("expiresAt", expiresAt.toString());
+            redisTemplate.opsForHash().putAll(key, fields);
+        });
+
+        long hashV2 = measure("hash-v2", (key, userId, issuedAt, expiresAt) -> {
+            Map<String, String> fields = new LinkedHashMap<>();
+            fields.put(QueueTokenHash.USER_ID, userId);
+            fields.put(QueueTokenHash.STATUS, QueueTokenHash.encodeStatus(QueueToken.QueueStatus.WAITING));
+            fields.put(QueueTokenHash.POSITION, "1234");
+            fields.put(QueueTokenHash.ISSUED_AT, QueueTokenHash.encodeTime(issuedAt));
+            fields.put(QueueTokenHash.EXPIRES_AT, QueueTokenHash.encodeTime(expiresAt));
+            redisTemplate.opsForHash().putAll(key, fields);
+        });
+
+        System.out.println("[QueueTokenMemoryReportTest] " + report("jdk", jdk));
+        System.out.println("[QueueTokenMemoryReportTest] " + report("hash-v1", hashV1));
+        System.out.println("[QueueTokenMemoryReportTest] " + report("hash-v2", hashV2));
+
+        assertThat(hashV2).isLessThan(hashV1);
+        assertThat(hashV2).isLessThan(jdk);
+    }
+
+    /**
+     * 형식별로 SAMPLE_SIZE 개 토큰을 저장하고 키별 MEMORY USAGE 합계를 반환
+     */
+    private long measure(String format, TokenWriter writer) {
+        long total = 0;
+        for (int i = 0; i < SAMPLE_SIZE; i++) {
+            String key = KEY_PREFIX + format + ":" + UUID.randomUUID();
+            LocalDateTime issuedAt = LocalDateTime.now();
+            writer.write(key, "user-" + i, issuedAt, issuedAt.plusMinutes(30));
+            total += memoryUsage(key);
+        }
+        return total;
+    }
+
+    private long memoryUsage(String key) {
+        Object usage = redisTemplate.execute((RedisCallback<Object>) connection -> connection.execute("MEMORY",
+                "USAGE".getBytes(StandardCharsets.UTF_8), key.getBytes(StandardCharsets.UTF_8)));
+        return usage instanceof Number ? ((Number) usage).longValue() : 0;
+    }
+
+    private String report(String format, long totalBytes) {
+        double bytesPerToken = (double) totalBytes / SAMPLE_SIZE;
+        double megaBytesPerMillion = bytesPerToken * TOKENS_PER_REPORT / (1024 * 1024);
+        return String.format("%s : 토큰당 %.1f bytes, 100만 개 %.1f MB", format, bytesPerToken, megaBytesPerMillion);
+    }
+
+    @FunctionalInterface
+    private interface TokenWriter {
+        void write(String key, String userId, LocalDateTime issuedAt, LocalDateTime expiresAt);
+    }
+}
@@ -0,0 +1,72 @@
+package kr.hhplus.be.server.queue.listener;
+
+import kr.hhplus.be.server.queue.service.QueueService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ActiveUserExpirationListenerTest {
+
+    @Mock
+    private QueueService queueService;
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private RedisMessageListenerContainer redisMessageListenerContainer;
+
+    private ActiveUserExpirationListener listener;
+
+    @BeforeEach
+    void setUp() {
+        listener = new ActiveUserExpirationListener(queueService, redisTemplate, redisMessageListenerContainer);
+    }
+
+    @Test
+    @DisplayName("활성 사용자 키가 만료되면 해당 대기실의 만료 사용자 정리를 실행한다.")
+    void onMessage_ActiveUserKeyExpired_ShouldExpireActiveUser() {
+        //when
+        listener.onMessage(expired("queue:{7}:active:user:user-1"), null);
+
+        //then
+        verify(queueService).expireActiveUser(7L, "user-1");
+    }
+
+    @Test
+    @DisplayName("활성 사용자 키가 아닌 키의 만료 이벤트는 무시한다.")
+    void onMessage_OtherKeyExpired_ShouldIgnore() {
+        //when
+        listener.onMessage(expired("queue:{7}:token:token-1"), null);
+        listener.onMessage(expired("lock:seat:7:1"), null);
+
+        //then
+        verify(queueService, never()).expireActiveUser(anyLong(), anyString());
+    }
+
+    @Test
+    @DisplayName("기존 이벤트 설정을 유지하면서 키 만료 이벤트 설정을 추가한다.")
+    void withExpiredEvents_ShouldKeepExistingFlags() {
+        assertThat(ActiveUserExpirationListener.withExpiredEvents("")).isEqualTo("Ex");
+        assertThat(ActiveUserExpirationListener.withExpiredEvents("Kg")).isEqualTo("KgEx");
+        assertThat(ActiveUserExpirationListener.withExpiredEvents("AKE")).isEqualTo("AKE");
+    }
+
+    private DefaultMessage expired(String key) {
+        return new DefaultMessage("__keyevent@0__:expired".getBytes(StandardCharsets.UTF_8),
+                key.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,186 @@
+package kr.hhplus.be.server.queue.ratelimit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+class SlidingWindowRateLimiterTest {
+
+    private static final long WINDOW_MILLIS = 10_000;
+    // 윈도우 경계에 맞춘 기준 시각
+    private static final long BASE = 1_000_000 * WINDOW_MILLIS;
+
+    @Test
+    @DisplayName("윈도우당 허용 요청 수를 넘으면 거절하고, 거절된 요청은 요청 수에 포함하지 않는다.")
+    void tryAcquire_OverLimit_ShouldReject() {
+        //given
+        SlidingWindowRateLimiter limiter = new SlidingWindowRateLimiter(3, WINDOW_MILLIS);
+        for (int i = 0; i < 3; i++) {
+            assertThat(limiter.tryAcquire("user-1", BASE + i).allowed()).isTrue();
+        }
+
+        //when
+        SlidingWindowRateLimiter.Decision rejected = limiter.tryAcquire("user-1", BASE + 1_000);
+
+        //then
+        assertThat(rejected.allowed()).isFalse();
+        assertThat(rejected.retryAfterSeconds()).isEqualTo(9); // 윈도우 끝까지 남은 시간
+        assertThat(limiter.tryAcquire("user-2", BASE + 1_000).allowed()).isTrue(); // 사용자별로 따로 계산
+    }
+
+    @Test
+    @DisplayName("직전 윈도우 요청 수는 현재 윈도우와 겹치는 비율만큼만 반영한다.")
+    void tryAcquire_NextWindow_ShouldWeightPreviousWindow() {
+        //given
+        SlidingWindowRateLimiter limiter = new SlidingWindowRateLimiter(4, WINDOW_MILLIS);
+        for (int i = 0; i < 4; i++) {
+            limiter.tryAcquire("user-1", BASE + i);
+        }
+
+        //when & then
+        // 다음 윈도우 25% 경과 : 4 * 0.75 = 3 -> 1건 허용
+        assertThat(limiter.tryAcquire("user-1", BASE + WINDOW_MILLIS + 2_500).allowed()).isTrue();
+        assertThat(limiter.tryAcquire("user-1", BASE + WINDOW_MILLIS + 2_500).allowed()).isFalse();
+
+        // 다음 윈도우 75% 경과 : 4 * 0.25 + 1 = 2 -> 2건 추가 허용
+        assertThat(limiter.tryAcquire("user-1", BASE + WINDOW_MILLIS + 7_500).allowed()).isTrue();
+        assertThat(limiter.tryAcquire("user-1", BASE + WINDOW_MILLIS + 7_500).allowed()).isTrue();
+        assertThat(limiter.tryAcquire("user-1", BASE + WINDOW_MILLIS + 7_500).allowed()).isFalse();
+    }
+
+    @Test
+    @DisplayName("거절 시 Retry-After 는 안내한 다음 조회 권장 간격과 윈도우 남은 시간 중 큰 값이다.")
+    void tryAcquire_WithRetryHint_ShouldUseHint() {
+        //given
+        SlidingWindowRateLimiter limiter = new SlidingWindowRateLimiter(1, WINDOW_MILLIS);
+        limiter.tryAcquire("user-1", BASE);
+        limiter.recordRetryHint("user-1", 30);
+
+        //when
+        SlidingWindowRateLimiter.Decision rejected = limiter.tryAcquire("user-1", BASE + 1_000);
+
+        //then
+        assertThat(rejected.allowed()).isFalse();
+        assertThat(rejected.retryAfterSeconds()).isEqualTo(30);
+
+        // 윈도우가 지나도 안내 간격은 유지된다.
+        assertThat(limiter.tryAcquire("user-1", BASE + WINDOW_MILLIS * 2 + 9_000).allowed()).isTrue();
+        assertThat(limiter.tryAcquire("user-1", BASE + WINDOW_MILLIS * 2 + 9_000).retryAfterSeconds()).isEqualTo(30);
+    }
+
+    @Test
+    @DisplayName("동시에 요청해도 윈도우당 허용 요청 수만큼만 허용한다.")
+    void tryAcquire_Concurrently_ShouldAllowExactlyLimit() throws InterruptedException {
+        //given
+        int limit = 50;
+        int requestCount = 1000;
+        SlidingWindowRateLimiter limiter = new SlidingWindowRateLimiter(limit, WINDOW_MILLIS);
+        ExecutorService executorService = Executors.newFixedThreadPool(32);
+        CountDownLatch latch = new CountDownLatch(requestCount);
+        AtomicInteger allowed = new AtomicInteger();
+
+        //when
+        for (int i = 0; i < requestCount; i++) {
+            executorService.submit(() -> {
+                try {
+                    if (limiter.tryAcquire("user-1", BASE + 1).allowed()) {
+                        allowed.incrementAndGet();
+                    }
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await();
+        executorService.shutdown();
+
+        //then
+        assertThat(allowed.get()).isEqualTo(limit);
+    }
+
+    @Test
+    @DisplayName("직전 윈도우보다 오래된 사용자 상태는 정리된다.")
+    void purge_ShouldRemoveStaleWindows() {
+        //given
+        SlidingWindowRateLimiter limiter = new SlidingWindowRateLimiter(3, WINDOW_MILLIS);
+        limiter.tryAcquire("old-user", BASE);
+        limiter.tryAcquire("recent-user", BASE + WINDOW_MILLIS);
+
+        //when
+        int purged = limiter.purge(BASE + WINDOW_MILLIS * 2);
+
+        //then
+        assertThat(purged).isEqualTo(1);
+        assertThat(limiter.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("검증 전 키는 상태를 만들지 않고, 검증 후 기록한 요청부터 센다.")
+    void tryAcquireExisting_ShouldNotCreateStateUntilValidated() {
+        //given
+        SlidingWindowRateLimiter limiter = new SlidingWindowRateLimiter(2, WINDOW_MILLIS);
+
+        //when (위조 토큰 반복 호출)
+        for (int i = 0; i < 100; i++) {
+            assertThat(limiter.tryAcquireExisting("forged-" + i, BASE).allowed()).isTrue();
+        }
+
+        //then
+        assertThat(limiter.size()).isZero();
+
+        //when (검증된 토큰 : 첫 요청은 검증 후 기록)
+        assertThat(limiter.tryAcquireExisting("token-1", BASE).allowed()).isTrue();
+        limiter.recordValidated("token-1", BASE, 30);
+
+        //then
+        assertThat(limiter.size()).isEqualTo(1);
+        assertThat(limiter.tryAcquireExisting("token-1", BASE + 1).allowed()).isTrue();
+        SlidingWindowRateLimiter.Decision rejected = limiter.tryAcquireExisting("token-1", BASE + 2);
+        assertThat(rejected.allowed()).isFalse();
+        assertThat(rejected.retryAfterSeconds()).isEqualTo(30);
+    }
+
+    @Test
+    @DisplayName("정리와 동시에 갱신되는 상태는 지워지지 않는다.")
+    void purge_Concurrently_ShouldNotDropUpdatedWindow() throws InterruptedException {
+        //given
+        SlidingWindowRateLimiter limiter = new SlidingWindowRateLimiter(1000, WINDOW_MILLIS);
+        long now = BASE + WINDOW_MILLIS * 2;
+        int keyCount = 1000;
+        for (int i = 0; i < keyCount; i++) {
+            limiter.tryAcquire("user-" + i, BASE);
+        }
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+        CountDownLatch latch = new CountDownLatch(2);
+
+        //when (오래된 상태를 정리하는 동안 모든 사용자가 새 윈도우에서 요청)
+        executorService.submit(() -> {
+            try {
+                limiter.purge(now);
+            } finally {
+                latch.countDown();
+            }
+        });
+        executorService.submit(() -> {
+            try {
+                for (int i = 0; i < keyCount; i++) {
+                    limiter.tryAcquire("user-" + i, now);
+                }
+            } finally {
+                latch.countDown();
+            }
+        });
+        latch.await();
+        executorService.shutdown();
+
+        //then (새 윈도우 요청이 반영된 상태는 정리되지 않음)
+        assertThat(limiter.purge(now)).isZero();
+        assertThat(limiter.size()).isEqualTo(keyCount);
+    }
+}
@@ -0,0 +1,166 @@
+package kr.hhplus.be.server.queue.scheduler;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.hhplus.be.server.queue.metrics.QueueMetrics;
+import kr.hhplus.be.server.queue.service.QueueService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class QueueLeaderElectionTest {
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private QueueService queueService;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private QueueMetrics queueMetrics;
+
+    private QueueLeaderElection leaderElection;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        queueMetrics = new QueueMetrics(meterRegistry);
+        leaderElection = new QueueLeaderElection(redisTemplate, queueMetrics);
+
+        //설정값 주입
+        ReflectionTestUtils.setField(leaderElection, "enabled", true);
+        ReflectionTestUtils.setField(leaderElection, "leaseMillis", 3000L);
+    }
+
+    @Test
+    @DisplayName("임대를 획득하면 리더가 되고 리더만 활성화 작업을 실행한다.")
+    void renewLease_Acquired_ShouldRunScheduler() {
+        //given
+        givenLeaseResult(1L);
+        QueueScheduler scheduler = new QueueScheduler(queueService, leaderElection, queueMetrics);
+
+        //when
+        leaderElection.renewLease();
+        scheduler.activateWaitingRoomsScheduler();
+
+        //then
+        assertThat(leaderElection.isLeader()).isTrue();
+        assertThat(meterRegistry.get(QueueMetrics.LEADER).gauge().value()).isEqualTo(1.0);
+        verify(queueService).activateWaitingRooms(any());
+    }
+
+    @Test
+    @DisplayName("다른 노드가 임대를 가지고 있으면 팔로워는 활성화 작업을 실행하지 않는다.")
+    void renewLease_HeldByOther_ShouldSkipScheduler() {
+        //given
+        givenLeaseResult(0L);
+        QueueScheduler scheduler = new QueueScheduler(queueService, leaderElection, queueMetrics);
+
+        //when
+        leaderElection.renewLease();
+        scheduler.activateWaitingRoomsScheduler();
+
+        //then
+        assertThat(leaderElection.isLeader()).isFalse();
+        verifyNoInteractions(queueService);
+    }
+
+    @Test
+    @DisplayName("리더에서 물러난 노드는 더 갱신하지 않는 대기실 인원 지표를 해제한다.")
+    void activateWaitingRoomsScheduler_Follower_ShouldRemoveQueueSizeGauges() {
+        //given (리더일 때 기록한 인원 지표)
+        queueMetrics.recordQueueSizes(1L, 250, 100);
+        queueMetrics.recordLaneWaitingSize(1L, "default", 250);
+        givenLeaseResult(0L);
+        QueueScheduler scheduler = new QueueScheduler(queueService, leaderElection, queueMetrics);
+
+        //when
+        leaderElection.renewLease();
+        scheduler.activateWaitingRoomsScheduler();
+
+        //then
+        assertThat(meterRegistry.find(QueueMetrics.WAITING_SIZE).gauges()).isEmpty();
+        assertThat(meterRegistry.find(QueueMetrics.ACTIVE_SIZE).gauges()).isEmpty();
+        assertThat(meterRegistry.find(QueueMetrics.LANE_WAITING_SIZE).gauges()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("임대 연장에 실패하면 리더에서 물러난다.")
+    void renewLease_RenewFailed_ShouldStepDown() {
+        //given
+        givenLeaseResult(1L);
+        leaderElection.renewLease();
+        given(redisTemplate.execute(any(RedisScript.class), anyList(), any(), any()))
+                .willThrow(new RuntimeException("Redis 연결 실패"));
+
+        //when
+        leaderElection.renewLease();
+
+        //then
+        assertThat(leaderElection.isLeader()).isFalse();
+        assertThat(meterRegistry.get(QueueMetrics.LEADER_CHANGE).tag("result", "lost").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("연장하지 못한 채 임대 시간이 지나면 Redis 호출 없이도 리더가 아니다.")
+    void isLeader_LeaseElapsed_ShouldReturnFalse() throws InterruptedException {
+        //given
+        ReflectionTestUtils.setField(leaderElection, "leaseMillis", 50L);
+        givenLeaseResult(1L);
+        leaderElection.renewLease();
+
+        //when
+        Thread.sleep(100);
+
+        //then
+        assertThat(leaderElection.isLeader()).isFalse();
+    }
+
+    @Test
+    @DisplayName("리더 선출을 끄면 모든 노드가 리더로 동작한다.")
+    void isLeader_Disabled_ShouldReturnTrue() {
+        //given
+        ReflectionTestUtils.setField(leaderElection, "enabled", false);
+
+        //when
+        leaderElection.renewLease();
+
+        //then
+        assertThat(leaderElection.isLeader()).isTrue();
+        verifyNoInteractions(redisTemplate);
+    }
+
+    @Test
+    @DisplayName("종료 시 리더 임대를 반납한다.")
+    void releaseLease_Leader_ShouldReleaseLease() {
+        //given
+        givenLeaseResult(1L);
+        leaderElection.renewLease();
+
+        //when
+        leaderElection.releaseLease();
+
+        //then
+        assertThat(leaderElection.isLeader()).isFalse();
+        verify(redisTemplate).execute(any(RedisScript.class), eq(List.of("queue:leader")), anyString());
+    }
+
+    @SuppressWarnings("unchecked")
+    private void givenLeaseResult(Long result) {
+        given(redisTemplate.execute(any(RedisScript.class), anyList(), any(), any())).willReturn(result);
+    }
+}
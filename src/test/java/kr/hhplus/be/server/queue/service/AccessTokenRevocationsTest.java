@@ -0,0 +1,98 @@
+package kr.hhplus.be.server.queue.service;
+
+import kr.hhplus.be.server.queue.domain.AccessTokenClaims;
+import kr.hhplus.be.server.queue.scheduler.QueueLeaderElection;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class AccessTokenRevocationsTest {
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ZSetOperations<String, String> zSetOperations;
+
+    @Mock
+    private QueueLeaderElection queueLeaderElection;
+
+    private AccessTokenRevocations revocations;
+
+    private static final String KEY = "queue:revoked";
+
+    @BeforeEach
+    void setUp() {
+        given(redisTemplate.opsForZSet()).willReturn(zSetOperations);
+
+        revocations = new AccessTokenRevocations(redisTemplate, queueLeaderElection);
+        ReflectionTestUtils.setField(revocations, "tokenExpireMinutes", 30);
+        ReflectionTestUtils.setField(revocations, "overlapMillis", 5000L);
+    }
+
+    @Test
+    @DisplayName("처음에는 전체를 읽고, 이후에는 마지막으로 읽은 폐기 시각 이후만 겹쳐서 읽는다.")
+    void refresh_ShouldReadIncrementallyFromLastSeenScore() {
+        //given
+        long revokedAt = System.currentTimeMillis();
+        given(zSetOperations.rangeByScoreWithScores(eq(KEY), anyDouble(), anyDouble()))
+                .willReturn(Set.of(new DefaultTypedTuple<>("1:user-1", (double) revokedAt)));
+
+        //when
+        revocations.refresh();
+        revocations.refresh();
+
+        //then
+        verify(zSetOperations).rangeByScoreWithScores(KEY, Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY);
+        verify(zSetOperations).rangeByScoreWithScores(KEY, (double) (revokedAt - 5000), Double.POSITIVE_INFINITY);
+        verify(zSetOperations, never()).rangeWithScores(anyString(), anyLong(), anyLong());
+        assertThat(revocations.isRevoked(claims("user-1", revokedAt - 1))).isTrue();
+        assertThat(revocations.isRevoked(claims("user-1", revokedAt + 1))).isFalse();
+    }
+
+    @Test
+    @DisplayName("만료된 폐기 항목은 리더만 Redis 에서 지우고, 팔로워는 로컬에서만 지운다.")
+    void refresh_Follower_ShouldNotPruneRedis() {
+        //given
+        given(queueLeaderElection.isLeader()).willReturn(false);
+        long expiredAt = System.currentTimeMillis() - 31 * 60 * 1000L;
+        given(zSetOperations.rangeByScoreWithScores(eq(KEY), anyDouble(), anyDouble()))
+                .willReturn(Set.of(new DefaultTypedTuple<>("1:user-1", (double) expiredAt)));
+
+        //when
+        revocations.refresh();
+
+        //then
+        verify(zSetOperations, never()).removeRangeByScore(anyString(), anyDouble(), anyDouble());
+        assertThat(revocations.isRevoked(claims("user-1", expiredAt - 1))).isFalse();
+
+        //when (리더)
+        given(queueLeaderElection.isLeader()).willReturn(true);
+        revocations.refresh();
+
+        //then
+        verify(zSetOperations).removeRangeByScore(eq(KEY), eq(Double.NEGATIVE_INFINITY), anyDouble());
+    }
+
+    private AccessTokenClaims claims(String userId, long issuedAtMillis) {
+        return new AccessTokenClaims(1L, userId, issuedAtMillis, issuedAtMillis + 30 * 60 * 1000L);
+    }
+}
@@ -0,0 +1,183 @@
+package kr.hhplus.be.server.queue.service;
+
+import kr.hhplus.be.server.common.RedisKeyUtils;
+import kr.hhplus.be.server.common.lock.RedisDistributedLock;
+import kr.hhplus.be.server.queue.domain.QueueLane;
+import kr.hhplus.be.server.queue.infrastructure.InMemoryQueueStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 대기열 토큰 발급 처리량 비교
+ * - 기존 방식 : 전역 queue:lock 획득 후 만료 정리, SCARD, SADD/ZADD, ZRANK, SET 2회를 각각 호출
+ * - 스크립트 방식 : Lua 스크립트 1회 호출
+ * - 메모리 저장소 : 네트워크 왕복 없이 같은 발급 규칙만 처리 (대기열 알고리즘 자체 비용의 기준값)
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class QueueIssuanceBenchmarkTest {
+
+    @Autowired
+    private QueueService queueService;
+
+    @Autowired
+    private RedisDistributedLock redisDistributedLock;
+
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
+    @Value("${queue.max-active-users:100}")
+    private int maxActiveUsers;
+
+    // 기존 방식 재현용 키 (활성 대기열 Set + 개별 활성 키 + 전역 락)
+    private static final String LEGACY_LOCK_KEY = "queue:lock";
+    private static final String LEGACY_ACTIVE_QUEUE_KEY = "queue:legacy:active";
+    private static final String LEGACY_ACTIVE_USER_KEY = "queue:legacy:active:user:";
+    private static final String LEGACY_WAITING_QUEUE_KEY = "queue:legacy:waiting";
+    private static final String LEGACY_TOKEN_KEY = "queue:legacy:token:";
+    private static final String LEGACY_USER_TOKEN_KEY = "queue:legacy:user:token:";
+
+    private static final Long CONCERT_ID = 1L;
+    private static final int USER_COUNT = 2000;
+    private static final int THREAD_COUNT = 50;
+
+    @BeforeEach
+    void setUp() {
+        clearQueueKeys();
+    }
+
+    @Test
+    @DisplayName("토큰 발급 처리량 비교 - 전역 락 방식 vs Lua 스크립트 방식 vs 메모리 저장소")
+    void issuanceThroughput_LockedVsScripted() throws InterruptedException {
+        // 1. 기존 방식 (전역 락)
+        Result locked = run("locked", this::issueTokenWithGlobalLock);
+        clearQueueKeys();
+
+        // 2. 스크립트 방식
+        Result scripted = run("scripted", userId -> queueService.issueToken(CONCERT_ID, userId) != null);
+
+        // 3. 메모리 저장소 (저장소 단위 호출)
+        InMemoryQueueStore memoryStore = new InMemoryQueueStore();
+        Result memory = run("memory", userId -> {
+            LocalDateTime now = LocalDateTime.now();
+            return memoryStore.issue(CONCERT_ID, userId, QueueLane.GENERAL, List.of(new QueueLane(QueueLane.GENERAL, 1)),
+                    UUID.randomUUID().toString(), maxActiveUsers, 1800, 0,
+                    System.currentTimeMillis(), now, now.plusMinutes(30)) != null;
+        });
+
+        System.out.println("[QueueIssuanceBenchmarkTest] " + locked);
+        System.out.println("[QueueIssuanceBenchmarkTest] " + scripted);
+        System.out.println("[QueueIssuanceBenchmarkTest] " + memory);
+
+        // 스크립트 방식은 락 경합이 없으므로 모든 요청이 성공해야 한다.
+        assertThat(scripted.success).isEqualTo(USER_COUNT);
+        assertThat(memory.success).isEqualTo(USER_COUNT);
+        assertThat(redisTemplate.opsForZSet().zCard(RedisKeyUtils.activeQueueKey(CONCERT_ID))).isLessThanOrEqualTo(maxActiveUsers);
+    }
+
+    private Result run(String name, Predicate<String> issuer) throws InterruptedException {
+        ExecutorService executorService = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch latch = new CountDownLatch(USER_COUNT);
+        AtomicInteger success = new AtomicInteger();
+        AtomicInteger failure = new AtomicInteger();
+
+        long start = System.nanoTime();
+        for (int i = 0; i < USER_COUNT; i++) {
+            final String userId = name + "-user-" + i;
+            executorService.submit(() -> {
+                try {
+                    if (issuer.test(userId)) {
+                        success.incrementAndGet();
+                    } else {
+                        failure.incrementAndGet();
+                    }
+                } catch (Exception e) {
+                    failure.incrementAndGet();
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await();
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        executorService.shutdown();
+
+        return new Result(name, success.get(), failure.get(), elapsedMs);
+    }
+
+    /**
+     * 기존 발급 흐름 재현 (전역 락 + 명령별 왕복)
+     */
+    private boolean issueTokenWithGlobalLock(String userId) {
+        if (redisTemplate.opsForValue().get(LEGACY_USER_TOKEN_KEY + userId) != null) {
+            return true;
+        }
+
+        String lockValue = UUID.randomUUID().toString();
+        if (!redisDistributedLock.tryLockWithRetry(LEGACY_LOCK_KEY, lockValue, 10)) {
+            return false;
+        }
+
+        try {
+            Set<String> activeUsers = redisTemplate.opsForSet().members(LEGACY_ACTIVE_QUEUE_KEY);
+            if (activeUsers != null) {
+                for (String activeUser : activeUsers) {
+                    if (!Boolean.TRUE.equals(redisTemplate.hasKey(LEGACY_ACTIVE_USER_KEY + activeUser))) {
+                        redisTemplate.opsForSet().remove(LEGACY_ACTIVE_QUEUE_KEY, activeUser);
+                    }
+                }
+            }
+
+            String token = UUID.randomUUID().toString();
+            Long activeUserCount = redisTemplate.opsForSet().size(LEGACY_ACTIVE_QUEUE_KEY);
+            if (activeUserCount != null && activeUserCount < maxActiveUsers) {
+                redisTemplate.opsForSet().add(LEGACY_ACTIVE_QUEUE_KEY, userId);
+                redisTemplate.opsForValue().set(LEGACY_ACTIVE_USER_KEY + userId, token, 30, TimeUnit.MINUTES);
+            } else {
+                redisTemplate.opsForZSet().add(LEGACY_WAITING_QUEUE_KEY, userId, System.currentTimeMillis());
+                redisTemplate.opsForZSet().rank(LEGACY_WAITING_QUEUE_KEY, userId);
+            }
+
+            redisTemplate.opsForValue().set(LEGACY_TOKEN_KEY + token, userId, 30, TimeUnit.MINUTES);
+            redisTemplate.opsForValue().set(LEGACY_USER_TOKEN_KEY + userId, token, 30, TimeUnit.MINUTES);
+            return true;
+        } finally {
+            redisDistributedLock.releaseLock(LEGACY_LOCK_KEY, lockValue);
+        }
+    }
+
+    private void clearQueueKeys() {
+        Set<String> keys = redisTemplate.keys("queue:*");
+        if (keys != null && !keys.isEmpty()) {
+            redisTemplate.delete(keys);
+        }
+    }
+
+    private record Result(String name, int success, int failure, long elapsedMs) {
+        @Override
+        public String toString() {
+            double throughput = elapsedMs == 0 ? success : success * 1000.0 / elapsedMs;
+            return String.format("%s : 성공 %d건, 실패 %d건, 소요 시간 %dms, 처리량 %.1f req/s",
+                    name, success, failure, elapsedMs, throughput);
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package kr.hhplus.be.server.queue.service;
+
+import kr.hhplus.be.server.common.RedisKeyUtils;
+import kr.hhplus.be.server.queue.domain.QueueLane;
+import kr.hhplus.be.server.queue.domain.QueueSeedReport;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 합성 사용자 일괄 등록 리허설 (대기자 10만 명)
+ * 등록 시간과 등록 전후 Redis 메모리 사용량(INFO memory)을 출력한다.
+ * 측정 중 활성화 스케줄러가 대기열을 바꾸지 않도록 활성화 주기를 길게 설정한다.
+ */
+@SpringBootTest(properties = "queue.admission.tick-ms=3600000")
+@ActiveProfiles("test")
+class QueueSeedReportTest {
+
+    @Autowired
+    private QueueService queueService;
+
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
+    private static final Long CONCERT_ID = 1L;
+    private static final int SEED_COUNT = 100_000;
+
+    @BeforeEach
+    void setUp() {
+        clearQueueKeys();
+    }
+
+    @AfterEach
+    void tearDown() {
+        clearQueueKeys();
+    }
+
+    @Test
+    @DisplayName("합성 사용자 10만 명을 등록하면 활성 최대치만큼 활성화되고 나머지는 순번대로 대기열에 추가된다.")
+    void seedUsers_100k_ShouldFillActiveAndWaiting() {
+        //when
+        QueueSeedReport report = queueService.seedUsers(CONCERT_ID, SEED_COUNT, QueueLane.GENERAL);
+
+        //then
+        System.out.printf("[QueueSeedReportTest] 등록 %d명 (활성 %d명, 대기 %d명), 소요 시간 %dms, Redis 메모리 %d -> %d byte (%d byte/명, 100만 명 환산 %.1f MB)%n",
+                report.seededCount(), report.activatedCount(), report.waitingCount(), report.elapsedMillis(),
+                report.memoryBeforeBytes(), report.memoryAfterBytes(), report.bytesPerUser(),
+                report.bytesPerUser() * 1_000_000.0 / (1024 * 1024));
+
+        Long activeSize = redisTemplate.opsForZSet().zCard(RedisKeyUtils.activeQueueKey(CONCERT_ID));
+        Long waitingSize = redisTemplate.opsForZSet().zCard(RedisKeyUtils.waitingQueueKey(CONCERT_ID));
+        assertThat(report.activatedCount() + report.waitingCount()).isEqualTo(SEED_COUNT);
+        assertThat(activeSize).isEqualTo((long) report.activatedCount());
+        assertThat(waitingSize).isEqualTo((long) report.waitingCount());
+        assertThat(report.memoryDeltaBytes()).isPositive();
+
+        // 순번대로 대기열에 추가됨
+        List<String> head = List.copyOf(redisTemplate.opsForZSet().range(RedisKeyUtils.waitingQueueKey(CONCERT_ID), 0, 1));
+        assertThat(head.get(0)).endsWith(String.format("-%08d", report.activatedCount()));
+        assertThat(head.get(1)).endsWith(String.format("-%08d", report.activatedCount() + 1));
+    }
+
+    private void clearQueueKeys() {
+        Set<String> keys = redisTemplate.keys("queue:*");
+        if (keys != null && !keys.isEmpty()) {
+            redisTemplate.delete(keys);
+        }
+    }
+}
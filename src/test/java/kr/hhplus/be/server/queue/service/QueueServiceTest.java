@@ -1,7 +1,14 @@
 package kr.hhplus.be.server.queue.service;
 
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import kr.hhplus.be.server.common.lock.RedisDistributedLock;
+import kr.hhplus.be.server.config.QueueRoomProperties;
+import kr.hhplus.be.server.queue.admission.FixedCapAdmissionPolicy;
+import kr.hhplus.be.server.queue.domain.AccessTokenClaims;
 import kr.hhplus.be.server.queue.domain.QueueToken;
+import kr.hhplus.be.server.queue.infrastructure.RedisQueueStore;
+import kr.hhplus.be.server.queue.metrics.QueueMetrics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -10,15 +17,24 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
-import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.data.redis.core.ValueOperations;
 import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.LocalDateTime;
-import java.util.Collections;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.*;
@@ -28,22 +44,37 @@ import static org.assertj.core.api.Assertions.*;
 @ExtendWith(MockitoExtension.class)
 class QueueServiceTest {
     @Mock
-    private RedisTemplate<String, Object> redisTemplate;
+    private StringRedisTemplate redisTemplate;
 
     @Mock
     private RedisDistributedLock redisDistributedLock;
 
     @Mock
-    private ValueOperations<String, Object> valueOperations;
+    private ValueOperations<String, String> valueOperations;
 
     @Mock
-    private SetOperations<String, Object> setOperations;
+    private SetOperations<String, String> setOperations;
 
     @Mock
-    private ZSetOperations<String, Object> zSetOperations;
+    private ZSetOperations<String, String> zSetOperations;
+
+    @Mock
+    private HashOperations<String, Object, Object> hashOperations;
+
+    @Mock
+    private AccessTokenRevocations accessTokenRevocations;
+
+    @Mock
+    private QueueThroughputEstimator queueThroughputEstimator;
 
     private QueueService queueService;
 
+    private SimpleMeterRegistry meterRegistry;
+
+    private AccessTokenSigner accessTokenSigner;
+
+    private static final Long CONCERT_ID = 1L;
+
 
     @BeforeEach
     void setUp() {
@@ -51,40 +82,42 @@ class QueueServiceTest {
         when(redisTemplate.opsForValue()).thenReturn(valueOperations);
         when(redisTemplate.opsForSet()).thenReturn(setOperations);
         when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+        when(redisTemplate.<Object, Object>opsForHash()).thenReturn(hashOperations);
 
-        queueService = new QueueService(redisTemplate, redisDistributedLock);
+        meterRegistry = new SimpleMeterRegistry();
+        QueueRoomProperties queueRoomProperties = new QueueRoomProperties();
+        queueRoomProperties.setMaxActiveUsers(100);
+        accessTokenSigner = new AccessTokenSigner("test-secret");
+        queueService = new QueueService(new RedisQueueStore(redisTemplate, redisDistributedLock),
+                new QueueMetrics(meterRegistry), queueRoomProperties,
+                accessTokenSigner, accessTokenRevocations, queueThroughputEstimator,
+                new FixedCapAdmissionPolicy(queueRoomProperties));
 
         //설정값 주입
-        ReflectionTestUtils.setField(queueService, "maxActiveUsers", 100);
         ReflectionTestUtils.setField(queueService, "tokenExpireMinutes", 30);
         ReflectionTestUtils.setField(queueService, "waitTimePerUser", 20);
+        ReflectionTestUtils.setField(queueService, "minThroughputPerSecond", 0.01);
+        ReflectionTestUtils.setField(queueService, "maxEstimatedWaitMinutes", 1440);
+        ReflectionTestUtils.setField(queueService, "minPollSeconds", 2);
+        ReflectionTestUtils.setField(queueService, "maxPollSeconds", 30);
         ReflectionTestUtils.setField(queueService, "lockTimeoutSeconds", 5);
+        ReflectionTestUtils.setField(queueService, "admissionBatchSize", 2);
     }
 
     @Test
     @DisplayName("활성 사용자가 최대치 미만일 때 즉시 활성화된 토큰을 발급한다.")
-    void issueToken_WhenActiveUsersLessThanMax_ShouldIssueActiveTokenWithLock() {
+    void issueToken_WhenActiveUsersLessThanMax_ShouldIssueActiveToken() {
         //given
         String userId = "user-123";
+        LocalDateTime now = LocalDateTime.now();
 
-        // 기존 토큰 없음 Mock
-        when(valueOperations.get(startsWith("queue:user:token:"))).thenReturn(null);
-
-        // 분산 락 획득 성공 Mock (ture 인 경우 락 획득)
-        given(redisDistributedLock.tryLockWithRetry(anyString(), anyString(), anyLong())).willReturn(true);
-
-        // 활성 사용자 목록이 비어있음 (만료된 사용자 정리용)
-        when(setOperations.members("queue:active")).thenReturn(Collections.emptySet());
-
-        // 현재 활성 사용자 수 50 - 최대치 미만
-        when(setOperations.size("queue:active")).thenReturn(50L);
-
-        // 활성 사용자 대기열에 추가 성공
-        when(setOperations.add("queue:active", userId)).thenReturn(1L);
+        // 스크립트 결과 : 활성 토큰 발급 (기존 토큰 없음)
+        given(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+                .willReturn(List.of("token-123", "A", "0", epochMillis(now), epochMillis(now.plusMinutes(30)), "0", "general"));
 
         //when
         // 토큰 발급 요청
-        QueueToken result = queueService.issueTokenWithLock(userId);
+        QueueToken result = queueService.issueToken(CONCERT_ID, userId);
 
         //then
         // 사용자 ID 검증 통과
@@ -100,37 +133,35 @@ class QueueServiceTest {
         assertThat(result.getEstimatedWaitTimeMinutes()).isEqualTo(0);
 
         // 토큰 생성 검증 통과
-        assertThat(result.getToken()).isNotNull();
+        assertThat(result.getToken()).isEqualTo("token-123");
 
-        // Redis 호출 검증
-        verify(setOperations).add(eq("queue:active"), eq(userId));
-        // 토큰 저장 + 사용자-토큰 매핑 + 개별 활성 키 = 3개 (TTL 30분)
-        verify(valueOperations, times(3)).set(anyString(), any(), eq(30L), eq(TimeUnit.MINUTES));
+        // 입장 토큰 발급 검증 통과
+        AccessTokenClaims claims = accessTokenSigner.verify(result.getAccessToken());
+        assertThat(claims).isNotNull();
+        assertThat(claims.getConcertId()).isEqualTo(CONCERT_ID);
+        assertThat(claims.getUserId()).isEqualTo(userId);
 
+        // Redis 호출 검증 : 스크립트 1회 호출, 분산 락 미사용
+        verify(redisTemplate, times(1)).execute(any(RedisScript.class), anyList(), any(Object[].class));
+        verify(redisDistributedLock, never()).tryLockWithRetry(anyString(), anyString(), anyLong());
+
+        // 바로 활성화된 경우에도 스냅샷 대상 대기실로 등록
+        verify(zSetOperations).add(eq("queue:rooms"), eq("1"), anyDouble());
     }
 
     @Test
     @DisplayName("활성 사용자가 최대치일 때 대기열에 추가된 대기 토큰을 발급한다.")
-    void issueToken_WhenActiveUsersAtMax_ShouldIssueWaitingTokenWithLock() {
+    void issueToken_WhenActiveUsersAtMax_ShouldIssueWaitingToken() {
         //given
         String userId = "user-456";
+        LocalDateTime now = LocalDateTime.now();
 
-        // 기존 토큰 없음 Mock
-        when(valueOperations.get(startsWith("queue:user:token:"))).thenReturn(null);
-
-        // 분산 락 획득 성공 Mock (ture 인 경우 락 획득)
-        given(redisDistributedLock.tryLockWithRetry(anyString(), anyString(), anyLong())).willReturn(true);
-
-        // 활성 사용자 목록이 비어있음 (만료된 사용자 정리용)
-        when(setOperations.members("queue:active")).thenReturn(Collections.emptySet());
-
-        // 현재 활성 사용자 수 최대치
-        when(setOperations.size("queue:active")).thenReturn(100L);
-        // Queue 대기 순서 10번째
-        when(zSetOperations.rank("queue:waiting", userId)).thenReturn(9L); // 0부터 시작
+        // 스크립트 결과 : 대기 토큰 발급, 대기 순서 10번째
+        given(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+                .willReturn(List.of("token-456", "W", "10", epochMillis(now), epochMillis(now.plusMinutes(30)), "0", "general"));
 
         //when
-        QueueToken result = queueService.issueTokenWithLock(userId);
+        QueueToken result = queueService.issueToken(CONCERT_ID, userId);
 
         //then
         // 사용자 ID 검증 통과
@@ -142,49 +173,129 @@ class QueueServiceTest {
         // 대기 순서 검증 통과
         assertThat(result.getQueuePosition()).isEqualTo(10L);
 
-        // 예상 대기 시간 검증 통과
+        // 예상 대기 시간 검증 통과 (처리량 기록이 없으면 사용자별 대기 시간 설정값 사용)
         assertThat(result.getEstimatedWaitTimeMinutes()).isEqualTo(3); // 20*10/60 = 3분
+        assertThat(result.getNextPollSeconds()).isEqualTo(20); // 200초 / 10
 
         // 토큰 생성 검증 통과
-        assertThat(result.getToken()).isNotNull();
+        assertThat(result.getToken()).isEqualTo("token-456");
 
-        // Redis 호출 검증
-        verify(zSetOperations).add(eq("queue:waiting"), eq(userId), anyDouble());
-        // 토큰 저장 + 사용자-토큰 매핑 = 2개 (TTL 30분)
-        verify(valueOperations, times(2)).set(anyString(), any(), eq(30L), eq(TimeUnit.MINUTES));
+        // 대기 토큰은 입장 토큰 미발급
+        assertThat(result.getAccessToken()).isNull();
+
+        // Redis 호출 검증 : 사용자-토큰 매핑, 활성 대기열, 대기열 키를 스크립트에 전달
+        verify(redisTemplate).execute(any(RedisScript.class),
+                argThat(keys -> keys.get(0).equals("queue:{1}:user:token:" + userId)
+                        && keys.get(1).equals("queue:{1}:active")
+                        && keys.get(2).equals("queue:{1}:waiting")),
+                any(Object[].class));
+
+        // 대기열에 추가된 경우 활성화 대상 대기실로 등록
+        verify(zSetOperations).add(eq("queue:rooms"), eq("1"), anyDouble());
+
+        // 발급 처리 시간 지표 (전체 / 저장소)
+        assertThat(meterRegistry.get("queue.issue").tag("status", "WAITING").timer().count()).isEqualTo(1L);
+        assertThat(meterRegistry.get("queue.issue.store").tag("concertId", "1").timer().count()).isEqualTo(1L);
     }
 
     @Test
-    @DisplayName("유효한 토큰으로 대기열 상태를 조회한다.")
+    @DisplayName("유효한 토큰으로 대기열 상태를 조회한다. 조회는 대기열 순위만 읽고 토큰을 다시 저장하지 않는다.")
     void getQueueStatus_ValidToken_ShouldReturnTokenInfo() {
         //given
         String token = "valid-token-123";
         String userId = "user-123";
 
-        QueueToken mockToken = new QueueToken(
-                token,
-                userId,
-                5L,
-                2,
-                QueueToken.QueueStatus.WAITING,
-                java.time.LocalDateTime.now(),
-                java.time.LocalDateTime.now().plusMinutes(30)
-        );
-
-        when(valueOperations.get("queue:token:" + token)).thenReturn(mockToken);
+        when(hashOperations.multiGet(eq("queue:{1}:token:" + token), anyCollection()))
+                .thenReturn(tokenFields(userId, QueueToken.QueueStatus.WAITING, 6L, LocalDateTime.now().plusMinutes(30)));
 
-        when(zSetOperations.rank("queue:waiting", userId)).thenReturn(4L); // 5번째 순서
+        when(zSetOperations.rank("queue:{1}:waiting", userId)).thenReturn(4L); // 5번째 순서
 
         //when
-        QueueToken result = queueService.getQueueStatus(token);
+        QueueToken result = queueService.getQueueStatus(CONCERT_ID, token);
 
         //then
         assertThat(result.getToken()).isEqualTo(token);
         assertThat(result.getStatus()).isEqualTo(QueueToken.QueueStatus.WAITING);
         assertThat(result.getQueuePosition()).isEqualTo(5L); // 4L + 1 = 5L
 
-        verify(valueOperations).get("queue:token:" + token);
-        verify(zSetOperations).rank("queue:waiting", userId);
+        // 토큰 Hash 는 필요한 필드만 HMGET 으로 조회
+        verify(hashOperations).multiGet("queue:{1}:token:" + token, List.of("u", "s", "p", "i", "e", "l"));
+        verify(hashOperations, never()).entries(anyString());
+        verify(zSetOperations).rank("queue:{1}:waiting", userId);
+
+        // 대기 순서 저장, 토큰 만료 시간 연장 없음
+        verify(hashOperations, never()).put(anyString(), any(), any());
+        verify(redisTemplate, never()).expire(anyString(), anyLong(), any(TimeUnit.class));
+
+        // 상태 조회 수 지표
+        assertThat(meterRegistry.get("queue.status.poll").tag("concertId", "1").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("대기실의 실제 처리량으로 예상 대기 시간과 다음 조회 권장 간격을 계산한다.")
+    void getQueueStatus_WithThroughput_ShouldEstimateFromThroughput() {
+        //given
+        String token = "valid-token-123";
+        String userId = "user-123";
+
+        when(hashOperations.multiGet(eq("queue:{1}:token:" + token), anyCollection()))
+                .thenReturn(tokenFields(userId, QueueToken.QueueStatus.WAITING, 1200L, LocalDateTime.now().plusMinutes(30)));
+        when(zSetOperations.rank("queue:{1}:waiting", userId)).thenReturn(1199L); // 1200번째 순서
+
+        // 초당 2명 활성화
+        given(queueThroughputEstimator.throughputPerSecond(CONCERT_ID)).willReturn(2.0);
+
+        //when
+        QueueToken result = queueService.getQueueStatus(CONCERT_ID, token);
+
+        //then
+        // 1200명 / 초당 2명 = 600초 = 10분
+        assertThat(result.getEstimatedWaitTimeMinutes()).isEqualTo(10);
+
+        // 600초 / 10 = 60초 -> 최대 30초
+        assertThat(result.getNextPollSeconds()).isEqualTo(30);
+    }
+
+    @Test
+    @DisplayName("처리량이 최소 처리량보다 낮으면 사용자별 대기 시간 설정값으로 계산한다.")
+    void getQueueStatus_WithDecayedThroughput_ShouldFallBackToWaitTimePerUser() {
+        //given
+        String token = "valid-token-123";
+        String userId = "user-123";
+
+        when(hashOperations.multiGet(eq("queue:{1}:token:" + token), anyCollection()))
+                .thenReturn(tokenFields(userId, QueueToken.QueueStatus.WAITING, 10L, LocalDateTime.now().plusMinutes(30)));
+        when(zSetOperations.rank("queue:{1}:waiting", userId)).thenReturn(9L); // 10번째 순서
+
+        // 활성화가 멈춘 뒤 감쇠된 처리량 (10명 / 0.000001 = 115일)
+        given(queueThroughputEstimator.throughputPerSecond(CONCERT_ID)).willReturn(0.000001);
+
+        //when
+        QueueToken result = queueService.getQueueStatus(CONCERT_ID, token);
+
+        //then
+        // 20초 * 10명 = 200초 = 3분
+        assertThat(result.getEstimatedWaitTimeMinutes()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("예상 대기 시간은 상한을 넘지 않는다.")
+    void getQueueStatus_WithHugePosition_ShouldClampEstimatedWait() {
+        //given
+        String token = "valid-token-123";
+        String userId = "user-123";
+
+        when(hashOperations.multiGet(eq("queue:{1}:token:" + token), anyCollection()))
+                .thenReturn(tokenFields(userId, QueueToken.QueueStatus.WAITING, 1L, LocalDateTime.now().plusMinutes(30)));
+        when(zSetOperations.rank("queue:{1}:waiting", userId)).thenReturn(999_999_999L);
+        given(queueThroughputEstimator.throughputPerSecond(CONCERT_ID)).willReturn(0.02);
+
+        //when
+        QueueToken result = queueService.getQueueStatus(CONCERT_ID, token);
+
+        //then
+        assertThat(result.getEstimatedWaitTimeMinutes()).isEqualTo(1440);
+        assertThat(result.getNextPollSeconds()).isEqualTo(30);
     }
 
     @Test
@@ -193,44 +304,323 @@ class QueueServiceTest {
         //given
         String nonExistingToken = "non-existing-token";
 
-        when(valueOperations.get("queue:token:" + nonExistingToken)).thenReturn(null);
+        when(hashOperations.multiGet(eq("queue:{1}:token:" + nonExistingToken), anyCollection()))
+                .thenReturn(Arrays.asList(null, null, null, null, null, null));
 
         //when & then
-        assertThatThrownBy(() -> queueService.getQueueStatus(nonExistingToken))
+        assertThatThrownBy(() -> queueService.getQueueStatus(CONCERT_ID, nonExistingToken))
                 .isInstanceOf(IllegalStateException.class)
                 .hasMessage("유효하지 않은 토큰입니다.");
 
         // Redis 호출 검증
-        verify(valueOperations).get("queue:token:" + nonExistingToken);
+        verify(hashOperations).multiGet(eq("queue:{1}:token:" + nonExistingToken), anyCollection());
     }
 
     @Test
-    @DisplayName("활성 토큰 유효성 검증이 성공한다.")
-    void validateActiveToken_validActiveToken_ShouldReturnTrue() {
+    @DisplayName("SSE 구독자의 대기 순서를 파이프라인 조회 한 번으로 갱신하고 대기열에서 빠진 토큰을 반환한다.")
+    void refreshWaitingPositions_ShouldUpdatePositionsWithSinglePipeline() {
         //given
-        String activeToken = "active-token-123";
-        QueueToken mockActiveToken = new QueueToken(
-                activeToken,
-                "user-123",
-                0L,
-                0,
-                QueueToken.QueueStatus.ACTIVE,
-                LocalDateTime.now(),
-                LocalDateTime.now().plusMinutes(20)
-        );
+        QueueToken waiting = waitingToken("token-1", "user-1", 10L);
+        QueueToken admitted = waitingToken("token-2", "user-2", 3L);
+        when(redisTemplate.getStringSerializer()).thenReturn(RedisSerializer.string());
 
-        when(valueOperations.get("queue:token:" + activeToken)).thenReturn(mockActiveToken);
+        // user-1 : 5번째 순서, user-2 : 대기열에서 빠짐 (활성화)
+        given(redisTemplate.executePipelined(any(RedisCallback.class))).willReturn(Arrays.asList(4L, null));
 
         //when
-        boolean result = queueService.validateActiveToken(activeToken);
+        List<QueueToken> leftTokens = queueService.refreshWaitingPositions(CONCERT_ID, List.of(waiting, admitted));
+
+        //then
+        assertThat(waiting.getQueuePosition()).isEqualTo(5L);
+        assertThat(leftTokens).containsExactly(admitted);
+
+        // 검증 : 구독자 수와 관계없이 파이프라인 1회, 순서 저장 없음
+        verify(redisTemplate, times(1)).executePipelined(any(RedisCallback.class));
+        verify(hashOperations, never()).put(anyString(), any(), any());
+    }
+
+    @Test
+    @DisplayName("활성 토큰 유효성 검증이 Redis 조회 없이 성공한다.")
+    void validateActiveToken_validActiveToken_ShouldReturnTrue() {
+        //given
+        long now = System.currentTimeMillis();
+        String accessToken = accessTokenSigner.sign(new AccessTokenClaims(CONCERT_ID, "user-123", now, now + 60_000));
+        given(accessTokenRevocations.isRevoked(any(AccessTokenClaims.class))).willReturn(false);
+
+        //when
+        boolean result = queueService.validateActiveToken(CONCERT_ID, "user-123", accessToken);
 
         //then
         // 활성 토큰 유효성 검증 통과
         assertThat(result).isTrue();
 
-        // 검증:Redis 호출 검증
-        verify(valueOperations).get("queue:token:"+activeToken);
+        // 검증:Redis 호출 없음
+        verifyNoInteractions(redisTemplate);
+    }
+
+    @Test
+    @DisplayName("다른 콘서트나 다른 사용자에게 발급된 입장 토큰은 유효하지 않다.")
+    void validateActiveToken_OtherConcertOrUser_ShouldReturnFalse() {
+        //given
+        long now = System.currentTimeMillis();
+        String accessToken = accessTokenSigner.sign(new AccessTokenClaims(CONCERT_ID, "user-123", now, now + 60_000));
+
+        //when & then
+        assertThat(queueService.validateActiveToken(2L, "user-123", accessToken)).isFalse();
+        assertThat(queueService.validateActiveToken(CONCERT_ID, "user-456", accessToken)).isFalse();
+    }
+
+    @Test
+    @DisplayName("만료, 위조, 폐기된 입장 토큰은 유효하지 않다.")
+    void validateActiveToken_ExpiredForgedOrRevoked_ShouldReturnFalse() {
+        //given
+        long now = System.currentTimeMillis();
+        String expiredToken = accessTokenSigner.sign(new AccessTokenClaims(CONCERT_ID, "user-123", now - 120_000, now - 60_000));
+        String forgedToken = new AccessTokenSigner("other-secret")
+                .sign(new AccessTokenClaims(CONCERT_ID, "user-123", now, now + 60_000));
+        String revokedToken = accessTokenSigner.sign(new AccessTokenClaims(CONCERT_ID, "user-123", now, now + 60_000));
+        given(accessTokenRevocations.isRevoked(any(AccessTokenClaims.class))).willReturn(true);
+
+        //when & then
+        assertThat(queueService.validateActiveToken(CONCERT_ID, "user-123", expiredToken)).isFalse();
+        assertThat(queueService.validateActiveToken(CONCERT_ID, "user-123", forgedToken)).isFalse();
+        assertThat(queueService.validateActiveToken(CONCERT_ID, "user-123", revokedToken)).isFalse();
+        assertThat(queueService.validateActiveToken(CONCERT_ID, "user-123", "not-a-signed-token")).isFalse();
+    }
+
+    @Test
+    @DisplayName("빈 슬롯만큼 대기 사용자를 batch 단위 스크립트 호출로 활성화하고 지표를 기록한다.")
+    void activateWaitingUsers_ShouldAdmitInBatchesAndRecordMetrics() {
+        //given
+        given(redisDistributedLock.tryLock(anyString(), anyString(), anyLong())).willReturn(true);
+
+        // 1회차 : 2명 pop, 2명 활성화 / 2회차 : 1명 pop (대기자 소진), 1명 활성화
+        String enqueuedAt = String.valueOf(System.currentTimeMillis() - 60_000);
+        given(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+                .willReturn(List.of("2", "user-1", enqueuedAt, "1", "user-2", enqueuedAt, "1"))
+                .willReturn(List.of("1", "user-3", enqueuedAt, "1"));
+
+        //when
+        queueService.activateWaitingUsersWithLock(CONCERT_ID);
+
+        //then
+        // 검증 : batch size(2) 를 채운 경우에만 다시 호출
+        verify(redisTemplate, times(2)).execute(any(RedisScript.class), anyList(), any(Object[].class));
+
+        // 검증 : tick 당 활성화 인원, tick 처리 시간 기록
+        assertThat(meterRegistry.get("queue.admission.admitted").tag("concertId", "1").summary().totalAmount()).isEqualTo(3.0);
+        assertThat(meterRegistry.get("queue.admission.tick").tag("concertId", "1").timer().count()).isEqualTo(1L);
+        assertThat(meterRegistry.get("queue.admission.lock").tag("result", "acquired").timer().count()).isEqualTo(1L);
+
+        // 검증 : 활성화된 사용자별 대기 시간 (1분 대기)
+        Timer waitingTime = meterRegistry.get("queue.waiting.time").tag("concertId", "1").timer();
+        assertThat(waitingTime.count()).isEqualTo(3L);
+        assertThat(waitingTime.max(TimeUnit.SECONDS)).isGreaterThanOrEqualTo(60.0);
+
+        // 검증 : 처리량 추정에 활성화 인원 반영
+        verify(queueThroughputEstimator).recordAdmissions(CONCERT_ID, 3);
+
+        // 검증 : 락 해제
+        verify(redisDistributedLock).releaseLock(eq("queue:{1}:lock"), anyString());
+    }
+
+    @Test
+    @DisplayName("활성화 락을 잡지 못한 노드도 대기실별 대기열 인원과 활성 사용자 수 지표를 갱신한다.")
+    void activateWaitingRooms_ShouldRecordQueueSizes() {
+        //given
+        given(zSetOperations.range("queue:rooms", 0, -1)).willReturn(Set.of("1"));
+        given(redisDistributedLock.tryLock(anyString(), anyString(), anyLong())).willReturn(false);
+        given(zSetOperations.zCard("queue:{1}:waiting")).willReturn(250L);
+        given(zSetOperations.count(eq("queue:{1}:active"), anyDouble(), anyDouble())).willReturn(100L);
+
+        //when
+        queueService.activateWaitingRooms();
+
+        //then
+        assertThat(meterRegistry.get("queue.waiting.size").tag("concertId", "1").gauge().value()).isEqualTo(250.0);
+        assertThat(meterRegistry.get("queue.active.size").tag("concertId", "1").gauge().value()).isEqualTo(100.0);
+        assertThat(meterRegistry.get("queue.admission.lock").tag("result", "skipped").timer().count()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("처리 중에 리더 임대 기한이 지나면 남은 대기실은 활성화하지 않는다.")
+    void activateWaitingRooms_WhenLeaseElapsedMidTick_ShouldStop() {
+        //given
+        given(zSetOperations.range("queue:rooms", 0, -1)).willReturn(new LinkedHashSet<>(List.of("1", "2")));
+        given(redisDistributedLock.tryLock(anyString(), anyString(), anyLong())).willReturn(false);
+        AtomicInteger leaderChecks = new AtomicInteger();
+
+        //when (첫 번째 대기실 처리 후 임대 기한 경과)
+        queueService.activateWaitingRooms(() -> leaderChecks.incrementAndGet() == 1);
+
+        //then
+        verify(redisDistributedLock).tryLock(eq("queue:{1}:lock"), anyString(), anyLong());
+        verify(redisDistributedLock, never()).tryLock(eq("queue:{2}:lock"), anyString(), anyLong());
+    }
+
+    @Test
+    @DisplayName("활성 슬롯을 반환하면 입장 토큰을 폐기하고 바로 대기자를 활성화한다.")
+    void releaseSlot_ShouldRevokeAndAdmitImmediately() {
+        //given
+        given(redisDistributedLock.tryLock(anyString(), anyString(), anyLong())).willReturn(true);
+        given(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+                .willReturn(1L)
+                .willReturn(List.of("1", "user-2", "1000", "1"));
+
+        //when
+        queueService.releaseSlot(CONCERT_ID, "user-1");
+
+        //then
+        // 검증 : 입장 토큰 폐기 + 슬롯 반환(활성 대기열 제거 + 토큰 삭제)은 스크립트 한 번으로 처리
+        verify(accessTokenRevocations).revoke(CONCERT_ID, "user-1");
+        verify(redisTemplate).execute(any(RedisScript.class),
+                eq(List.of("queue:{1}:active", "queue:{1}:active:heartbeat",
+                        "queue:{1}:active:user:user-1", "queue:{1}:user:token:user-1")),
+                eq("user-1"), eq("queue:{1}:token:"));
+        verify(redisTemplate, never()).delete(anyList());
+        verify(queueThroughputEstimator).recordReleases(CONCERT_ID, 1);
+
+        // 검증 : 다음 활성화 주기를 기다리지 않고 바로 활성화 (슬롯 반환 + 활성화 스크립트)
+        verify(redisTemplate, times(2)).execute(any(RedisScript.class), anyList(), any(Object[].class));
+        verify(queueThroughputEstimator).recordAdmissions(CONCERT_ID, 1);
     }
 
+    @Test
+    @DisplayName("이미 반환된 슬롯이면 활성화를 다시 실행하지 않는다.")
+    void releaseSlot_AlreadyReleased_ShouldNotAdmit() {
+        //given
+        given(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class))).willReturn(0L);
+
+        //when
+        queueService.releaseSlot(CONCERT_ID, "user-1");
+
+        //then
+        verify(redisDistributedLock, never()).tryLock(anyString(), anyString(), anyLong());
+        verify(redisTemplate, times(1)).execute(any(RedisScript.class), anyList(), any(Object[].class));
+        verify(queueThroughputEstimator, never()).recordReleases(anyLong(), anyInt());
+    }
+
+    @Test
+    @DisplayName("활성 사용자 키가 만료되면 만료된 사용자를 정리하고 바로 대기자를 활성화한다.")
+    void expireActiveUser_ShouldRemoveAndAdmitImmediately() {
+        //given
+        given(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+                .willReturn(1L)
+                .willReturn(List.of("1", "user-2", "1000", "1"));
+        given(redisDistributedLock.tryLock(anyString(), anyString(), anyLong())).willReturn(true);
+
+        //when
+        queueService.expireActiveUser(CONCERT_ID, "user-1");
+
+        //then
+        // 검증 : 만료 확인 스크립트 + 활성화 스크립트
+        verify(redisTemplate, times(2)).execute(any(RedisScript.class), anyList(), any(Object[].class));
+        verify(queueThroughputEstimator).recordReleases(CONCERT_ID, 1);
+        verify(queueThroughputEstimator).recordAdmissions(CONCERT_ID, 1);
+
+        // 검증 : 만료된 사용자는 입장 토큰 폐기 대상이 아님 (입장 토큰도 이미 만료)
+        verify(accessTokenRevocations, never()).revoke(anyLong(), anyString());
+    }
+
+    @Test
+    @DisplayName("이미 정리되었거나 다시 활성화된 사용자의 만료 이벤트는 무시한다.")
+    void expireActiveUser_AlreadyRemoved_ShouldNotAdmit() {
+        //given
+        given(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class))).willReturn(0L);
+
+        //when
+        queueService.expireActiveUser(CONCERT_ID, "user-1");
+
+        //then
+        verify(redisDistributedLock, never()).tryLock(anyString(), anyString(), anyLong());
+        verify(queueThroughputEstimator, never()).recordReleases(anyLong(), anyInt());
+    }
+
+    @Test
+    @DisplayName("heartbeat 는 입장 토큰을 로컬에서 검증하고 스크립트 1회로 유휴 만료 시각을 연장한다.")
+    void heartbeat_ActiveUser_ShouldRenewWithSingleScript() {
+        //given
+        ReflectionTestUtils.setField(queueService, "heartbeatIdleSeconds", 30);
+        long now = System.currentTimeMillis();
+        String accessToken = accessTokenSigner.sign(new AccessTokenClaims(CONCERT_ID, "user-123", now, now + 60_000));
+        given(accessTokenRevocations.isRevoked(any(AccessTokenClaims.class))).willReturn(false);
+        given(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class))).willReturn(1L);
+
+        //when
+        Integer nextHeartbeatSeconds = queueService.heartbeat(CONCERT_ID, accessToken);
+
+        //then
+        assertThat(nextHeartbeatSeconds).isEqualTo(10); // 유휴 허용 시간의 1/3
+        verify(redisTemplate, times(1)).execute(any(RedisScript.class),
+                eq(List.of("queue:{1}:active:heartbeat")), any(Object[].class));
+        assertThat(meterRegistry.get("queue.heartbeat").tag("result", "renewed").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("유휴 시간이 지나 회수된 사용자의 heartbeat 는 거절된다.")
+    void heartbeat_EvictedUser_ShouldThrow() {
+        //given
+        ReflectionTestUtils.setField(queueService, "heartbeatIdleSeconds", 30);
+        long now = System.currentTimeMillis();
+        String accessToken = accessTokenSigner.sign(new AccessTokenClaims(CONCERT_ID, "user-123", now, now + 60_000));
+        given(accessTokenRevocations.isRevoked(any(AccessTokenClaims.class))).willReturn(false);
+        given(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class))).willReturn(0L);
+
+        //when & then
+        assertThatThrownBy(() -> queueService.heartbeat(CONCERT_ID, accessToken))
+                .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> queueService.heartbeat(2L, accessToken))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("활성화 주기마다 heartbeat 가 끊긴 사용자를 회수하고 입장 토큰을 폐기한 뒤 빈 슬롯을 채운다.")
+    void activateWaitingUsers_WithIdleUsers_ShouldEvictBeforeAdmission() {
+        //given
+        ReflectionTestUtils.setField(queueService, "heartbeatIdleSeconds", 30);
+        given(redisDistributedLock.tryLock(anyString(), anyString(), anyLong())).willReturn(true);
+
+        // 1회차 : 유휴 사용자 1명 회수 / 2회차 : 대기자 1명 활성화
+        given(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+                .willReturn(List.of("1", "idle-user"))
+                .willReturn(List.of("1", "user-2", "1000", "1"));
+
+        //when
+        queueService.activateWaitingUsersWithLock(CONCERT_ID);
+
+        //then
+        verify(accessTokenRevocations).revoke(CONCERT_ID, "idle-user");
+        verify(queueThroughputEstimator).recordReleases(CONCERT_ID, 1);
+        verify(queueThroughputEstimator).recordAdmissions(CONCERT_ID, 1);
+        assertThat(meterRegistry.get("queue.active.idle.evicted").tag("concertId", "1").counter().count()).isEqualTo(1.0);
+    }
+
+    /**
+     * 대기 토큰 생성
+     */
+    private QueueToken waitingToken(String token, String userId, Long position) {
+        return QueueToken.builder()
+                .token(token)
+                .userId(userId)
+                .concertId(CONCERT_ID)
+                .queuePosition(position)
+                .estimatedWaitTimeMinutes(0)
+                .status(QueueToken.QueueStatus.WAITING)
+                .issuedAt(LocalDateTime.now())
+                .expiresAt(LocalDateTime.now().plusMinutes(30))
+                .build();
+    }
+
+    /**
+     * Redis Hash 에 저장된 토큰 필드 생성 (u, s, p, i, e, l 순서, general lane 은 l 미저장)
+     */
+    private List<Object> tokenFields(String userId, QueueToken.QueueStatus status, Long position, LocalDateTime expiresAt) {
+        return Arrays.asList(userId, status.name().substring(0, 1), String.valueOf(position),
+                epochMillis(LocalDateTime.now()), epochMillis(expiresAt), null);
+    }
+
+    private String epochMillis(LocalDateTime dateTime) {
+        return String.valueOf(dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+    }
 
 }
\ No newline at end of file
@@ -0,0 +1,107 @@
+package kr.hhplus.be.server.queue.service;
+
+import kr.hhplus.be.server.queue.domain.QueueToken;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class QueueStatusBroadcasterTest {
+
+    @Mock
+    private QueueService queueService;
+
+    private QueueStatusBroadcaster queueStatusBroadcaster;
+
+    private static final Long CONCERT_ID = 1L;
+
+    @BeforeEach
+    void setUp() {
+        queueStatusBroadcaster = new QueueStatusBroadcaster(queueService);
+        ReflectionTestUtils.setField(queueStatusBroadcaster, "emitterTimeoutMs", 60_000L);
+    }
+
+    @Test
+    @DisplayName("이미 활성화된 토큰으로 구독하면 구독자로 등록하지 않는다.")
+    void subscribe_ActiveToken_ShouldNotRegister() {
+        //given
+        given(queueService.getQueueStatus(CONCERT_ID, "token-1"))
+                .willReturn(queueToken("token-1", "user-1", QueueToken.QueueStatus.ACTIVE, 0L));
+
+        //when
+        queueStatusBroadcaster.subscribe(CONCERT_ID, "token-1");
+
+        //then
+        assertThat(queueStatusBroadcaster.subscriberCount()).isEqualTo(0);
+    }
+
+    @Test
+    @DisplayName("구독자가 여러 명이어도 대기실별로 순서를 한 번에 갱신하고, 활성화된 구독자는 종료한다.")
+    void broadcast_ShouldRefreshRoomOnceAndReleaseAdmittedSubscribers() {
+        //given
+        QueueToken waiting = queueToken("token-1", "user-1", QueueToken.QueueStatus.WAITING, 10L);
+        QueueToken admitted = queueToken("token-2", "user-2", QueueToken.QueueStatus.WAITING, 1L);
+        given(queueService.getQueueStatus(CONCERT_ID, "token-1")).willReturn(waiting);
+        given(queueService.getQueueStatus(CONCERT_ID, "token-2"))
+                .willReturn(admitted)
+                .willReturn(queueToken("token-2", "user-2", QueueToken.QueueStatus.ACTIVE, 0L));
+
+        queueStatusBroadcaster.subscribe(CONCERT_ID, "token-1");
+        queueStatusBroadcaster.subscribe(CONCERT_ID, "token-2");
+
+        // user-2 는 대기열에서 빠짐 (활성화)
+        given(queueService.refreshWaitingPositions(eq(CONCERT_ID), anyCollection())).willReturn(List.of(admitted));
+
+        //when
+        queueStatusBroadcaster.broadcast();
+
+        //then
+        // 검증 : 대기실당 순서 조회 1회
+        verify(queueService, times(1)).refreshWaitingPositions(eq(CONCERT_ID), argThat(tokens -> tokens.size() == 2));
+
+        // 검증 : 활성화된 구독자만 종료
+        assertThat(queueStatusBroadcaster.subscriberCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("같은 토큰으로 다시 구독한 뒤 이전 연결이 종료되어도 새 구독자는 남는다.")
+    void subscribe_Reconnect_OldEmitterTimeoutShouldNotRemoveNewSubscriber() {
+        //given
+        given(queueService.getQueueStatus(CONCERT_ID, "token-1"))
+                .willReturn(queueToken("token-1", "user-1", QueueToken.QueueStatus.WAITING, 10L));
+        SseEmitter oldEmitter = queueStatusBroadcaster.subscribe(CONCERT_ID, "token-1");
+
+        //when (EventSource 재연결 후 이전 연결의 timeout 콜백 실행)
+        queueStatusBroadcaster.subscribe(CONCERT_ID, "token-1");
+        ((Runnable) ReflectionTestUtils.getField(oldEmitter, "timeoutCallback")).run();
+
+        //then
+        assertThat(queueStatusBroadcaster.subscriberCount()).isEqualTo(1);
+    }
+
+    private QueueToken queueToken(String token, String userId, QueueToken.QueueStatus status, Long position) {
+        return QueueToken.builder()
+                .token(token)
+                .userId(userId)
+                .concertId(CONCERT_ID)
+                .queuePosition(position)
+                .estimatedWaitTimeMinutes(0)
+                .status(status)
+                .issuedAt(LocalDateTime.now())
+                .expiresAt(LocalDateTime.now().plusMinutes(30))
+                .build();
+    }
+}
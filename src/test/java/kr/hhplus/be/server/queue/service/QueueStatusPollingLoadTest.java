@@ -0,0 +1,176 @@
+package kr.hhplus.be.server.queue.service;
+
+import kr.hhplus.be.server.queue.domain.QueueToken;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 대기열 상태 조회 부하 테스트 (대기자 5만 명이 한 번씩 조회)
+ * 기존 상태 조회는 대기 중인 토큰마다 HSET(대기 순서) + EXPIRE(만료 연장) 2회를 쓰므로,
+ * Redis INFO commandstats 로 조회 구간의 쓰기 명령 수를 측정해서 절감된 쓰기 수를 출력한다.
+ * 측정 중 활성화 스케줄러가 토큰을 갱신하지 않도록 활성화 주기를 길게 설정한다.
+ */
+@SpringBootTest(properties = "queue.admission.tick-ms=3600000")
+@ActiveProfiles("test")
+class QueueStatusPollingLoadTest {
+
+    @Autowired
+    private QueueService queueService;
+
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
+    private static final Long CONCERT_ID = 1L;
+    private static final int POLLER_COUNT = 50_000;
+    private static final int THREAD_COUNT = 200;
+
+    // 토큰 Hash 쓰기 명령 (기존 상태 조회 경로에서 호출하던 명령)
+    private static final List<String> WRITE_COMMANDS = List.of("hset", "hmset", "expire", "pexpire");
+    private static final List<String> READ_COMMANDS = List.of("hmget", "zrank");
+
+    @BeforeEach
+    void setUp() {
+        clearQueueKeys();
+    }
+
+    @AfterEach
+    void tearDown() {
+        clearQueueKeys();
+    }
+
+    @Test
+    @DisplayName("대기자 5만 명이 상태를 조회해도 토큰 Hash 쓰기가 발생하지 않는다.")
+    void getQueueStatus_50kPollers_ShouldNotWrite() throws InterruptedException {
+        //given
+        List<String> tokens = issueTokens();
+
+        //when
+        long writesBefore = callCount(WRITE_COMMANDS);
+        long readsBefore = callCount(READ_COMMANDS);
+        Result result = poll(tokens);
+        long writes = callCount(WRITE_COMMANDS) - writesBefore;
+        long reads = callCount(READ_COMMANDS) - readsBefore;
+
+        //then
+        long legacyWrites = (long) result.waiting() * 2; // 대기 중인 조회마다 HSET + EXPIRE
+        System.out.println("[QueueStatusPollingLoadTest] " + result);
+        System.out.printf("[QueueStatusPollingLoadTest] 조회 구간 Redis 명령 : 읽기(HMGET, ZRANK) %d회, 쓰기(HSET, EXPIRE) %d회, 기존 방식 대비 절감된 쓰기 %d회%n",
+                reads, writes, legacyWrites - writes);
+
+        assertThat(result.failure()).isZero();
+        assertThat(writes).isZero();
+    }
+
+    /**
+     * 대기자 발급 (활성 사용자 최대치를 넘는 인원은 대기열에 추가됨)
+     */
+    private List<String> issueTokens() throws InterruptedException {
+        List<String> tokens = Collections.synchronizedList(new ArrayList<>(POLLER_COUNT));
+        run(POLLER_COUNT, i -> tokens.add(queueService.issueToken(CONCERT_ID, "poller-" + i).getToken()));
+        return tokens;
+    }
+
+    private Result poll(List<String> tokens) throws InterruptedException {
+        AtomicInteger waiting = new AtomicInteger();
+        AtomicInteger failure = new AtomicInteger();
+
+        long start = System.nanoTime();
+        run(tokens.size(), i -> {
+            try {
+                QueueToken queueToken = queueService.getQueueStatus(CONCERT_ID, tokens.get(i));
+                if (queueToken.getStatus() == QueueToken.QueueStatus.WAITING) {
+                    waiting.incrementAndGet();
+                }
+            } catch (Exception e) {
+                failure.incrementAndGet();
+            }
+        });
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        return new Result(tokens.size(), waiting.get(), failure.get(), elapsedMs);
+    }
+
+    private void run(int count, IndexedTask task) throws InterruptedException {
+        ExecutorService executorService = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch latch = new CountDownLatch(count);
+        for (int i = 0; i < count; i++) {
+            final int index = i;
+            executorService.submit(() -> {
+                try {
+                    task.run(index);
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await();
+        executorService.shutdown();
+    }
+
+    /**
+     * INFO commandstats 의 명령별 누적 호출 수 합계 (Lua 스크립트 안에서 호출한 명령 포함)
+     */
+    private long callCount(List<String> commands) {
+        Properties stats = redisTemplate.execute((RedisCallback<Properties>) connection ->
+                connection.serverCommands().info("commandstats"));
+        if (stats == null) {
+            return 0;
+        }
+
+        long total = 0;
+        for (String command : commands) {
+            String value = stats.getProperty("cmdstat_" + command);
+            if (value == null) {
+                continue;
+            }
+            // calls=123,usec=456,usec_per_call=3.70,...
+            for (String field : value.split(",")) {
+                if (field.startsWith("calls=")) {
+                    total += Long.parseLong(field.substring("calls=".length()));
+                }
+            }
+        }
+        return total;
+    }
+
+    private void clearQueueKeys() {
+        Set<String> keys = redisTemplate.keys("queue:*");
+        if (keys != null && !keys.isEmpty()) {
+            redisTemplate.delete(keys);
+        }
+    }
+
+    @FunctionalInterface
+    private interface IndexedTask {
+        void run(int index);
+    }
+
+    private record Result(int polls, int waiting, int failure, long elapsedMs) {
+        @Override
+        public String toString() {
+            double throughput = elapsedMs == 0 ? polls : polls * 1000.0 / elapsedMs;
+            return String.format("상태 조회 %d건 (대기 중 %d건), 실패 %d건, 소요 시간 %dms, 처리량 %.1f req/s",
+                    polls, waiting, failure, elapsedMs, throughput);
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package kr.hhplus.be.server.queue.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class QueueThroughputEstimatorTest {
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private HashOperations<String, Object, Object> hashOperations;
+
+    private QueueThroughputEstimator estimator;
+
+    private static final Long CONCERT_ID = 1L;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(redisTemplate.<Object, Object>opsForHash()).thenReturn(hashOperations);
+
+        estimator = new QueueThroughputEstimator(redisTemplate);
+        ReflectionTestUtils.setField(estimator, "timeConstantSeconds", 60L);
+        ReflectionTestUtils.setField(estimator, "cacheMillis", 2000L);
+    }
+
+    @Test
+    @DisplayName("처리량 기록은 Lua 스크립트 한 번으로 갱신하고 키 만료 시간을 시간 상수의 10배로 갱신한다.")
+    void recordReleases_ShouldUpdateAtomicallyWithExpire() {
+        //when
+        estimator.recordReleases(CONCERT_ID, 3);
+
+        //then
+        ArgumentCaptor<Object[]> argsCaptor = ArgumentCaptor.forClass(Object[].class);
+        verify(redisTemplate).execute(any(RedisScript.class), eq(List.of("queue:{1}:throughput")), argsCaptor.capture());
+        Object[] args = argsCaptor.getValue();
+        assertThat(args[0]).isEqualTo("release");
+        assertThat(args[1]).isEqualTo("3");
+        assertThat(args[3]).isEqualTo("60");
+        assertThat(args[4]).isEqualTo("600");
+
+        // 읽고 다시 쓰는 방식(HMGET + HSET)으로 갱신하지 않음
+        verifyNoInteractions(hashOperations);
+    }
+
+    @Test
+    @DisplayName("처리량은 마지막 기록 이후 경과 시간만큼 감쇠되고, 캐시 유지 시간 동안 Redis 를 다시 조회하지 않는다.")
+    void throughputPerSecond_ShouldDecayAndCache() {
+        //given
+        // 60초 전(시간 상수 1배) 초당 2명으로 기록
+        String updatedAt = String.valueOf(System.currentTimeMillis() - 60_000);
+        given(hashOperations.multiGet(eq("queue:{1}:throughput"), anyCollection()))
+                .willReturn(List.of("2.0", updatedAt, "0", "0"));
+
+        //when
+        double first = estimator.throughputPerSecond(CONCERT_ID);
+        double second = estimator.throughputPerSecond(CONCERT_ID);
+
+        //then
+        // 2.0 * e^-1 ≈ 0.74
+        assertThat(first).isCloseTo(2.0 * Math.exp(-1), within(0.01));
+        assertThat(second).isEqualTo(first);
+        verify(hashOperations, times(1)).multiGet(anyString(), anyCollection());
+    }
+}
@@ -101,4 +101,32 @@ class SeatTest {
         assertThat(seat.getReservedAt()).isNull();
     }
 
+    @Test
+    @DisplayName("배정 시간이 만료된 좌석은 다시 임시 배정할 수 있다.")
+    void claimExpiredSeat() {
+        // given
+        Seat seat = new Seat(SEAT_ID, CONCERT_ID, SEAT_NUMBER, PRICE);
+        seat.assign(LocalDateTime.now().minusMinutes(1));
+
+        // when
+        seat.claim(EXPIRED_AT);
+
+        // then
+        assertThat(seat.getStatus()).isEqualTo(Seat.SeatStatus.TEMPORARILY_ASSIGNED);
+        assertThat(seat.getAssignedUntil()).isEqualTo(EXPIRED_AT);
+    }
+
+    @Test
+    @DisplayName("배정 시간이 남은 좌석은 다시 임시 배정할 수 없다.")
+    void cannotClaimAssignedSeat() {
+        // given
+        Seat seat = new Seat(SEAT_ID, CONCERT_ID, SEAT_NUMBER, PRICE);
+        seat.assign(LocalDateTime.now().plusMinutes(5));
+
+        // when & then
+        assertThatThrownBy(() -> seat.claim(EXPIRED_AT))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("이미 선택된 좌석입니다.");
+    }
+
 }
\ No newline at end of file